@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import jakarta.xml.bind.JAXBException;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.services.InstanceService;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.charfilter.HTMLStripCharFilterFactory;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.core.WhitespaceTokenizerFactory;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.search.Query;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The Benchmark Instance Service.
+ * <p>
+ * Exposes the XML parsing and query construction operations of the
+ * {@link InstanceService} to the microbenchmarks, outside any application
+ * context. The query parser uses the same analysis as the "standard"
+ * analyzer of the Instance index (see the MSRLuceneAnalysisConfigurer), and
+ * coverages defined by polygons do not require any of the service
+ * dependencies.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class BenchmarkInstanceService extends InstanceService {
+
+    // Class Variables
+    private final Analyzer analyzer;
+
+    /**
+     * Instantiates a new benchmark instance service.
+     *
+     * @param filterFields  the hot structured filter fields
+     */
+    public BenchmarkInstanceService(String... filterFields) {
+        this.analyzer = createStandardAnalyzer();
+        ReflectionTestUtils.setField(this, "filterFields", filterFields);
+    }
+
+    /**
+     * Creates an analyzer equivalent to the "standard" analyzer of the
+     * Instance index.
+     *
+     * @return the standard analyzer
+     */
+    public static Analyzer createStandardAnalyzer() {
+        try {
+            return CustomAnalyzer.builder()
+                    .addCharFilter(HTMLStripCharFilterFactory.class)
+                    .withTokenizer(WhitespaceTokenizerFactory.class)
+                    .addTokenFilter(LowerCaseFilterFactory.class)
+                    .addTokenFilter(ASCIIFoldingFilterFactory.class)
+                    .build();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Gets analyzer.
+     *
+     * @return the analyzer
+     */
+    public Analyzer getAnalyzer() {
+        return analyzer;
+    }
+
+    @Override
+    public void parseInstanceAttributesFromXML(Instance instance) throws JAXBException {
+        super.parseInstanceAttributesFromXML(instance);
+    }
+
+    @Override
+    public void parseInstanceGeometryFromXML(Instance instance) throws JAXBException, ParseException {
+        super.parseInstanceGeometryFromXML(instance);
+    }
+
+    @Override
+    public Query createLuceneQuery(String queryString) {
+        return super.createLuceneQuery(queryString);
+    }
+
+    @Override
+    public Query createWildcardLuceneQuery(String searchText) {
+        return super.createWildcardLuceneQuery(searchText);
+    }
+
+    @Override
+    public Query createInstanceLuceneQuery(String queryString, Geometry geometry) {
+        return super.createInstanceLuceneQuery(queryString, geometry);
+    }
+
+    @Override
+    public Query createGeoSpatialQuery(Geometry geometry) {
+        return super.createGeoSpatialQuery(geometry);
+    }
+
+    @Override
+    protected MultiFieldQueryParser createQueryParser() {
+        final MultiFieldQueryParser parser = new MultiFieldQueryParser((String[]) ReflectionTestUtils.getField(this, "searchFields"), this.analyzer);
+        parser.setAllowLeadingWildcard(true);
+        return parser;
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
+import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
+import net.maritimeconnectivity.serviceregistry.services.InstanceService;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * The Dataset Loader.
+ * <p>
+ * Bulk loads a synthetic dataset generated by the
+ * {@link G1128DatasetGenerator} into a service registry database and then
+ * builds its Lucene indexes. The instances are saved through the
+ * {@link InstanceService}, so they are validated and parsed exactly like the
+ * ones uploaded through the API, but in batches, and with the automatic
+ * indexing disabled, so that the indexes are built by a single mass indexing
+ * run at the end.
+ * </p>
+ * <p>
+ * Each {@link DatasetPreset} is loaded into its own H2 database and index
+ * directories under ./target/benchmark/&lt;preset&gt;/, and a marker file is
+ * written once the loading completes, so that the benchmarks can reuse the
+ * loaded dataset. To use PostgreSQL instead, pass the respective
+ * spring.datasource.* properties as options, e.g.:
+ * </p>
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java -Dbenchmark.mainClass=net.maritimeconnectivity.serviceregistry.benchmark.DatasetLoader \
+ *     -Dexec.args="--preset=100k --spring.datasource.url=jdbc:postgresql://localhost:5432/registry_100k \
+ *     --spring.datasource.username=sr --spring.datasource.password=sr"
+ * </pre>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class DatasetLoader {
+
+    /**
+     * The default seed of the generated datasets.
+     */
+    public static final long DEFAULT_SEED = 1128;
+
+    /**
+     * The name of the marker file written once a dataset is loaded.
+     */
+    public static final String LOADED_MARKER = "dataset.loaded";
+
+    // Class Variables
+    private final ApplicationContext context;
+    private final int batchSize;
+
+    /**
+     * Instantiates a new dataset loader.
+     *
+     * @param context   the application context of the registry to load into
+     * @param batchSize the number of instances saved in each transaction
+     */
+    public DatasetLoader(ApplicationContext context, int batchSize) {
+        this.context = context;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * The entry point of the dataset loader.
+     *
+     * @param args the loader options in the --key=value form
+     * @throws Exception if the loading failed
+     */
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> options = G1128DatasetGenerator.parseOptions(args);
+        final DatasetPreset preset = DatasetPreset.fromValue(options.getOrDefault("preset", DatasetPreset.SMALL.getLabel()));
+        final long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(DEFAULT_SEED)));
+        final int batchSize = Integer.parseInt(options.getOrDefault("batchSize", "500"));
+        final boolean force = Boolean.parseBoolean(options.getOrDefault("force", "false"));
+        List.of("preset", "seed", "batchSize", "force").forEach(options::remove);
+
+        if (force) {
+            Files.deleteIfExists(getDirectory(preset).resolve(LOADED_MARKER));
+        }
+        ensureLoaded(preset, seed, batchSize, new LinkedHashMap<>(options));
+    }
+
+    /**
+     * Returns the directory of the provided dataset preset.
+     *
+     * @param preset    the dataset preset
+     * @return the dataset directory
+     */
+    public static Path getDirectory(DatasetPreset preset) {
+        return Paths.get("./target/benchmark", preset.getLabel());
+    }
+
+    /**
+     * Returns the embedded registry properties that point to the database
+     * and index directories of the provided dataset preset. Since the
+     * indexes are built while loading, the indexing on startup is disabled.
+     *
+     * @param preset    the dataset preset
+     * @return the embedded registry properties
+     */
+    public static Map<String, Object> getRegistryProperties(DatasetPreset preset) {
+        final Path directory = getDirectory(preset);
+        final Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:" + directory.resolve("registry") + ";DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.jpa.properties.hibernate.search.backend.directory.root", directory.resolve("lucene") + "/");
+        properties.put("lucene.indexing", false);
+        return properties;
+    }
+
+    /**
+     * Makes sure the provided dataset preset has been loaded, and loads it
+     * otherwise, using a dedicated embedded registry.
+     *
+     * @param preset        the dataset preset
+     * @param seed          the dataset generator seed
+     * @param batchSize     the number of instances saved in each transaction
+     * @param properties    any additional registry properties
+     * @throws IOException if the loaded marker could not be written
+     */
+    public static void ensureLoaded(DatasetPreset preset, long seed, int batchSize, Map<String, Object> properties) throws IOException {
+        final Path marker = getDirectory(preset).resolve(LOADED_MARKER);
+        if (Files.exists(marker)) {
+            return;
+        }
+
+        // Boot a registry without any automatic indexing
+        final Map<String, Object> loaderProperties = getRegistryProperties(preset);
+        loaderProperties.put("spring.jpa.properties.hibernate.search.indexing.listeners.enabled", false);
+        loaderProperties.putAll(properties);
+        try (EmbeddedRegistry registry = new EmbeddedRegistry(loaderProperties)) {
+            final DatasetLoader loader = new DatasetLoader(registry.getContext(), batchSize);
+            final long start = System.nanoTime();
+            final int loaded = loader.load(preset.getInstances(), seed);
+            final long loadedAt = System.nanoTime();
+            loader.index();
+            System.out.printf(Locale.ROOT, "Loaded %d instances of the %s dataset in %.1fs (%.0f instances/s) and indexed them in %.1fs%n",
+                    loaded, preset.getLabel(), (loadedAt - start) / 1e9, loaded / Math.max((loadedAt - start) / 1e9, 1e-9), (System.nanoTime() - loadedAt) / 1e9);
+        }
+        Files.createDirectories(marker.getParent());
+        Files.writeString(marker, String.format(Locale.ROOT, "preset=%s%nseed=%d%n", preset.getLabel(), seed), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates and saves the requested number of instances, unless the
+     * registry already contains instances, in which case nothing is loaded.
+     *
+     * @param count the number of instances to be loaded
+     * @param seed  the dataset generator seed
+     * @return the number of loaded instances
+     */
+    public int load(int count, long seed) {
+        final InstanceRepo instanceRepo = this.context.getBean(InstanceRepo.class);
+        if (instanceRepo.count() > 0) {
+            return 0;
+        }
+
+        // The instance service expects a request scope for new entries
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            final InstanceService instanceService = this.context.getBean(InstanceService.class);
+            final TransactionTemplate transactionTemplate = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+            final List<G1128DatasetGenerator.GeneratedInstance> batch = new ArrayList<>(this.batchSize);
+            final int[] loaded = {0};
+            new G1128DatasetGenerator(seed).generate(count, generated -> {
+                batch.add(generated);
+                if (batch.size() >= this.batchSize || generated.getIndex() == count - 1) {
+                    transactionTemplate.executeWithoutResult(status -> batch.forEach(g -> this.save(instanceService, g)));
+                    loaded[0] += batch.size();
+                    batch.clear();
+                }
+            });
+            return loaded[0];
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    /**
+     * Rebuilds the Lucene indexes of the registry from its database.
+     *
+     * @throws InterruptedException if the indexing was interrupted
+     */
+    public void index() throws InterruptedException {
+        Search.mapping(this.context.getBean(EntityManagerFactory.class))
+                .scope(Object.class, List.of(Instance.class, Doc.class))
+                .massIndexer()
+                .threadsToLoadObjects(Math.max(Runtime.getRuntime().availableProcessors() - 1, 1))
+                .batchSizeToLoadObjects(this.batchSize)
+                .startAndWait();
+    }
+
+    /**
+     * Saves a single generated instance through the instance service.
+     *
+     * @param instanceService   the instance service
+     * @param generated         the generated instance
+     */
+    protected void save(InstanceService instanceService, G1128DatasetGenerator.GeneratedInstance generated) {
+        final Xml xml = new Xml();
+        xml.setName(generated.getMrn() + ":" + generated.getVersion() + ".xml");
+        xml.setComment("Synthetic benchmark instance");
+        xml.setContent(generated.getXml());
+        xml.setContentContentType("application/xml");
+
+        final Instance instance = new Instance();
+        instance.setInstanceId(generated.getMrn());
+        instance.setVersion(generated.getVersion());
+        instance.setStatus(generated.getStatus());
+        instance.setInstanceAsXml(xml);
+        try {
+            // No user token is available, so set the organisation afterwards
+            instanceService.save(instance).setOrganizationId(generated.getOrganisationId());
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to load instance " + generated.getMrn() + ":" + generated.getVersion(), ex);
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The Dataset Preset Enum.
+ * <p>
+ * The standard sizes of the synthetic registry datasets, so that all the
+ * benchmarks of the project are run against the same data. Each preset is
+ * loaded once into its own database and index directories under the target
+ * directory, and then reused by every subsequent benchmark run.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public enum DatasetPreset {
+    SMALL("10k", 10_000),
+    MEDIUM("100k", 100_000),
+    LARGE("1m", 1_000_000);
+
+    // Enum Variables
+    private final String label;
+    private final int instances;
+
+    /**
+     * Enum Constructor
+     *
+     * @param label     the preset label
+     * @param instances the number of instances of the preset
+     */
+    DatasetPreset(String label, int instances) {
+        this.label = label;
+        this.instances = instances;
+    }
+
+    /**
+     * Gets the preset label.
+     *
+     * @return the preset label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Gets the number of instances of the preset.
+     *
+     * @return the number of instances
+     */
+    public int getInstances() {
+        return instances;
+    }
+
+    /**
+     * Returns the preset matching the provided name or label, e.g. "small"
+     * or "10k".
+     *
+     * @param value the preset name or label
+     * @return the matching preset
+     */
+    public static DatasetPreset fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(p -> p.name().equalsIgnoreCase(value) || p.label.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format(Locale.ROOT,
+                        "Unknown dataset preset %s, use one of 10k, 100k or 1m", value)));
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import net.maritimeconnectivity.serviceregistry.McpServRegApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The Embedded Registry Class.
+ * <p>
+ * Boots a complete service registry inside the current JVM, backed by an H2
+ * database and local Lucene indexes under the target directory, with the
+ * security disabled. The registry is configured through the benchmark
+ * profile, while any additional properties can be provided to override it.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class EmbeddedRegistry implements AutoCloseable {
+
+    // Class Variables
+    private final ConfigurableApplicationContext context;
+
+    /**
+     * Instantiates and starts a new embedded registry.
+     *
+     * @param properties    the additional registry properties
+     */
+    public EmbeddedRegistry(Map<String, Object> properties) {
+        final Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("server.port", 0);
+        defaults.putAll(properties);
+        this.context = new SpringApplicationBuilder(McpServRegApplication.class)
+                .profiles("test", "benchmark")
+                .properties(defaults)
+                .run();
+    }
+
+    /**
+     * Returns the application context of the registry.
+     *
+     * @return the application context
+     */
+    public ConfigurableApplicationContext getContext() {
+        return this.context;
+    }
+
+    /**
+     * Returns the base URL of the registry web server.
+     *
+     * @return the base URL of the registry
+     */
+    public String getBaseUrl() {
+        final int port = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+        return "http://localhost:" + port;
+    }
+
+    /**
+     * Stops the registry.
+     */
+    @Override
+    public void close() {
+        this.context.close();
+    }
+
+}
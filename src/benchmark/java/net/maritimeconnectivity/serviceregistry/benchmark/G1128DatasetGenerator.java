@@ -0,0 +1,603 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.maritimeconnectivity.serviceregistry.models.domain.enums.G1128Schemas;
+import net.maritimeconnectivity.serviceregistry.utils.XmlUtil;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceStatus;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * The G1128 Dataset Generator.
+ * <p>
+ * Generates synthetic, yet valid, G1128 v1.7 service instance XMLs with
+ * realistic distributions for scale testing. Most instances cover polygon
+ * areas of widely varying complexity, clustered around busy maritime
+ * regions, while some only reference UN/LOCODEs. Each service MRN comes with
+ * one or more versions, and the keywords, service types, organisations,
+ * designs and specifications are drawn from skewed distributions, so that
+ * some of them are much more popular than others. The generation is fully
+ * determined by the provided seed.
+ * </p>
+ * <p>
+ * The generator can also write the instance XMLs into a directory:
+ * </p>
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java -Dbenchmark.mainClass=net.maritimeconnectivity.serviceregistry.benchmark.G1128DatasetGenerator \
+ *     -Dexec.args="--preset=10k --output=./target/benchmark/dataset --validate"
+ * </pre>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class G1128DatasetGenerator {
+
+    /**
+     * The G1128 service instance namespace.
+     */
+    public static final String NAMESPACE = "http://iala-aism.org/g1128/v1.7/ServiceInstanceSchema.xsd";
+
+    /**
+     * The maximum number of vertices of the generated polygons.
+     */
+    public static final int MAX_VERTICES = 5000;
+
+    // Class Variables
+    private static final String[] KEYWORDS = {
+            "navigation", "safety", "weather", "ais", "aton", "vts", "pilotage", "port", "tides", "currents",
+            "ice", "routes", "charts", "msi", "nautical", "hydrography", "sar", "berth", "traffic", "emissions",
+            "s100", "s124", "s125", "s201", "s421", "secom", "mcp", "forecast", "warnings", "arrival"
+    };
+    private static final String[] FALLBACK_UNLOCODES = {
+            "GBLON", "GBSOU", "FRLEH", "NLRTM", "DEHAM", "BEANR", "ESALG", "GRPIR", "NOOSL", "SEGOT", "DKAAR", "ITGOA"
+    };
+    private static final double[][] REGIONS = {
+            // longitude, latitude, spread, weight
+            {3.0, 54.5, 4.0, 0.20},     // North Sea
+            {19.0, 57.5, 4.0, 0.15},    // Baltic Sea
+            {15.0, 37.0, 8.0, 0.20},    // Mediterranean Sea
+            {-2.5, 50.0, 2.0, 0.10},    // English Channel
+            {8.0, 63.0, 5.0, 0.10},     // Norwegian Sea
+            {0.0, 0.0, 0.0, 0.25}       // Anywhere else
+    };
+    private final Random random;
+    private final List<String> unLoCodes;
+
+    /**
+     * Instantiates a new G1128 dataset generator.
+     *
+     * @param seed  the random generator seed
+     */
+    public G1128DatasetGenerator(long seed) {
+        this.random = new Random(seed);
+        this.unLoCodes = loadUnLoCodes();
+    }
+
+    /**
+     * The entry point of the dataset generator.
+     *
+     * @param args the generator options in the --key=value form
+     * @throws Exception if the generation failed
+     */
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> options = parseOptions(args);
+        final int count = getCount(options);
+        final long seed = Long.parseLong(options.getOrDefault("seed", "1128"));
+        final Path output = Paths.get(options.getOrDefault("output", "./target/benchmark/dataset"));
+        final boolean validate = Boolean.parseBoolean(options.getOrDefault("validate", "false"));
+
+        final int[] stats = new int[3];
+        new G1128DatasetGenerator(seed).generate(count, instance -> {
+            try {
+                if (validate) {
+                    XmlUtil.validateXml(instance.getXml(), Collections.singletonList(G1128Schemas.INSTANCE.getPath()));
+                }
+                final Path file = output.resolve(String.format(Locale.ROOT, "%04d/instance-%07d.xml", instance.getIndex() / 1000, instance.getIndex()));
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, instance.getXml(), StandardCharsets.UTF_8);
+                stats[0]++;
+                stats[1] += instance.getVertices();
+                stats[2] += instance.isUnLoCodeOnly() ? 1 : 0;
+            } catch (Exception ex) {
+                throw new IllegalStateException("Failed to generate instance " + instance.getMrn() + ":" + instance.getVersion(), ex);
+            }
+        });
+        System.out.printf(Locale.ROOT, "Generated %d instances (%d UN/LOCODE only, %d vertices in total) into %s%n",
+                stats[0], stats[2], stats[1], output.toAbsolutePath());
+    }
+
+    /**
+     * Generates the requested number of instances, passing each of them to
+     * the provided consumer as soon as it is generated.
+     *
+     * @param count     the number of instances to be generated
+     * @param consumer  the consumer of the generated instances
+     */
+    public void generate(int count, Consumer<GeneratedInstance> consumer) {
+        final int organisations = Math.max(count / 200, 10);
+        final int designs = Math.max(count / 500, 20);
+        final int specifications = Math.max(count / 1000, 10);
+        int index = 0;
+        for (int service = 0; index < count; service++) {
+            // Each service comes with one or more versions
+            final String organisation = String.format(Locale.ROOT, "urn:mrn:mcp:org:bench:org%d", this.skewed(organisations));
+            final String mrn = String.format(Locale.ROOT, "urn:mrn:mcp:service:bench:org%d:instance:%d", this.skewed(organisations), service);
+            final int versions = Math.min(1 + this.geometric(0.6), 5);
+            final ServiceInstanceTemplate template = this.createTemplate(designs, specifications);
+            for (int v = 0; v < versions && index < count; v++, index++) {
+                final String version = String.format(Locale.ROOT, "%d.%d.0", 1 + v / 3, v % 3);
+                final ServiceStatus status = v < versions - 1 ? ServiceStatus.DEPRECATED : this.status();
+                consumer.accept(new GeneratedInstance(index, mrn, version, status, organisation, template.toXml(mrn, version, status), template.vertices, template.coverages.isEmpty()));
+            }
+        }
+    }
+
+    /**
+     * Generates a single service instance XML that covers one polygon area
+     * of the requested complexity, e.g. for the microbenchmarks.
+     *
+     * @param mrn       the instance MRN
+     * @param vertices  the number of polygon vertices
+     * @return the service instance XML
+     */
+    public String generateXml(String mrn, int vertices) {
+        final ServiceInstanceTemplate template = this.createTemplate(20, 10);
+        template.unLoCodes.clear();
+        template.coverages.clear();
+        template.coverages.add(this.polygon(vertices));
+        template.vertices = vertices;
+        return template.toXml(mrn, "1.0.0", ServiceStatus.RELEASED);
+    }
+
+    /**
+     * Creates the template of a new service, i.e. all the attributes that
+     * are shared between its versions.
+     *
+     * @param designs           the number of available designs
+     * @param specifications    the number of available specifications
+     * @return the service template
+     */
+    protected ServiceInstanceTemplate createTemplate(int designs, int specifications) {
+        final ServiceInstanceTemplate template = new ServiceInstanceTemplate();
+        template.name = String.format(Locale.ROOT, "%s %s Service %d",
+                capitalise(KEYWORDS[this.skewed(KEYWORDS.length)]),
+                capitalise(KEYWORDS[this.random.nextInt(KEYWORDS.length)]),
+                this.random.nextInt(10000));
+        template.keywords = new LinkedHashSet<>();
+        for (int i = 2 + this.random.nextInt(5); i > 0; i--) {
+            template.keywords.add(KEYWORDS[this.skewed(KEYWORDS.length)]);
+        }
+        final ServiceType[] serviceTypes = ServiceType.values();
+        template.serviceType = serviceTypes[this.skewed(serviceTypes.length)];
+        template.mmsi = this.random.nextDouble() < 0.3 ? String.valueOf(200_000_000 + this.random.nextInt(575_000_000)) : null;
+        template.imo = this.random.nextDouble() < 0.2 ? String.format(Locale.ROOT, "IMO%07d", this.random.nextInt(10_000_000)) : null;
+        template.designs = new LinkedHashMap<>();
+        for (int i = 1 + this.geometric(0.7); i > 0; i--) {
+            template.designs.put(String.format(Locale.ROOT, "urn:mrn:mcp:service:bench:design:%d", this.skewed(designs)), (1 + this.random.nextInt(3)) + ".0");
+        }
+        template.specifications = new LinkedHashMap<>();
+        for (int i = 1 + this.geometric(0.7); i > 0; i--) {
+            template.specifications.put(String.format(Locale.ROOT, "urn:mrn:mcp:service:bench:specification:%d", this.skewed(specifications)), (1 + this.random.nextInt(3)) + ".0");
+        }
+
+        // Most services cover polygon areas, while some only UN/LOCODEs
+        final double coverage = this.random.nextDouble();
+        template.coverages = new ArrayList<>();
+        template.unLoCodes = new ArrayList<>();
+        if (coverage < 0.20 || coverage >= 0.95) {
+            for (int i = 1 + this.random.nextInt(3); i > 0; i--) {
+                template.unLoCodes.add(this.unLoCodes.get(this.skewed(this.unLoCodes.size())));
+            }
+        }
+        if (coverage >= 0.20) {
+            for (int i = this.random.nextDouble() < 0.85 ? 1 : 2 + this.random.nextInt(2); i > 0; i--) {
+                final int vertices = this.vertices();
+                template.coverages.add(this.polygon(vertices));
+                template.vertices += vertices;
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Generates a random simple polygon as a WKT string. The polygon is
+     * star-shaped around its centre, with strictly increasing vertex angles,
+     * so it never self-intersects.
+     *
+     * @param vertices  the number of vertices
+     * @return the polygon WKT
+     */
+    protected String polygon(int vertices) {
+        // Pick a centre
+        double[] region = REGIONS[REGIONS.length - 1];
+        double pick = this.random.nextDouble();
+        for (double[] r : REGIONS) {
+            if ((pick -= r[3]) < 0) {
+                region = r;
+                break;
+            }
+        }
+        final double centreLon = region[2] > 0 ? region[0] + (this.random.nextDouble() - 0.5) * 2 * region[2] : -170 + this.random.nextDouble() * 340;
+        final double centreLat = region[2] > 0 ? region[1] + (this.random.nextDouble() - 0.5) * region[2] : -70 + this.random.nextDouble() * 140;
+        final double radius = 0.05 + Math.pow(this.random.nextDouble(), 2) * 5;
+
+        // And walk around it
+        final StringBuilder wkt = new StringBuilder("POLYGON((");
+        String first = null;
+        for (int i = 0; i < vertices; i++) {
+            final double angle = 2 * Math.PI * (i + 0.4 * this.random.nextDouble()) / vertices;
+            final double r = radius * (0.6 + 0.4 * this.random.nextDouble());
+            final double lon = Math.max(-179.9, Math.min(179.9, centreLon + r * Math.cos(angle) / Math.cos(Math.toRadians(centreLat))));
+            final double lat = Math.max(-84.9, Math.min(84.9, centreLat + r * Math.sin(angle)));
+            final String point = String.format(Locale.ROOT, "%.6f %.6f", lon, lat);
+            wkt.append(point).append(',');
+            first = first == null ? point : first;
+        }
+        return wkt.append(first).append("))").toString();
+    }
+
+    /**
+     * Returns a random number of polygon vertices, where simple polygons are
+     * the most common and very complex ones are rare.
+     *
+     * @return the number of vertices
+     */
+    protected int vertices() {
+        final double min = Math.log(4), max = Math.log(MAX_VERTICES);
+        return (int) Math.round(Math.exp(min + Math.pow(this.random.nextDouble(), 3) * (max - min)));
+    }
+
+    /**
+     * Returns a random status for the latest version of a service, which is
+     * released most of the time.
+     *
+     * @return the service status
+     */
+    protected ServiceStatus status() {
+        final ServiceStatus[] statuses = ServiceStatus.values();
+        return this.random.nextDouble() < 0.75 ? ServiceStatus.RELEASED : statuses[this.random.nextInt(statuses.length)];
+    }
+
+    /**
+     * Returns a random index in the range [0, size), skewed towards the
+     * lower indexes.
+     *
+     * @param size  the size of the range
+     * @return the skewed index
+     */
+    protected int skewed(int size) {
+        return Math.min((int) (size * Math.pow(this.random.nextDouble(), 2.5)), size - 1);
+    }
+
+    /**
+     * Returns a geometrically distributed random number, i.e. the number of
+     * failures before the first success.
+     *
+     * @param p the success probability
+     * @return the number of failures
+     */
+    protected int geometric(double p) {
+        int failures = 0;
+        while (this.random.nextDouble() >= p && failures < 100) {
+            failures++;
+        }
+        return failures;
+    }
+
+    /**
+     * Loads the UN/LOCODEs with known coordinates from the UN/LOCODE list of
+     * the classpath, or falls back to a few well-known ports.
+     *
+     * @return the available UN/LOCODEs
+     */
+    protected static List<String> loadUnLoCodes() {
+        final List<String> codes = new ArrayList<>();
+        try (InputStream in = G1128DatasetGenerator.class.getClassLoader().getResourceAsStream("UnLoCodeLists.json")) {
+            if (in != null) {
+                for (JsonNode entry : new ObjectMapper().readTree(in)) {
+                    if (!entry.path("Coordinates").asText("").isBlank() && codes.size() < 5000) {
+                        codes.add(entry.path("Country").asText() + entry.path("Location").asText());
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            codes.clear();
+        }
+        return codes.isEmpty() ? Arrays.asList(FALLBACK_UNLOCODES) : codes;
+    }
+
+    /**
+     * Parses the provided --key=value options.
+     *
+     * @param args  the command line arguments
+     * @return the parsed options
+     */
+    protected static Map<String, String> parseOptions(String[] args) {
+        final Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            final String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+        return options;
+    }
+
+    /**
+     * Returns the number of instances requested through the count or the
+     * preset options, defaulting to the small preset.
+     *
+     * @param options   the parsed options
+     * @return the number of requested instances
+     */
+    protected static int getCount(Map<String, String> options) {
+        return Optional.ofNullable(options.get("count"))
+                .map(Integer::parseInt)
+                .orElseGet(() -> DatasetPreset.fromValue(options.getOrDefault("preset", DatasetPreset.SMALL.getLabel())).getInstances());
+    }
+
+    /**
+     * Capitalises the provided word.
+     *
+     * @param word  the word
+     * @return the capitalised word
+     */
+    private static String capitalise(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * The attributes shared by all the versions of a generated service.
+     */
+    protected static class ServiceInstanceTemplate {
+
+        // Class Variables
+        private String name;
+        private Set<String> keywords;
+        private ServiceType serviceType;
+        private String mmsi;
+        private String imo;
+        private Map<String, String> designs;
+        private Map<String, String> specifications;
+        private List<String> coverages;
+        private List<String> unLoCodes;
+        private int vertices;
+
+        /**
+         * Builds the service instance XML of the provided version.
+         *
+         * @param mrn       the service MRN
+         * @param version   the service version
+         * @param status    the service status
+         * @return the service instance XML
+         */
+        String toXml(String mrn, String version, ServiceStatus status) {
+            final StringBuilder xml = new StringBuilder(1024 + 24 * this.vertices);
+            xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+            xml.append("<serviceInstance xmlns=\"").append(NAMESPACE).append("\">\n");
+            element(xml, 1, "id", mrn);
+            element(xml, 1, "version", version);
+            element(xml, 1, "name", this.name);
+            element(xml, 1, "status", status.value());
+            element(xml, 1, "description", "A synthetic " + this.name + " for scale testing");
+            element(xml, 1, "keywords", String.join(" ", this.keywords));
+            element(xml, 1, "endpoint", "https://bench.maritimeconnectivity.net/" + mrn.substring(mrn.lastIndexOf(':') + 1) + "/" + version + "/");
+            if (this.mmsi != null) {
+                element(xml, 1, "MMSI", this.mmsi);
+            }
+            if (this.imo != null) {
+                element(xml, 1, "IMO", this.imo);
+            }
+            element(xml, 1, "serviceTypes", this.serviceType.value());
+            element(xml, 1, "requiresAuthorization", String.valueOf(mrn.hashCode() % 2 == 0));
+            xml.append("    <designsServiceSpecifications>\n");
+            this.specifications.forEach((id, v) -> reference(xml, "designsServiceSpecifications", id, v));
+            xml.append("    </designsServiceSpecifications>\n");
+            xml.append("    <offersTransports>\n        <offersTransport>\n");
+            element(xml, 3, "name", "HTTPS");
+            element(xml, 3, "description", "The Hypertext Transfer Protocol (HTTP) secure extension");
+            element(xml, 3, "protocol", "https");
+            xml.append("        </offersTransport>\n    </offersTransports>\n");
+            xml.append("    <coversAreas>\n");
+            for (int i = 0; i < this.coverages.size(); i++) {
+                xml.append("        <coversArea>\n");
+                element(xml, 3, "name", "Area " + (i + 1));
+                element(xml, 3, "description", "The coverage area " + (i + 1) + " of the service");
+                element(xml, 3, "geometryAsWKT", this.coverages.get(i));
+                xml.append("        </coversArea>\n");
+            }
+            this.unLoCodes.forEach(code -> element(xml, 2, "unLoCode", code));
+            xml.append("    </coversAreas>\n");
+            xml.append("    <implementsServiceDesigns>\n");
+            this.designs.forEach((id, v) -> reference(xml, "implementsServiceDesign", id, v));
+            xml.append("    </implementsServiceDesigns>\n");
+            xml.append("    <producedBy>\n");
+            element(xml, 2, "id", mrn.replace(":instance:", ":producer:"));
+            element(xml, 2, "name", "Benchmark Producer");
+            element(xml, 2, "description", "The producer of the synthetic services");
+            element(xml, 2, "contactInfo", "producer@bench.maritimeconnectivity.net");
+            element(xml, 2, "isCommercial", "false");
+            xml.append("    </producedBy>\n");
+            xml.append("    <providedBy>\n");
+            element(xml, 2, "id", mrn.replace(":instance:", ":provider:"));
+            element(xml, 2, "name", "Benchmark Provider");
+            element(xml, 2, "description", "The provider of the synthetic services");
+            element(xml, 2, "contactInfo", "provider@bench.maritimeconnectivity.net");
+            xml.append("    </providedBy>\n");
+            xml.append("</serviceInstance>\n");
+            return xml.toString();
+        }
+
+        /**
+         * Appends a specification reference element.
+         *
+         * @param xml       the XML being built
+         * @param name      the element name
+         * @param id        the referenced MRN
+         * @param version   the referenced version
+         */
+        private static void reference(StringBuilder xml, String name, String id, String version) {
+            xml.append("        <").append(name).append(">\n");
+            element(xml, 3, "id", id);
+            element(xml, 3, "version", version);
+            xml.append("        </").append(name).append(">\n");
+        }
+
+        /**
+         * Appends an escaped simple element.
+         *
+         * @param xml       the XML being built
+         * @param depth     the indentation depth
+         * @param name      the element name
+         * @param value     the element value
+         */
+        private static void element(StringBuilder xml, int depth, String name, String value) {
+            xml.append("    ".repeat(depth)).append('<').append(name).append('>');
+            for (char c : value.toCharArray()) {
+                switch (c) {
+                    case '<' -> xml.append("&lt;");
+                    case '>' -> xml.append("&gt;");
+                    case '&' -> xml.append("&amp;");
+                    default -> xml.append(c);
+                }
+            }
+            xml.append("</").append(name).append(">\n");
+        }
+
+    }
+
+    /**
+     * A generated service instance.
+     */
+    public static class GeneratedInstance {
+
+        // Class Variables
+        private final int index;
+        private final String mrn;
+        private final String version;
+        private final ServiceStatus status;
+        private final String organisationId;
+        private final String xml;
+        private final int vertices;
+        private final boolean unLoCodeOnly;
+
+        /**
+         * Instantiates a new generated instance.
+         *
+         * @param index             the index of the instance in the dataset
+         * @param mrn               the instance MRN
+         * @param version           the instance version
+         * @param status            the instance status
+         * @param organisationId    the MRN of the owning organisation
+         * @param xml               the instance XML
+         * @param vertices          the total number of coverage vertices
+         * @param unLoCodeOnly      whether the instance only covers UN/LOCODEs
+         */
+        public GeneratedInstance(int index, String mrn, String version, ServiceStatus status, String organisationId, String xml, int vertices, boolean unLoCodeOnly) {
+            this.index = index;
+            this.mrn = mrn;
+            this.version = version;
+            this.status = status;
+            this.organisationId = organisationId;
+            this.xml = xml;
+            this.vertices = vertices;
+            this.unLoCodeOnly = unLoCodeOnly;
+        }
+
+        /**
+         * Gets index.
+         *
+         * @return the index
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets mrn.
+         *
+         * @return the mrn
+         */
+        public String getMrn() {
+            return mrn;
+        }
+
+        /**
+         * Gets version.
+         *
+         * @return the version
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * Gets status.
+         *
+         * @return the status
+         */
+        public ServiceStatus getStatus() {
+            return status;
+        }
+
+        /**
+         * Gets organisation id.
+         *
+         * @return the organisation id
+         */
+        public String getOrganisationId() {
+            return organisationId;
+        }
+
+        /**
+         * Gets xml.
+         *
+         * @return the xml
+         */
+        public String getXml() {
+            return xml;
+        }
+
+        /**
+         * Gets vertices.
+         *
+         * @return the vertices
+         */
+        public int getVertices() {
+            return vertices;
+        }
+
+        /**
+         * Is un lo code only.
+         *
+         * @return whether the instance only covers UN/LOCODEs
+         */
+        public boolean isUnLoCodeOnly() {
+            return unLoCodeOnly;
+        }
+
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import net.maritimeconnectivity.eNav.utils.G1128Utils;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
+import net.maritimeconnectivity.serviceregistry.models.domain.enums.G1128Schemas;
+import net.maritimeconnectivity.serviceregistry.utils.GeometryJSONConverter;
+import net.maritimeconnectivity.serviceregistry.utils.WKTUtil;
+import net.maritimeconnectivity.serviceregistry.utils.XmlUtil;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.CoverageArea;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceInstance;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.openjdk.jmh.annotations.*;
+import org.xml.sax.SAXException;
+
+import jakarta.xml.bind.JAXBException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Ingest Benchmark.
+ * <p>
+ * Measures the building blocks of the instance save path in isolation, i.e.
+ * the XML schema validation, the G1128 unmarshalling and marshalling, the
+ * compression of the XML content, the parsing of the instance attributes
+ * and geometry, and the WKT and GeoJSON conversions. The XML entity of the
+ * parsing benchmarks is built once, so that its compression is only
+ * measured on its own. The instance XMLs are generated by the
+ * {@link G1128DatasetGenerator} and cover a single polygon area, ranging from
+ * a few to tens of thousands of vertices. The benchmark should be run through
+ * the {@link JmhRunner}, which also reports the allocation rates.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class IngestBenchmark {
+
+    /**
+     * The number of vertices of the instance coverage polygon.
+     */
+    @Param({"16", "512", "8192", "65536"})
+    int vertices;
+
+    // Class Variables
+    private final List<String> schemas = Collections.singletonList(G1128Schemas.INSTANCE.getPath());
+    private final G1128Utils<ServiceInstance> g1128Utils = new G1128Utils<>(ServiceInstance.class);
+    private final BenchmarkInstanceService instanceService = new BenchmarkInstanceService();
+    private String xml;
+    private Xml instanceXml;
+    private ServiceInstance serviceInstance;
+    private String wkt;
+    private JsonNode geoJson;
+    private Geometry geometry;
+
+    /**
+     * Generates the benchmark inputs.
+     *
+     * @throws Exception if the inputs could not be generated
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.xml = new G1128DatasetGenerator(DatasetLoader.DEFAULT_SEED)
+                .generateXml("urn:mrn:mcp:service:bench:org0:instance:0", this.vertices);
+        this.instanceXml = new Xml();
+        this.instanceXml.setContent(this.xml);
+        this.serviceInstance = this.g1128Utils.unmarshallG1128(this.xml);
+        this.wkt = this.serviceInstance.getCoversAreas()
+                .getCoversAreasAndUnLoCodes()
+                .stream()
+                .filter(CoverageArea.class::isInstance)
+                .map(CoverageArea.class::cast)
+                .map(CoverageArea::getGeometryAsWKT)
+                .findFirst()
+                .orElseThrow();
+        this.geoJson = WKTUtil.convertWKTtoGeoJson(this.wkt);
+        this.geometry = GeometryJSONConverter.convertToGeometry(this.geoJson);
+    }
+
+    @Benchmark
+    public boolean validateXml() throws SAXException, IOException {
+        return XmlUtil.validateXml(this.xml, this.schemas);
+    }
+
+    @Benchmark
+    public ServiceInstance unmarshal() throws JAXBException {
+        return this.g1128Utils.unmarshallG1128(this.xml);
+    }
+
+    @Benchmark
+    public String marshal() throws JAXBException {
+        return this.g1128Utils.marshalG1128(this.serviceInstance);
+    }
+
+    @Benchmark
+    public Xml compressXml() {
+        final Xml compressedXml = new Xml();
+        compressedXml.setContent(this.xml);
+        return compressedXml;
+    }
+
+    @Benchmark
+    public Instance parseInstanceAttributes() throws JAXBException {
+        final Instance instance = this.createInstance();
+        this.instanceService.parseInstanceAttributesFromXML(instance);
+        return instance;
+    }
+
+    @Benchmark
+    public Instance parseInstanceGeometry() throws JAXBException, ParseException {
+        final Instance instance = this.createInstance();
+        this.instanceService.parseInstanceGeometryFromXML(instance);
+        return instance;
+    }
+
+    @Benchmark
+    public Geometry wktToGeometry() throws ParseException {
+        return WKTUtil.convertWKTtoGeometry(this.wkt);
+    }
+
+    @Benchmark
+    public JsonNode wktToGeoJson() throws ParseException {
+        return WKTUtil.convertWKTtoGeoJson(this.wkt);
+    }
+
+    @Benchmark
+    public JsonNode geometryToGeoJson() {
+        return GeometryJSONConverter.convertFromGeometry(this.geometry);
+    }
+
+    @Benchmark
+    public Geometry geoJsonToGeometry() {
+        return GeometryJSONConverter.convertToGeometry(this.geoJson);
+    }
+
+    /**
+     * Creates a new instance holding the benchmark XML, which is shared
+     * between all the created instances.
+     *
+     * @return the new instance
+     */
+    private Instance createInstance() {
+        final Instance instance = new Instance();
+        instance.setInstanceAsXml(this.instanceXml);
+        return instance;
+    }
+
+}
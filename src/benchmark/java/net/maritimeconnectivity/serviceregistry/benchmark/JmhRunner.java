@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The JMH Runner.
+ * <p>
+ * Runs the JMH microbenchmarks of the benchmarks profile, accepting the
+ * standard JMH command line options. Unless other profilers are requested,
+ * the GC profiler is enabled, so that the allocation rates are always
+ * reported next to the timings. For example, to run the ingest benchmarks
+ * and keep the results for later comparisons:
+ * </p>
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java -Dbenchmark.mainClass=net.maritimeconnectivity.serviceregistry.benchmark.JmhRunner \
+ *     -Dexec.args="IngestBenchmark -rf json -rff ./target/benchmark/ingest.json"
+ * </pre>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class JmhRunner {
+
+    /**
+     * The entry point of the JMH runner.
+     *
+     * @param args the JMH command line options
+     * @throws Exception if the benchmarks failed to run
+     */
+    public static void main(String[] args) throws Exception {
+        // The forked JVMs inherit the classpath of the current class loader
+        System.setProperty("java.class.path", getClasspath(Thread.currentThread().getContextClassLoader()));
+
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (commandLineOptions.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * Collects the classpath of the provided class loader hierarchy, since
+     * the exec plugin does not run the benchmarks on the system class path.
+     *
+     * @param classLoader   the class loader
+     * @return the classpath
+     * @throws URISyntaxException if a classpath entry is not a valid URI
+     */
+    protected static String getClasspath(ClassLoader classLoader) throws URISyntaxException {
+        final Set<String> entries = new LinkedHashSet<>();
+        for (ClassLoader cl = classLoader; cl != null; cl = cl.getParent()) {
+            if (cl instanceof URLClassLoader urlClassLoader) {
+                for (URL url : urlClassLoader.getURLs()) {
+                    entries.add(Paths.get(url.toURI()).toString());
+                }
+            }
+        }
+        entries.add(System.getProperty("java.class.path"));
+        return String.join(File.pathSeparator, entries);
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The Latency Stats Class.
+ * <p>
+ * Collects the latencies of a set of requests and reports their throughput
+ * and latency percentiles. All latencies are recorded in nanoseconds.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class LatencyStats {
+
+    // Class Variables
+    private final String name;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    /**
+     * Instantiates a new latency stats collection.
+     *
+     * @param name  the name of the collection
+     */
+    public LatencyStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records the latency of a request.
+     *
+     * @param latencyNanos  the request latency in nanoseconds
+     * @param success       whether the request was successful
+     */
+    public synchronized void record(long latencyNanos, boolean success) {
+        if (this.count == this.latencies.length) {
+            this.latencies = Arrays.copyOf(this.latencies, this.latencies.length * 2);
+        }
+        this.latencies[this.count++] = latencyNanos;
+        if (!success) {
+            this.errors++;
+        }
+    }
+
+    /**
+     * Returns the number of recorded requests.
+     *
+     * @return the number of recorded requests
+     */
+    public synchronized int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of failed requests.
+     *
+     * @return the number of failed requests
+     */
+    public synchronized int getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * Returns the requested latency percentile in milliseconds, using the
+     * nearest-rank method.
+     *
+     * @param percentile    the percentile, between 0 and 100
+     * @return the latency percentile in milliseconds
+     */
+    public synchronized double getPercentileMs(double percentile) {
+        if (this.count == 0) {
+            return 0;
+        }
+        final long[] sorted = Arrays.copyOf(this.latencies, this.count);
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(Math.max(rank, 1), sorted.length) - 1] / 1_000_000.0;
+    }
+
+    /**
+     * Formats a report of the recorded requests over the provided elapsed
+     * time.
+     *
+     * @param elapsedNanos  the elapsed time of the run in nanoseconds
+     * @return the formatted report
+     */
+    public synchronized String report(long elapsedNanos) {
+        return String.format(Locale.ROOT,
+                "%-16s requests=%d errors=%d throughput=%.1f req/s p50=%.2f ms p90=%.2f ms p95=%.2f ms p99=%.2f ms p99.9=%.2f ms max=%.2f ms",
+                this.name,
+                this.count,
+                this.errors,
+                elapsedNanos > 0 ? this.count / (elapsedNanos / 1_000_000_000.0) : 0,
+                this.getPercentileMs(50),
+                this.getPercentileMs(90),
+                this.getPercentileMs(95),
+                this.getPercentileMs(99),
+                this.getPercentileMs(99.9),
+                this.getPercentileMs(100));
+    }
+
+}
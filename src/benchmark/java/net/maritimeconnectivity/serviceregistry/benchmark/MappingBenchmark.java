@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import net.maritimeconnectivity.serviceregistry.components.DomainDtoMapper;
+import net.maritimeconnectivity.serviceregistry.config.GlobalConfig;
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
+import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDtDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.mcp.McpCertificateDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.secom.SearchObjectResultWithCert;
+import net.maritimeconnectivity.serviceregistry.utils.GeometryJSONSerializer;
+import org.grad.secom.core.models.ResponseSearchObject;
+import org.grad.secom.core.models.SearchObjectResult;
+import org.grad.secom.core.models.enums.SECOM_DataProductType;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceStatus;
+import org.locationtech.jts.geom.Geometry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Mapping Benchmark.
+ * <p>
+ * Measures the mapping of the instance search results into their DTOs
+ * through the {@link DomainDtoMapper}, and the JSON serialization of the
+ * mapped results, including the geometries through the
+ * {@link GeometryJSONSerializer}. The instances are realistic graphs, parsed
+ * from generated G1128 XMLs and complete with their documents, while the
+ * SECOM results also carry an MIR certificate. All benchmarks process a page
+ * of {@value #PAGE_SIZE} instances per invocation, but are reported per
+ * converted item, so that the allocation profiler also reports the bytes
+ * allocated per item.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(MappingBenchmark.PAGE_SIZE)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    /**
+     * The number of instances processed per invocation.
+     */
+    public static final int PAGE_SIZE = 100;
+
+    /**
+     * The maximum number of coverage vertices of the generated instances,
+     * where 0 allows the full range of the dataset generator.
+     */
+    @Param({"64", "0"})
+    int maxVertices;
+
+    /**
+     * Whether the mappers use the specialised converters or fall back to the
+     * reflection-based model mapper.
+     */
+    @Param({"true", "false"})
+    boolean specialised;
+
+    // Class Variables
+    private final DomainDtoMapper<Instance, InstanceDto> instanceDtoMapper = createMapper();
+    private final DomainDtoMapper<Instance, InstanceDtDto> instanceDtDtoMapper = createMapper();
+    private final DomainDtoMapper<Instance, SearchObjectResult> searchObjectResultMapper = createMapper();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<Instance> instances;
+    private List<GeometryHolder> geometries;
+    private List<InstanceDto> instanceDtos;
+    private List<InstanceDtDto> instanceDtDtos;
+    private ResponseSearchObject responseSearchObject;
+
+    /**
+     * Generates the instance graphs and their mapped DTOs.
+     *
+     * @throws Exception if the instances could not be generated
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        for (DomainDtoMapper<?, ?> mapper : List.of(this.instanceDtoMapper, this.instanceDtDtoMapper, this.searchObjectResultMapper)) {
+            ReflectionTestUtils.setField(mapper, "specialised", this.specialised);
+        }
+        final BenchmarkInstanceService instanceService = new BenchmarkInstanceService();
+        final G1128DatasetGenerator generator = new G1128DatasetGenerator(DatasetLoader.DEFAULT_SEED);
+        final LocalDateTime now = LocalDateTime.now();
+        this.instances = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; this.instances.size() < PAGE_SIZE; id++) {
+            final String mrn = String.format(Locale.ROOT, "urn:mrn:mcp:service:bench:org0:instance:%d", id);
+            final int vertices = this.maxVertices > 0 ? 4 + generator.skewed(this.maxVertices - 3) : generator.vertices();
+            final Xml xml = new Xml();
+            xml.setId(id);
+            xml.setName(mrn + ".xml");
+            xml.setContent(generator.generateXml(mrn, vertices));
+            xml.setContentContentType("application/xml");
+
+            final Instance instance = new Instance();
+            instance.setId(id);
+            instance.setInstanceAsXml(xml);
+            instanceService.parseInstanceAttributesFromXML(instance);
+            instanceService.parseInstanceGeometryFromXML(instance);
+            instance.setStatus(ServiceStatus.RELEASED);
+            instance.setOrganizationId("urn:mrn:mcp:org:bench:org0");
+            instance.setDataProductType(List.of(SECOM_DataProductType.S125));
+            instance.setPublishedAt(now);
+            instance.setLastUpdatedAt(now);
+            instance.setGeometryContentType("application/geo+json");
+            instance.setDocs(new HashSet<>());
+            for (long d = 0; d < 2; d++) {
+                final Doc doc = new Doc();
+                doc.setId(id * 10 + d);
+                doc.setName("document-" + d + ".pdf");
+                doc.setMimetype("application/pdf");
+                doc.setFilecontent(new byte[4096]);
+                doc.setFilecontentContentType("application/pdf");
+                doc.setInstance(instance);
+                instance.getDocs().add(doc);
+            }
+            instance.setInstanceAsDoc(instance.getDocs().iterator().next());
+            this.instances.add(instance);
+        }
+        this.geometries = this.instances.stream().map(Instance::getGeometry).map(GeometryHolder::new).toList();
+
+        // Pre-map the results for the serialization benchmarks
+        this.instanceDtos = this.instanceDtoMapper.convertToList(this.instances, InstanceDto.class);
+        this.instanceDtDtos = this.instanceDtDtoMapper.convertToList(this.instances, InstanceDtDto.class);
+        final List<SearchObjectResult> searchObjectResults = this.searchObjectResultMapper.convertToList(this.instances, SearchObjectResultWithCert.class);
+        final byte[] certificate = new byte[1200];
+        new Random(DatasetLoader.DEFAULT_SEED).nextBytes(certificate);
+        for (SearchObjectResult searchObjectResult : searchObjectResults) {
+            final McpCertificateDto mcpCertificateDto = new McpCertificateDto();
+            mcpCertificateDto.setId(BigInteger.ONE);
+            mcpCertificateDto.setCertificate("-----BEGIN CERTIFICATE-----\n" + Base64.getMimeEncoder().encodeToString(certificate) + "\n-----END CERTIFICATE-----\n");
+            mcpCertificateDto.setSerialNumber("1234567890");
+            mcpCertificateDto.setStart(now);
+            mcpCertificateDto.setEnd(now.plusYears(1));
+            ((SearchObjectResultWithCert) searchObjectResult).setCertificates(List.of(mcpCertificateDto));
+        }
+        this.responseSearchObject = new ResponseSearchObject();
+        this.responseSearchObject.setSearchServiceResult(searchObjectResults);
+    }
+
+    @Benchmark
+    public List<InstanceDto> mapInstanceDto() {
+        return this.instanceDtoMapper.convertToList(this.instances, InstanceDto.class);
+    }
+
+    @Benchmark
+    public List<InstanceDtDto> mapInstanceDtDto() {
+        return this.instanceDtDtoMapper.convertToList(this.instances, InstanceDtDto.class);
+    }
+
+    @Benchmark
+    public List<SearchObjectResult> mapSearchObjectResult() {
+        return this.searchObjectResultMapper.convertToList(this.instances, SearchObjectResultWithCert.class);
+    }
+
+    @Benchmark
+    public byte[] serializeInstanceDto() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.instanceDtos);
+    }
+
+    @Benchmark
+    public byte[] serializeInstanceDtDto() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.instanceDtDtos);
+    }
+
+    @Benchmark
+    public byte[] serializeSearchObjectResult() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.responseSearchObject);
+    }
+
+    @Benchmark
+    public byte[] serializeGeometry() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.geometries);
+    }
+
+    /**
+     * Creates a domain to DTO mapper, using the model mapper configuration
+     * of the application.
+     *
+     * @param <T>   the TO object type
+     * @return the domain to DTO mapper
+     */
+    private static <T> DomainDtoMapper<Instance, T> createMapper() {
+        final DomainDtoMapper<Instance, T> mapper = new DomainDtoMapper<>();
+        ReflectionTestUtils.setField(mapper, "modelMapper", new GlobalConfig().modelMapper());
+        return mapper;
+    }
+
+    /**
+     * A geometry holder, serialized through the geometry JSON serializer
+     * just like the geometries of the instance DTOs.
+     *
+     * @param geometry  the geometry
+     */
+    record GeometryHolder(@JsonSerialize(using = GeometryJSONSerializer.class) Geometry geometry) {
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
+import net.maritimeconnectivity.serviceregistry.utils.WKTUtil;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.*;
+import org.apache.lucene.spatial.prefix.RecursivePrefixTreeStrategy;
+import org.apache.lucene.spatial.prefix.tree.GeohashPrefixTree;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.spatial4j.context.jts.JtsSpatialContext;
+import org.locationtech.spatial4j.shape.jts.JtsGeometry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * The Search Benchmark.
+ * <p>
+ * Measures the construction and the execution of the instance search queries
+ * on an in-memory Lucene index of generated instances. The index mirrors the
+ * fields of the Instance index, i.e. the "standard" analyzed text fields, the
+ * lowercase-normalised keyword fields, the sort fields and the geometry
+ * prefix tree, so that the effects of changes in the spatial and analysis
+ * configuration can be measured without the rest of the application. The
+ * queries are constructed by the InstanceService itself and sorted by name
+ * and ID, like the search API results.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    /**
+     * The number of indexed instances.
+     */
+    @Param({"10000", "100000"})
+    int instances;
+
+    /**
+     * The maximum number of levels of the indexed geometry prefix tree.
+     */
+    @Param({"12", "22"})
+    int maxLevels;
+
+    /**
+     * The number of top hits to be collected.
+     */
+    @Param({"10"})
+    int limit;
+
+    // Class Variables
+    private static final String FREE_TEXT = "navigation";
+    private static final String STRUCTURED = "status:released AND keywords:weather";
+    private static final String WILDCARD = "nav";
+    private final BenchmarkInstanceService instanceService = new BenchmarkInstanceService("status", "serviceTypes", "dataProductType");
+    private final Sort sort = new Sort(new SortField("name_sort", SortField.Type.STRING), new SortedNumericSortField("id_sort", SortField.Type.LONG));
+    private ByteBuffersDirectory directory;
+    private DirectoryReader reader;
+    private IndexSearcher searcher;
+    private Geometry area;
+    private Query freeTextQuery;
+    private Query structuredQuery;
+    private Query wildcardQuery;
+    private Query geometryQuery;
+    private Query combinedQuery;
+
+    /**
+     * Builds the in-memory index and the benchmark queries.
+     *
+     * @throws Exception if the index could not be built
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final RecursivePrefixTreeStrategy strategy = new RecursivePrefixTreeStrategy(new GeohashPrefixTree(JtsSpatialContext.GEO, this.maxLevels), "geometry");
+        this.directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(this.directory, new IndexWriterConfig(this.instanceService.getAnalyzer()))) {
+            final long[] id = {0};
+            final Exception[] failure = {null};
+            new G1128DatasetGenerator(DatasetLoader.DEFAULT_SEED).generate(this.instances, generated -> {
+                try {
+                    final Instance instance = this.parse(generated);
+                    instance.setId(++id[0]);
+                    writer.addDocument(this.createDocument(instance, strategy));
+                } catch (Exception ex) {
+                    failure[0] = ex;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            writer.forceMerge(8);
+        }
+        this.reader = DirectoryReader.open(this.directory);
+        this.searcher = new IndexSearcher(this.reader);
+        this.searcher.setQueryCache(null);
+
+        // A moderately sized area in the North Sea
+        this.area = WKTUtil.convertWKTtoGeometry("POLYGON((1 53, 5 53, 5 56, 1 56, 1 53))");
+        this.freeTextQuery = this.instanceService.createLuceneQuery(FREE_TEXT);
+        this.structuredQuery = this.instanceService.createLuceneQuery(STRUCTURED);
+        this.wildcardQuery = this.instanceService.createWildcardLuceneQuery(WILDCARD);
+        this.geometryQuery = this.instanceService.createGeoSpatialQuery(this.area);
+        this.combinedQuery = this.instanceService.createInstanceLuceneQuery(STRUCTURED, this.area);
+    }
+
+    /**
+     * Releases the in-memory index.
+     *
+     * @throws IOException if the index could not be closed
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.reader.close();
+        this.directory.close();
+    }
+
+    @Benchmark
+    public Query createFreeTextQuery() {
+        return this.instanceService.createLuceneQuery(FREE_TEXT);
+    }
+
+    @Benchmark
+    public Query createStructuredQuery() {
+        return this.instanceService.createLuceneQuery(STRUCTURED);
+    }
+
+    @Benchmark
+    public Query createWildcardQuery() {
+        return this.instanceService.createWildcardLuceneQuery(WILDCARD);
+    }
+
+    @Benchmark
+    public Query createGeoSpatialQuery() {
+        return this.instanceService.createGeoSpatialQuery(this.area);
+    }
+
+    @Benchmark
+    public TopFieldDocs searchFreeText() throws IOException {
+        return this.searcher.search(this.freeTextQuery, this.limit, this.sort);
+    }
+
+    @Benchmark
+    public TopFieldDocs searchStructured() throws IOException {
+        return this.searcher.search(this.structuredQuery, this.limit, this.sort);
+    }
+
+    @Benchmark
+    public TopFieldDocs searchWildcard() throws IOException {
+        return this.searcher.search(this.wildcardQuery, this.limit, this.sort);
+    }
+
+    @Benchmark
+    public TopFieldDocs searchGeometryIntersect() throws IOException {
+        return this.searcher.search(this.geometryQuery, this.limit, this.sort);
+    }
+
+    @Benchmark
+    public TopFieldDocs searchStructuredWithinGeometry() throws IOException {
+        return this.searcher.search(this.combinedQuery, this.limit, this.sort);
+    }
+
+    /**
+     * Parses a generated instance through the instance service.
+     *
+     * @param generated the generated instance
+     * @return the parsed instance
+     * @throws Exception if the instance could not be parsed
+     */
+    private Instance parse(G1128DatasetGenerator.GeneratedInstance generated) throws Exception {
+        final Xml xml = new Xml();
+        xml.setContent(generated.getXml());
+        final Instance instance = new Instance();
+        instance.setInstanceAsXml(xml);
+        instance.setStatus(generated.getStatus());
+        instance.setOrganizationId(generated.getOrganisationId());
+        this.instanceService.parseInstanceAttributesFromXML(instance);
+        if (!generated.isUnLoCodeOnly()) {
+            this.instanceService.parseInstanceGeometryFromXML(instance);
+        }
+        return instance;
+    }
+
+    /**
+     * Creates the Lucene document of the provided instance, mirroring the
+     * fields of the Instance index.
+     *
+     * @param instance  the instance
+     * @param strategy  the geometry indexing strategy
+     * @return the Lucene document
+     */
+    private Document createDocument(Instance instance, RecursivePrefixTreeStrategy strategy) {
+        final Document document = new Document();
+        document.add(new SortedNumericDocValuesField("id_sort", instance.getId()));
+        document.add(new TextField("name", instance.getName(), Field.Store.NO));
+        document.add(new SortedDocValuesField("name_sort", new BytesRef(instance.getName().toLowerCase(Locale.ROOT))));
+        document.add(new TextField("comment", Objects.toString(instance.getComment(), ""), Field.Store.NO));
+
+        final BiConsumer<String, Object> keyword = (name, value) -> Optional.ofNullable(value)
+                .map(Object::toString)
+                .map(v -> v.toLowerCase(Locale.ROOT))
+                .ifPresent(v -> document.add(new StringField(name, v, Field.Store.NO)));
+        keyword.accept("version", instance.getVersion());
+        keyword.accept("instanceId", instance.getInstanceId());
+        keyword.accept("status", instance.getStatus());
+        keyword.accept("organizationId", instance.getOrganizationId());
+        keyword.accept("endpointUri", instance.getEndpointUri());
+        keyword.accept("mmsi", instance.getMmsi());
+        keyword.accept("imo", instance.getImo());
+        Optional.ofNullable(instance.getKeywords()).orElse(List.of()).forEach(k -> keyword.accept("keywords", k));
+        Optional.ofNullable(instance.getServiceTypes()).orElse(List.of()).forEach(t -> keyword.accept("serviceTypes", t.name()));
+        Optional.ofNullable(instance.getUnlocode()).orElse(List.of()).forEach(u -> keyword.accept("unlocode", u));
+        instance.getDesigns().keySet().forEach(d -> keyword.accept("designId", d));
+        instance.getSpecifications().keySet().forEach(s -> keyword.accept("specificationId", s));
+
+        Optional.ofNullable(instance.getGeometry())
+                .filter(g -> !g.isEmpty())
+                .map(g -> strategy.createIndexableFields(new JtsGeometry(g, JtsSpatialContext.GEO, false, true)))
+                .map(Arrays::asList)
+                .orElse(List.of())
+                .forEach(document::add);
+        return document;
+    }
+
+}
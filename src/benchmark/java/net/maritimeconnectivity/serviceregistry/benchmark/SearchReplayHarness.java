@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.maritimeconnectivity.serviceregistry.services.SearchCaptureService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.grad.secom.core.interfaces.SearchServiceSecomInterface.SEARCH_SERVICE_INTERFACE_PATH;
+
+/**
+ * The Search Replay Harness.
+ * <p>
+ * Replays the search requests captured by the {@link SearchCaptureService}
+ * against a service registry and reports the achieved throughput and the
+ * latency percentiles, for each of the captured endpoints and overall. By
+ * default an embedded registry is started (see {@link EmbeddedRegistry}),
+ * but an already running one can also be targeted. The requests are fired
+ * either at a fixed rate, or following the pacing of the capture, while the
+ * number of requests in flight is bounded by the configured concurrency.
+ * Latencies are measured from the time each request was scheduled to be
+ * sent, so that any queueing delays are also accounted for.
+ * </p>
+ * <p>
+ * The harness is part of the benchmarks profile and can be executed as
+ * follows:
+ * </p>
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java \
+ *     -Dexec.args="--capture=./logs/search-capture.jsonl --rate=50 --concurrency=8 --label=0.0.8"
+ * </pre>
+ * <p>
+ * Supported options are: capture (required), target, dataset, rate, speed,
+ * concurrency, requests, warmup, timeoutMs, label and report. The dataset
+ * option selects one of the {@link DatasetPreset} datasets, which is loaded
+ * on the first run (see {@link DatasetLoader}). Any other option is passed
+ * on as a property of the embedded registry.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class SearchReplayHarness {
+
+    // Class Variables
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> captures;
+    private final String baseUrl;
+    private final double rate;
+    private final double speed;
+    private final int concurrency;
+    private final int requests;
+    private final int warmup;
+    private final Duration timeout;
+
+    /**
+     * Instantiates a new search replay harness.
+     *
+     * @param captures      the captured search requests
+     * @param baseUrl       the base URL of the targeted registry
+     * @param rate          the fixed request rate per second, or 0 to follow the capture pacing
+     * @param speed         the speed-up factor of the capture pacing
+     * @param concurrency   the maximum number of requests in flight
+     * @param requests      the total number of requests to be fired
+     * @param warmup        the number of initial requests excluded from the results
+     * @param timeout       the timeout of each request
+     */
+    public SearchReplayHarness(List<JsonNode> captures, String baseUrl, double rate, double speed, int concurrency, int requests, int warmup, Duration timeout) {
+        this.captures = captures;
+        this.baseUrl = baseUrl;
+        this.rate = rate;
+        this.speed = speed;
+        this.concurrency = concurrency;
+        this.requests = requests;
+        this.warmup = warmup;
+        this.timeout = timeout;
+    }
+
+    /**
+     * The entry point of the search replay harness.
+     *
+     * @param args the harness options in the --key=value form
+     * @throws Exception if the replay failed
+     */
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            final String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+        final String capture = Optional.ofNullable(options.remove("capture"))
+                .orElseThrow(() -> new IllegalArgumentException("The --capture=<file> option is required"));
+        final String target = options.remove("target");
+        final String dataset = options.remove("dataset");
+        final double rate = Double.parseDouble(options.getOrDefault("rate", "0"));
+        final double speed = Double.parseDouble(options.getOrDefault("speed", "1"));
+        final int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "8"));
+        final int warmup = Integer.parseInt(options.getOrDefault("warmup", "0"));
+        final Duration timeout = Duration.ofMillis(Long.parseLong(options.getOrDefault("timeoutMs", "30000")));
+        final String label = options.getOrDefault("label", "replay");
+        final String report = options.get("report");
+        final List<JsonNode> captures = readCaptures(Paths.get(capture));
+        if (captures.isEmpty()) {
+            throw new IllegalArgumentException("No captured search requests found in " + capture);
+        }
+        final int requests = Integer.parseInt(options.getOrDefault("requests", String.valueOf(captures.size())));
+        List.of("rate", "speed", "concurrency", "warmup", "timeoutMs", "label", "report", "requests").forEach(options::remove);
+
+        // Load the requested dataset into its own database and indexes
+        final Map<String, Object> properties = new LinkedHashMap<>();
+        if (dataset != null && target == null) {
+            final DatasetPreset preset = DatasetPreset.fromValue(dataset);
+            DatasetLoader.ensureLoaded(preset, DatasetLoader.DEFAULT_SEED, 500, new LinkedHashMap<>(options));
+            properties.putAll(DatasetLoader.getRegistryProperties(preset));
+        }
+        properties.putAll(options);
+
+        // Start an embedded registry, unless one was targeted
+        final EmbeddedRegistry registry = target == null ? new EmbeddedRegistry(properties) : null;
+        try {
+            final String baseUrl = registry != null ? registry.getBaseUrl() : target;
+            final SearchReplayHarness harness = new SearchReplayHarness(captures, baseUrl, rate, speed, concurrency, requests, warmup, timeout);
+            final List<String> results = harness.run();
+
+            // Print the results and append them to the report if required
+            System.out.printf("Search replay [%s] of %d requests against %s%n", label, requests, baseUrl);
+            results.forEach(System.out::println);
+            if (report != null) {
+                final List<String> lines = new ArrayList<>();
+                results.forEach(result -> lines.add(LocalDateTime.now() + " [" + label + "] " + result));
+                Files.write(Paths.get(report), lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } finally {
+            if (registry != null) {
+                registry.close();
+            }
+        }
+    }
+
+    /**
+     * Reads the captured search requests from the provided capture file.
+     *
+     * @param captureFile   the capture file
+     * @return the captured search requests
+     * @throws IOException if the capture file could not be read
+     */
+    public static List<JsonNode> readCaptures(Path captureFile) throws IOException {
+        final ObjectMapper mapper = new ObjectMapper();
+        final List<JsonNode> captures = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(captureFile, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    captures.add(mapper.readTree(line));
+                }
+            }
+        }
+        return captures;
+    }
+
+    /**
+     * Replays the captured search requests and returns the formatted results,
+     * one line per endpoint and a final one for all of them.
+     *
+     * @return the formatted replay results
+     * @throws InterruptedException if the replay was interrupted
+     */
+    public List<String> run() throws InterruptedException {
+        final Map<String, LatencyStats> endpointStats = new TreeMap<>();
+        final LatencyStats totalStats = new LatencyStats("total");
+        final Semaphore inFlight = new Semaphore(this.concurrency);
+        final ExecutorService executor = Executors.newFixedThreadPool(this.concurrency);
+        final HttpClient client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(this.timeout)
+                .build();
+        final long captureSpan = this.captures.get(this.captures.size() - 1).path("offsetMs").asLong() + 1;
+
+        try {
+            final long start = System.nanoTime();
+            long measureStart = start;
+            for (int i = 0; i < this.requests; i++) {
+                final JsonNode capture = this.captures.get(i % this.captures.size());
+                final String endpoint = capture.path("endpoint").asText();
+                final LatencyStats stats = endpointStats.computeIfAbsent(endpoint, LatencyStats::new);
+
+                // Wait until the request is due
+                final long scheduled = start + this.getOffsetNanos(i, capture, captureSpan);
+                for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (i == this.warmup) {
+                    measureStart = scheduled;
+                }
+
+                // And fire it when a slot is available
+                final boolean measured = i >= this.warmup;
+                inFlight.acquire();
+                client.sendAsync(this.buildRequest(capture), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, ex) -> {
+                            final long latency = System.nanoTime() - scheduled;
+                            final boolean success = ex == null && response.statusCode() < 400;
+                            if (measured) {
+                                stats.record(latency, success);
+                                totalStats.record(latency, success);
+                            }
+                            inFlight.release();
+                        });
+            }
+
+            // Wait for all requests to complete
+            inFlight.acquire(this.concurrency);
+            final long elapsed = System.nanoTime() - measureStart;
+            final List<String> results = new ArrayList<>();
+            endpointStats.values().forEach(stats -> results.add(stats.report(elapsed)));
+            results.add(totalStats.report(elapsed));
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Computes the offset of the provided request from the start of the
+     * replay, either from the fixed rate or from the capture pacing. When
+     * the capture is replayed more than once, each repetition follows the
+     * previous one.
+     *
+     * @param index         the index of the request
+     * @param capture       the captured request
+     * @param captureSpan   the time span of the capture in milliseconds
+     * @return the offset of the request in nanoseconds
+     */
+    protected long getOffsetNanos(int index, JsonNode capture, long captureSpan) {
+        if (this.rate > 0) {
+            return (long) (index * 1_000_000_000.0 / this.rate);
+        }
+        final long repetition = index / this.captures.size();
+        final long offsetMs = repetition * captureSpan + capture.path("offsetMs").asLong();
+        return (long) (offsetMs * 1_000_000.0 / Math.max(this.speed, 0.001));
+    }
+
+    /**
+     * Builds the HTTP request replaying the provided captured request.
+     *
+     * @param capture   the captured request
+     * @return the HTTP request
+     */
+    protected HttpRequest buildRequest(JsonNode capture) {
+        final JsonNode payload = capture.path("payload");
+        final StringBuilder uri = new StringBuilder(this.baseUrl);
+        final HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(this.timeout);
+        if (SearchCaptureService.ENDPOINT_SEARCH_SERVICE.equals(capture.path("endpoint").asText())) {
+            uri.append("/api/secom/").append(SEARCH_SERVICE_INTERFACE_PATH.replaceFirst("^/", "")).append("?");
+            appendParameter(uri, "page", capture.path("page"));
+            appendParameter(uri, "pageSize", capture.path("pageSize"));
+            builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(payload.toString()));
+        } else {
+            uri.append("/api/_search/instances?queryString=")
+                    .append(URLEncoder.encode(payload.path("queryString").asText(""), StandardCharsets.UTF_8));
+            appendParameter(uri, "geometryWKT", payload.path("geometryWKT"));
+            appendParameter(uri, "page", capture.path("page"));
+            appendParameter(uri, "size", capture.path("pageSize"));
+            builder.GET();
+        }
+        return builder.uri(URI.create(uri.toString())).build();
+    }
+
+    /**
+     * Appends the provided query parameter to the request URI, if it has a
+     * value.
+     *
+     * @param uri   the request URI
+     * @param name  the parameter name
+     * @param value the parameter value
+     */
+    private static void appendParameter(StringBuilder uri, String name, JsonNode value) {
+        if (value == null || value.isNull() || value.isMissingNode()) {
+            return;
+        }
+        if (uri.charAt(uri.length() - 1) != '?') {
+            uri.append('&');
+        }
+        uri.append(name).append('=').append(URLEncoder.encode(value.asText(), StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.benchmark;
+
+import net.maritimeconnectivity.serviceregistry.utils.WKTUtil;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.spatial.prefix.RecursivePrefixTreeStrategy;
+import org.apache.lucene.spatial.prefix.tree.GeohashPrefixTree;
+import org.apache.lucene.spatial.query.SpatialArgs;
+import org.apache.lucene.spatial.query.SpatialOperation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.spatial4j.context.jts.JtsSpatialContext;
+import org.locationtech.spatial4j.shape.jts.JtsGeometry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Spatial Indexing Benchmark.
+ * <p>
+ * Measures the cost of indexing the instance geometries in the same way as
+ * the GeometryBinder does, i.e. through a recursive geohash prefix tree
+ * strategy, for different geometry types, complexities and tree precisions,
+ * as well as the cost of constructing the respective intersection queries.
+ * Since the prefix tree cells are generated lazily, the indexable fields
+ * are fully consumed, just like the index writer would. The binder itself
+ * uses 22 levels while the createGeoSpatialQuery() of the InstanceService
+ * uses 12.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class SpatialIndexingBenchmark {
+
+    /**
+     * The type of the indexed geometry.
+     */
+    @Param({"POINT", "LINESTRING", "POLYGON", "MULTIPOLYGON"})
+    String geometryType;
+
+    /**
+     * The number of vertices of the indexed geometry.
+     */
+    @Param({"64", "4096"})
+    int vertices;
+
+    /**
+     * The maximum number of levels of the geohash prefix tree.
+     */
+    @Param({"8", "12", "16", "22"})
+    int maxLevels;
+
+    // Class Variables
+    private final BenchmarkInstanceService instanceService = new BenchmarkInstanceService();
+    private Geometry geometry;
+    private JtsGeometry shape;
+    private RecursivePrefixTreeStrategy strategy;
+
+    /**
+     * Generates the benchmark geometry.
+     *
+     * @throws ParseException if the generated geometry is invalid
+     */
+    @Setup(Level.Trial)
+    public void setup() throws ParseException {
+        final G1128DatasetGenerator generator = new G1128DatasetGenerator(DatasetLoader.DEFAULT_SEED);
+        final GeometryFactory factory = new GeometryFactory();
+        this.geometry = switch (this.geometryType) {
+            case "POINT" -> factory.createPoint(new Coordinate(3.0, 54.5));
+            case "LINESTRING" -> factory.createLineString(((Polygon) WKTUtil.convertWKTtoGeometry(generator.polygon(this.vertices))).getExteriorRing().getCoordinates());
+            case "MULTIPOLYGON" -> factory.createMultiPolygon(new Polygon[]{
+                    (Polygon) WKTUtil.convertWKTtoGeometry(generator.polygon(this.vertices / 3)),
+                    (Polygon) WKTUtil.convertWKTtoGeometry(generator.polygon(this.vertices / 3)),
+                    (Polygon) WKTUtil.convertWKTtoGeometry(generator.polygon(this.vertices / 3))
+            }).union();
+            default -> WKTUtil.convertWKTtoGeometry(generator.polygon(this.vertices));
+        };
+        this.shape = new JtsGeometry(this.geometry, JtsSpatialContext.GEO, false, true);
+        this.strategy = this.createStrategy();
+    }
+
+    /**
+     * Indexes the geometry exactly like the GeometryBinder, i.e. also
+     * creating the prefix tree and the spatial shape for each value.
+     *
+     * @return the number of indexed terms
+     * @throws IOException if the indexable fields could not be consumed
+     */
+    @Benchmark
+    public int indexGeometry() throws IOException {
+        return consume(this.createStrategy().createIndexableFields(new JtsGeometry(this.geometry, JtsSpatialContext.GEO, false, true)));
+    }
+
+    /**
+     * Indexes the geometry reusing the prefix tree and the spatial shape, to
+     * isolate the cost of generating the prefix tree cells.
+     *
+     * @return the number of indexed terms
+     * @throws IOException if the indexable fields could not be consumed
+     */
+    @Benchmark
+    public int indexGeometryCells() throws IOException {
+        return consume(this.strategy.createIndexableFields(this.shape));
+    }
+
+    /**
+     * Constructs the intersection query exactly like the InstanceService,
+     * i.e. always using a prefix tree of 12 levels.
+     *
+     * @return the spatial query
+     */
+    @Benchmark
+    public Query createGeoSpatialQuery() {
+        return this.instanceService.createGeoSpatialQuery(this.geometry);
+    }
+
+    /**
+     * Constructs the intersection query at the benchmark precision.
+     *
+     * @return the spatial query
+     */
+    @Benchmark
+    public Query createGeoSpatialQueryAtPrecision() {
+        return this.createStrategy().makeQuery(new SpatialArgs(SpatialOperation.Intersects, new JtsGeometry(this.geometry, JtsSpatialContext.GEO, false, true)));
+    }
+
+    /**
+     * Creates a recursive prefix tree strategy at the benchmark precision.
+     *
+     * @return the recursive prefix tree strategy
+     */
+    private RecursivePrefixTreeStrategy createStrategy() {
+        return new RecursivePrefixTreeStrategy(new GeohashPrefixTree(JtsSpatialContext.GEO, this.maxLevels), "geometry");
+    }
+
+    /**
+     * Consumes the token streams of the provided fields.
+     *
+     * @param fields    the indexable fields
+     * @return the number of consumed tokens
+     * @throws IOException if the token streams could not be consumed
+     */
+    static int consume(Field[] fields) throws IOException {
+        int tokens = 0;
+        for (Field field : fields) {
+            final TokenStream tokenStream = field.tokenStream(null, null);
+            if (tokenStream == null) {
+                continue;
+            }
+            try (tokenStream) {
+                tokenStream.reset();
+                while (tokenStream.incrementToken()) {
+                    tokens++;
+                }
+                tokenStream.end();
+            }
+        }
+        return tokens;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package db.migration;
+
+import net.maritimeconnectivity.serviceregistry.utils.VersionUtil;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The V11 Instance Latest Version Migration.
+ *
+ * Adds the normalised version sort key and the latest version flag to the
+ * instances, and populates them for the existing ones. This is a Java
+ * migration since the sort keys need to match the ones generated by the
+ * application.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class V11__InstanceLatestVersion extends BaseJavaMigration {
+
+    /**
+     * The number of instance entries updated in a single batch.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Performs the migration.
+     *
+     * @param context the migration context
+     * @throws Exception if the migration fails
+     */
+    @Override
+    public void migrate(Context context) throws Exception {
+        final Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE instance ADD COLUMN version_sort_key varchar(" + VersionUtil.SORT_KEY_LENGTH + ")");
+            statement.execute("ALTER TABLE instance ADD COLUMN latest boolean NOT NULL DEFAULT false");
+        }
+
+        // Generate the sort keys, going through the versions of each MRN
+        try (Statement select = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement("UPDATE instance SET version_sort_key = ?, latest = ? WHERE id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet resultSet = select.executeQuery("SELECT id, instance_id, version FROM instance ORDER BY instance_id")) {
+                final List<InstanceVersion> versions = new ArrayList<>();
+                final int[] pending = {0};
+                while (resultSet.next()) {
+                    final InstanceVersion version = new InstanceVersion(resultSet.getLong(1), resultSet.getString(2), VersionUtil.toSortKey(resultSet.getString(3)));
+                    if (!versions.isEmpty() && !Objects.equals(versions.get(0).instanceId(), version.instanceId())) {
+                        this.updateVersions(update, versions, pending);
+                        versions.clear();
+                    }
+                    versions.add(version);
+                }
+                this.updateVersions(update, versions, pending);
+                if (pending[0] > 0) {
+                    update.executeBatch();
+                }
+            }
+        }
+
+        // And index them for the MRN lookups, allowing a single latest version
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX instance_instance_id_version_sort_key_idx ON instance (instance_id, version_sort_key)");
+            statement.execute("CREATE UNIQUE INDEX instance_instance_id_latest_idx ON instance (instance_id) WHERE latest");
+        }
+    }
+
+    /**
+     * Adds the updates of the versions of a single MRN into the update batch,
+     * flagging the one with the greatest sort key as the latest.
+     *
+     * @param update    the update statement
+     * @param versions  the versions of the MRN
+     * @param pending   the number of pending batch updates
+     * @throws SQLException if the updates fail
+     */
+    private void updateVersions(PreparedStatement update, List<InstanceVersion> versions, int[] pending) throws SQLException {
+        InstanceVersion latest = null;
+        for (InstanceVersion version : versions) {
+            if (latest == null || compare(version, latest) > 0) {
+                latest = version;
+            }
+        }
+        for (InstanceVersion version : versions) {
+            update.setString(1, version.sortKey());
+            update.setBoolean(2, version == latest);
+            update.setLong(3, version.id());
+            update.addBatch();
+            if (++pending[0] == BATCH_SIZE) {
+                update.executeBatch();
+                pending[0] = 0;
+            }
+        }
+    }
+
+    /**
+     * Compares two versions of the same MRN the same way the application
+     * does, i.e. by their sort key and then by their ID.
+     *
+     * @param a the first version
+     * @param b the second version
+     * @return the comparison result
+     */
+    private static int compare(InstanceVersion a, InstanceVersion b) {
+        final int result = Objects.compare(a.sortKey(), b.sortKey(), (x, y) -> x == null ? (y == null ? 0 : -1) : (y == null ? 1 : x.compareTo(y)));
+        return result != 0 ? result : Long.compare(a.id(), b.id());
+    }
+
+    /**
+     * A version of an instance.
+     *
+     * @param id            the ID of the instance
+     * @param instanceId    the MRN of the instance
+     * @param sortKey       the version sort key
+     */
+    private record InstanceVersion(long id, String instanceId, String sortKey) {
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package db.migration;
+
+import net.maritimeconnectivity.serviceregistry.utils.XmlUtil;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * The V9 XML Compression Migration.
+ *
+ * Moves the XML contents into a deflate compressed column, along with the
+ * hash of their canonicalized form. This is a Java migration since the
+ * compression and hashing of the existing contents cannot be expressed in
+ * plain SQL, and needs to match the one performed by the application.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class V9__XmlCompression extends BaseJavaMigration {
+
+    /**
+     * The number of XML entries updated in a single batch.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Performs the migration.
+     *
+     * @param context the migration context
+     * @throws Exception if the migration fails
+     */
+    @Override
+    public void migrate(Context context) throws Exception {
+        final Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE xml ADD COLUMN content_compressed bytea");
+            statement.execute("ALTER TABLE xml ADD COLUMN content_hash varchar(64)");
+        }
+
+        // Compress the existing contents, reading them through a cursor
+        try (Statement select = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement("UPDATE xml SET content_compressed = ?, content_hash = ? WHERE id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet resultSet = select.executeQuery("SELECT id, content FROM xml WHERE content IS NOT NULL")) {
+                int pending = 0;
+                while (resultSet.next()) {
+                    final String content = resultSet.getString(2);
+                    update.setBytes(1, XmlUtil.deflate(content));
+                    update.setString(2, XmlUtil.contentHash(content));
+                    update.setLong(3, resultSet.getLong(1));
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                }
+            }
+        }
+
+        // And drop the uncompressed contents
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE xml ALTER COLUMN content_compressed SET NOT NULL");
+            statement.execute("ALTER TABLE xml DROP COLUMN content");
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.components;
+
+import jakarta.persistence.EntityManager;
+import net.maritimeconnectivity.serviceregistry.exceptions.DataNotFoundException;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Blob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The DatabaseDocBlobStore Component.
+ *
+ * This is the default doc content store, which keeps the file contents in
+ * the document table as the registry always did, so that existing
+ * deployments remain compatible. Since every document row holds its own
+ * copy of the content, nothing is ever stored or garbage collected here,
+ * but the contents can still be looked up by their checksums.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Component
+@ConditionalOnProperty(value = "net.maritimeconnectivity.serviceregistry.docStore.type", havingValue = "database", matchIfMissing = true)
+public class DatabaseDocBlobStore implements DocBlobStore {
+
+    /**
+     * The Entity Manager.
+     */
+    @Autowired
+    EntityManager entityManager;
+
+    /**
+     * The database store keeps the contents inside the document table.
+     *
+     * @return always false
+     */
+    @Override
+    public boolean isExternal() {
+        return false;
+    }
+
+    /**
+     * Returns whether a document with the provided content checksum exists.
+     *
+     * @param checksum  the content checksum
+     * @return whether the content exists
+     */
+    @Override
+    public boolean exists(String checksum) {
+        return this.entityManager.createQuery("select count(doc) from Doc doc where doc.filecontentChecksum = :checksum", Long.class)
+                .setParameter("checksum", checksum)
+                .getSingleResult() > 0;
+    }
+
+    /**
+     * Reads the whole content with the provided checksum.
+     *
+     * @param checksum  the content checksum
+     * @return the content
+     * @throws IOException if the content could not be read
+     */
+    @Override
+    public byte[] read(String checksum) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.copyTo(checksum, 0, Long.MAX_VALUE, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Copies the requested range of the content with the provided checksum
+     * from the LOB of the first document holding it.
+     *
+     * @param checksum  the content checksum
+     * @param offset    the offset of the first byte to be copied
+     * @param length    the number of bytes to be copied
+     * @param out       the output stream to copy the content into
+     * @throws IOException if the content could not be copied
+     */
+    @Override
+    public void copyTo(String checksum, long offset, long length, OutputStream out) throws IOException {
+        try {
+            this.entityManager.unwrap(Session.class).doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement("select filecontent from document where filecontent_checksum = ? and filecontent is not null")) {
+                    statement.setString(1, checksum);
+                    statement.setMaxRows(1);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (!resultSet.next()) {
+                            throw new DataNotFoundException("No doc content found for the provided checksum", null);
+                        }
+                        final Blob blob = resultSet.getBlob(1);
+                        try (InputStream in = blob.getBinaryStream(offset + 1, Math.min(length, blob.length() - offset))) {
+                            in.transferTo(out);
+                        } finally {
+                            blob.free();
+                        }
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Nothing is stored outside the document rows, so there is nothing to
+     * be collected.
+     *
+     * @param modifiedBefore    the time before which the contents were modified
+     * @return an empty list
+     */
+    @Override
+    public List<String> listChecksums(Instant modifiedBefore) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * The contents are deleted along with the document rows themselves.
+     *
+     * @param checksum          the content checksum
+     * @param modifiedBefore    the time before which the content was modified
+     * @return always false
+     */
+    @Override
+    public boolean delete(String checksum, Instant modifiedBefore) {
+        return false;
+    }
+
+}
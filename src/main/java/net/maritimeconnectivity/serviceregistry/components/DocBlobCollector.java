@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.components;
+
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.services.DocBlobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * The DocBlobCollector Component.
+ *
+ * This component periodically garbage collects the doc contents that are
+ * no longer referenced by any doc. It is only activated when the doc
+ * contents are stored on the file system.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Component
+@ConditionalOnProperty(value = "net.maritimeconnectivity.serviceregistry.docStore.type", havingValue = "filesystem")
+@Slf4j
+public class DocBlobCollector {
+
+    /**
+     * The Doc Blob Service.
+     */
+    @Autowired
+    DocBlobService docBlobService;
+
+    /**
+     * Garbage collects the unreferenced doc contents.
+     */
+    @Scheduled(fixedDelayString = "${net.maritimeconnectivity.serviceregistry.docStore.gcInterval:3600000}",
+               initialDelayString = "${net.maritimeconnectivity.serviceregistry.docStore.gcInterval:3600000}")
+    public void collect() {
+        try {
+            this.docBlobService.collectGarbage();
+        } catch (Exception ex) {
+            log.error("Error while garbage collecting the doc contents: {}", ex.getMessage());
+        }
+    }
+
+}
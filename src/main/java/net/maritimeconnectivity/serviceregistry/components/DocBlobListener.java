@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.components;
+
+import jakarta.persistence.PostLoad;
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The DocBlobListener Component.
+ *
+ * This entity listener allows the docs whose contents are stored outside
+ * the database to still provide their file contents, by reading them from
+ * the doc content store whenever they are requested. The store is looked up
+ * lazily, since the listener is created along with the entity manager
+ * factory.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Component
+public class DocBlobListener {
+
+    /**
+     * The Doc Blob Store Provider.
+     */
+    @Autowired
+    ObjectProvider<DocBlobStore> docBlobStoreProvider;
+
+    /**
+     * Sets up the file content loader of the loaded doc, if its content is
+     * stored externally.
+     *
+     * @param doc       the loaded doc
+     */
+    @PostLoad
+    public void postLoad(Doc doc) {
+        final DocBlobStore docBlobStore = this.docBlobStoreProvider != null ? this.docBlobStoreProvider.getIfAvailable() : null;
+        if (docBlobStore == null || !docBlobStore.isExternal() || doc.getFilecontentChecksum() == null) {
+            return;
+        }
+        final String checksum = doc.getFilecontentChecksum();
+        doc.setFilecontentLoader(() -> {
+            try {
+                return docBlobStore.read(checksum);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.components;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The DocBlobStore Interface.
+ *
+ * This interface defines the storage backend of the doc file contents.
+ * Contents are addressed by their hex-encoded SHA-256 checksums, so that
+ * identical files uploaded as different docs are only stored once. The
+ * reference counting and garbage collection of the stored contents is
+ * handled by the DocBlobService, while the backends only take care of the
+ * actual storage.
+ *
+ * Backends that are not external keep the contents inside the document
+ * table, exactly as the registry always did, and can therefore only read
+ * and look up the contents. The external backends are also able to store
+ * them, through the {@link ExternalDocBlobStore} interface.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public interface DocBlobStore {
+
+    /**
+     * A stored blob, identified by its content checksum.
+     *
+     * @param checksum  the hex-encoded SHA-256 checksum of the content
+     * @param size      the size of the content in bytes
+     */
+    record StoredBlob(String checksum, long size) {
+    }
+
+    /**
+     * Returns whether the contents are stored outside the document table.
+     *
+     * @return whether the contents are stored externally
+     */
+    boolean isExternal();
+
+    /**
+     * Returns whether a content with the provided checksum is stored.
+     *
+     * @param checksum  the content checksum
+     * @return whether the content exists
+     */
+    boolean exists(String checksum);
+
+    /**
+     * Reads the whole content with the provided checksum.
+     *
+     * @param checksum  the content checksum
+     * @return the content
+     * @throws IOException if the content could not be read
+     */
+    byte[] read(String checksum) throws IOException;
+
+    /**
+     * Copies the requested range of the content with the provided checksum
+     * into the provided output stream.
+     *
+     * @param checksum  the content checksum
+     * @param offset    the offset of the first byte to be copied
+     * @param length    the number of bytes to be copied
+     * @param out       the output stream to copy the content into
+     * @throws IOException if the content could not be copied
+     */
+    void copyTo(String checksum, long offset, long length, OutputStream out) throws IOException;
+
+    /**
+     * Lists the checksums of the stored contents that were last written or
+     * reused before the provided time.
+     *
+     * @param modifiedBefore    the time before which the contents were modified
+     * @return the list of checksums
+     * @throws IOException if the stored contents could not be listed
+     */
+    List<String> listChecksums(Instant modifiedBefore) throws IOException;
+
+    /**
+     * Deletes the content with the provided checksum, as long as it was not
+     * written or reused since the provided time.
+     *
+     * @param checksum          the content checksum
+     * @param modifiedBefore    the time before which the content was modified
+     * @return whether the content was deleted
+     * @throws IOException if the content could not be deleted
+     */
+    boolean delete(String checksum, Instant modifiedBefore) throws IOException;
+
+}
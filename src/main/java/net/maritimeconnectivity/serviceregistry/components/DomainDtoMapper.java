@@ -18,17 +18,25 @@ package net.maritimeconnectivity.serviceregistry.components;
 
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.DtPage;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.DtPagingRequest;
+import net.maritimeconnectivity.serviceregistry.utils.DomainDtoConverters;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * The Domain-DTO Object Mapper Component.
+ * <p>
+ * The most frequent conversions are performed by the specialised converters
+ * of the {@link DomainDtoConverters}, while any other conversion falls back
+ * to the reflection-based model mapper.
+ * </p>
  *
  * @param <F>   The FROM object type
  * @param <T>   The TO object type
@@ -43,6 +51,12 @@ public class DomainDtoMapper<F, T> {
     @Autowired
     ModelMapper modelMapper;
 
+    /**
+     * Whether to use the specialised converters where available.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.mapping.specialised:true}")
+    boolean specialised = true;
+
     /**
      * Returns the model mapper.
      *
@@ -101,6 +115,12 @@ public class DomainDtoMapper<F, T> {
      */
     @Transactional
     public T convertTo(F fromObj, Class<? extends T> clazz) {
+        if (this.specialised && fromObj != null) {
+            final Function<Object, ?> converter = DomainDtoConverters.find(fromObj.getClass(), clazz);
+            if (converter != null) {
+                return clazz.cast(converter.apply(fromObj));
+            }
+        }
         return this.modelMapper.map(fromObj, clazz);
     }
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.maritimeconnectivity.serviceregistry.components;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The ExternalDocBlobStore Interface.
+ *
+ * This interface extends the doc content stores with the ability to store
+ * the contents outside the document table. Only such external backends can
+ * store a content on its own, since the database backend writes the
+ * contents along with the document rows themselves.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public interface ExternalDocBlobStore extends DocBlobStore {
+
+    /**
+     * The contents are always stored outside the document table.
+     *
+     * @return always true
+     */
+    @Override
+    default boolean isExternal() {
+        return true;
+    }
+
+    /**
+     * Stores the provided content and returns its checksum and size. If the
+     * same content is already stored, it is not written again.
+     *
+     * @param content   the content input stream
+     * @return the stored blob
+     * @throws IOException if the content could not be stored
+     */
+    StoredBlob put(InputStream content) throws IOException;
+
+}
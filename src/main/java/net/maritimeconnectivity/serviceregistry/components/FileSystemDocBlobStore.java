@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.components;
+
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.utils.DigestingInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The FileSystemDocBlobStore Component.
+ *
+ * This doc content store keeps the file contents in a local (or mounted)
+ * directory instead of the database. Each content is stored once, under a
+ * path derived from its SHA-256 checksum, e.g. {@code ab/cd/abcd...}, so
+ * that no directory ends up with too many entries. New contents are first
+ * written into a temporary file and then moved into place, so a partially
+ * written content is never served.
+ *
+ * Downloads are copied through {@link FileChannel#transferTo}, which lets
+ * the operating system move the data without going through the Java heap.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Component
+@ConditionalOnProperty(value = "net.maritimeconnectivity.serviceregistry.docStore.type", havingValue = "filesystem")
+@Slf4j
+public class FileSystemDocBlobStore implements ExternalDocBlobStore {
+
+    /**
+     * The directory where the doc contents are stored.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.docStore.directory:./doc-store/}")
+    String directory;
+
+    // Component Variables
+    private static final Pattern CHECKSUM_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String TEMP_DIRECTORY = ".tmp";
+
+    /**
+     * Stores the provided content under its checksum. If the same content is
+     * already stored, its modification time is refreshed instead, so that it
+     * is not garbage collected while the new reference is being committed.
+     * If the stored content is concurrently moved aside for deletion, it is
+     * written again.
+     *
+     * @param content   the content input stream
+     * @return the stored blob
+     * @throws IOException if the content could not be stored
+     */
+    @Override
+    public StoredBlob put(InputStream content) throws IOException {
+        final Path tempDir = Paths.get(this.directory).resolve(TEMP_DIRECTORY);
+        Files.createDirectories(tempDir);
+        final Path tempFile = Files.createTempFile(tempDir, "blob-", ".tmp");
+        try {
+            final DigestingInputStream in = new DigestingInputStream(content);
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                in.transferTo(out);
+            }
+            final Path target = this.resolve(in.getChecksum());
+            if (!this.touch(target)) {
+                Files.createDirectories(target.getParent());
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return new StoredBlob(in.getChecksum(), in.getCount());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns whether a content with the provided checksum is stored.
+     *
+     * @param checksum  the content checksum
+     * @return whether the content exists
+     */
+    @Override
+    public boolean exists(String checksum) {
+        try {
+            return Files.isRegularFile(this.resolve(checksum));
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the whole content with the provided checksum.
+     *
+     * @param checksum  the content checksum
+     * @return the content
+     * @throws IOException if the content could not be read
+     */
+    @Override
+    public byte[] read(String checksum) throws IOException {
+        return Files.readAllBytes(this.resolve(checksum));
+    }
+
+    /**
+     * Copies the requested range of the content with the provided checksum
+     * into the provided output stream, using the file channel transfer.
+     *
+     * @param checksum  the content checksum
+     * @param offset    the offset of the first byte to be copied
+     * @param length    the number of bytes to be copied
+     * @param out       the output stream to copy the content into
+     * @throws IOException if the content could not be copied
+     */
+    @Override
+    public void copyTo(String checksum, long offset, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(this.resolve(checksum), StandardOpenOption.READ)) {
+            // The target channel is not closed, since that would close the output stream
+            final WritableByteChannel target = Channels.newChannel(out);
+            long position = offset;
+            long remaining = Math.min(length, channel.size() - offset);
+            while (remaining > 0) {
+                final long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * Lists the checksums of the stored contents that were last written or
+     * reused before the provided time.
+     *
+     * @param modifiedBefore    the time before which the contents were modified
+     * @return the list of checksums
+     * @throws IOException if the stored contents could not be listed
+     */
+    @Override
+    public List<String> listChecksums(Instant modifiedBefore) throws IOException {
+        final Path root = Paths.get(this.directory);
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(root, 3)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(p -> CHECKSUM_PATTERN.matcher(p.getFileName().toString()).matches())
+                    .filter(p -> this.isModifiedBefore(p, modifiedBefore))
+                    .map(p -> p.getFileName().toString())
+                    .toList();
+        }
+    }
+
+    /**
+     * Deletes the content with the provided checksum, as long as it was not
+     * written or reused since the provided time. The content is first moved
+     * aside and its modification time is checked again, so that a concurrent
+     * put of the same content either refreshes it before the move, in which
+     * case it is restored, or finds it missing and writes it again.
+     *
+     * @param checksum          the content checksum
+     * @param modifiedBefore    the time before which the content was modified
+     * @return whether the content was deleted
+     * @throws IOException if the content could not be deleted
+     */
+    @Override
+    public boolean delete(String checksum, Instant modifiedBefore) throws IOException {
+        final Path path = this.resolve(checksum);
+        if (!this.isModifiedBefore(path, modifiedBefore)) {
+            return false;
+        }
+        final Path tempDir = Paths.get(this.directory).resolve(TEMP_DIRECTORY);
+        Files.createDirectories(tempDir);
+        final Path deleted = Files.createTempFile(tempDir, "deleted-", ".tmp");
+        try {
+            try {
+                Files.move(path, deleted, StandardCopyOption.ATOMIC_MOVE);
+            } catch (NoSuchFileException ex) {
+                return false;
+            }
+            if (!this.isModifiedBefore(deleted, modifiedBefore)) {
+                Files.move(deleted, path, StandardCopyOption.ATOMIC_MOVE);
+                return false;
+            }
+            return true;
+        } finally {
+            Files.deleteIfExists(deleted);
+        }
+    }
+
+    /**
+     * Resolves the path of the content with the provided checksum. Only
+     * valid hex-encoded SHA-256 checksums are accepted, so that the resolved
+     * path can never end up outside the store directory.
+     *
+     * @param checksum  the content checksum
+     * @return the path of the content
+     * @throws IOException if the checksum is not valid
+     */
+    protected Path resolve(String checksum) throws IOException {
+        if (checksum == null || !CHECKSUM_PATTERN.matcher(checksum).matches()) {
+            throw new IOException("Invalid doc content checksum " + checksum);
+        }
+        return Paths.get(this.directory)
+                .resolve(checksum.substring(0, 2))
+                .resolve(checksum.substring(2, 4))
+                .resolve(checksum);
+    }
+
+    /**
+     * Refreshes the modification time of the provided file, if it exists.
+     *
+     * @param path  the file path
+     * @return whether the file exists
+     * @throws IOException if the modification time could not be refreshed
+     */
+    protected boolean touch(Path path) throws IOException {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the provided file exists and was last modified before
+     * the provided time.
+     *
+     * @param path              the file path
+     * @param modifiedBefore    the time to check against
+     * @return whether the file was last modified before the provided time
+     */
+    protected boolean isModifiedBefore(Path path, Instant modifiedBefore) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(modifiedBefore);
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+}
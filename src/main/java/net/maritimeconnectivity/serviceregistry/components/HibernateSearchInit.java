@@ -18,10 +18,12 @@ package net.maritimeconnectivity.serviceregistry.components;
 import lombok.extern.slf4j.Slf4j;
 import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
 import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.services.LuceneSnapshotService;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.util.common.SearchException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
@@ -36,7 +38,8 @@ import jakarta.transaction.Transactional;
  *
  * This component initialises the Lucence search indexes for the database. This
  * is a persistent content that will remain available throughout the whole
- * application.
+ * application. If the indexes were restored from a snapshot, only the changes
+ * performed after the snapshot was taken are indexed.
  *
  * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
  */
@@ -51,6 +54,12 @@ public class HibernateSearchInit implements ApplicationListener<ContextRefreshed
     @PersistenceContext
     EntityManager entityManager;
 
+    /**
+     * The Lucene Snapshot Service.
+     */
+    @Autowired
+    LuceneSnapshotService luceneSnapshotService;
+
     /**
      * Override the application event handler to index the database.
      *
@@ -59,6 +68,15 @@ public class HibernateSearchInit implements ApplicationListener<ContextRefreshed
     @Override
     @Transactional
     public void onApplicationEvent(ContextRefreshedEvent event) {
+        // If the indexes were restored from a snapshot, just catch up
+        try {
+            if(this.luceneSnapshotService.catchUpRestoredSnapshot()) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to catch up the restored index snapshot: {}", e.getMessage());
+        }
+
         // Once the application has booted up, access the search session
         SearchSession searchSession = Search.session( entityManager );
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.components;
+
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.services.IndexCoordinationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * The IndexOutboxPoller Component.
+ *
+ * This component periodically polls the index outbox table for changes made
+ * by the other registry nodes and applies them to the local Lucene indexes.
+ * It also takes care of removing the outbox events that have expired. It is
+ * only activated when the multi-node index coordination is enabled.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Component
+@ConditionalOnProperty(value = "net.maritimeconnectivity.serviceregistry.indexCoordination.enabled", havingValue = "true")
+@Slf4j
+public class IndexOutboxPoller {
+
+    /**
+     * The Index Coordination Service.
+     */
+    @Autowired
+    IndexCoordinationService indexCoordinationService;
+
+    /**
+     * Polls the outbox and applies the pending events to the local index.
+     */
+    @Scheduled(fixedDelayString = "${net.maritimeconnectivity.serviceregistry.indexCoordination.pollInterval:1000}",
+               initialDelayString = "${net.maritimeconnectivity.serviceregistry.indexCoordination.pollInterval:1000}")
+    public void poll() {
+        try {
+            this.indexCoordinationService.pollOutbox();
+        } catch (Exception ex) {
+            log.error("Error while polling the index outbox: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Removes the expired events from the outbox.
+     */
+    @Scheduled(fixedDelayString = "${net.maritimeconnectivity.serviceregistry.indexCoordination.purgeInterval:3600000}",
+               initialDelayString = "${net.maritimeconnectivity.serviceregistry.indexCoordination.purgeInterval:3600000}")
+    public void purge() {
+        try {
+            final int purged = this.indexCoordinationService.purgeOutbox();
+            log.debug("Purged {} expired index outbox events", purged);
+        } catch (Exception ex) {
+            log.error("Error while purging the index outbox: {}", ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.components;
+
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.services.LuceneSnapshotService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * The LuceneSnapshotPublisher Component.
+ *
+ * This component periodically takes snapshots of the local Lucene indexes and
+ * publishes them into the snapshot directory, so that new nodes can restore
+ * them instead of rebuilding their indexes from the database. It is only
+ * activated when the index snapshots are enabled.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Component
+@ConditionalOnProperty(value = "net.maritimeconnectivity.serviceregistry.indexSnapshot.enabled", havingValue = "true")
+@Slf4j
+public class LuceneSnapshotPublisher {
+
+    /**
+     * The Lucene Snapshot Service.
+     */
+    @Autowired
+    LuceneSnapshotService luceneSnapshotService;
+
+    /**
+     * Takes and publishes a new snapshot of the local indexes.
+     */
+    @Scheduled(fixedDelayString = "${net.maritimeconnectivity.serviceregistry.indexSnapshot.interval:3600000}",
+               initialDelayString = "${net.maritimeconnectivity.serviceregistry.indexSnapshot.interval:3600000}")
+    public void publish() {
+        try {
+            this.luceneSnapshotService.createSnapshot();
+        } catch (Exception ex) {
+            log.error("Error while publishing the Lucene index snapshot: {}", ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.components;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.utils.LuceneSnapshotUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * The LuceneSnapshotRestorer Component.
+ *
+ * This component restores the local Lucene indexes from the latest available
+ * snapshot archive when the service boots up without any local indexes. It
+ * must run before the entity manager factory starts, since that is when
+ * Hibernate Search opens the index directories. The restored snapshot
+ * manifest is kept so that the indexes can later be caught up with the
+ * changes performed after the snapshot was taken.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Component("luceneSnapshotRestorer")
+@Slf4j
+public class LuceneSnapshotRestorer {
+
+    /**
+     * The indexes included in the snapshots.
+     */
+    public static final List<String> INDEX_NAMES = List.of("Instance", "Doc");
+
+    /**
+     * Whether to restore the indexes from a snapshot on startup.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.indexSnapshot.restoreOnStartup:false}")
+    boolean restoreOnStartup;
+
+    /**
+     * The directory where the snapshot archives are published.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.indexSnapshot.directory:./lucene-snapshots/}")
+    String snapshotDirectory;
+
+    /**
+     * The root directory of the local Lucene indexes.
+     */
+    @Value("${spring.jpa.properties.hibernate.search.backend.directory.root:./lucene/}")
+    String indexRoot;
+
+    // Component Variables
+    private Properties restoredManifest;
+
+    /**
+     * Restores the local indexes from the latest snapshot archive, as long
+     * as no local indexes exist yet. Any failure just leaves the indexes to
+     * be rebuilt from the database as usual.
+     */
+    @PostConstruct
+    public void restore() {
+        if (!this.restoreOnStartup) {
+            return;
+        }
+        if (INDEX_NAMES.stream().map(Paths.get(this.indexRoot)::resolve).anyMatch(LuceneSnapshotUtils::containsIndex)) {
+            log.info("Local Lucene indexes found, skipping the snapshot restore");
+            return;
+        }
+        try {
+            final List<Path> snapshots = LuceneSnapshotUtils.listSnapshots(Paths.get(this.snapshotDirectory));
+            if (snapshots.isEmpty()) {
+                log.info("No Lucene index snapshots found in {}", this.snapshotDirectory);
+                return;
+            }
+            this.restoredManifest = this.restoreSnapshot(snapshots.get(0));
+            log.info("Restored Lucene indexes from snapshot {}", snapshots.get(0).getFileName());
+        } catch (IOException ex) {
+            log.error("Failed to restore the Lucene index snapshot: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns the manifest of the snapshot restored on startup, if any.
+     *
+     * @return the manifest of the restored snapshot
+     */
+    public Optional<Properties> getRestoredManifest() {
+        return Optional.ofNullable(this.restoredManifest);
+    }
+
+    /**
+     * Extracts the provided snapshot archive into a temporary directory next
+     * to the index root and then moves each index into place, so that a
+     * partially extracted archive never ends up being used.
+     *
+     * @param snapshot  the snapshot archive
+     * @return the snapshot manifest
+     * @throws IOException if the snapshot could not be restored
+     */
+    protected Properties restoreSnapshot(Path snapshot) throws IOException {
+        final Path root = Paths.get(this.indexRoot).toAbsolutePath().normalize();
+        final Path tempDir = root.resolveSibling(root.getFileName() + ".restore");
+        LuceneSnapshotUtils.deleteRecursively(tempDir);
+        try {
+            final Properties manifest = LuceneSnapshotUtils.extract(snapshot, tempDir);
+            Files.createDirectories(root);
+            for (String indexName : INDEX_NAMES) {
+                final Path source = tempDir.resolve(indexName);
+                if (Files.isDirectory(source)) {
+                    LuceneSnapshotUtils.deleteRecursively(root.resolve(indexName));
+                    Files.move(source, root.resolve(indexName), StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            return manifest;
+        } finally {
+            LuceneSnapshotUtils.deleteRecursively(tempDir);
+        }
+    }
+
+}
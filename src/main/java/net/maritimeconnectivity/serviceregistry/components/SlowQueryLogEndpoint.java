@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.components;
+
+import net.maritimeconnectivity.serviceregistry.models.dto.SlowQueryRecordDto;
+import net.maritimeconnectivity.serviceregistry.services.SlowQueryLogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The SlowQueryLogEndpoint Component.
+ *
+ * This component exposes the most recent slow query records kept in memory
+ * through the slowqueries actuator endpoint. Like all other non-public
+ * actuator endpoints, it is only available for the actuator role.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryLogEndpoint {
+
+    /**
+     * The Slow Query Log Service.
+     */
+    @Autowired
+    SlowQueryLogService slowQueryLogService;
+
+    /**
+     * Returns the most recent slow query records.
+     *
+     * @return the most recent slow query records
+     */
+    @ReadOperation
+    public List<SlowQueryRecordDto> slowQueries() {
+        return this.slowQueryLogService.getRecords();
+    }
+
+    /**
+     * Clears the slow query records kept in memory.
+     */
+    @DeleteOperation
+    public void clearSlowQueries() {
+        this.slowQueryLogService.clearRecords();
+    }
+
+}
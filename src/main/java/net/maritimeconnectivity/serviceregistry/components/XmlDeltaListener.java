@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.components;
+
+import jakarta.persistence.PostLoad;
+import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
+import net.maritimeconnectivity.serviceregistry.services.XmlDeltaService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * The XmlDeltaListener Component.
+ *
+ * This entity listener allows the xmls stored as deltas against the xml of
+ * a newer instance version to still provide their content, by reconstructing
+ * it whenever it's requested. The delta service is looked up lazily, since
+ * the listener is created along with the entity manager factory.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Component
+public class XmlDeltaListener {
+
+    /**
+     * The XML Delta Service Provider.
+     */
+    @Autowired
+    ObjectProvider<XmlDeltaService> xmlDeltaServiceProvider;
+
+    /**
+     * Sets up the content loader of the loaded xml, if its content is stored
+     * as a delta.
+     *
+     * @param xml       the loaded xml
+     */
+    @PostLoad
+    public void postLoad(Xml xml) {
+        final XmlDeltaService xmlDeltaService = this.xmlDeltaServiceProvider != null ? this.xmlDeltaServiceProvider.getIfAvailable() : null;
+        if (xmlDeltaService == null || !xml.isDelta()) {
+            return;
+        }
+        xml.setContentLoader(() -> xmlDeltaService.reconstruct(xml));
+    }
+
+}
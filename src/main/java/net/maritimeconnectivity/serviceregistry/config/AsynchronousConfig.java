@@ -16,24 +16,29 @@
 
 package net.maritimeconnectivity.serviceregistry.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * The AsynchronousConfig Class
  *
- * This is a simple configuration that enables asynchronous operations and
- * provide a task executor for them.
+ * This is a simple configuration that enables asynchronous and scheduled
+ * operations and provide a task executor for them, as well as a dedicated
+ * executor for the concurrent Lucene segment searches.
  *
  * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
  */
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsynchronousConfig {
 
     /**
@@ -52,4 +57,27 @@ public class AsynchronousConfig {
         return taskExecutor;
     }
 
+    /**
+     * The bounded executor used for searching the Lucene index segments
+     * concurrently. When all threads are busy and the queue is full, the
+     * calling thread searches the slice itself.
+     *
+     * @param threads The number of search threads
+     * @param queueCapacity The capacity of the search task queue
+     * @return The executor for the concurrent segment searches
+     */
+    @Bean("searchExecutor")
+    public Executor searchExecutor(@Value("${net.maritimeconnectivity.serviceregistry.concurrentSearch.threads:0}") int threads,
+                                   @Value("${net.maritimeconnectivity.serviceregistry.concurrentSearch.queueCapacity:100}") int queueCapacity) {
+        final int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor searchExecutor = new ThreadPoolTaskExecutor();
+        searchExecutor.setCorePoolSize(poolSize);
+        searchExecutor.setMaxPoolSize(poolSize);
+        searchExecutor.setQueueCapacity(queueCapacity);
+        searchExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        searchExecutor.setThreadNamePrefix("search-");
+        searchExecutor.initialize();
+        return searchExecutor;
+    }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.maritimeconnectivity.serviceregistry.utils.FilterFieldsQueryCachingPolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * The LuceneQueryCacheConfig Class
+ *
+ * This configuration replaces the default Lucene query cache, used by all
+ * index searchers including the Hibernate Search ones, with an explicitly
+ * sized one. The caching policy always keeps per-segment bitsets for the hot
+ * structured filters of the instance searches, while the cache statistics
+ * are exposed as metrics.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Configuration
+public class LuceneQueryCacheConfig {
+
+    /**
+     * The Lucene query cache, also installed as the default cache of all
+     * index searchers.
+     *
+     * @param maxSize The maximum number of cached queries
+     * @param maxRamMb The maximum memory used by the cache in MB
+     * @param minSegmentDocs The minimum number of documents of a cached segment
+     * @param filterFields The hot structured filter fields to always cache
+     * @return The Lucene query cache
+     */
+    @Bean
+    public LRUQueryCache luceneQueryCache(@Value("${net.maritimeconnectivity.serviceregistry.queryCache.maxSize:1000}") int maxSize,
+                                          @Value("${net.maritimeconnectivity.serviceregistry.queryCache.maxRamMb:32}") long maxRamMb,
+                                          @Value("${net.maritimeconnectivity.serviceregistry.queryCache.minSegmentDocs:1000}") int minSegmentDocs,
+                                          @Value("${net.maritimeconnectivity.serviceregistry.queryCache.filterFields:status,serviceTypes,dataProductType,latest}") String[] filterFields) {
+        final LRUQueryCache queryCache = new LRUQueryCache(maxSize, maxRamMb * 1024 * 1024, leaf -> leaf.reader().maxDoc() >= minSegmentDocs, 10f);
+        IndexSearcher.setDefaultQueryCache(queryCache);
+        IndexSearcher.setDefaultQueryCachingPolicy(new FilterFieldsQueryCachingPolicy(Set.of(filterFields), new UsageTrackingQueryCachingPolicy()));
+        return queryCache;
+    }
+
+    /**
+     * Exposes the Lucene query cache statistics as metrics.
+     *
+     * @param luceneQueryCache The Lucene query cache
+     * @return The metrics binder for the Lucene query cache
+     */
+    @Bean
+    public MeterBinder luceneQueryCacheMetrics(LRUQueryCache luceneQueryCache) {
+        return registry -> {
+            FunctionCounter.builder("lucene.query.cache.hits", luceneQueryCache, LRUQueryCache::getHitCount)
+                    .description("The number of Lucene query cache hits")
+                    .register(registry);
+            FunctionCounter.builder("lucene.query.cache.misses", luceneQueryCache, LRUQueryCache::getMissCount)
+                    .description("The number of Lucene query cache misses")
+                    .register(registry);
+            FunctionCounter.builder("lucene.query.cache.evictions", luceneQueryCache, LRUQueryCache::getEvictionCount)
+                    .description("The number of Lucene query cache evictions")
+                    .register(registry);
+            Gauge.builder("lucene.query.cache.hit.ratio", luceneQueryCache, LuceneQueryCacheConfig::hitRatio)
+                    .description("The ratio of Lucene query cache hits over all lookups")
+                    .register(registry);
+            Gauge.builder("lucene.query.cache.size", luceneQueryCache, LRUQueryCache::getCacheSize)
+                    .description("The number of cached per-segment bitsets")
+                    .register(registry);
+            Gauge.builder("lucene.query.cache.memory", luceneQueryCache, LRUQueryCache::ramBytesUsed)
+                    .description("The memory used by the Lucene query cache")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Calculates the hit ratio of the provided Lucene query cache.
+     *
+     * @param queryCache The Lucene query cache
+     * @return The hit ratio
+     */
+    static double hitRatio(LRUQueryCache queryCache) {
+        final long lookups = queryCache.getHitCount() + queryCache.getMissCount();
+        return lookups == 0 ? 0.0 : (double) queryCache.getHitCount() / lookups;
+    }
+
+}
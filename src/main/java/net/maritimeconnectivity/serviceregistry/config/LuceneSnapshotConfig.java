@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The LuceneSnapshotConfig Class
+ *
+ * This configuration makes sure that the Lucene index snapshots are restored
+ * before the entity manager factory starts, and therefore before Hibernate
+ * Search opens the local index directories.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Configuration
+public class LuceneSnapshotConfig {
+
+    /**
+     * Makes the entity manager factory depend on the Lucene snapshot
+     * restorer component.
+     *
+     * @return The entity manager factory dependency post processor
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor luceneSnapshotRestorerDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor("luceneSnapshotRestorer");
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+import net.maritimeconnectivity.serviceregistry.services.SlowQueryLogService;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The SlowQueryLogConfig Class
+ *
+ * This configuration attaches a rotating file appender to the dedicated slow
+ * query logger, so that the slow query records are written as JSON lines
+ * into their own file instead of the main application log. The file is
+ * rolled over daily or when it reaches the configured size, and the rolled
+ * over files are compressed and eventually removed.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Configuration
+@ConditionalOnProperty(value = "net.maritimeconnectivity.serviceregistry.slowQueryLog.file")
+public class SlowQueryLogConfig {
+
+    /**
+     * The rotating file appender of the slow query logger.
+     *
+     * @param file The slow query log file
+     * @param maxFileSize The maximum size of each log file
+     * @param maxHistory The number of days the rolled over files are kept
+     * @param totalSizeCap The maximum total size of the rolled over files
+     * @return The rotating file appender of the slow query logger
+     */
+    @Bean(destroyMethod = "stop")
+    public RollingFileAppender<ILoggingEvent> slowQueryLogAppender(@Value("${net.maritimeconnectivity.serviceregistry.slowQueryLog.file}") String file,
+                                                                   @Value("${net.maritimeconnectivity.serviceregistry.slowQueryLog.maxFileSize:10MB}") String maxFileSize,
+                                                                   @Value("${net.maritimeconnectivity.serviceregistry.slowQueryLog.maxHistory:7}") int maxHistory,
+                                                                   @Value("${net.maritimeconnectivity.serviceregistry.slowQueryLog.totalSizeCap:100MB}") String totalSizeCap) {
+        final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        // Each record is already a JSON document
+        final PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%msg%n");
+        encoder.start();
+
+        // Roll over daily and by size
+        final RollingFileAppender<ILoggingEvent> appender = new RollingFileAppender<>();
+        appender.setContext(context);
+        appender.setName("SLOW_QUERY_LOG");
+        appender.setFile(file);
+        appender.setEncoder(encoder);
+        final SizeAndTimeBasedRollingPolicy<ILoggingEvent> rollingPolicy = new SizeAndTimeBasedRollingPolicy<>();
+        rollingPolicy.setContext(context);
+        rollingPolicy.setParent(appender);
+        rollingPolicy.setFileNamePattern(file + ".%d{yyyy-MM-dd}.%i.gz");
+        rollingPolicy.setMaxFileSize(FileSize.valueOf(maxFileSize));
+        rollingPolicy.setMaxHistory(maxHistory);
+        rollingPolicy.setTotalSizeCap(FileSize.valueOf(totalSizeCap));
+        rollingPolicy.start();
+        appender.setRollingPolicy(rollingPolicy);
+        appender.start();
+
+        // And attach it to the slow query logger only
+        final Logger logger = context.getLogger(SlowQueryLogService.LOGGER_NAME);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return appender;
+    }
+
+}
@@ -23,7 +23,7 @@ import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
 import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
 import net.maritimeconnectivity.serviceregistry.models.dto.DocDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.DocDtDto;
-import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDtDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.DocMetadataDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.DtPage;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.DtPagingRequest;
 import net.maritimeconnectivity.serviceregistry.services.DocService;
@@ -34,14 +34,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.*;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * REST controller for managing Doc.
@@ -72,10 +79,10 @@ public class DocController {
     DomainDtoMapper<DocDto, Doc> docDtoToDomainMapper;
 
     /**
-     * Object Mapper from Domain to Datatable DTO.
+     * Object Mapper from Metadata DTO to Datatable DTO.
      */
     @Autowired
-    DomainDtoMapper<Doc, DocDtDto> docDomainToDtDtoMapper;
+    DomainDtoMapper<DocMetadataDto, DocDtDto> docDomainToDtDtoMapper;
 
     /**
      * The Doc Service.
@@ -84,19 +91,20 @@ public class DocController {
     private DocService docService;
 
     /**
-     * GET /api/docs : get all the docs.
+     * GET /api/docs : get the metadata of all the docs. The file contents are
+     * not included and can be retrieved through the download endpoint.
      *
      * @param pageable the pagination information
-     * @return the ResponseEntity with status 200 (OK) and the list of docs in body
+     * @return the ResponseEntity with status 200 (OK) and the list of doc metadata in body
      * @throws URISyntaxException if there is an error to generate the pagination HTTP headers
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<DocDto>> getDocs(@ParameterObject Pageable pageable) throws URISyntaxException {
+    public ResponseEntity<List<DocMetadataDto>> getDocs(@ParameterObject Pageable pageable) throws URISyntaxException {
         log.debug("REST request to get a page of Docs");
-        final Page<Doc> page = this.docService.findAll(pageable);
+        final Page<DocMetadataDto> page = this.docService.findAllMetadata(pageable);
         return ResponseEntity.ok()
                 .headers(PaginationUtil.generatePaginationHttpHeaders(page, "/api/docs"))
-                .body(this.docDomainToDtoMapper.convertToList(page.getContent(), DocDto.class));
+                .body(page.getContent());
     }
 
     /**
@@ -110,7 +118,7 @@ public class DocController {
     @PostMapping(value = "/dt", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<DtPage<DocDtDto>> getDocsForDatatables(@RequestParam Long instanceId, @RequestBody DtPagingRequest dtPagingRequest) {
         log.debug("REST request to get page of Instances for datatables");
-        final Page<Doc> page = this.docService.handleDatatablesPagingRequest(instanceId, dtPagingRequest);
+        final Page<DocMetadataDto> page = this.docService.handleDatatablesPagingRequest(instanceId, dtPagingRequest);
         return ResponseEntity.ok()
                 .body(this.docDomainToDtDtoMapper.convertToDtPage(page, dtPagingRequest, DocDtDto.class));
     }
@@ -130,6 +138,118 @@ public class DocController {
                 .body(this.docDomainToDtoMapper.convertTo(result, DocDto.class));
     }
 
+    /**
+     * GET /api/docs/{id}/download : download the file content of the "ID"
+     * doc. The content is streamed straight out of the storage, and single
+     * byte ranges as well as conditional requests on the content checksum
+     * are supported.
+     *
+     * @param id the ID of the doc to download
+     * @param headers the request headers
+     * @param webRequest the web request
+     * @return the ResponseEntity with status 200 (OK) or 206 (Partial Content)
+     * and with body the doc file content, or with status 304 (Not Modified),
+     * 404 (Not Found) or 416 (Range Not Satisfiable)
+     */
+    @GetMapping(value = "/{id}/download")
+    public ResponseEntity<StreamingResponseBody> downloadDoc(@PathVariable Long id,
+                                                             @RequestHeader HttpHeaders headers,
+                                                             WebRequest webRequest) {
+        log.debug("REST request to download Doc : {}", id);
+        final DocMetadataDto metadata = this.docService.findMetadata(id);
+        final long size = Optional.ofNullable(metadata.getFilecontentSize()).orElse(0L);
+        final String eTag = Optional.ofNullable(metadata.getFilecontentChecksum())
+                .map(checksum -> "\"" + checksum + "\"")
+                .orElse(null);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        // Only single ranges are served, and only if the content is unchanged
+        final List<HttpRange> ranges = headers.getRange();
+        final String ifRange = headers.getFirst(HttpHeaders.IF_RANGE);
+        final HttpRange range = ranges.size() == 1 && (ifRange == null || ifRange.equals(eTag)) ?
+                ranges.get(0) : null;
+        final long start;
+        final long end;
+        try {
+            start = range != null ? range.getRangeStart(size) : 0;
+            end = range != null ? range.getRangeEnd(size) : size - 1;
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+        }
+        final long length = end - start + 1;
+
+        // Stream the requested content
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.status(range != null ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .contentType(Optional.ofNullable(metadata.getFilecontentContentType())
+                        .map(MediaType::parseMediaType)
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .contentLength(length)
+                .eTag(eTag)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(metadata.getName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString());
+        if (range != null) {
+            builder.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        return builder.body(out -> this.docService.copyContent(id, start, length, out));
+    }
+
+    /**
+     * POST /api/docs/upload : Create a new doc by uploading its file content
+     * as a multipart request. The content is streamed into the storage
+     * without being held in memory.
+     *
+     * @param file the uploaded file
+     * @param instanceId the ID of the instance the doc is attached to
+     * @param comment the doc comment
+     * @return the ResponseEntity with status 201 (Created) and with body the
+     * new doc metadata, or with status 400 (Bad Request) if the doc couldn't
+     * be created
+     * @throws IOException if the uploaded file could not be read
+     * @throws URISyntaxException if the Location URI syntax is incorrect
+     */
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DocMetadataDto> uploadDoc(@RequestParam("file") MultipartFile file,
+                                                    @RequestParam(required = false) Long instanceId,
+                                                    @RequestParam(required = false) String comment) throws IOException, URISyntaxException {
+        log.debug("REST request to upload Doc : {}", file.getOriginalFilename());
+        if (this.allowedContentTypes.stream().noneMatch(ft -> ft.equalsIgnoreCase(file.getContentType()))) {
+            return ResponseEntity.badRequest()
+                    .headers(HeaderUtil.createFailureAlert("doc", "formaterror", "Unsupported document format. Only PDF, ODT or DOCX are allowed."))
+                    .build();
+        }
+        final Doc doc = new Doc();
+        doc.setName(StringUtils.hasText(file.getOriginalFilename()) ? file.getOriginalFilename() : file.getName());
+        doc.setComment(comment);
+        doc.setMimetype(file.getContentType());
+        doc.setFilecontentContentType(file.getContentType());
+        Optional.ofNullable(instanceId).ifPresent(iid -> {
+            final Instance instance = new Instance();
+            instance.setId(iid);
+            doc.setInstance(instance);
+        });
+        final Doc result;
+        try (InputStream in = file.getInputStream()) {
+            result = this.docService.saveContent(doc, in);
+        }
+        return ResponseEntity.created(new URI("/api/docs/" + result.getId()))
+                .headers(HeaderUtil.createEntityCreationAlert("doc", result.getId().toString()))
+                .body(new DocMetadataDto(result.getId(),
+                        result.getName(),
+                        result.getComment(),
+                        result.getMimetype(),
+                        result.getFilecontentContentType(),
+                        result.getFilecontentSize(),
+                        result.getFilecontentChecksum(),
+                        instanceId));
+    }
+
     /**
      * POST /api/docs : Create a new doc.
      *
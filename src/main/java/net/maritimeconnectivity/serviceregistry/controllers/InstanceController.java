@@ -19,6 +19,7 @@ package net.maritimeconnectivity.serviceregistry.controllers;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
 import net.maritimeconnectivity.serviceregistry.components.DomainDtoMapper;
+import net.maritimeconnectivity.serviceregistry.exceptions.DuplicateDataException;
 import net.maritimeconnectivity.serviceregistry.exceptions.GeometryParseException;
 import net.maritimeconnectivity.serviceregistry.exceptions.XMLValidationException;
 import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
@@ -26,6 +27,7 @@ import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDtDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.DtPage;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.DtPagingRequest;
+import net.maritimeconnectivity.serviceregistry.services.InstanceJsonCacheService;
 import net.maritimeconnectivity.serviceregistry.services.InstanceService;
 import net.maritimeconnectivity.serviceregistry.utils.HeaderUtil;
 import net.maritimeconnectivity.serviceregistry.utils.PaginationUtil;
@@ -35,6 +37,8 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -45,6 +49,8 @@ import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 
 /**
  * REST controller for managing Instance.
@@ -80,6 +86,12 @@ public class InstanceController {
     @Autowired
     DomainDtoMapper<Instance, InstanceDtDto> instanceDomainToDtDtoMapper;
 
+    /**
+     * The Instance JSON Cache Service.
+     */
+    @Autowired
+    InstanceJsonCacheService instanceJsonCacheService;
+
     /**
      * Setup up addition model mapper configurations.
      */
@@ -147,12 +159,26 @@ public class InstanceController {
      * GET /api/instances/{id} : get the "ID" instance.
      *
      * @param id the ID of the instance to retrieve
+     * @param acceptEncoding the encodings accepted by the client
      * @return the ResponseEntity with status 200 (OK) and with body the instance
      */
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<InstanceDto> getInstance(@PathVariable Long id) {
+    public ResponseEntity<?> getInstance(@PathVariable Long id,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) Optional<String> acceptEncoding) {
         log.debug("REST request to get Instance : {}", id);
         final Instance result = this.instanceService.findOne(id);
+        // Use the cached serialized instance if possible
+        if (this.instanceJsonCacheService.isEnabled()) {
+            if (this.instanceJsonCacheService.isCompressed() && acceptEncoding.filter(e -> e.contains("gzip")).isPresent()) {
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .body(this.instanceJsonCacheService.getInstanceDtoGzip(result));
+            }
+            return ResponseEntity.ok()
+                    .body(this.instanceJsonCacheService.getInstanceDtoJson(result));
+        }
         return ResponseEntity.ok()
                 .body(this.instanceDomainToDtoMapper.convertTo(result, InstanceDto.class));
     }
@@ -220,6 +246,23 @@ public class InstanceController {
         return response;
     }
 
+    /**
+     * PUT /api/instances/mrn/{mrn}/{version} : Creates or replaces the
+     * instance with the provided MRN and version.
+     *
+     * @param mrn the instance ID of the instance to be created or replaced
+     * @param version the version of the instance to be created or replaced
+     * @param instanceDto the instance to create or replace
+     * @return the ResponseEntity with status 201 (Created) and with body the created instance, or with status 200 (OK) and with body the replaced instance
+     * @throws URISyntaxException if the Location URI syntax is incorrect
+     */
+    @PutMapping(value = "/mrn/{mrn}/{version}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<InstanceDto> upsertInstance(@PathVariable String mrn, @PathVariable String version, @Valid @RequestBody InstanceDto instanceDto) throws URISyntaxException {
+        log.debug("REST request to upsert Instance with mrn {} and version {} : {}", mrn, version, instanceDto);
+        final Instance instance = this.instanceDtoToDomainMapper.convertTo(instanceDto, Instance.class);
+        return this.saveInstance(instance, () -> this.instanceService.upsert(mrn, version, instance));
+    }
+
     /**
      * DELETE /api/instances/{id} : delete the "ID" instance.
      *
@@ -279,8 +322,25 @@ public class InstanceController {
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     private ResponseEntity<InstanceDto> saveInstance(Instance instance, boolean newInstance) throws URISyntaxException {
+        return this.saveInstance(instance, () -> new InstanceService.SaveResult(this.instanceService.save(instance), newInstance));
+    }
+
+    /**
+     * A helper function that performs the provided instance saving operation
+     * and handles and issues. Whether the instance was newly created is
+     * reported by the saving operation itself.
+     *
+     * @param instance the instance to be save
+     * @param saveOperation the saving operation to be performed
+     * @return the saved instance
+     * @throws URISyntaxException if the Location URI syntax is incorrect
+     */
+    private ResponseEntity<InstanceDto> saveInstance(Instance instance, Callable<InstanceService.SaveResult> saveOperation) throws URISyntaxException {
+        final boolean newInstance;
         try {
-            instance = this.instanceService.save(instance);
+            final InstanceService.SaveResult result = saveOperation.call();
+            instance = result.instance();
+            newInstance = result.created();
         } catch (XMLValidationException ex) {
             log.error("Error parsing xml: ", ex);
             return ResponseEntity.badRequest()
@@ -291,6 +351,11 @@ public class InstanceController {
             return ResponseEntity.badRequest()
                     .headers(HeaderUtil.createFailureAlert("instance", ex.getMessage(), ex.toString()))
                     .body(this.instanceDomainToDtoMapper.convertTo(instance, InstanceDto.class));
+        } catch (DuplicateDataException ex) {
+            log.error("Duplicate instance: ", ex);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .headers(HeaderUtil.createFailureAlert("instance", ex.getMessage(), ex.toString()))
+                    .body(this.instanceDomainToDtoMapper.convertTo(instance, InstanceDto.class));
         } catch (Exception ex) {
             log.error("Saving error: ", ex);
             return ResponseEntity.badRequest()
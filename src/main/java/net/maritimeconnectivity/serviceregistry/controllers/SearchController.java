@@ -16,20 +16,28 @@
 
 package net.maritimeconnectivity.serviceregistry.controllers;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
 import net.maritimeconnectivity.serviceregistry.components.DomainDtoMapper;
 import net.maritimeconnectivity.serviceregistry.exceptions.InvalidRequestException;
 import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
 import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.InstanceSearchProfileDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.SearchProfileDto;
+import net.maritimeconnectivity.serviceregistry.services.InstanceJsonCacheService;
 import net.maritimeconnectivity.serviceregistry.services.InstanceService;
+import net.maritimeconnectivity.serviceregistry.services.SearchCaptureService;
+import net.maritimeconnectivity.serviceregistry.services.SlowQueryLogService;
 import net.maritimeconnectivity.serviceregistry.utils.HeaderUtil;
 import net.maritimeconnectivity.serviceregistry.utils.PaginationUtil;
+import net.maritimeconnectivity.serviceregistry.utils.SearchProfiler;
 import net.maritimeconnectivity.serviceregistry.utils.WKTUtil;
 import org.apache.commons.lang3.StringUtils;
 import org.locationtech.jts.geom.Geometry;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
@@ -67,6 +75,30 @@ public class SearchController {
     @Autowired
     DomainDtoMapper<Instance, InstanceDto> instanceDomainToDtoMapper;
 
+    /**
+     * The Instance JSON Cache Service.
+     */
+    @Autowired
+    InstanceJsonCacheService instanceJsonCacheService;
+
+    /**
+     * The Slow Query Log Service.
+     */
+    @Autowired
+    SlowQueryLogService slowQueryLogService;
+
+    /**
+     * The Search Capture Service.
+     */
+    @Autowired
+    SearchCaptureService searchCaptureService;
+
+    /**
+     * The role required for profiling the searches.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.search.profileRole:ADMIN}")
+    String profileRole;
+
     /**
      * SEARCH /_search/instances?query=:query : search for the instance
      * corresponding to the search query string provided.
@@ -75,14 +107,16 @@ public class SearchController {
      * @param geometry      the geometry of the instance search
      * @param geometryWKT   the geometry WKT string of the instance search
      * @param globalSearch  whether the global search facility should be used
+     * @param profile       whether to also return the search profile (admins only)
      * @return the result of the search
      */
     @GetMapping(value = "/instances", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<InstanceDto>> searchInstances(@RequestParam("queryString") String queryString,
-                                                             @RequestParam(value = "geometry") Optional<Geometry> geometry,
-                                                             @RequestParam(value = "geometryWKT") Optional<String> geometryWKT,
-                                                             @RequestParam(value = "globalSearch") Optional<Boolean> globalSearch,
-                                                             @ParameterObject Pageable pageable) throws URISyntaxException {
+    public ResponseEntity<?> searchInstances(@RequestParam("queryString") String queryString,
+                                             @RequestParam(value = "geometry") Optional<Geometry> geometry,
+                                             @RequestParam(value = "geometryWKT") Optional<String> geometryWKT,
+                                             @RequestParam(value = "globalSearch") Optional<Boolean> globalSearch,
+                                             @RequestParam(value = "profile") Optional<Boolean> profile,
+                                             @ParameterObject Pageable pageable) throws URISyntaxException {
         // We only allow one geometry specification method
         if(geometry.isPresent() && geometryWKT.filter(StringUtils::isNotBlank).isPresent()) {
             return ResponseEntity.badRequest()
@@ -106,12 +140,33 @@ public class SearchController {
                 .map(Geometry::toText)
                 .orElseGet(() -> geometryWKT.orElse("None "));
         log.debug("REST request to search for a page of Instances for query {} and geometry {}", queryString, searchGeometryString);
-        // Perform the search
-        final Page<Instance> page = instanceService.handleSearchQueryRequest(queryString, searchGeometry, pageable);
-        // And build the response
-        return ResponseEntity.ok()
-                .headers(PaginationUtil.generatePaginationHttpHeaders(page, "/api/_search/instances"))
-                .body(this.instanceDomainToDtoMapper.convertToList(page.getContent(), InstanceDto.class));
+        // Only administrators are allowed to profile the searches in detail,
+        // but all searches are timed for the slow query log and the capture
+        final boolean profiling = profile.orElse(false) && SearchProfiler.hasRole(this.profileRole);
+        if(profiling || this.slowQueryLogService.isEnabled() || this.searchCaptureService.isEnabled()) {
+            SearchProfiler.start("searchInstances", profiling);
+        }
+        try {
+            SearchProfiler.attribute(SlowQueryLogService.ATTRIBUTE_QUERY_STRING, queryString);
+            SearchProfiler.attribute(SlowQueryLogService.ATTRIBUTE_GEOMETRY_VERTICES, Optional.ofNullable(searchGeometry).map(Geometry::getNumPoints).orElse(0));
+            // Perform the search
+            final Page<Instance> page = SearchProfiler.stage("search", () -> instanceService.handleSearchQueryRequest(queryString, searchGeometry, pageable));
+            SearchProfiler.attribute(SlowQueryLogService.ATTRIBUTE_HITS, page.getTotalElements());
+            // Map the results, unless the cached serialized ones can be spliced
+            final boolean spliced = !profiling && this.instanceJsonCacheService.isEnabled();
+            final List<InstanceDto> results = spliced ? null : SearchProfiler.stage("mapping", () -> this.instanceDomainToDtoMapper.convertToList(page.getContent(), InstanceDto.class));
+            final List<RawValue> splicedResults = spliced ? SearchProfiler.stage("mapping", () -> this.instanceJsonCacheService.getInstanceDtoJsons(page.getContent())) : null;
+            // Log the search if it was slow, and capture it if required
+            final SearchProfileDto searchProfile = SearchProfiler.stop();
+            this.slowQueryLogService.record("/api/_search/instances", searchProfile);
+            this.searchCaptureService.captureSearchInstances(queryString, searchGeometry, pageable, searchProfile);
+            // And build the response
+            return ResponseEntity.ok()
+                    .headers(PaginationUtil.generatePaginationHttpHeaders(page, "/api/_search/instances"))
+                    .body(profiling ? new InstanceSearchProfileDto(results, searchProfile) : spliced ? splicedResults : results);
+        } finally {
+            SearchProfiler.stop();
+        }
     }
 
 }
@@ -35,6 +35,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.xml.sax.SAXException;
 
 import jakarta.validation.Valid;
@@ -43,6 +44,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -106,6 +108,41 @@ public class XmlController {
                 .body(this.xmlDomainToDtoMapper.convertTo(result, XmlDto.class));
     }
 
+    /**
+     * GET /xmls/{id}/content : get the content of the "ID" xml. The content
+     * is stored compressed, so if the client accepts the deflate encoding,
+     * the stored bytes are returned as they are, otherwise they are
+     * decompressed first. Contents stored as deltas are always reconstructed
+     * and returned decompressed. Conditional requests on the content hash
+     * are also supported.
+     *
+     * @param id the ID of the xml to retrieve
+     * @param acceptEncoding the encodings accepted by the client
+     * @param webRequest the web request
+     * @return the ResponseEntity with status 200 (OK) and with body the xml
+     * content, or with status 304 (Not Modified) or 404 (Not Found)
+     */
+    @GetMapping(value = "/{id}/content", produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<byte[]> getXmlContent(@PathVariable Long id,
+                                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                WebRequest webRequest) {
+        log.debug("REST request to get the content of Xml : {}", id);
+        final Xml result = this.xmlService.findOne(id);
+        final String eTag = "W/\"" + result.getContentHash() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.APPLICATION_XML, StandardCharsets.UTF_8))
+                .eTag(eTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!result.isDelta() && this.acceptsDeflate(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "deflate")
+                    .body(result.getContentCompressed());
+        }
+        return builder.body(result.getContent().getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * POST /xmls : Create a new xml.
      *
@@ -208,4 +245,26 @@ public class XmlController {
         }
     }
 
+    /**
+     * Checks whether the provided Accept-Encoding header value accepts the
+     * deflate content encoding, i.e. lists it, or a wildcard, without a zero
+     * quality value.
+     *
+     * @param acceptEncoding the Accept-Encoding header value
+     * @return whether the deflate encoding is accepted
+     */
+    protected boolean acceptsDeflate(String acceptEncoding) {
+        return Optional.ofNullable(acceptEncoding)
+                .map(ae -> ae.split(","))
+                .stream()
+                .flatMap(Arrays::stream)
+                .map(coding -> coding.trim().toLowerCase().split(";"))
+                .filter(parts -> "deflate".equals(parts[0].trim()) || "*".equals(parts[0].trim()))
+                .anyMatch(parts -> Arrays.stream(parts)
+                        .skip(1)
+                        .map(String::trim)
+                        .filter(param -> param.startsWith("q="))
+                        .noneMatch(param -> param.matches("q=0(\\.0*)?")));
+    }
+
 }
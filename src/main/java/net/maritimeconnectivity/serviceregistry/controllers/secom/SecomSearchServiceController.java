@@ -26,12 +26,18 @@ import net.maritimeconnectivity.serviceregistry.components.DomainDtoMapper;
 import net.maritimeconnectivity.serviceregistry.feign.MirClient;
 import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
 import net.maritimeconnectivity.serviceregistry.models.domain.enums.BooleanOperator;
+import net.maritimeconnectivity.serviceregistry.models.dto.SearchProfileDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.mcp.McpCertificateDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.mcp.McpEntityBase;
 import net.maritimeconnectivity.serviceregistry.models.dto.mcp.McpServiceDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.secom.ResponseSearchObjectWithProfile;
 import net.maritimeconnectivity.serviceregistry.models.dto.secom.SearchObjectResultWithCert;
+import net.maritimeconnectivity.serviceregistry.services.InstanceJsonCacheService;
 import net.maritimeconnectivity.serviceregistry.services.InstanceService;
+import net.maritimeconnectivity.serviceregistry.services.SearchCaptureService;
+import net.maritimeconnectivity.serviceregistry.services.SlowQueryLogService;
 import net.maritimeconnectivity.serviceregistry.utils.GeometryJSONConverter;
+import net.maritimeconnectivity.serviceregistry.utils.SearchProfiler;
 import net.maritimeconnectivity.serviceregistry.utils.WKTUtil;
 import org.apache.logging.log4j.util.Strings;
 import org.grad.secom.core.exceptions.SecomValidationException;
@@ -42,11 +48,14 @@ import org.grad.secom.core.models.SearchObjectResult;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.io.ParseException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
@@ -72,6 +81,11 @@ import static java.util.function.Predicate.not;
 @Slf4j
 public class SecomSearchServiceController implements SearchServiceSecomInterface {
 
+    /**
+     * The full path of the SECOM search service endpoint.
+     */
+    public static final String SEARCH_SERVICE_ENDPOINT = "/api/secom" + SEARCH_SERVICE_INTERFACE_PATH;
+
     /**
      * The Object Mapper.
      */
@@ -87,12 +101,36 @@ public class SecomSearchServiceController implements SearchServiceSecomInterface
     @Autowired(required = false)
     MirClient mirClient;
 
+    /**
+     * The Slow Query Log Service.
+     */
+    @Autowired
+    SlowQueryLogService slowQueryLogService;
+
+    /**
+     * The Search Capture Service.
+     */
+    @Autowired
+    SearchCaptureService searchCaptureService;
+
+    /**
+     * The role required for profiling the searches.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.search.profileRole:ADMIN}")
+    String profileRole;
+
     /**
      * Object Mapper from Domain to DTO.
      */
     @Autowired
     DomainDtoMapper<Instance, SearchObjectResult> searchObjectResultMapper;
 
+    /**
+     * The Instance JSON Cache Service.
+     */
+    @Autowired
+    InstanceJsonCacheService instanceJsonCacheService;
+
     /**
      * POST /v1/searchService : The purpose of this interface is to search for
      * service instances to consume.
@@ -113,6 +151,50 @@ public class SecomSearchServiceController implements SearchServiceSecomInterface
                                               @QueryParam("pageSize") @Min(0) Integer pageSize)  {
         log.debug("REST request to search for a page of Instances for search filter object: {}", searchFilterObject);
 
+        // Only administrators are allowed to profile the searches in detail,
+        // but all searches are timed for the slow query log and the capture
+        final boolean profiling = this.isProfilingRequested() && SearchProfiler.hasRole(this.profileRole);
+        if(!profiling && !this.slowQueryLogService.isEnabled() && !this.searchCaptureService.isEnabled()) {
+            return this.handleSearchService(searchFilterObject, page, pageSize);
+        }
+
+        // Perform a profiled search, log it if it was slow and capture it if
+        // required
+        SearchProfiler.start("searchService", profiling);
+        try {
+            final ResponseSearchObject responseSearchObject = this.handleSearchService(searchFilterObject, page, pageSize);
+            final SearchProfileDto searchProfile = SearchProfiler.stop();
+            this.slowQueryLogService.record(SEARCH_SERVICE_ENDPOINT, searchProfile);
+            this.searchCaptureService.captureSearchService(searchFilterObject, page, pageSize, searchProfile);
+            if(!profiling) {
+                return responseSearchObject;
+            }
+
+            // Attach the profile to the response for the administrators
+            final ResponseSearchObjectWithProfile responseSearchObjectWithProfile = new ResponseSearchObjectWithProfile();
+            responseSearchObjectWithProfile.setSearchServiceResult(responseSearchObject.getSearchServiceResult());
+            responseSearchObjectWithProfile.setProfile(searchProfile);
+            return responseSearchObjectWithProfile;
+        } finally {
+            SearchProfiler.stop();
+        }
+    }
+
+    /**
+     * Handles the SECOM search service requests by constructing the Lucene
+     * search query from the provided search filter object, performing the
+     * search and retrieving the certificates of the matching instances from
+     * the MIR.
+     *
+     * @param searchFilterObject The search filter object
+     * @param page               the page number to be retrieved
+     * @param pageSize           the maximum page size
+     * @return the result list of the search
+     */
+    protected ResponseSearchObject handleSearchService(SearchFilterObject searchFilterObject,
+                                                       Integer page,
+                                                       Integer pageSize) {
+
         // If at maximum only one geometry is provided, retrieve it
         final Geometry searchGeometry =  Optional.ofNullable(searchFilterObject)
                 .map(SearchFilterObject::getGeometry)
@@ -222,49 +304,27 @@ public class SecomSearchServiceController implements SearchServiceSecomInterface
         }
 
         // Perform the search
-        final Page<Instance> instancesPage = this.instanceService.handleSearchQueryRequest(
-                query,
+        final String searchQuery = query;
+        SearchProfiler.attribute(SlowQueryLogService.ATTRIBUTE_QUERY_STRING, searchQuery);
+        SearchProfiler.attribute(SlowQueryLogService.ATTRIBUTE_GEOMETRY_VERTICES, Optional.ofNullable(searchGeometry).map(Geometry::getNumPoints).orElse(0));
+        final Page<Instance> instancesPage = SearchProfiler.stage("search", () -> this.instanceService.handleSearchQueryRequest(
+                searchQuery,
                 searchGeometry,
                 PageRequest.of(Optional.ofNullable(page).orElse(0), Optional.ofNullable(pageSize).orElse(Integer.MAX_VALUE))
-        );
+        ));
+        SearchProfiler.attribute(SlowQueryLogService.ATTRIBUTE_HITS, instancesPage.getTotalElements());
 
         // Get the search object results and if possible also update the
-        // certificates through the MIR.
-        List<SearchObjectResult> searchObjectResults = this.searchObjectResultMapper.convertToList(instancesPage.getContent(), SearchObjectResultWithCert.class);
+        // certificates through the MIR. Without an MIR, the cached serialized
+        // search object results can be spliced instead.
+        List<SearchObjectResult> searchObjectResults = SearchProfiler.stage("mapping", () -> this.mirClient == null && this.instanceJsonCacheService.isEnabled() ?
+                this.instanceJsonCacheService.getSearchObjectResults(instancesPage.getContent()) :
+                this.searchObjectResultMapper.convertToList(instancesPage.getContent(), SearchObjectResultWithCert.class));
 
         // Careful cause depending on the configuration an MIR client might not
         // be available. In those case the mirClient will be null.
         if(this.mirClient != null) {
-            for (SearchObjectResult searchObject : searchObjectResults) {
-                try {
-                    // Retrieve the certificates from the MIR
-                    McpServiceDto mcpEntity = this.mirClient.getServiceEntity(
-                            Optional.of(searchObject)
-                                    .map(SearchObjectResult::getOrganizationId)
-                                    .map(Strings::trimToNull)
-                                    .orElse(null),
-                            Optional.of(searchObject)
-                                    .map(SearchObjectResult::getInstanceId)
-                                    .map(Strings::trimToNull)
-                                    .orElse(null),
-                            Optional.of(searchObject)
-                                    .map(SearchObjectResult::getVersion)
-                                    .map(Strings::trimToNull)
-                                    .orElse(null)
-                    );
-                    // And append the valid ones to the search object
-                    ((SearchObjectResultWithCert) searchObject).setCertificates(Optional.ofNullable(mcpEntity)
-                            .map(McpEntityBase::getCertificates)
-                            .orElseGet(Collections::emptyList)
-                            .stream()
-                            .filter(not(McpCertificateDto::isRevoked))
-                            .collect(Collectors.toList()));
-                } catch (FeignException ex) {
-                    log.error("Error while retrieving certificate for entity {}: {}",
-                            searchObject.getInstanceId(),
-                            ex.getMessage());
-                }
-            }
+            SearchProfiler.stage("certificates", () -> this.retrieveCertificates(searchObjectResults));
         }
 
         // Finally build the response
@@ -273,6 +333,62 @@ public class SecomSearchServiceController implements SearchServiceSecomInterface
         return responseSearchObject;
     }
 
+    /**
+     * Retrieves the certificates of the provided search object results from
+     * the MIR and attaches the valid ones to them.
+     *
+     * @param searchObjectResults the search object results
+     */
+    protected void retrieveCertificates(List<SearchObjectResult> searchObjectResults) {
+        SearchProfiler.attribute("mirCalls", searchObjectResults.size());
+        for (SearchObjectResult searchObject : searchObjectResults) {
+            try {
+                // Retrieve the certificates from the MIR
+                McpServiceDto mcpEntity = this.mirClient.getServiceEntity(
+                        Optional.of(searchObject)
+                                .map(SearchObjectResult::getOrganizationId)
+                                .map(Strings::trimToNull)
+                                .orElse(null),
+                        Optional.of(searchObject)
+                                .map(SearchObjectResult::getInstanceId)
+                                .map(Strings::trimToNull)
+                                .orElse(null),
+                        Optional.of(searchObject)
+                                .map(SearchObjectResult::getVersion)
+                                .map(Strings::trimToNull)
+                                .orElse(null)
+                );
+                // And append the valid ones to the search object
+                ((SearchObjectResultWithCert) searchObject).setCertificates(Optional.ofNullable(mcpEntity)
+                        .map(McpEntityBase::getCertificates)
+                        .orElseGet(Collections::emptyList)
+                        .stream()
+                        .filter(not(McpCertificateDto::isRevoked))
+                        .collect(Collectors.toList()));
+            } catch (FeignException ex) {
+                log.error("Error while retrieving certificate for entity {}: {}",
+                        searchObject.getInstanceId(),
+                        ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Checks whether the profiling of the current search request was
+     * requested through the "profile" query parameter.
+     *
+     * @return whether the search profiling was requested
+     */
+    protected boolean isProfilingRequested() {
+        return Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+                .filter(ServletRequestAttributes.class::isInstance)
+                .map(ServletRequestAttributes.class::cast)
+                .map(ServletRequestAttributes::getRequest)
+                .map(request -> request.getParameter("profile"))
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
     /**
      * A useful utility function that is able to parse the provided geometry
      * string as both the SECOM-compliant WKT format and the non-compliant but
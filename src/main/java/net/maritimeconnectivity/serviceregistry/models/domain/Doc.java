@@ -17,15 +17,23 @@
 package net.maritimeconnectivity.serviceregistry.models.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import net.maritimeconnectivity.serviceregistry.components.DocBlobListener;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.*;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * The type Doc.
@@ -35,11 +43,17 @@ import java.util.Objects;
  * service specification, or a Getting Started PDF attached to a service
  * instance.
  * </p>
+ * <p>
+ * The file content is either kept in the document table, or, if an external
+ * doc content store is used, only referenced through its checksum and read
+ * from the store when requested.
+ * </p>
  *
  * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
  */
 @Entity
 @Table(name = "document")
+@EntityListeners({DocBlobListener.class, AuditingEntityListener.class})
 @Indexed
 @Cacheable
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
@@ -49,7 +63,8 @@ public class Doc implements Serializable {
 
     @Id
     @GenericField(name = "id_sort", sortable = Sortable.YES)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "document_generator")
+    @SequenceGenerator(name = "document_generator", sequenceName = "document_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -67,20 +82,34 @@ public class Doc implements Serializable {
     @Column(name = "mimetype", nullable = false)
     private String mimetype;
 
-    @NotNull
     @Lob
-    @Column(name = "filecontent", nullable = false)
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "filecontent")
     private byte[] filecontent;
 
     @Column(name = "filecontent_content_type", nullable = false)
     private String filecontentContentType;
 
-    @OneToOne(fetch = FetchType.EAGER)
+    @Column(name = "filecontent_size")
+    private Long filecontentSize;
+
+    @Column(name = "filecontent_checksum", length = 64)
+    private String filecontentChecksum;
+
+    @LastModifiedDate
+    @Column(name = "last_updated_at")
+    private LocalDateTime lastUpdatedAt;
+
+    @OneToOne(fetch = FetchType.LAZY)
     @IndexedEmbedded(includePaths = "id_sort")
     @JsonIgnore
     @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
     private Instance instance;
 
+    @Transient
+    @JsonIgnore
+    private transient Supplier<byte[]> filecontentLoader;
+
     /**
      * Instantiates a new Doc.
      */
@@ -161,21 +190,51 @@ public class Doc implements Serializable {
     }
 
     /**
-     * Get filecontent byte [ ].
+     * Get filecontent byte [ ]. If the content is stored externally, it is
+     * read from the doc content store instead.
      *
      * @return the byte [ ]
      */
     public byte[] getFilecontent() {
+        if (filecontent == null && filecontentLoader != null) {
+            return filecontentLoader.get();
+        }
         return filecontent;
     }
 
     /**
-     * Sets filecontent.
+     * Sets filecontent. The size and the SHA-256 checksum of the file
+     * content are updated along with it, so that they can be listed without
+     * loading the content itself.
      *
      * @param filecontent the filecontent
      */
     public void setFilecontent(byte[] filecontent) {
         this.filecontent = filecontent;
+        this.filecontentSize = filecontent != null ? (long) filecontent.length : null;
+        this.filecontentChecksum = filecontent != null ? checksum(filecontent) : null;
+    }
+
+    /**
+     * Sets the reference to an externally stored filecontent. The content
+     * itself is no longer kept in the document table.
+     *
+     * @param checksum the checksum of the stored content
+     * @param size     the size of the stored content
+     */
+    public void setFilecontentReference(String checksum, Long size) {
+        this.filecontent = null;
+        this.filecontentSize = size;
+        this.filecontentChecksum = checksum;
+    }
+
+    /**
+     * Sets the loader of an externally stored filecontent.
+     *
+     * @param filecontentLoader the filecontent loader
+     */
+    public void setFilecontentLoader(Supplier<byte[]> filecontentLoader) {
+        this.filecontentLoader = filecontentLoader;
     }
 
     /**
@@ -196,6 +255,42 @@ public class Doc implements Serializable {
         this.filecontentContentType = filecontentContentType;
     }
 
+    /**
+     * Gets filecontent size.
+     *
+     * @return the filecontent size
+     */
+    public Long getFilecontentSize() {
+        return filecontentSize;
+    }
+
+    /**
+     * Gets filecontent checksum.
+     *
+     * @return the filecontent checksum
+     */
+    public String getFilecontentChecksum() {
+        return filecontentChecksum;
+    }
+
+    /**
+     * Gets last updated at.
+     *
+     * @return the last updated at
+     */
+    public LocalDateTime getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
+    /**
+     * Sets last updated at.
+     *
+     * @param lastUpdatedAt the last updated at
+     */
+    public void setLastUpdatedAt(LocalDateTime lastUpdatedAt) {
+        this.lastUpdatedAt = lastUpdatedAt;
+    }
+
     /**
      * Gets instance.
      *
@@ -224,7 +319,7 @@ public class Doc implements Serializable {
         if (this == o) return true;
         if (!(o instanceof Doc)) return false;
         Doc doc = (Doc) o;
-        return id.equals(doc.id);
+        return id.equals(doc.getId());
     }
 
     /**
@@ -236,4 +331,18 @@ public class Doc implements Serializable {
     public int hashCode() {
         return Objects.hash(id);
     }
+
+    /**
+     * Calculates the hex-encoded SHA-256 checksum of the provided content.
+     *
+     * @param content the content
+     * @return the content checksum
+     */
+    public static String checksum(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.models.domain;
+
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The type Doc Blob.
+ * <p>
+ * A doc blob keeps track of a document content stored outside the database,
+ * addressed by its SHA-256 checksum. Documents with identical contents share
+ * the same blob, and the reference count records how many of them currently
+ * point to it, so that unreferenced blobs can be garbage collected.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Entity
+@Table(name = "doc_blob", indexes = {@Index(name = "doc_blob_ref_count_idx", columnList = "ref_count")})
+public class DocBlob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "checksum", length = 64)
+    private String checksum;
+
+    @NotNull
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    @NotNull
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @UpdateTimestamp(source = SourceType.DB)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Instantiates a new Doc Blob.
+     */
+    public DocBlob() {
+
+    }
+
+    /**
+     * Instantiates a new Doc Blob.
+     *
+     * @param checksum the checksum
+     * @param size     the size
+     * @param refCount the reference count
+     */
+    public DocBlob(String checksum, Long size, Integer refCount) {
+        this.checksum = checksum;
+        this.size = size;
+        this.refCount = refCount;
+    }
+
+    /**
+     * Gets checksum.
+     *
+     * @return the checksum
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Sets checksum.
+     *
+     * @param checksum the checksum
+     */
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    /**
+     * Gets size.
+     *
+     * @return the size
+     */
+    public Long getSize() {
+        return size;
+    }
+
+    /**
+     * Sets size.
+     *
+     * @param size the size
+     */
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    /**
+     * Gets ref count.
+     *
+     * @return the ref count
+     */
+    public Integer getRefCount() {
+        return refCount;
+    }
+
+    /**
+     * Sets ref count.
+     *
+     * @param refCount the ref count
+     */
+    public void setRefCount(Integer refCount) {
+        this.refCount = refCount;
+    }
+
+    /**
+     * Gets updated at.
+     *
+     * @return the updated at
+     */
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Sets updated at.
+     *
+     * @param updatedAt the updated at
+     */
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Overrides the equality operator of the class.
+     *
+     * @param o the object to check the equality
+     * @return whether the two objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DocBlob)) return false;
+        DocBlob that = (DocBlob) o;
+        return Objects.equals(checksum, that.checksum);
+    }
+
+    /**
+     * Overrides the hashcode generation of the object.
+     *
+     * @return the generated hashcode
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(checksum);
+    }
+
+    /**
+     * Overrides the string representation of the object.
+     *
+     * @return the string representation
+     */
+    @Override
+    public String toString() {
+        return "DocBlob{" +
+                "checksum='" + checksum + '\'' +
+                ", size=" + size +
+                ", refCount=" + refCount +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.models.domain;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.enums.IndexOutboxOperation;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The type Index Outbox Event.
+ * <p>
+ * Each event records a change on an indexed entity (instance or doc) and is
+ * written in the same transaction as the change itself. All registry nodes
+ * poll the outbox table and apply the changes to their local Lucene indexes,
+ * so that replicas behind a load balancer return consistent search results.
+ * </p>
+ * <p>
+ * The creation timestamp is generated by the database so that the polling
+ * cursors of the different nodes are not affected by clock skew.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Entity
+@Table(name = "index_outbox_event", indexes = {@Index(name = "index_outbox_event_created_at_idx", columnList = "created_at")})
+public class IndexOutboxEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    @NotNull
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, columnDefinition = "varchar(30)")
+    private IndexOutboxOperation operation;
+
+    @Column(name = "origin_node")
+    private String originNode;
+
+    @CreationTimestamp(source = SourceType.DB)
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Instantiates a new Index Outbox Event.
+     */
+    public IndexOutboxEvent() {
+
+    }
+
+    /**
+     * Instantiates a new Index Outbox Event.
+     *
+     * @param entityType the entity type
+     * @param entityId   the entity id
+     * @param operation  the operation
+     * @param originNode the origin node
+     */
+    public IndexOutboxEvent(String entityType, Long entityId, IndexOutboxOperation operation, String originNode) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.originNode = originNode;
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return the id
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Sets id.
+     *
+     * @param id the id
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets entity type.
+     *
+     * @return the entity type
+     */
+    public String getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * Sets entity type.
+     *
+     * @param entityType the entity type
+     */
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    /**
+     * Gets entity id.
+     *
+     * @return the entity id
+     */
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Sets entity id.
+     *
+     * @param entityId the entity id
+     */
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    /**
+     * Gets operation.
+     *
+     * @return the operation
+     */
+    public IndexOutboxOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Sets operation.
+     *
+     * @param operation the operation
+     */
+    public void setOperation(IndexOutboxOperation operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Gets origin node.
+     *
+     * @return the origin node
+     */
+    public String getOriginNode() {
+        return originNode;
+    }
+
+    /**
+     * Sets origin node.
+     *
+     * @param originNode the origin node
+     */
+    public void setOriginNode(String originNode) {
+        this.originNode = originNode;
+    }
+
+    /**
+     * Gets created at.
+     *
+     * @return the created at
+     */
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Sets created at.
+     *
+     * @param createdAt the created at
+     */
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Overrides the equality operator of the class.
+     *
+     * @param o the object to check the equality
+     * @return whether the two objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IndexOutboxEvent)) return false;
+        IndexOutboxEvent that = (IndexOutboxEvent) o;
+        return Objects.equals(id, that.id);
+    }
+
+    /**
+     * Overrides the hashcode generation of the object.
+     *
+     * @return the generated hashcode
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    /**
+     * Overrides the string representation of the object.
+     *
+     * @return the string representation
+     */
+    @Override
+    public String toString() {
+        return "IndexOutboxEvent{" +
+                "id=" + id +
+                ", entityType='" + entityType + '\'' +
+                ", entityId=" + entityId +
+                ", operation=" + operation +
+                ", originNode='" + originNode + '\'' +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -18,9 +18,11 @@ package net.maritimeconnectivity.serviceregistry.models.domain;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import net.maritimeconnectivity.serviceregistry.models.JsonSerializable;
+import net.maritimeconnectivity.serviceregistry.utils.BooleanKeywordBridge;
 import net.maritimeconnectivity.serviceregistry.utils.GeometryBinder;
 import net.maritimeconnectivity.serviceregistry.utils.GeometryJSONConverter;
 import net.maritimeconnectivity.serviceregistry.utils.StringListBridge;
+import net.maritimeconnectivity.serviceregistry.utils.VersionUtil;
 import org.grad.secom.core.models.enums.SECOM_DataProductType;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
@@ -68,7 +70,8 @@ public class Instance implements Serializable, JsonSerializable {
     private static final long serialVersionUID = 1L;
     @Id
     @GenericField(name = "id_sort", sortable = Sortable.YES)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "instance_generator")
+    @SequenceGenerator(name = "instance_generator", sequenceName = "instance_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -82,6 +85,15 @@ public class Instance implements Serializable, JsonSerializable {
     @Column(name = "version")
     private String version;
 
+    @KeywordField(sortable = Sortable.YES)
+    @Column(name = "version_sort_key", length = VersionUtil.SORT_KEY_LENGTH)
+    private String versionSortKey;
+
+    @KeywordField(valueBridge = @ValueBridgeRef(type = BooleanKeywordBridge.class))
+    @ColumnDefault("false")
+    @Column(name = "latest", nullable = false)
+    private boolean latest;
+
     @GenericField(name="publishedAt_sort", sortable = Sortable.YES)
     @CreatedDate
     @Column(name = "published_at")
@@ -159,7 +171,7 @@ public class Instance implements Serializable, JsonSerializable {
     @Enumerated(EnumType.STRING)
     private List<SECOM_DataProductType> dataProductType;
 
-    @OneToOne(cascade = {CascadeType.ALL}, orphanRemoval = true)
+    @OneToOne(cascade = {CascadeType.ALL}, orphanRemoval = true, fetch=FetchType.LAZY)
     @JoinColumn(unique = true)
     private Xml instanceAsXml;
 
@@ -237,12 +249,40 @@ public class Instance implements Serializable, JsonSerializable {
     }
 
     /**
-     * Sets version.
+     * Sets version. The version sort key is updated along with it.
      *
      * @param version the version
      */
     public void setVersion(String version) {
         this.version = version;
+        this.versionSortKey = VersionUtil.toSortKey(version);
+    }
+
+    /**
+     * Gets version sort key.
+     *
+     * @return the version sort key
+     */
+    public String getVersionSortKey() {
+        return versionSortKey;
+    }
+
+    /**
+     * Gets latest.
+     *
+     * @return the latest
+     */
+    public boolean isLatest() {
+        return latest;
+    }
+
+    /**
+     * Sets latest.
+     *
+     * @param latest the latest
+     */
+    public void setLatest(boolean latest) {
+        this.latest = latest;
     }
 
     /**
@@ -653,7 +693,7 @@ public class Instance implements Serializable, JsonSerializable {
         if (this == o) return true;
         if (!(o instanceof Instance)) return false;
         Instance instance = (Instance) o;
-        return Objects.equals(id, instance.id);
+        return Objects.equals(id, instance.getId());
     }
 
     /**
@@ -677,6 +717,7 @@ public class Instance implements Serializable, JsonSerializable {
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", version='" + version + '\'' +
+                ", latest=" + latest +
                 ", publishedAt='" + publishedAt + '\'' +
                 ", lastUpdatedAt='" + lastUpdatedAt + '\'' +
                 ", comment='" + comment + '\'' +
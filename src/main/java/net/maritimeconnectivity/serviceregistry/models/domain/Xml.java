@@ -16,12 +16,15 @@
 
 package net.maritimeconnectivity.serviceregistry.models.domain;
 
+import net.maritimeconnectivity.serviceregistry.components.XmlDeltaListener;
+import net.maritimeconnectivity.serviceregistry.utils.XmlUtil;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * The type Xml.
@@ -29,9 +32,21 @@ import java.util.Objects;
  * A technical way to describe aspects if a service.The Xml should validate
  * against a XSD from a SpecificationTemplate.
  * </p>
+ * <p>
+ * The content is stored deflate compressed, along with the hash of its
+ * canonicalized form, so that unchanged XML documents can be detected
+ * without comparing or even decompressing them.
+ * </p>
+ * <p>
+ * Older versions of an instance may instead be stored as a compressed delta
+ * against the XML of a newer version (the delta base), in which case their
+ * content is reconstructed on demand through the content loader. The delta
+ * root is the fully stored XML at the end of the delta chain.
+ * </p>
  * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
  */
 @Entity
+@EntityListeners(XmlDeltaListener.class)
 @Table(name = "xml")
 @Cacheable
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
@@ -40,7 +55,8 @@ public class Xml {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "xml_generator")
+    @SequenceGenerator(name = "xml_generator", sequenceName = "xml_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -51,8 +67,23 @@ public class Xml {
     private String comment;
 
     @NotNull
-    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
-    private String content;
+    @Column(name = "content_compressed", nullable = false, columnDefinition = "bytea")
+    private byte[] contentCompressed;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "delta_base_id")
+    private Long deltaBaseId;
+
+    @Column(name = "delta_root_id")
+    private Long deltaRootId;
+
+    @Transient
+    private transient String content;
+
+    @Transient
+    private transient Supplier<String> contentLoader;
 
     @Column(name = "content_content_type", nullable = false)
     private String contentContentType;
@@ -119,21 +150,127 @@ public class Xml {
     }
 
     /**
-     * Gets content.
+     * Gets content. The content is decompressed, or reconstructed from its
+     * delta, the first time it's requested.
      *
      * @return the content
      */
     public String getContent() {
+        if (content == null && contentCompressed != null) {
+            if (deltaBaseId == null) {
+                content = XmlUtil.inflate(contentCompressed);
+            } else if (contentLoader != null) {
+                content = contentLoader.get();
+            } else {
+                throw new IllegalStateException("No content loader available for the delta of xml " + id);
+            }
+        }
         return content;
     }
 
     /**
-     * Sets content.
+     * Sets content. The compressed content and its hash are updated along
+     * with it, and the content is no longer stored as a delta.
      *
      * @param content the content
      */
     public void setContent(String content) {
         this.content = content;
+        this.contentCompressed = content != null ? XmlUtil.deflate(content) : null;
+        this.contentHash = content != null ? XmlUtil.contentHash(content) : null;
+        this.deltaBaseId = null;
+        this.deltaRootId = null;
+    }
+
+    /**
+     * Sets the content as a compressed delta against the content of another
+     * xml. The content itself, and therefore its hash, remains the same.
+     *
+     * @param deltaBaseId the ID of the xml the delta was encoded against
+     * @param deltaRootId the ID of the fully stored xml of the delta chain
+     * @param delta       the compressed delta
+     */
+    public void setContentDelta(Long deltaBaseId, Long deltaRootId, byte[] delta) {
+        this.deltaBaseId = deltaBaseId;
+        this.deltaRootId = deltaRootId;
+        this.contentCompressed = delta;
+    }
+
+    /**
+     * Sets content loader.
+     *
+     * @param contentLoader the content loader
+     */
+    public void setContentLoader(Supplier<String> contentLoader) {
+        this.contentLoader = contentLoader;
+    }
+
+    /**
+     * Gets content compressed.
+     *
+     * @return the content compressed
+     */
+    public byte[] getContentCompressed() {
+        return contentCompressed;
+    }
+
+    /**
+     * Gets content hash.
+     *
+     * @return the content hash
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Gets delta base id.
+     *
+     * @return the delta base id
+     */
+    public Long getDeltaBaseId() {
+        return deltaBaseId;
+    }
+
+    /**
+     * Gets delta root id.
+     *
+     * @return the delta root id
+     */
+    public Long getDeltaRootId() {
+        return deltaRootId;
+    }
+
+    /**
+     * Sets delta root id.
+     *
+     * @param deltaRootId the delta root id
+     */
+    public void setDeltaRootId(Long deltaRootId) {
+        this.deltaRootId = deltaRootId;
+    }
+
+    /**
+     * Returns whether the content is stored as a delta.
+     *
+     * @return whether the content is stored as a delta
+     */
+    public boolean isDelta() {
+        return deltaBaseId != null;
+    }
+
+    /**
+     * Copies the content of another xml, without decompressing it.
+     *
+     * @param xml the xml to copy the content from
+     */
+    public void copyContent(Xml xml) {
+        this.content = null;
+        this.contentCompressed = xml.getContentCompressed();
+        this.contentHash = xml.getContentHash();
+        this.deltaBaseId = xml.getDeltaBaseId();
+        this.deltaRootId = xml.getDeltaRootId();
+        this.contentLoader = xml.isDelta() ? xml::getContent : null;
     }
 
     /**
@@ -165,7 +302,7 @@ public class Xml {
         if (this == o) return true;
         if (!(o instanceof Xml)) return false;
         Xml xml = (Xml) o;
-        return Objects.equals(id, xml.id);
+        return Objects.equals(id, xml.getId());
     }
 
     /**
@@ -189,7 +326,8 @@ public class Xml {
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", comment='" + comment + '\'' +
-                ", content='" + content + '\'' +
+                ", contentHash='" + contentHash + '\'' +
+                ", deltaBaseId=" + deltaBaseId +
                 ", contentContentType='" + contentContentType + '\'' +
                 '}';
     }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.models.domain.enums;
+
+/**
+ * The Index Outbox Operation Enum.
+ * <p>
+ * Describes the type of change recorded in the index outbox, so that the
+ * other registry nodes know whether to re-index or purge the entity from
+ * their local Lucene indexes.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public enum IndexOutboxOperation {
+    ADD_OR_UPDATE,
+    DELETE;
+}
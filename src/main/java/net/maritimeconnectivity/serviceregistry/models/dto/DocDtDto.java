@@ -33,6 +33,8 @@ public class DocDtDto {
     @NotNull
     private String mimetype;
     private String filecontentContentType;
+    private Long filecontentSize;
+    private String filecontentChecksum;
     private Long instanceId;
 
     /**
@@ -132,6 +134,42 @@ public class DocDtDto {
         this.filecontentContentType = filecontentContentType;
     }
 
+    /**
+     * Gets filecontent size.
+     *
+     * @return the filecontent size
+     */
+    public Long getFilecontentSize() {
+        return filecontentSize;
+    }
+
+    /**
+     * Sets filecontent size.
+     *
+     * @param filecontentSize the filecontent size
+     */
+    public void setFilecontentSize(Long filecontentSize) {
+        this.filecontentSize = filecontentSize;
+    }
+
+    /**
+     * Gets filecontent checksum.
+     *
+     * @return the filecontent checksum
+     */
+    public String getFilecontentChecksum() {
+        return filecontentChecksum;
+    }
+
+    /**
+     * Sets filecontent checksum.
+     *
+     * @param filecontentChecksum the filecontent checksum
+     */
+    public void setFilecontentChecksum(String filecontentChecksum) {
+        this.filecontentChecksum = filecontentChecksum;
+    }
+
     /**
      * Gets instance id.
      *
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.models.dto;
+
+import net.maritimeconnectivity.serviceregistry.models.JsonSerializable;
+
+import java.io.Serializable;
+
+/**
+ * The Doc Metadata DTO Class.
+ * <p>
+ * Describes a doc without its file content, so that docs can be listed
+ * without ever selecting the file content column. The file content itself
+ * is retrieved through the dedicated doc download endpoint.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class DocMetadataDto implements Serializable, JsonSerializable {
+
+    // Class Variables
+    private Long id;
+    private String name;
+    private String comment;
+    private String mimetype;
+    private String filecontentContentType;
+    private Long filecontentSize;
+    private String filecontentChecksum;
+    private Long instanceId;
+
+    /**
+     * Instantiates a new Doc metadata dto.
+     */
+    public DocMetadataDto() {
+
+    }
+
+    /**
+     * Instantiates a new Doc metadata dto.
+     *
+     * @param id                        the id
+     * @param name                      the name
+     * @param comment                   the comment
+     * @param mimetype                  the mimetype
+     * @param filecontentContentType    the filecontent content type
+     * @param filecontentSize           the filecontent size
+     * @param filecontentChecksum       the filecontent checksum
+     * @param instanceId                the instance id
+     */
+    public DocMetadataDto(Long id, String name, String comment, String mimetype, String filecontentContentType, Long filecontentSize, String filecontentChecksum, Long instanceId) {
+        this.id = id;
+        this.name = name;
+        this.comment = comment;
+        this.mimetype = mimetype;
+        this.filecontentContentType = filecontentContentType;
+        this.filecontentSize = filecontentSize;
+        this.filecontentChecksum = filecontentChecksum;
+        this.instanceId = instanceId;
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return the id
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Sets id.
+     *
+     * @param id the id
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets name.
+     *
+     * @param name the name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets comment.
+     *
+     * @return the comment
+     */
+    public String getComment() {
+        return comment;
+    }
+
+    /**
+     * Sets comment.
+     *
+     * @param comment the comment
+     */
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    /**
+     * Gets mimetype.
+     *
+     * @return the mimetype
+     */
+    public String getMimetype() {
+        return mimetype;
+    }
+
+    /**
+     * Sets mimetype.
+     *
+     * @param mimetype the mimetype
+     */
+    public void setMimetype(String mimetype) {
+        this.mimetype = mimetype;
+    }
+
+    /**
+     * Gets filecontent content type.
+     *
+     * @return the filecontent content type
+     */
+    public String getFilecontentContentType() {
+        return filecontentContentType;
+    }
+
+    /**
+     * Sets filecontent content type.
+     *
+     * @param filecontentContentType the filecontent content type
+     */
+    public void setFilecontentContentType(String filecontentContentType) {
+        this.filecontentContentType = filecontentContentType;
+    }
+
+    /**
+     * Gets filecontent size.
+     *
+     * @return the filecontent size
+     */
+    public Long getFilecontentSize() {
+        return filecontentSize;
+    }
+
+    /**
+     * Sets filecontent size.
+     *
+     * @param filecontentSize the filecontent size
+     */
+    public void setFilecontentSize(Long filecontentSize) {
+        this.filecontentSize = filecontentSize;
+    }
+
+    /**
+     * Gets filecontent checksum.
+     *
+     * @return the filecontent checksum
+     */
+    public String getFilecontentChecksum() {
+        return filecontentChecksum;
+    }
+
+    /**
+     * Sets filecontent checksum.
+     *
+     * @param filecontentChecksum the filecontent checksum
+     */
+    public void setFilecontentChecksum(String filecontentChecksum) {
+        this.filecontentChecksum = filecontentChecksum;
+    }
+
+    /**
+     * Gets instance id.
+     *
+     * @return the instance id
+     */
+    public Long getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Sets instance id.
+     *
+     * @param instanceId the instance id
+     */
+    public void setInstanceId(Long instanceId) {
+        this.instanceId = instanceId;
+    }
+}
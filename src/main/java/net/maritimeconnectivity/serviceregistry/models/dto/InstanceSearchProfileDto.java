@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.models.dto;
+
+import net.maritimeconnectivity.serviceregistry.models.JsonSerializable;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The Instance Search Profile DTO Class.
+ * <p/>
+ * Wraps the results of a profiled instance search together with the
+ * per-stage timing profile of the search.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class InstanceSearchProfileDto implements Serializable, JsonSerializable {
+
+    // Class Variables
+    private List<InstanceDto> results;
+    private SearchProfileDto profile;
+
+    /**
+     * Instantiates a new Instance Search Profile dto.
+     */
+    public InstanceSearchProfileDto() {
+
+    }
+
+    /**
+     * Instantiates a new Instance Search Profile dto.
+     *
+     * @param results the search results
+     * @param profile the search profile
+     */
+    public InstanceSearchProfileDto(List<InstanceDto> results, SearchProfileDto profile) {
+        this.results = results;
+        this.profile = profile;
+    }
+
+    /**
+     * Gets results.
+     *
+     * @return the results
+     */
+    public List<InstanceDto> getResults() {
+        return results;
+    }
+
+    /**
+     * Sets results.
+     *
+     * @param results the results
+     */
+    public void setResults(List<InstanceDto> results) {
+        this.results = results;
+    }
+
+    /**
+     * Gets profile.
+     *
+     * @return the profile
+     */
+    public SearchProfileDto getProfile() {
+        return profile;
+    }
+
+    /**
+     * Sets profile.
+     *
+     * @param profile the profile
+     */
+    public void setProfile(SearchProfileDto profile) {
+        this.profile = profile;
+    }
+
+}
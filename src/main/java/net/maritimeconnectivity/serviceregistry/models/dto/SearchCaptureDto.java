@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.models.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import net.maritimeconnectivity.serviceregistry.models.JsonSerializable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * The Search Capture DTO Class.
+ * <p/>
+ * A captured search request, including its anonymised payload, its offset
+ * from the start of the capture and the time it took to be served, so that
+ * it can later be replayed against a test registry.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class SearchCaptureDto implements Serializable, JsonSerializable {
+
+    // Class Variables
+    private LocalDateTime timestamp;
+    private long offsetMs;
+    private String endpoint;
+    private JsonNode payload;
+    private Integer page;
+    private Integer pageSize;
+    private double durationMs;
+    private long hits;
+
+    /**
+     * Instantiates a new Search Capture dto.
+     */
+    public SearchCaptureDto() {
+
+    }
+
+    /**
+     * Gets timestamp.
+     *
+     * @return the timestamp
+     */
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Sets timestamp.
+     *
+     * @param timestamp the timestamp
+     */
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Gets offset ms.
+     *
+     * @return the offset ms
+     */
+    public long getOffsetMs() {
+        return offsetMs;
+    }
+
+    /**
+     * Sets offset ms.
+     *
+     * @param offsetMs the offset ms
+     */
+    public void setOffsetMs(long offsetMs) {
+        this.offsetMs = offsetMs;
+    }
+
+    /**
+     * Gets endpoint.
+     *
+     * @return the endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Sets endpoint.
+     *
+     * @param endpoint the endpoint
+     */
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Gets payload.
+     *
+     * @return the payload
+     */
+    public JsonNode getPayload() {
+        return payload;
+    }
+
+    /**
+     * Sets payload.
+     *
+     * @param payload the payload
+     */
+    public void setPayload(JsonNode payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * Gets page.
+     *
+     * @return the page
+     */
+    public Integer getPage() {
+        return page;
+    }
+
+    /**
+     * Sets page.
+     *
+     * @param page the page
+     */
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    /**
+     * Gets page size.
+     *
+     * @return the page size
+     */
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets page size.
+     *
+     * @param pageSize the page size
+     */
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Gets duration ms.
+     *
+     * @return the duration ms
+     */
+    public double getDurationMs() {
+        return durationMs;
+    }
+
+    /**
+     * Sets duration ms.
+     *
+     * @param durationMs the duration ms
+     */
+    public void setDurationMs(double durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    /**
+     * Gets hits.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Sets hits.
+     *
+     * @param hits the hits
+     */
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+}
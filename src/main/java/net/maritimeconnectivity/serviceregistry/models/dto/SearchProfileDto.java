@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.models.dto;
+
+import net.maritimeconnectivity.serviceregistry.models.JsonSerializable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Search Profile DTO Class.
+ * <p/>
+ * A single stage of a profiled search, including its duration, any
+ * additional attributes collected during the stage and its sub-stages.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class SearchProfileDto implements Serializable, JsonSerializable {
+
+    // Class Variables
+    private String stage;
+    private double timeMs;
+    private Map<String, Object> attributes = new LinkedHashMap<>();
+    private List<SearchProfileDto> children = new ArrayList<>();
+
+    /**
+     * Instantiates a new Search Profile dto.
+     */
+    public SearchProfileDto() {
+
+    }
+
+    /**
+     * Instantiates a new Search Profile dto.
+     *
+     * @param stage the stage name
+     */
+    public SearchProfileDto(String stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Gets stage.
+     *
+     * @return the stage
+     */
+    public String getStage() {
+        return stage;
+    }
+
+    /**
+     * Sets stage.
+     *
+     * @param stage the stage
+     */
+    public void setStage(String stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Gets time ms.
+     *
+     * @return the time ms
+     */
+    public double getTimeMs() {
+        return timeMs;
+    }
+
+    /**
+     * Sets time ms.
+     *
+     * @param timeMs the time ms
+     */
+    public void setTimeMs(double timeMs) {
+        this.timeMs = timeMs;
+    }
+
+    /**
+     * Gets attributes.
+     *
+     * @return the attributes
+     */
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Sets attributes.
+     *
+     * @param attributes the attributes
+     */
+    public void setAttributes(Map<String, Object> attributes) {
+        this.attributes = attributes;
+    }
+
+    /**
+     * Gets children.
+     *
+     * @return the children
+     */
+    public List<SearchProfileDto> getChildren() {
+        return children;
+    }
+
+    /**
+     * Sets children.
+     *
+     * @param children the children
+     */
+    public void setChildren(List<SearchProfileDto> children) {
+        this.children = children;
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.models.dto;
+
+import net.maritimeconnectivity.serviceregistry.models.JsonSerializable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * The Slow Query Record DTO Class.
+ * <p/>
+ * A structured record of an instance search that was either slower than the
+ * configured threshold, or sampled out of the normal searches.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class SlowQueryRecordDto implements Serializable, JsonSerializable {
+
+    // Class Variables
+    private LocalDateTime timestamp;
+    private String endpoint;
+    private String filter;
+    private int geometryVertices;
+    private long hits;
+    private double timeMs;
+    private boolean sampled;
+    private String callerMrn;
+    private SearchProfileDto profile;
+
+    /**
+     * Instantiates a new Slow Query Record dto.
+     */
+    public SlowQueryRecordDto() {
+
+    }
+
+    /**
+     * Gets timestamp.
+     *
+     * @return the timestamp
+     */
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Sets timestamp.
+     *
+     * @param timestamp the timestamp
+     */
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Gets endpoint.
+     *
+     * @return the endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Sets endpoint.
+     *
+     * @param endpoint the endpoint
+     */
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Gets normalised filter.
+     *
+     * @return the normalised filter
+     */
+    public String getFilter() {
+        return filter;
+    }
+
+    /**
+     * Sets normalised filter.
+     *
+     * @param filter the normalised filter
+     */
+    public void setFilter(String filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Gets geometry vertices.
+     *
+     * @return the geometry vertices
+     */
+    public int getGeometryVertices() {
+        return geometryVertices;
+    }
+
+    /**
+     * Sets geometry vertices.
+     *
+     * @param geometryVertices the geometry vertices
+     */
+    public void setGeometryVertices(int geometryVertices) {
+        this.geometryVertices = geometryVertices;
+    }
+
+    /**
+     * Gets hits.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Sets hits.
+     *
+     * @param hits the hits
+     */
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    /**
+     * Gets time ms.
+     *
+     * @return the time ms
+     */
+    public double getTimeMs() {
+        return timeMs;
+    }
+
+    /**
+     * Sets time ms.
+     *
+     * @param timeMs the time ms
+     */
+    public void setTimeMs(double timeMs) {
+        this.timeMs = timeMs;
+    }
+
+    /**
+     * Is sampled.
+     *
+     * @return the sampled
+     */
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    /**
+     * Sets sampled.
+     *
+     * @param sampled the sampled
+     */
+    public void setSampled(boolean sampled) {
+        this.sampled = sampled;
+    }
+
+    /**
+     * Gets caller mrn.
+     *
+     * @return the caller mrn
+     */
+    public String getCallerMrn() {
+        return callerMrn;
+    }
+
+    /**
+     * Sets caller mrn.
+     *
+     * @param callerMrn the caller mrn
+     */
+    public void setCallerMrn(String callerMrn) {
+        this.callerMrn = callerMrn;
+    }
+
+    /**
+     * Gets profile.
+     *
+     * @return the profile
+     */
+    public SearchProfileDto getProfile() {
+        return profile;
+    }
+
+    /**
+     * Sets profile.
+     *
+     * @param profile the profile
+     */
+    public void setProfile(SearchProfileDto profile) {
+        this.profile = profile;
+    }
+
+}
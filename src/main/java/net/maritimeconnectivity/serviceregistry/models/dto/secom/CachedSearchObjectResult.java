@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.models.dto.secom;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+/**
+ * The CachedSearchObjectResult Class.
+ * <p/>
+ * This class is a SECOM search result that is serialized as a pre-generated
+ * JSON fragment, instead of through its fields. Only the fields that
+ * identify the service instance are populated, so that it can still be
+ * referenced while building the search response.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class CachedSearchObjectResult extends SearchObjectResultWithCert {
+
+    // Class Variables
+    private final RawValue json;
+
+    /**
+     * The Cached Search Object Result Constructor.
+     *
+     * @param instanceId        the instance MRN
+     * @param version           the instance version
+     * @param organizationId    the instance organization ID
+     * @param json              the serialized search object result
+     */
+    public CachedSearchObjectResult(String instanceId, String version, String organizationId, RawValue json) {
+        this.setInstanceId(instanceId);
+        this.setVersion(version);
+        this.setOrganizationId(organizationId);
+        this.json = json;
+    }
+
+    /**
+     * Gets the serialized search object result.
+     *
+     * @return the serialized search object result
+     */
+    @JsonValue
+    public RawValue getJson() {
+        return json;
+    }
+
+}
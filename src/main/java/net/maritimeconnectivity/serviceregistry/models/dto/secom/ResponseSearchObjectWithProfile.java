@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.models.dto.secom;
+
+import net.maritimeconnectivity.serviceregistry.models.dto.SearchProfileDto;
+import org.grad.secom.core.models.ResponseSearchObject;
+
+/**
+ * The ResponseSearchObjectWithProfile Class.
+ * <p/>
+ * This class extends the standard SECOM ResponseSearchObject object with the
+ * per-stage timing profile of the search, which is only returned to the
+ * administrators when the search profiling is requested.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class ResponseSearchObjectWithProfile extends ResponseSearchObject {
+
+    // Class Variables
+    SearchProfileDto profile;
+
+    /**
+     * Gets profile.
+     *
+     * @return the profile
+     */
+    public SearchProfileDto getProfile() {
+        return profile;
+    }
+
+    /**
+     * Sets profile.
+     *
+     * @param profile the profile
+     */
+    public void setProfile(SearchProfileDto profile) {
+        this.profile = profile;
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.repos;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.DocBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the Doc Blob entity.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public interface DocBlobRepo extends JpaRepository<DocBlob, String> {
+
+    /**
+     * Increments the reference count of the blob with the provided checksum,
+     * registering it with a single reference if it does not exist yet. This
+     * is performed as a single atomic upsert, so that concurrent first
+     * references on the same blob never collide.
+     *
+     * @param checksum the checksum of the blob
+     * @param size     the size of the blob
+     * @return the number of inserted or updated blobs
+     */
+    @Modifying
+    @Query(value = "insert into doc_blob (checksum, size, ref_count, updated_at) " +
+            "values (:checksum, :size, 1, current_timestamp) " +
+            "on conflict (checksum) do update " +
+            "set ref_count = doc_blob.ref_count + 1, updated_at = current_timestamp",
+            nativeQuery = true)
+    int upsertRefCount(@Param("checksum") String checksum, @Param("size") long size);
+
+    /**
+     * Decrements the reference count of the blob with the provided checksum.
+     *
+     * @param checksum the checksum of the blob
+     * @return the number of updated blobs
+     */
+    @Modifying
+    @Query("update DocBlob blob " +
+            "set blob.refCount = blob.refCount - 1, blob.updatedAt = current_timestamp " +
+            "where blob.checksum = :checksum and blob.refCount > 0")
+    int decrementRefCount(@Param("checksum") String checksum);
+
+    /**
+     * Find the checksums of all blobs that are referenced by at least one
+     * doc.
+     *
+     * @return the list of checksums
+     */
+    @Query("select blob.checksum " +
+            "from DocBlob blob " +
+            "where blob.refCount > 0")
+    List<String> findAllReferencedChecksums();
+
+    /**
+     * Delete the unreferenced blob with the provided checksum, as long as it
+     * was last updated before the provided time.
+     *
+     * @param checksum the checksum of the blob
+     * @param before   the time before which the blob was last updated
+     * @return the number of deleted blobs
+     */
+    @Modifying
+    @Query("delete from DocBlob blob " +
+            "where blob.checksum = :checksum " +
+            "and blob.refCount <= 0 " +
+            "and blob.updatedAt < :before")
+    int deleteUnreferenced(@Param("checksum") String checksum, @Param("before") LocalDateTime before);
+
+}
@@ -16,7 +16,17 @@
 package net.maritimeconnectivity.serviceregistry.repos;
 
 import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.dto.DocMetadataDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JPA repository for the Doc entity.
@@ -25,4 +35,67 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface DocRepo extends JpaRepository<Doc, Long> {
 
+    /**
+     * Find the IDs of all docs.
+     *
+     * @return the list of IDs
+     */
+    @Query("select doc.id " +
+            "from Doc doc")
+    List<Long> findAllIds();
+
+    /**
+     * Find all docs updated since the provided time.
+     *
+     * @param since the time to start from
+     * @return the list
+     */
+    @Query("select doc " +
+            "from Doc doc " +
+            "where doc.lastUpdatedAt >= :since")
+    List<Doc> findAllUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Find the metadata of all docs, without selecting their file contents.
+     *
+     * @param pageable the pagination information
+     * @return the page of doc metadata
+     */
+    @Query(value = "select new net.maritimeconnectivity.serviceregistry.models.dto.DocMetadataDto(" +
+            "doc.id, doc.name, doc.comment, doc.mimetype, doc.filecontentContentType, " +
+            "doc.filecontentSize, doc.filecontentChecksum, instance.id) " +
+            "from Doc doc " +
+            "left join doc.instance instance",
+            countQuery = "select count(doc) " +
+                    "from Doc doc")
+    Page<DocMetadataDto> findAllMetadata(Pageable pageable);
+
+    /**
+     * Find the metadata of the docs with the provided IDs, without selecting
+     * their file contents.
+     *
+     * @param ids the IDs of the docs
+     * @return the list of doc metadata
+     */
+    @Query("select new net.maritimeconnectivity.serviceregistry.models.dto.DocMetadataDto(" +
+            "doc.id, doc.name, doc.comment, doc.mimetype, doc.filecontentContentType, " +
+            "doc.filecontentSize, doc.filecontentChecksum, instance.id) " +
+            "from Doc doc " +
+            "left join doc.instance instance " +
+            "where doc.id in :ids")
+    List<DocMetadataDto> findAllMetadataByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the checksum of the file content of the doc with the provided ID,
+     * as long as the content is stored outside the document table.
+     *
+     * @param id the ID of the doc
+     * @return the checksum of the externally stored content
+     */
+    @Query("select doc.filecontentChecksum " +
+            "from Doc doc " +
+            "where doc.id = :id " +
+            "and doc.filecontent is null")
+    Optional<String> findExternalChecksumById(@Param("id") Long id);
+
 }
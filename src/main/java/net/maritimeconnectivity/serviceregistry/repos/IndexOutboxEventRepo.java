@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.repos;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.IndexOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the Index Outbox Event entity.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public interface IndexOutboxEventRepo extends JpaRepository<IndexOutboxEvent, Long> {
+
+    /**
+     * Find the creation time of the latest event in the outbox.
+     *
+     * @return the latest creation time
+     */
+    @Query("select max(event.createdAt) " +
+            "from IndexOutboxEvent event")
+    LocalDateTime findLatestCreatedAt();
+
+    /**
+     * Find all events created since the provided time, in the order they
+     * were recorded.
+     *
+     * @param since    the time to start from
+     * @param pageable the pagination information
+     * @return the list
+     */
+    @Query("select event " +
+            "from IndexOutboxEvent event " +
+            "where event.createdAt >= :since " +
+            "order by event.createdAt asc, event.id asc")
+    List<IndexOutboxEvent> findAllSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * Delete all events created before the provided time.
+     *
+     * @param before the time before which events are deleted
+     * @return the number of deleted events
+     */
+    @Modifying
+    @Query("delete from IndexOutboxEvent event " +
+            "where event.createdAt < :before")
+    int deleteAllBefore(@Param("before") LocalDateTime before);
+
+}
@@ -16,10 +16,14 @@
 package net.maritimeconnectivity.serviceregistry.repos;
 
 import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +34,17 @@ import java.util.Optional;
  */
 public interface InstanceRepo extends JpaRepository<Instance, Long> {
 
+    /**
+     * Find all instances, fetching their XML in the same query since the
+     * instance listings include it.
+     *
+     * @param pageable the pagination information
+     * @return the page of instances
+     */
+    @Override
+    @EntityGraph(attributePaths = {"instanceAsXml"})
+    Page<Instance> findAll(Pageable pageable);
+
     /**
      * Find all with eager relationships list.
      *
@@ -61,6 +76,7 @@ public interface InstanceRepo extends JpaRepository<Instance, Long> {
     @Query("select instance " +
             "from Instance instance " +
             "left join fetch instance.docs " +
+            "left join fetch instance.instanceAsXml " +
             "where instance.id =:id")
     Instance findOneWithEagerRelationships(@Param("id") Long id);
 
@@ -75,6 +91,47 @@ public interface InstanceRepo extends JpaRepository<Instance, Long> {
             "where instance.instanceId = :id")
     List<Instance> findByDomainId(@Param("id") String id);
 
+    /**
+     * Find all versions of an instance by domain id, from the latest to the
+     * oldest one.
+     *
+     * @param id the id
+     * @return the list
+     */
+    @Query("select instance " +
+            "from Instance instance " +
+            "where instance.instanceId = :id " +
+            "order by instance.versionSortKey desc, instance.id desc")
+    List<Instance> findByDomainIdOrderByVersionDesc(@Param("id") String id);
+
+    /**
+     * Acquires a transaction-scoped PostgreSQL advisory lock on the provided
+     * domain id, which is released when the transaction ends. Unlike row
+     * locks, this also serialises the saves of versions not yet committed.
+     *
+     * @param id the id
+     * @return always 1, once the lock is acquired
+     */
+    @Query(value = "select 1 from pg_advisory_xact_lock(hashtext(:id))", nativeQuery = true)
+    Integer lockDomainId(@Param("id") String id);
+
+    /**
+     * Find the IDs of the versions of an instance by domain id flagged as the
+     * latest, from the greatest version sort key to the smallest one. The
+     * database unique index only ever allows a single one, but the ordering
+     * keeps the lookup deterministic on databases without that index.
+     *
+     * @param id       the id
+     * @param pageable the pagination information
+     * @return the list of IDs
+     */
+    @Query("select instance.id " +
+            "from Instance instance " +
+            "where instance.instanceId = :id " +
+            "and instance.latest = true " +
+            "order by instance.versionSortKey desc, instance.id desc")
+    List<Long> findLatestIdsByDomainId(@Param("id") String id, Pageable pageable);
+
     /**
      * Find by domain id and version list.
      *
@@ -98,8 +155,40 @@ public interface InstanceRepo extends JpaRepository<Instance, Long> {
     @Query("select distinct instance " +
             "from Instance instance " +
             "left join fetch instance.docs " +
+            "left join fetch instance.instanceAsXml " +
             "where instance.instanceId = :id " +
             "and instance.version = :version")
     Optional<Instance> findByDomainIdAndVersionEagerRelationships(@Param("id") String id, @Param("version") String version);
 
+    /**
+     * Find the ID, domain id, version and version sort key of all instances.
+     *
+     * @return the list of the instance version entries
+     */
+    @Query("select instance.id, instance.instanceId, instance.version, instance.versionSortKey " +
+            "from Instance instance")
+    List<Object[]> findAllVersionEntries();
+
+    /**
+     * Find the IDs of all instances.
+     *
+     * @return the list of IDs
+     */
+    @Query("select instance.id " +
+            "from Instance instance")
+    List<Long> findAllIds();
+
+    /**
+     * Find all instances updated since the provided time, with eager
+     * relationships.
+     *
+     * @param since the time to start from
+     * @return the list
+     */
+    @Query("select distinct instance " +
+            "from Instance instance " +
+            "left join fetch instance.docs " +
+            "where instance.lastUpdatedAt >= :since")
+    List<Instance> findAllUpdatedSince(@Param("since") LocalDateTime since);
+
 }
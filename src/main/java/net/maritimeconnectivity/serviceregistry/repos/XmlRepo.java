@@ -17,6 +17,11 @@ package net.maritimeconnectivity.serviceregistry.repos;
 
 import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JPA repository for the Xml entity.
@@ -25,4 +30,39 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface XmlRepo extends JpaRepository<Xml, Long> {
 
+    /**
+     * Find the xml stored as a delta against the xml with the provided ID.
+     *
+     * @param deltaBaseId the ID of the delta base xml
+     * @return the dependent xml
+     */
+    @Query("select xml " +
+            "from Xml xml " +
+            "where xml.deltaBaseId = :deltaBaseId")
+    Optional<Xml> findByDeltaBaseId(@Param("deltaBaseId") Long deltaBaseId);
+
+    /**
+     * Find all the xmls of the delta chain ending at the xml with the
+     * provided ID.
+     *
+     * @param deltaRootId the ID of the delta root xml
+     * @return the list of the delta chain xmls
+     */
+    @Query("select xml " +
+            "from Xml xml " +
+            "where xml.deltaRootId = :deltaRootId")
+    List<Xml> findAllByDeltaRootId(@Param("deltaRootId") Long deltaRootId);
+
+    /**
+     * Count the xmls of the delta chain ending at the xml with the provided
+     * ID.
+     *
+     * @param deltaRootId the ID of the delta root xml
+     * @return the length of the delta chain
+     */
+    @Query("select count(xml) " +
+            "from Xml xml " +
+            "where xml.deltaRootId = :deltaRootId")
+    long countByDeltaRootId(@Param("deltaRootId") Long deltaRootId);
+
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.*;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service Implementation for searching the Instance index segments
+ * concurrently.
+ * <p>
+ * Hibernate Search executes every query on a single thread, which for large
+ * indexes with many segments leaves the rest of the cores idle. When enabled,
+ * this service searches the index directly through Lucene, splitting its
+ * segments into slices that are searched in parallel on a dedicated bounded
+ * executor. Small indexes are still searched through Hibernate Search, since
+ * the coordination overhead would outweigh any benefit.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class ConcurrentSearchService {
+
+    /**
+     * Whether the concurrent segment search is enabled.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.concurrentSearch.enabled:false}")
+    boolean enabled;
+
+    /**
+     * The minimum number of index segments for the concurrent search to be
+     * used.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.concurrentSearch.minSegments:4}")
+    int minSegments;
+
+    /**
+     * The maximum number of documents searched by a single slice.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.concurrentSearch.maxDocsPerSlice:250000}")
+    int maxDocsPerSlice;
+
+    /**
+     * The maximum number of segments searched by a single slice.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.concurrentSearch.maxSegmentsPerSlice:5}")
+    int maxSegmentsPerSlice;
+
+    /**
+     * The Entity Manager Factory.
+     */
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    /**
+     * The Instance Repo.
+     */
+    @Autowired
+    InstanceRepo instanceRepo;
+
+    /**
+     * The Search Executor.
+     */
+    @Autowired
+    @Qualifier("searchExecutor")
+    Executor searchExecutor;
+
+    /**
+     * Returns whether the concurrent segment search is enabled.
+     *
+     * @return whether the concurrent segment search is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Searches the Instance index concurrently using the provided Lucene
+     * query and sort. If the concurrent search is disabled, or the index does
+     * not have enough segments to benefit from it, an empty result is
+     * returned and the search should be performed as usual.
+     *
+     * @param query     the Lucene query to be executed
+     * @param sort      the sorting operation to be applied
+     * @param offset    the offset of the first hit to be returned
+     * @param limit     the maximum number of hits to be returned
+     * @param pageable  the pagination information of the returned page
+     * @return the paged response, if the concurrent search was performed
+     */
+    public Optional<Page<Instance>> search(Query query, Sort sort, int offset, int limit, Pageable pageable) {
+        if (!this.enabled) {
+            return Optional.empty();
+        }
+
+        final LuceneIndexManager indexManager = Search.mapping(this.entityManagerFactory)
+                .indexedEntity(Instance.class)
+                .indexManager()
+                .unwrap(LuceneIndexManager.class);
+        try (IndexReader reader = indexManager.openIndexReader()) {
+            if (reader.leaves().size() < this.minSegments) {
+                return Optional.empty();
+            }
+
+            // Search the slices concurrently, breaking ties by ID
+            final IndexSearcher searcher = this.createIndexSearcher(reader);
+            final SortField[] sortFields = Arrays.copyOf(sort.getSort(), sort.getSort().length + 1);
+            sortFields[sortFields.length - 1] = new SortedNumericSortField("id_sort", SortField.Type.LONG);
+            final TopFieldDocs topDocs = searcher.search(query, Math.max(offset + limit, 1), new Sort(sortFields), false);
+
+            // Collect the IDs of the requested page and load the entities
+            final List<Long> ids = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + limit, topDocs.scoreDocs.length); i++) {
+                this.readId(reader.leaves(), topDocs.scoreDocs[i].doc).ifPresent(ids::add);
+            }
+            final Map<Long, Instance> instances = this.instanceRepo.findAllById(ids)
+                    .stream()
+                    .collect(Collectors.toMap(Instance::getId, Function.identity()));
+            final List<Instance> hits = ids.stream()
+                    .map(instances::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return Optional.of(new PageImpl<>(hits, pageable, topDocs.totalHits.value));
+        } catch (IOException ex) {
+            log.error("Concurrent segment search failed: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates an index searcher that splits the index segments into slices
+     * according to the configured limits, and searches them on the search
+     * executor.
+     *
+     * @param reader    the index reader
+     * @return the index searcher
+     */
+    protected IndexSearcher createIndexSearcher(IndexReader reader) {
+        // Captured locals are available even while the super constructor runs
+        final int maxDocs = this.maxDocsPerSlice;
+        final int maxSegments = this.maxSegmentsPerSlice;
+        return new IndexSearcher(reader, this.searchExecutor) {
+            @Override
+            protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+                return IndexSearcher.slices(leaves, maxDocs, maxSegments);
+            }
+        };
+    }
+
+    /**
+     * Reads the entity ID of the provided top-level document from the
+     * sortable ID doc values.
+     *
+     * @param leaves    the index reader leaves
+     * @param doc       the top-level document number
+     * @return the entity ID, if available
+     * @throws IOException if the doc values could not be read
+     */
+    protected Optional<Long> readId(List<LeafReaderContext> leaves, int doc) throws IOException {
+        final LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(doc, leaves));
+        final SortedNumericDocValues values = DocValues.getSortedNumeric(leaf.reader(), "id_sort");
+        return values.advanceExact(doc - leaf.docBase) ?
+                Optional.of(values.nextValue()) :
+                Optional.empty();
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.services;
+
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.components.DocBlobStore;
+import net.maritimeconnectivity.serviceregistry.repos.DocBlobRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Service Implementation for managing the Doc Blobs.
+ * <p>
+ * When the doc contents are stored outside the database, every doc pointing
+ * to a stored content holds a reference on its blob. This service keeps the
+ * reference counts up to date and periodically garbage collects the stored
+ * contents that are no longer referenced by any doc. Contents are only
+ * collected after a configurable grace period, so that uploads that are
+ * still being committed are never affected.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Service
+@Slf4j
+@Transactional
+public class DocBlobService {
+
+    /**
+     * The grace period in milliseconds before an unreferenced content is
+     * garbage collected.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.docStore.gcGracePeriod:3600000}")
+    long gcGracePeriod;
+
+    /**
+     * The Doc Blob Repository.
+     */
+    @Autowired
+    DocBlobRepo docBlobRepo;
+
+    /**
+     * The Doc Blob Store.
+     */
+    @Autowired
+    DocBlobStore docBlobStore;
+
+    /**
+     * Acquires a reference on the provided stored blob, registering it if
+     * this is its first reference.
+     *
+     * @param blob      the stored blob
+     */
+    public void acquire(DocBlobStore.StoredBlob blob) {
+        log.debug("Request to acquire Doc Blob : {}", blob.checksum());
+        this.docBlobRepo.upsertRefCount(blob.checksum(), blob.size());
+    }
+
+    /**
+     * Releases a reference on the blob with the provided checksum. Blobs
+     * left without any references are removed by the garbage collection.
+     *
+     * @param checksum  the checksum of the blob
+     */
+    public void release(String checksum) {
+        log.debug("Request to release Doc Blob : {}", checksum);
+        if (this.docBlobRepo.decrementRefCount(checksum) == 0) {
+            log.warn("No referenced doc blob found for checksum {}", checksum);
+        }
+    }
+
+    /**
+     * Deletes the stored contents that are no longer referenced by any doc
+     * and were not written or reused during the grace period. Contents
+     * without a blob entry at all, e.g. left behind by uploads that were
+     * rolled back, are collected as well.
+     *
+     * @return the number of deleted contents
+     * @throws IOException if the stored contents could not be accessed
+     */
+    public int collectGarbage() throws IOException {
+        if (!this.docBlobStore.isExternal()) {
+            return 0;
+        }
+        final Instant cutoff = Instant.now().minus(Duration.ofMillis(this.gcGracePeriod));
+        final Set<String> referenced = new HashSet<>(this.docBlobRepo.findAllReferencedChecksums());
+        int deleted = 0;
+        for (String checksum : this.docBlobStore.listChecksums(cutoff)) {
+            if (referenced.contains(checksum)) {
+                continue;
+            }
+            // Only delete the blob entries still unreferenced at this point
+            if (this.docBlobRepo.existsById(checksum)
+                    && this.docBlobRepo.deleteUnreferenced(checksum, LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault())) == 0) {
+                continue;
+            }
+            if (this.docBlobStore.delete(checksum, cutoff)) {
+                deleted++;
+            }
+        }
+        log.info("Garbage collected {} unreferenced doc contents", deleted);
+        return deleted;
+    }
+
+}
@@ -17,11 +17,17 @@
 package net.maritimeconnectivity.serviceregistry.services;
 
 import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.components.DocBlobStore;
+import net.maritimeconnectivity.serviceregistry.components.ExternalDocBlobStore;
 import net.maritimeconnectivity.serviceregistry.exceptions.DataNotFoundException;
 import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.domain.enums.IndexOutboxOperation;
+import net.maritimeconnectivity.serviceregistry.models.dto.DocMetadataDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.DtPagingRequest;
 import net.maritimeconnectivity.serviceregistry.repos.DocRepo;
+import net.maritimeconnectivity.serviceregistry.utils.DigestingInputStream;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Session;
 import org.hibernate.search.backend.lucene.LuceneExtension;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.mapper.orm.Search;
@@ -35,9 +41,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityManager;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Optional;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Blob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -62,6 +75,24 @@ public class DocService {
     @Autowired
     DocRepo docRepo;
 
+    /**
+     * The Index Coordination Service.
+     */
+    @Autowired
+    IndexCoordinationService indexCoordinationService;
+
+    /**
+     * The Doc Blob Store.
+     */
+    @Autowired
+    DocBlobStore docBlobStore;
+
+    /**
+     * The Doc Blob Service.
+     */
+    @Autowired
+    DocBlobService docBlobService;
+
     // Service Variables
     private final String[] searchFields = new String[] {
             "name",
@@ -85,6 +116,18 @@ public class DocService {
         return this.docRepo.findAll(pageable);
     }
 
+    /**
+     *  Get the metadata of all the docs, without their file contents.
+     *
+     *  @param pageable the pagination information
+     *  @return the list of doc metadata
+     */
+    @Transactional(readOnly = true)
+    public Page<DocMetadataDto> findAllMetadata(Pageable pageable) {
+        log.debug("Request to get the metadata of all Docs");
+        return this.docRepo.findAllMetadata(pageable);
+    }
+
     /**
      *  Get one doc by ID.
      *
@@ -99,7 +142,128 @@ public class DocService {
     }
 
     /**
-     * Save a doc.
+     *  Get the metadata of one doc by ID, without its file content.
+     *
+     *  @param id       the ID of the entity
+     *  @return the doc metadata
+     */
+    @Transactional(readOnly = true)
+    public DocMetadataDto findMetadata(Long id) throws DataNotFoundException {
+        log.debug("Request to get the metadata of Doc : {}", id);
+        return this.docRepo.findAllMetadataByIds(Collections.singletonList(id))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new DataNotFoundException("No doc found for the provided ID", null));
+    }
+
+    /**
+     * Copies the requested range of the file content of a doc into the
+     * provided output stream. The content is streamed straight out of the
+     * database LOB, or the doc content store if it's stored externally, so
+     * only a small buffer is held in memory regardless of the size of the
+     * file.
+     *
+     * @param id        the ID of the doc
+     * @param offset    the offset of the first byte to be copied
+     * @param length    the number of bytes to be copied
+     * @param out       the output stream to copy the content into
+     * @throws IOException if the content could not be copied
+     */
+    @Transactional(readOnly = true)
+    public void copyContent(Long id, long offset, long length, OutputStream out) throws IOException {
+        log.debug("Request to copy the content of Doc : {}", id);
+        if (length <= 0) {
+            return;
+        }
+        final List<String> externalChecksum = new ArrayList<>(1);
+        try {
+            this.entityManager.unwrap(Session.class).doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement("select filecontent, filecontent_checksum from document where id = ?")) {
+                    statement.setLong(1, id);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (!resultSet.next()) {
+                            throw new DataNotFoundException("No doc found for the provided ID", null);
+                        }
+                        final Blob blob = resultSet.getBlob(1);
+                        if (blob == null) {
+                            // The content is stored externally
+                            externalChecksum.add(resultSet.getString(2));
+                            return;
+                        }
+                        try (InputStream in = blob.getBinaryStream(offset + 1, length)) {
+                            in.transferTo(out);
+                        } finally {
+                            blob.free();
+                        }
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        for (String checksum : externalChecksum) {
+            this.docBlobStore.copyTo(checksum, offset, length, out);
+        }
+    }
+
+    /**
+     * Save a doc along with its file content, which is streamed straight
+     * into the database LOB, or the doc content store if one is used,
+     * instead of being held in memory. The size and the checksum of the
+     * content are calculated while it's being streamed.
+     *
+     * @param doc       the entity to save
+     * @param content   the file content input stream
+     * @return the persisted entity
+     * @throws IOException if the content could not be stored
+     */
+    @Transactional
+    public Doc saveContent(Doc doc, InputStream content) throws IOException {
+        log.debug("Request to save Doc with streamed content : {}", doc);
+        // Store the content externally if possible
+        if (this.docBlobStore instanceof ExternalDocBlobStore externalDocBlobStore) {
+            final DocBlobStore.StoredBlob blob = externalDocBlobStore.put(content);
+            this.docBlobService.acquire(blob);
+            doc.setFilecontentReference(blob.checksum(), blob.size());
+            final Doc result = this.docRepo.save(doc);
+            this.indexCoordinationService.recordChange(Doc.class, result.getId(), IndexOutboxOperation.ADD_OR_UPDATE);
+            return result;
+        }
+
+        // Persist the doc without any content first, since even an empty
+        // placeholder would create a large object that is never unlinked
+        doc.setFilecontent(null);
+        final Doc result = this.docRepo.saveAndFlush(doc);
+
+        // Then stream the content into place, as the only large object
+        // of the doc
+        final DigestingInputStream in = new DigestingInputStream(content);
+        this.entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("update document set filecontent = ? where id = ?")) {
+                statement.setBlob(1, in);
+                statement.setLong(2, result.getId());
+                statement.executeUpdate();
+            }
+            try (PreparedStatement statement = connection.prepareStatement("update document set filecontent_size = ?, filecontent_checksum = ? where id = ?")) {
+                statement.setLong(1, in.getCount());
+                statement.setString(2, in.getChecksum());
+                statement.setLong(3, result.getId());
+                statement.executeUpdate();
+            }
+        });
+
+        // Reload the persisted state, leaving the content unloaded
+        this.entityManager.refresh(result);
+        this.indexCoordinationService.recordChange(Doc.class, result.getId(), IndexOutboxOperation.ADD_OR_UPDATE);
+        return result;
+    }
+
+    /**
+     * Save a doc. If a doc content store is used, the file content is moved
+     * into it and the doc only keeps a reference to it, while the reference
+     * to any previously stored content is released.
      *
      * @param doc       the entity to save
      * @return the persisted entity
@@ -107,7 +271,26 @@ public class DocService {
     @Transactional
     public Doc save(Doc doc){
         log.debug("Request to save Doc : {}", doc);
+        final Optional<String> previousChecksum = Optional.ofNullable(doc.getId())
+                .flatMap(this.docRepo::findExternalChecksumById);
+        final ExternalDocBlobStore externalDocBlobStore = this.docBlobStore instanceof ExternalDocBlobStore store ? store : null;
+        final byte[] content = externalDocBlobStore != null ? doc.getFilecontent() : null;
+        if (content != null) {
+            final DocBlobStore.StoredBlob blob;
+            try {
+                blob = externalDocBlobStore.put(new ByteArrayInputStream(content));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            this.docBlobService.acquire(blob);
+            doc.setFilecontentReference(blob.checksum(), blob.size());
+        }
         Doc result = this.docRepo.save(doc);
+        previousChecksum.ifPresent(this.docBlobService::release);
+        if (content != null) {
+            result.setFilecontentLoader(() -> content);
+        }
+        this.indexCoordinationService.recordChange(Doc.class, result.getId(), IndexOutboxOperation.ADD_OR_UPDATE);
 
         return result;
     }
@@ -121,23 +304,41 @@ public class DocService {
     public void delete(Long id) throws DataNotFoundException {
         log.debug("Request to delete Doc : {}", id);
         if(this.docRepo.existsById(id)) {
+            this.releaseContent(id);
             this.docRepo.deleteById(id);
+            this.indexCoordinationService.recordChange(Doc.class, id, IndexOutboxOperation.DELETE);
         } else {
             throw new DataNotFoundException("No doc found for the provided ID", null);
         }
     }
 
+    /**
+     * Releases the reference of a doc to its externally stored content, if
+     * any. This should be called before the doc gets deleted, including
+     * when it's deleted along with its instance.
+     *
+     * @param id        the ID of the doc
+     */
+    @Transactional
+    public void releaseContent(Long id) {
+        this.docRepo.findExternalChecksumById(id)
+                .ifPresent(this.docBlobService::release);
+    }
+
     /**
      * Handles a datatables pagination request and returns the results list in
      * an appropriate format to be viewed by a datatables jQuery table.
      *
+     * Only the IDs of the matching docs are retrieved from the index, and
+     * their metadata are then loaded without the file contents.
+     *
      * @param dtPagingRequest the Datatables pagination request
      * @return the paged response
      */
     @Transactional(readOnly = true)
-    public Page<Doc> handleDatatablesPagingRequest(Long instanceId, DtPagingRequest dtPagingRequest) {
+    public Page<DocMetadataDto> handleDatatablesPagingRequest(Long instanceId, DtPagingRequest dtPagingRequest) {
         // Create the search query
-        SearchQuery searchQuery = this.getSearchDocQueryByText(instanceId,
+        SearchQuery<Long> searchQuery = this.getSearchDocQueryByText(instanceId,
                 dtPagingRequest.getSearch().getValue(),
                 dtPagingRequest.getLucenceSort(Arrays.stream(searchFieldsWithSort)
                         .collect(Collectors.toList())));
@@ -145,14 +346,35 @@ public class DocService {
         // Map the results to a paged response
         return Optional.of(searchQuery)
                 .map(query -> query.fetch(dtPagingRequest.getStart(), dtPagingRequest.getLength()))
-                .map(searchResult -> new PageImpl<Doc>(searchResult.hits(), dtPagingRequest.toPageRequest(), searchResult.total().hitCount()))
+                .map(searchResult -> new PageImpl<>(this.findAllMetadataByIds(searchResult.hits()), dtPagingRequest.toPageRequest(), searchResult.total().hitCount()))
                 .orElseGet(() -> new PageImpl<>(Collections.emptyList(), dtPagingRequest.toPageRequest(), 0));
     }
 
+    /**
+     * Loads the metadata of the docs with the provided IDs, preserving the
+     * order of the IDs.
+     *
+     * @param ids       the IDs of the docs
+     * @return the list of doc metadata
+     */
+    protected List<DocMetadataDto> findAllMetadataByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<Long, DocMetadataDto> metadata = this.docRepo.findAllMetadataByIds(ids)
+                .stream()
+                .collect(Collectors.toMap(DocMetadataDto::getId, Function.identity()));
+        return ids.stream()
+                .map(metadata::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Constructs a hibernate search query using Lucene based on the provided
-     * search test. This query will be based solely on the docs table and
-     * will include the following fields:
+     * search test. This query will be based solely on the docs table, will
+     * only return the IDs of the matching docs and will include the
+     * following fields:
      * <ul>
      *  <li>Name</li>Name
      *  <li>Comment</li>
@@ -162,11 +384,12 @@ public class DocService {
      * @param searchText    the text to be searched
      * @return the full text query
      */
-    protected SearchQuery<Doc> getSearchDocQueryByText(Long instanceId, String searchText, org.apache.lucene.search.Sort sort) {
+    protected SearchQuery<Long> getSearchDocQueryByText(Long instanceId, String searchText, org.apache.lucene.search.Sort sort) {
         SearchSession searchSession = Search.session( entityManager );
         SearchScope<Doc> scope = searchSession.scope( Doc.class );
         return searchSession.search( scope )
                 .extension(LuceneExtension.get())
+                .select( f -> f.id( Long.class ) )
                 .where( f -> f.bool(b -> {
                     b.must( f.matchAll() );
                     if(searchText != null && StringUtils.isNotBlank(searchText)) {
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.domain.IndexOutboxEvent;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.models.domain.enums.IndexOutboxOperation;
+import net.maritimeconnectivity.serviceregistry.repos.IndexOutboxEventRepo;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Service Implementation for coordinating the Lucene indexes of multiple
+ * registry nodes.
+ * <p>
+ * Every node keeps its own local Lucene index directory, which by default only
+ * sees the writes that landed on that node. When the index coordination is
+ * enabled, all changes to indexed entities are recorded in an outbox table in
+ * the same transaction as the change itself. Each node then polls the outbox
+ * and applies the changes made by the other nodes to its local index.
+ * </p>
+ * <p>
+ * Note that unlike the Hibernate Search outbox-polling coordination, events
+ * are not sharded between the nodes, since each node maintains a complete
+ * index of its own and therefore needs to see every change. The same
+ * changes are also applied to the in-memory instance version registry.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Service
+@Slf4j
+@Transactional
+public class IndexCoordinationService {
+
+    /**
+     * Whether the multi-node index coordination is enabled.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.indexCoordination.enabled:false}")
+    boolean enabled;
+
+    /**
+     * The unique identifier of this registry node.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.indexCoordination.nodeId:#{T(java.util.UUID).randomUUID().toString()}}")
+    String nodeId;
+
+    /**
+     * The maximum expected transaction duration in milliseconds. Events
+     * recorded within this window are re-scanned, since transactions might
+     * commit in a different order than the one they recorded their events.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.indexCoordination.commitLag:10000}")
+    long commitLag;
+
+    /**
+     * The number of events to be retrieved per outbox query.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.indexCoordination.batchSize:500}")
+    int batchSize;
+
+    /**
+     * The time in milliseconds the events are kept in the outbox.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.indexCoordination.retention:86400000}")
+    long retention;
+
+    /**
+     * The Entity Manager.
+     */
+    @Autowired
+    EntityManager entityManager;
+
+    /**
+     * The Index Outbox Event Repository.
+     */
+    @Autowired
+    IndexOutboxEventRepo indexOutboxEventRepo;
+
+    /**
+     * The Instance Version Registry Service.
+     */
+    @Autowired
+    InstanceVersionRegistryService instanceVersionRegistryService;
+
+    // Service Variables
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final Map<String, Class<?>> indexedTypes = Map.of(
+            Instance.class.getSimpleName(), Instance.class,
+            Doc.class.getSimpleName(), Doc.class
+    );
+    private LocalDateTime cursor;
+    private final Map<Long, LocalDateTime> processedEvents = new HashMap<>();
+
+    /**
+     * Initialises the polling cursor to the latest event currently in the
+     * outbox. Everything before that is already covered by the mass indexing
+     * performed when the application starts. Nodes without a configured ID
+     * are given a random one, so that no two nodes ever share it.
+     */
+    @PostConstruct
+    public void init() {
+        if(StringUtils.isBlank(this.nodeId)) {
+            this.nodeId = UUID.randomUUID().toString();
+        }
+        if(this.enabled) {
+            this.resetCursor(this.indexOutboxEventRepo.findLatestCreatedAt());
+            log.info("Index coordination enabled for node {}", this.nodeId);
+        }
+    }
+
+    /**
+     * Returns whether the multi-node index coordination is enabled.
+     *
+     * @return whether the multi-node index coordination is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Returns the unique identifier of this registry node.
+     *
+     * @return the unique identifier of this registry node
+     */
+    public String getNodeId() {
+        return this.nodeId;
+    }
+
+    /**
+     * Returns the time up to which the outbox events have been applied.
+     *
+     * @return the current polling cursor
+     */
+    public synchronized LocalDateTime getCursor() {
+        return this.cursor;
+    }
+
+    /**
+     * Resets the polling cursor, so that the outbox will be polled for all
+     * events created since the provided time.
+     *
+     * @param cursor    the time to poll the outbox events from
+     */
+    public synchronized void resetCursor(LocalDateTime cursor) {
+        this.cursor = Optional.ofNullable(cursor).orElse(EPOCH);
+        this.processedEvents.clear();
+    }
+
+    /**
+     * Records a change of an indexed entity in the outbox. This must be called
+     * within the transaction that performs the change, so that the event is
+     * only visible to the other nodes once the change is committed.
+     *
+     * @param entityClass   the class of the changed entity
+     * @param entityId      the ID of the changed entity
+     * @param operation     the operation performed on the entity
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(Class<?> entityClass, Long entityId, IndexOutboxOperation operation) {
+        if(!this.enabled || entityId == null) {
+            return;
+        }
+        log.debug("Recording index outbox event {} for {} : {}", operation, entityClass.getSimpleName(), entityId);
+        this.indexOutboxEventRepo.save(new IndexOutboxEvent(entityClass.getSimpleName(), entityId, operation, this.nodeId));
+    }
+
+    /**
+     * Polls the outbox for events recorded by the other nodes and applies them
+     * to the local Lucene index. Events recorded by this node are skipped,
+     * since Hibernate Search has already indexed them locally.
+     *
+     * @return the number of events applied to the local index
+     */
+    public synchronized int pollOutbox() {
+        if(!this.enabled) {
+            return 0;
+        }
+
+        // Re-scan the commit lag window to pick up late committed events
+        final LocalDateTime since = this.cursor.minus(Duration.ofMillis(this.commitLag));
+        final SearchIndexingPlan indexingPlan = Search.session(this.entityManager).indexingPlan();
+        LocalDateTime latest = this.cursor;
+        int applied = 0;
+
+        for(int page = 0; ; page++) {
+            final List<IndexOutboxEvent> events = this.indexOutboxEventRepo.findAllSince(since, PageRequest.of(page, this.batchSize));
+            for(IndexOutboxEvent event : events) {
+                if(this.processedEvents.putIfAbsent(event.getId(), event.getCreatedAt()) != null) {
+                    continue;
+                }
+                latest = event.getCreatedAt().isAfter(latest) ? event.getCreatedAt() : latest;
+                if(!this.nodeId.equals(event.getOriginNode()) && this.applyEvent(indexingPlan, event)) {
+                    applied++;
+                }
+            }
+            if(events.size() < this.batchSize) {
+                break;
+            }
+        }
+
+        // Move the cursor and forget the events outside the commit lag window
+        this.cursor = latest;
+        final LocalDateTime windowStart = latest.minus(Duration.ofMillis(this.commitLag));
+        this.processedEvents.values().removeIf(createdAt -> createdAt.isBefore(windowStart));
+
+        if(applied > 0) {
+            log.debug("Applied {} index outbox events from other nodes", applied);
+        }
+        return applied;
+    }
+
+    /**
+     * Returns whether the outbox still holds all the events recorded after
+     * the provided cursor, i.e. whether the cursor lies within the configured
+     * retention period.
+     *
+     * @param cursor    the outbox cursor
+     * @return whether the events after the cursor are retained
+     */
+    public boolean isRetained(LocalDateTime cursor) {
+        return cursor != null && cursor.isAfter(LocalDateTime.now().minus(Duration.ofMillis(this.retention)));
+    }
+
+    /**
+     * Deletes the outbox events that are older than the configured retention
+     * period.
+     *
+     * @return the number of deleted events
+     */
+    public int purgeOutbox() {
+        if(!this.enabled) {
+            return 0;
+        }
+        return this.indexOutboxEventRepo.deleteAllBefore(LocalDateTime.now().minus(Duration.ofMillis(this.retention)));
+    }
+
+    /**
+     * Applies a single outbox event to the provided indexing plan. For updates
+     * the current state of the entity is loaded from the database, so applying
+     * the same event more than once is harmless.
+     *
+     * @param indexingPlan  the indexing plan of the current search session
+     * @param event         the outbox event to be applied
+     * @return whether the event was applied
+     */
+    protected boolean applyEvent(SearchIndexingPlan indexingPlan, IndexOutboxEvent event) {
+        final Class<?> entityClass = indexedTypes.get(event.getEntityType());
+        if(entityClass == null) {
+            log.warn("Ignoring index outbox event for unknown entity type {}", event.getEntityType());
+            return false;
+        }
+        final Object entity = event.getOperation() == IndexOutboxOperation.DELETE ?
+                null :
+                this.entityManager.find(entityClass, event.getEntityId());
+        if(entity != null) {
+            indexingPlan.addOrUpdate(entity);
+        } else {
+            indexingPlan.purge(entityClass, event.getEntityId(), null);
+        }
+
+        // Also keep the instance version registry up to date
+        if(entityClass == Instance.class) {
+            if(entity != null) {
+                this.instanceVersionRegistryService.register((Instance) entity);
+            } else {
+                this.instanceVersionRegistryService.unregister(event.getEntityId());
+            }
+        }
+        return true;
+    }
+
+}
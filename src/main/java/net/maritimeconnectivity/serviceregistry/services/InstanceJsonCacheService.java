@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import net.maritimeconnectivity.serviceregistry.components.DomainDtoMapper;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.secom.CachedSearchObjectResult;
+import net.maritimeconnectivity.serviceregistry.models.dto.secom.SearchObjectResultWithCert;
+import org.grad.secom.core.models.SearchObjectResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service Implementation for caching the serialized JSON representations of
+ * the instances.
+ * <p>
+ * Instances change rarely, but are serialized for every get and search
+ * response. When enabled, this service keeps the serialized instance DTO and
+ * SECOM search result of each instance, so that the responses can be
+ * assembled by splicing the cached JSON fragments, instead of mapping and
+ * serializing the instances again. Each fragment is tagged with the last
+ * update time of the instance it was generated from and is regenerated once
+ * that changes, while the local saves and deletions also evict the cached
+ * fragments straight away. A GZIP compressed variant of the instance DTO
+ * fragments can also be kept, for the clients that accept it.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Service
+@Transactional(readOnly = true)
+public class InstanceJsonCacheService {
+
+    /**
+     * Whether the serialized instance cache is enabled.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.jsonCache.enabled:false}")
+    boolean enabled;
+
+    /**
+     * The maximum number of cached JSON fragments.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.jsonCache.maxSize:10000}")
+    long maxSize;
+
+    /**
+     * Whether to also keep GZIP compressed variants of the fragments.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.jsonCache.compressed:false}")
+    boolean compressed;
+
+    /**
+     * The Object Mapper.
+     */
+    @Autowired
+    ObjectMapper objectMapper;
+
+    /**
+     * Object Mapper from Domain to DTO.
+     */
+    @Autowired
+    DomainDtoMapper<Instance, InstanceDto> instanceDomainToDtoMapper;
+
+    /**
+     * Object Mapper from Domain to SECOM search result.
+     */
+    @Autowired
+    DomainDtoMapper<Instance, SearchObjectResult> searchObjectResultMapper;
+
+    // Service Variables
+    private Cache<CacheKey, CachedJson> cache;
+
+    /**
+     * Initialises the serialized instance cache.
+     */
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(this.maxSize)
+                .build();
+    }
+
+    /**
+     * Returns whether the serialized instance cache is enabled.
+     *
+     * @return whether the serialized instance cache is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Returns whether the GZIP compressed variants are also kept.
+     *
+     * @return whether the GZIP compressed variants are kept
+     */
+    public boolean isCompressed() {
+        return this.enabled && this.compressed;
+    }
+
+    /**
+     * Returns the serialized instance DTO of the provided instance, as a raw
+     * JSON value that is written out as it is.
+     *
+     * @param instance  the instance
+     * @return the serialized instance DTO
+     */
+    public RawValue getInstanceDtoJson(Instance instance) {
+        return new RawValue(this.getCachedJson(instance, InstanceDto.class).getJson());
+    }
+
+    /**
+     * Returns the serialized instance DTOs of the provided instances, as raw
+     * JSON values that are written out as they are.
+     *
+     * @param instances the instances
+     * @return the serialized instance DTOs
+     */
+    public List<RawValue> getInstanceDtoJsons(List<Instance> instances) {
+        return instances.stream()
+                .map(this::getInstanceDtoJson)
+                .toList();
+    }
+
+    /**
+     * Returns the GZIP compressed serialized instance DTO of the provided
+     * instance.
+     *
+     * @param instance  the instance
+     * @return the GZIP compressed serialized instance DTO
+     */
+    public byte[] getInstanceDtoGzip(Instance instance) {
+        return this.getCachedJson(instance, InstanceDto.class).getGzip();
+    }
+
+    /**
+     * Returns the SECOM search results of the provided instances, which are
+     * serialized as the cached JSON fragments.
+     *
+     * @param instances the instances
+     * @return the SECOM search results
+     */
+    public List<SearchObjectResult> getSearchObjectResults(List<Instance> instances) {
+        return instances.stream()
+                .map(instance -> (SearchObjectResult) new CachedSearchObjectResult(instance.getInstanceId(),
+                        instance.getVersion(),
+                        instance.getOrganizationId(),
+                        new RawValue(this.getCachedJson(instance, SearchObjectResultWithCert.class).getJson())))
+                .toList();
+    }
+
+    /**
+     * Evicts all the cached fragments of the instance with the provided ID.
+     *
+     * @param id    the ID of the instance
+     */
+    public void evict(Long id) {
+        if (id != null) {
+            this.cache.invalidate(new CacheKey(id, InstanceDto.class));
+            this.cache.invalidate(new CacheKey(id, SearchObjectResultWithCert.class));
+        }
+    }
+
+    /**
+     * Returns the cached JSON fragment of the provided instance and view,
+     * generating it if it's missing or out of date. Unsaved instances are
+     * never cached.
+     *
+     * @param instance  the instance
+     * @param view      the class of the serialized view
+     * @return the cached JSON fragment
+     */
+    protected CachedJson getCachedJson(Instance instance, Class<?> view) {
+        if (instance.getId() == null) {
+            return this.createCachedJson(instance, view);
+        }
+        final CacheKey key = new CacheKey(instance.getId(), view);
+        final CachedJson cached = this.cache.getIfPresent(key);
+        if (cached != null && Objects.equals(cached.getLastUpdatedAt(), instance.getLastUpdatedAt())) {
+            return cached;
+        }
+        final CachedJson created = this.createCachedJson(instance, view);
+        this.cache.put(key, created);
+        return created;
+    }
+
+    /**
+     * Maps and serializes the provided instance into a JSON fragment.
+     *
+     * @param instance  the instance
+     * @param view      the class of the serialized view
+     * @return the JSON fragment
+     */
+    protected CachedJson createCachedJson(Instance instance, Class<?> view) {
+        final Object dto = view == InstanceDto.class ?
+                this.instanceDomainToDtoMapper.convertTo(instance, InstanceDto.class) :
+                this.searchObjectResultMapper.convertTo(instance, SearchObjectResultWithCert.class);
+        try {
+            return new CachedJson(instance.getLastUpdatedAt(), this.objectMapper.writeValueAsString(dto));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * The key of the cached JSON fragments.
+     *
+     * @param id    the ID of the instance
+     * @param view  the class of the serialized view
+     */
+    record CacheKey(Long id, Class<?> view) {
+    }
+
+    /**
+     * A cached JSON fragment. The serialized string also caches its UTF-8
+     * encoding once it's first written out, while the compressed variant is
+     * only generated when first requested.
+     */
+    static class CachedJson {
+
+        // Class Variables
+        private final LocalDateTime lastUpdatedAt;
+        private final SerializedString json;
+        private volatile byte[] gzip;
+
+        /**
+         * The Cached JSON Constructor.
+         *
+         * @param lastUpdatedAt the last update time of the instance
+         * @param json          the JSON fragment
+         */
+        CachedJson(LocalDateTime lastUpdatedAt, String json) {
+            this.lastUpdatedAt = lastUpdatedAt;
+            this.json = new SerializedString(json);
+        }
+
+        /**
+         * Gets the last update time of the instance.
+         *
+         * @return the last update time of the instance
+         */
+        LocalDateTime getLastUpdatedAt() {
+            return lastUpdatedAt;
+        }
+
+        /**
+         * Gets the JSON fragment.
+         *
+         * @return the JSON fragment
+         */
+        SerializedString getJson() {
+            return json;
+        }
+
+        /**
+         * Gets the GZIP compressed JSON fragment.
+         *
+         * @return the GZIP compressed JSON fragment
+         */
+        byte[] getGzip() {
+            if (this.gzip == null) {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+                    gzipOut.write(this.json.getValue().getBytes(StandardCharsets.UTF_8));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                this.gzip = out.toByteArray();
+            }
+            return this.gzip;
+        }
+
+    }
+
+}
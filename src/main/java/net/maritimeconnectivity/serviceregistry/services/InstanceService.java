@@ -23,30 +23,41 @@ import net.maritimeconnectivity.eNav.utils.G1128Utils;
 import net.maritimeconnectivity.serviceregistry.exceptions.*;
 import net.maritimeconnectivity.serviceregistry.models.domain.*;
 import net.maritimeconnectivity.serviceregistry.models.domain.enums.G1128Schemas;
+import net.maritimeconnectivity.serviceregistry.models.domain.enums.IndexOutboxOperation;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.DtPagingRequest;
 import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
 import net.maritimeconnectivity.serviceregistry.utils.*;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortedSetSortField;
+import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.spatial.prefix.RecursivePrefixTreeStrategy;
 import org.apache.lucene.spatial.prefix.tree.GeohashPrefixTree;
 import org.apache.lucene.spatial.prefix.tree.SpatialPrefixTree;
 import org.apache.lucene.spatial.query.SpatialArgs;
 import org.apache.lucene.spatial.query.SpatialOperation;
-import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.sort.dsl.LuceneSearchSortFactory;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.scope.SearchScope;
 import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.stat.SessionStatistics;
 import org.iala_aism.g1128.v1_7.serviceinstanceschema.*;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -55,10 +66,13 @@ import org.locationtech.jts.io.ParseException;
 import org.locationtech.spatial4j.context.jts.JtsSpatialContext;
 import org.locationtech.spatial4j.shape.jts.JtsGeometry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -100,12 +114,42 @@ public class InstanceService {
     @Autowired
     XmlService xmlService;
 
+    /**
+     * The XML Delta Service.
+     */
+    @Autowired
+    XmlDeltaService xmlDeltaService;
+
     /**
      * The Doc Service.
      */
     @Autowired
     DocService docService;
 
+    /**
+     * The Index Coordination Service.
+     */
+    @Autowired
+    IndexCoordinationService indexCoordinationService;
+
+    /**
+     * The Instance Version Registry Service.
+     */
+    @Autowired
+    InstanceVersionRegistryService instanceVersionRegistryService;
+
+    /**
+     * The Concurrent Search Service.
+     */
+    @Autowired
+    ConcurrentSearchService concurrentSearchService;
+
+    /**
+     * The Instance JSON Cache Service.
+     */
+    @Autowired
+    InstanceJsonCacheService instanceJsonCacheService;
+
     /**
      * The UnLoCode Service.
      *
@@ -127,6 +171,26 @@ public class InstanceService {
     @Autowired
     EntityManagerFactory entityManagerFactory;
 
+    /**
+     * The number of hits up to which the search query totals are counted
+     * exactly. Beyond that, only a lower bound is provided, which allows
+     * Lucene to skip the non-competitive documents of the sorted searches.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.search.totalHitCountThreshold:1000}")
+    long totalHitCountThreshold;
+
+    /**
+     * The hot structured fields that the search queries filter on.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.queryCache.filterFields:status,serviceTypes,dataProductType,latest}")
+    String[] filterFields;
+
+    /**
+     * The maximum number of hits to explain when profiling a search.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.search.profileExplainLimit:10}")
+    int profileExplainLimit;
+
     // Service Variables
     private final String[] searchFields = new String[] {
             "name",
@@ -194,8 +258,20 @@ public class InstanceService {
         log.debug("Request to save Instance : {}", instance);
 
         // First, validate the object
-        this.validateInstanceForSave(instance);
+        final boolean xmlUnchanged = this.validateInstanceForSave(instance);
 
+        // And save it
+        return this.save(instance, xmlUnchanged);
+    }
+
+    /**
+     * Save an already validated instance.
+     *
+     * @param instance      the entity to save
+     * @param xmlUnchanged  whether the XML of an existing instance was left unchanged
+     * @return the persisted entity
+     */
+    protected Instance save(Instance instance, boolean xmlUnchanged) throws DataNotFoundException, XMLValidationException, GeometryParseException, JsonProcessingException, ParseException {
         // Don't accept empty geometry value, set empty geometries
         if (instance.getGeometry() == null) {
             log.debug("Setting empty geometry coverage");
@@ -210,8 +286,189 @@ public class InstanceService {
                     .orElse(null));
         }
 
-        // The save and return
-        return this.instanceRepo.save(instance);
+        // Older versions may be stored as deltas against a changing XML
+        final boolean isNew = instance.getId() == null;
+        if(!isNew && !xmlUnchanged) {
+            this.instanceRepo.findById(instance.getId())
+                    .map(Instance::getInstanceAsXml)
+                    .map(Xml::getId)
+                    .ifPresent(this.xmlDeltaService::detach);
+        }
+
+        // New versions only become the latest once the current one is cleared
+        if(isNew) {
+            instance.setLatest(false);
+        }
+
+        // The save and record the change for the other registry nodes,
+        // serialising the concurrent saves of the versions of the same MRN
+        this.lockDomainId(instance.getInstanceId());
+        final Instance result = this.instanceRepo.save(instance);
+        if(xmlUnchanged && !this.entityManager.unwrap(Session.class).isDirty()) {
+            log.debug("Instance {} is unchanged, skipping the reindexing", result.getId());
+            return result;
+        }
+
+        // Keep track of the latest version, storing the superseded one as a delta
+        final Optional<Instance> superseded = this.updateLatestVersion(result.getInstanceId(), result.getId());
+        if(isNew && result.isLatest()) {
+            superseded.map(Instance::getInstanceAsXml)
+                    .ifPresent(xml -> this.xmlDeltaService.rebase(xml, result.getInstanceAsXml()));
+        }
+        this.indexCoordinationService.recordChange(Instance.class, result.getId(), IndexOutboxOperation.ADD_OR_UPDATE);
+        this.instanceJsonCacheService.evict(result.getId());
+        this.instanceVersionRegistryService.register(result);
+
+        // And return
+        return result;
+    }
+
+    /**
+     * Creates or replaces the instance with the provided domain specific ID
+     * (for example, maritime ID) and version, in a single transaction. The
+     * existing instance is only looked up once, through the instance version
+     * registry when possible, and passed on to the validation and the save,
+     * while any duplicate instance with the same MRN and version is caught
+     * by the database unique constraint. Replacing an instance with an
+     * unchanged XML leaves it untouched.
+     *
+     * @param domainId      the domain specific ID of the instance
+     * @param version       the version of the instance
+     * @param instance      the entity to be created or replaced
+     * @return the persisted entity, along with whether it was created
+     */
+    @Transactional
+    public SaveResult upsert(String domainId, String version, Instance instance) throws DataNotFoundException, XMLValidationException, GeometryParseException, JsonProcessingException, ParseException {
+        log.debug("Request to upsert Instance with domain id {} and version {}", domainId, version);
+
+        // Resolve the identity of the instance
+        final Optional<Instance> existingInstance = this.findExistingByDomainIdAndVersion(domainId, version);
+        instance.setId(existingInstance.map(Instance::getId).orElse(null));
+        instance.setInstanceId(domainId);
+        instance.setVersion(version);
+
+        // Save the instance, making sure the XML matches the requested identity,
+        // and write it straight away to detect any duplicates
+        final Instance result;
+        try {
+            final boolean xmlUnchanged = this.validateInstanceForSave(instance, existingInstance.orElse(null));
+            result = this.save(instance, xmlUnchanged);
+            if(!Objects.equals(result.getInstanceId(), domainId) || !Objects.equals(result.getVersion(), version)) {
+                throw new InvalidRequestException("The instance MRN and version do not match the requested ones.", null);
+            }
+            this.instanceRepo.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw new DuplicateDataException("Duplicated instance with the same MRN and version found.", ex);
+        }
+
+        // And return
+        return new SaveResult(result, existingInstance.isEmpty());
+    }
+
+    /**
+     * Finds the existing instance with the provided domain specific ID (for
+     * example, maritime ID) and version, to be replaced. When the instance
+     * version registry is enabled, only the instance it points to is loaded.
+     *
+     * @param domainId      the domain specific ID of the instance
+     * @param version       the version of the instance
+     * @return the existing instance, if found
+     */
+    protected Optional<Instance> findExistingByDomainIdAndVersion(String domainId, String version) {
+        if(this.instanceVersionRegistryService.isEnabled()) {
+            return this.instanceVersionRegistryService.findId(domainId, version)
+                    .flatMap(this.instanceRepo::findById);
+        }
+        return this.instanceRepo.findByDomainIdAndVersion(domainId, version);
+    }
+
+    /**
+     * Finds the ID of the instance with the provided domain specific ID (for
+     * example, maritime ID) and version. When the instance version registry
+     * is enabled it is the authority for this lookup and the database is not
+     * queried at all, while the rare duplicates it misses, e.g. created on
+     * another node just before, are still rejected by the MRN and version
+     * unique constraint.
+     *
+     * @param domainId      the domain specific ID of the instance
+     * @param version       the version of the instance
+     * @return the ID of the instance, if found
+     */
+    protected Optional<Long> findIdByDomainIdAndVersion(String domainId, String version) {
+        if(this.instanceVersionRegistryService.isEnabled()) {
+            return this.instanceVersionRegistryService.findId(domainId, version);
+        }
+        return this.instanceRepo.findByDomainIdAndVersion(domainId, version).map(Instance::getId);
+    }
+
+    /**
+     * Acquires a transaction-scoped lock on the provided domain specific ID
+     * (for example, maritime ID), so that the concurrent saves and deletions
+     * of its versions, even on different nodes, update the latest version
+     * flags one at a time. Since this relies on the PostgreSQL advisory
+     * locks, it is skipped for any other databases.
+     *
+     * @param domainId      the domain specific ID of the instance
+     */
+    protected void lockDomainId(String domainId) {
+        final boolean supported = Optional.ofNullable(this.entityManagerFactory)
+                .map(emf -> emf.unwrap(SessionFactoryImplementor.class))
+                .map(sf -> sf.getJdbcServices().getDialect())
+                .filter(PostgreSQLDialect.class::isInstance)
+                .isPresent();
+        if(domainId != null && supported) {
+            this.instanceRepo.lockDomainId(domainId);
+        }
+    }
+
+    /**
+     * Updates the latest version flags of all the versions sharing the
+     * provided MRN, so that only the one with the greatest version sort key
+     * is flagged. The changed versions, apart from the instance being saved,
+     * are recorded for re-indexing. The flags are cleared before the new
+     * latest version is flagged, so that the database unique index on the
+     * latest versions is never violated, while the caller is expected to
+     * hold the lock of the MRN.
+     *
+     * @param domainId      the domain specific ID of the instance
+     * @param savedId       the ID of the instance being saved, if any
+     * @return the version that was previously flagged as the latest, if it no longer is
+     */
+    protected Optional<Instance> updateLatestVersion(String domainId, Long savedId) {
+        if(domainId == null) {
+            return Optional.empty();
+        }
+        Instance superseded = null;
+        final List<Instance> versions = this.instanceRepo.findByDomainIdOrderByVersionDesc(domainId);
+        for(int i = 1; i < versions.size(); i++) {
+            if(versions.get(i).isLatest()) {
+                superseded = versions.get(i);
+                this.markLatestVersion(superseded, false, savedId);
+            }
+        }
+        if(superseded != null) {
+            this.instanceRepo.flush();
+        }
+        if(!versions.isEmpty() && !versions.get(0).isLatest()) {
+            this.markLatestVersion(versions.get(0), true, savedId);
+        }
+        return Optional.ofNullable(superseded);
+    }
+
+    /**
+     * Sets the latest version flag of the provided version, recording the
+     * change for re-indexing, unless this is the instance being saved.
+     *
+     * @param version       the version to be updated
+     * @param latest        whether this is the latest version
+     * @param savedId       the ID of the instance being saved, if any
+     */
+    private void markLatestVersion(Instance version, boolean latest, Long savedId) {
+        version.setLatest(latest);
+        if(!Objects.equals(version.getId(), savedId)) {
+            this.indexCoordinationService.recordChange(Instance.class, version.getId(), IndexOutboxOperation.ADD_OR_UPDATE);
+            this.instanceJsonCacheService.evict(version.getId());
+        }
     }
 
     /**
@@ -223,9 +480,25 @@ public class InstanceService {
     public void delete(Long id) throws DataNotFoundException {
         log.debug("Request to delete Instance : {}", id);
         this.instanceRepo.findById(id)
-                .map(Instance::getId)
                 .ifPresentOrElse(
-                        this.instanceRepo::deleteById,
+                        instance -> {
+                            // Release and record the cascaded doc deletions as well
+                            Optional.ofNullable(instance.getDocs())
+                                    .orElse(Collections.emptySet())
+                                    .forEach(doc -> {
+                                        this.docService.releaseContent(doc.getId());
+                                        this.indexCoordinationService.recordChange(Doc.class, doc.getId(), IndexOutboxOperation.DELETE);
+                                    });
+                            Optional.ofNullable(instance.getInstanceAsXml())
+                                    .map(Xml::getId)
+                                    .ifPresent(this.xmlDeltaService::detach);
+                            this.lockDomainId(instance.getInstanceId());
+                            this.instanceRepo.deleteById(instance.getId());
+                            this.indexCoordinationService.recordChange(Instance.class, instance.getId(), IndexOutboxOperation.DELETE);
+                            this.instanceJsonCacheService.evict(instance.getId());
+                            this.instanceVersionRegistryService.unregister(instance.getId());
+                            this.updateLatestVersion(instance.getInstanceId(), null);
+                        },
                         () -> {throw new DataNotFoundException("No instance found for the provided ID", null);}
                 );
     }
@@ -253,6 +526,7 @@ public class InstanceService {
                 // Unmarshall the XML, update the status and re-marshall the to XML
                 ServiceInstance serviceInstance = this.g1128SIUtils.unmarshallG1128(instanceXml.getContent());
                 serviceInstance.setStatus(status);
+                this.xmlDeltaService.detach(instanceXml.getId());
                 instanceXml.setContent(this.g1128SIUtils.marshalG1128(serviceInstance));
                 // Save XML
                 this.xmlService.save(instanceXml);
@@ -268,13 +542,22 @@ public class InstanceService {
 
     /**
      * Get all the instances that match a domain specific ID (for example,
-     * maritime ID), regardless of their version.
+     * maritime ID), regardless of their version. If the instance version
+     * registry is enabled, the instances are looked up by their ID, which
+     * allows them to be served from the second-level cache.
      *
      * @param domainId      the domain specific ID of the instance
      * @return the list of matching entities
      */
     public List<Instance> findAllByDomainId(String domainId){
         log.debug("Request to get Instances by domain id {}", domainId);
+        if(this.instanceVersionRegistryService.isEnabled()) {
+            return this.instanceVersionRegistryService.findIds(domainId)
+                    .stream()
+                    .map(this.instanceRepo::findById)
+                    .flatMap(Optional::stream)
+                    .toList();
+        }
         return this.instanceRepo.findByDomainId(domainId);
     }
 
@@ -289,13 +572,18 @@ public class InstanceService {
     @Transactional(readOnly = true)
     public Instance findByDomainIdAndVersion(String domainId, String version) throws DataNotFoundException {
         log.debug("Request to get Instance by domain id {} and version {}", domainId, version);
+        if(this.instanceVersionRegistryService.isEnabled()) {
+            return this.instanceVersionRegistryService.findId(domainId, version)
+                    .map(this.instanceRepo::findOneWithEagerRelationships)
+                    .orElseThrow(() -> new DataNotFoundException("No instance found for the provided domain ID and version", null));
+        }
         return this.instanceRepo.findByDomainIdAndVersionEagerRelationships(domainId, version)
                 .orElseThrow(() -> new DataNotFoundException("No instance found for the provided domain ID and version", null));
     }
 
     /**
      * Get one instance by domain specific ID (for example, maritime ID), only
-     * return the latest version.
+     * return the latest version, as flagged when the versions are saved.
      *
      * @param domainId      the domain specific id of the instance
      * @return the entity
@@ -303,8 +591,15 @@ public class InstanceService {
     @Transactional(readOnly = true)
     public Instance findLatestVersionByDomainId(String domainId) throws DataNotFoundException {
         log.debug("Request to get Instance by domain id {}", domainId);
-        return this.instanceRepo.findByDomainIdEagerRelationships(domainId).stream()
-                .max(Comparator.comparing(i -> new DefaultArtifactVersion(i.getVersion())))
+        if(this.instanceVersionRegistryService.isEnabled()) {
+            return this.instanceVersionRegistryService.findLatestId(domainId)
+                    .map(this.instanceRepo::findOneWithEagerRelationships)
+                    .orElseThrow(() -> new DataNotFoundException("No instance found for the provided domain ID", null));
+        }
+        return this.instanceRepo.findLatestIdsByDomainId(domainId, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .map(this.instanceRepo::findOneWithEagerRelationships)
                 .orElseThrow(() -> new DataNotFoundException("No instance found for the provided domain ID", null));
     }
 
@@ -316,48 +611,101 @@ public class InstanceService {
      *    <li>Validation of XML and parsing basic data (XMLValidationException if fails)</li>
      *    <li>Parsing GeoData (GeometryParseException if fails)</li>
      * </ul>
+     * <p>Both phases are skipped when an existing instance is saved with an
+     * XML whose canonicalized hash has not changed, in which case the
+     * attributes parsed from the XML are carried over from the existing
+     * instance.</p>
      *
      * @param instance      the instance to be saved
+     * @return whether the XML of an existing instance was left unchanged
      * @throws XMLValidationException If fails first phase (Validating and parsing XML)
      * @throws GeometryParseException If fails second phase (Parsing geo data)
      */
-    public void validateInstanceForSave(Instance instance) throws XMLValidationException, GeometryParseException {
+    public boolean validateInstanceForSave(Instance instance) throws XMLValidationException, GeometryParseException {
         if(instance == null) {
-            return;
+            return false;
         }
 
         // Try to find the instance if an ID is provided
+        Instance existingInstance = null;
         if(instance.getId() != null) {
-            this.instanceRepo.findById(instance.getId())
-                    .ifPresentOrElse(existingInstance -> {
-                        // We need to be able to update instances with providing
-                        // the whole instance doc every time. Therefore, if
-                        // we just have an ID but not file, we can try to load
-                        // the saved doc from the database into the input
-                        // instance. Note that we don't actually throw an error
-                        // for invalid docs... it's just an ID anyway right?
-                        if(Objects.nonNull(instance.getInstanceAsDoc()) && Objects.isNull(instance.getInstanceAsDoc().getFilecontent())) {
-                            Optional.of(instance.getInstanceAsDoc())
-                                    .map(Doc::getId)
-                                    .filter(docId -> Objects.nonNull(existingInstance.getInstanceAsDoc()))
-                                    .filter(docId -> docId.equals(existingInstance.getInstanceAsDoc().getId()))
-                                    .map(this.docService::findOne)
-                                    .ifPresent(doc -> instance.setInstanceAsDoc(doc));
-                        }
-                    }, () -> {
-                        throw new DataNotFoundException("No instance found for the provided ID", null);
-                    });
+            existingInstance = this.instanceRepo.findById(instance.getId())
+                    .orElseThrow(() -> new DataNotFoundException("No instance found for the provided ID", null));
         }
         // Else check for MRN and version conflicts with other instances
         else if(instance.getInstanceId() != null && instance.getVersion() != null) {
-            this.instanceRepo.findByDomainIdAndVersion(instance.getInstanceId(), instance.getVersion())
-                    .ifPresent(i -> { throw new DuplicateDataException("Duplicated instance with the same MRN and version found.", null); });
+            if(this.findIdByDomainIdAndVersion(instance.getInstanceId(), instance.getVersion()).isPresent()) {
+                throw new DuplicateDataException("Duplicated instance with the same MRN and version found.", null);
+            }
+        }
+
+        // And continue with the validation
+        return this.validateInstanceForSave(instance, existingInstance);
+    }
+
+    /**
+     * Prepare instance for save, when the existing instance, if any, has
+     * already been resolved. New instances are not checked for MRN and
+     * version conflicts, so these are only caught by the database unique
+     * constraint.
+     *
+     * @param instance          the instance to be saved
+     * @param existingInstance  the existing instance being replaced, if any
+     * @return whether the XML of an existing instance was left unchanged
+     * @throws XMLValidationException If fails first phase (Validating and parsing XML)
+     * @throws GeometryParseException If fails second phase (Parsing geo data)
+     */
+    protected boolean validateInstanceForSave(Instance instance, Instance existingInstance) throws XMLValidationException, GeometryParseException {
+        if(instance == null) {
+            return false;
+        }
+
+        // Carry over the state of the existing instance
+        if(existingInstance != null) {
+            // The latest version flag is not provided by the clients
+            instance.setLatest(existingInstance.isLatest());
+            // We need to be able to update instances with providing
+            // the whole instance doc every time. Therefore, if
+            // we just have an ID but not file, we can try to load
+            // the saved doc from the database into the input
+            // instance. Note that we don't actually throw an error
+            // for invalid docs... it's just an ID anyway right?
+            if(Objects.nonNull(instance.getInstanceAsDoc()) && Objects.isNull(instance.getInstanceAsDoc().getFilecontent())) {
+                final Doc existingDoc = existingInstance.getInstanceAsDoc();
+                Optional.of(instance.getInstanceAsDoc())
+                        .map(Doc::getId)
+                        .filter(docId -> Objects.nonNull(existingDoc))
+                        .filter(docId -> docId.equals(existingDoc.getId()))
+                        .map(this.docService::findOne)
+                        .ifPresent(doc -> instance.setInstanceAsDoc(doc));
+            }
+            // The instance docs are also only referenced by their IDs, so
+            // keep the existing ones that are still referenced
+            final Set<Long> docIds = Optional.ofNullable(instance.getDocs())
+                    .orElseGet(Collections::emptySet)
+                    .stream()
+                    .map(Doc::getId)
+                    .collect(Collectors.toSet());
+            instance.setDocs(existingInstance.getDocs()
+                    .stream()
+                    .filter(doc -> docIds.contains(doc.getId()))
+                    .collect(Collectors.toCollection(HashSet::new)));
+        }
+        // New instances cannot reference any existing docs yet
+        else {
+            instance.setDocs(new HashSet<>());
         }
 
         // Non G1128-compliant instance are allowed, where no XML description
         // is provided. In those cases... just let this through
         if(Objects.isNull(instance.getInstanceAsXml())) {
-            return;
+            return false;
+        }
+
+        // If the XML has not changed, there is no need to process it again
+        if(this.isInstanceXmlUnchanged(instance, existingInstance)) {
+            this.copyInstanceAttributesFromXML(existingInstance, instance);
+            return true;
         }
 
         try {
@@ -384,9 +732,74 @@ public class InstanceService {
         Optional.of(instance)
                 .map(Instance::getInstanceAsXml)
                 .map(Xml::getContent)
-                .map(xml -> { try { return g1128SIUtils.unmarshallG1128(xml); } catch (JAXBException e) { return null; } })
-                .map(si -> { try { return g1128SIUtils.marshalG1128(si); } catch (JAXBException e) { return null; } })
+                .flatMap(this::formatInstanceXml)
                 .ifPresent(instance.getInstanceAsXml()::setContent);
+        return false;
+    }
+
+    /**
+     * Checks whether the XML of the instance to be saved has the same
+     * canonicalized content hash as the XML of the existing instance. Since
+     * the stored XML is always the formatted version of the submitted one,
+     * the incoming XML is formatted the same way before its hash is
+     * compared, unless it already matches as submitted.
+     *
+     * @param instance          the instance to be saved
+     * @param existingInstance  the existing instance, if any
+     * @return whether the instance XML is unchanged
+     */
+    protected boolean isInstanceXmlUnchanged(Instance instance, Instance existingInstance) {
+        final String existingHash = Optional.ofNullable(existingInstance)
+                .map(Instance::getInstanceAsXml)
+                .map(Xml::getContentHash)
+                .orElse(null);
+        if(existingHash == null || instance.getInstanceAsXml().getContent() == null) {
+            return false;
+        }
+        return existingHash.equals(instance.getInstanceAsXml().getContentHash())
+                || this.formatInstanceXml(instance.getInstanceAsXml().getContent())
+                    .map(XmlUtil::contentHash)
+                    .filter(existingHash::equals)
+                    .isPresent();
+    }
+
+    /**
+     * Formats the provided G1128 instance XML the way it is stored, i.e. by
+     * unmarshalling and marshalling it again.
+     *
+     * @param xml       the instance XML
+     * @return the formatted instance XML, empty if it could not be parsed
+     */
+    protected Optional<String> formatInstanceXml(String xml) {
+        return Optional.ofNullable(xml)
+                .map(x -> { try { return g1128SIUtils.unmarshallG1128(x); } catch (JAXBException e) { return null; } })
+                .map(si -> { try { return g1128SIUtils.marshalG1128(si); } catch (JAXBException e) { return null; } });
+    }
+
+    /**
+     * Copies the attributes parsed from the XML of an existing instance into
+     * the instance to be saved, along with the stored XML content itself.
+     * The existing collections are reused as they are, so that they are not
+     * considered modified when the instance is merged.
+     *
+     * @param existingInstance  the existing instance
+     * @param instance          the instance to be saved
+     */
+    protected void copyInstanceAttributesFromXML(Instance existingInstance, Instance instance) {
+        instance.setName(existingInstance.getName());
+        instance.setVersion(existingInstance.getVersion());
+        instance.setInstanceId(existingInstance.getInstanceId());
+        instance.setKeywords(existingInstance.getKeywords());
+        instance.setComment(existingInstance.getComment());
+        instance.setEndpointUri(existingInstance.getEndpointUri());
+        instance.setMmsi(existingInstance.getMmsi());
+        instance.setImo(existingInstance.getImo());
+        instance.setServiceTypes(existingInstance.getServiceTypes());
+        instance.setUnlocode(existingInstance.getUnlocode());
+        instance.setDesigns(existingInstance.getDesigns());
+        instance.setSpecifications(existingInstance.getSpecifications());
+        instance.setGeometry(existingInstance.getGeometry());
+        instance.getInstanceAsXml().copyContent(existingInstance.getInstanceAsXml());
     }
 
     /**
@@ -398,6 +811,19 @@ public class InstanceService {
      */
     @Transactional(readOnly = true)
     public Page<Instance> handleDatatablesPagingRequest(DtPagingRequest dtPagingRequest) {
+        // Search the index segments concurrently for large indexes, if enabled
+        if(this.concurrentSearchService.isEnabled()) {
+            final Optional<Page<Instance>> page = this.concurrentSearchService.search(
+                    this.createWildcardLuceneQuery(dtPagingRequest.getSearch().getValue()),
+                    dtPagingRequest.getLucenceSort(Arrays.asList(searchFieldsWithSort)),
+                    dtPagingRequest.getStart(),
+                    dtPagingRequest.getLength(),
+                    dtPagingRequest.toPageRequest());
+            if(page.isPresent()) {
+                return page.get();
+            }
+        }
+
         // Create the search query
         SearchQuery searchQuery = this.getSearchInstanceQueryByText(
                 dtPagingRequest.getSearch().getValue(),
@@ -420,15 +846,73 @@ public class InstanceService {
      */
     @Transactional(readOnly = true)
     public Page<Instance> handleSearchQueryRequest(String queryString, Geometry geometry, Pageable pageable) {
+        // Search the index segments concurrently for large indexes, if enabled
+        if(this.concurrentSearchService.isEnabled()) {
+            final Optional<Page<Instance>> page = this.concurrentSearchService.search(
+                    this.createInstanceLuceneQuery(queryString, geometry),
+                    new Sort(new SortedSetSortField("name_sort", false)),
+                    pageable.getPageNumber() * pageable.getPageSize(),
+                    pageable.getPageSize(),
+                    pageable);
+            if(page.isPresent()) {
+                return page.get();
+            }
+        }
+
         // Create the search query - always sort by name
         SearchQuery searchQuery = this.getSearchInstanceQueryByQueryString(queryString, geometry, new Sort(new SortedSetSortField("name_sort", false)));
-        // Map the results to a paged response
+        // Map the results to a paged response - beyond the total hit count
+        // threshold, only a lower bound of the total is available
         return Optional.of(searchQuery)
-                .map(query -> query.fetch(pageable.getPageNumber() * pageable.getPageSize(), pageable.getPageSize()))
-                .map(searchResult -> new PageImpl<Instance>(searchResult.hits(), pageable, searchResult.total().hitCount()))
+                .map(query -> this.fetchSearchResult(query, pageable.getPageNumber() * pageable.getPageSize(), pageable.getPageSize()))
+                .map(searchResult -> new PageImpl<Instance>(searchResult.hits(), pageable, searchResult.total().hitCountLowerBound()))
                 .orElseGet(() -> new PageImpl<>(Collections.emptyList(), pageable, 0));
     }
 
+    /**
+     * Fetches the requested page of hits of the provided search query. When
+     * the search is being profiled, the Lucene execution time and the number
+     * of entities loaded from the database are also recorded, while detailed
+     * profiling also records the Lucene explanations of the hits.
+     *
+     * @param searchQuery   the search query to be fetched
+     * @param offset        the offset of the first hit
+     * @param limit         the maximum number of hits
+     * @return the search result
+     */
+    protected SearchResult<Instance> fetchSearchResult(SearchQuery<Instance> searchQuery, int offset, int limit) {
+        if(!SearchProfiler.isActive()) {
+            return searchQuery.fetch(offset, limit);
+        }
+
+        // Fetch the results while keeping track of the loaded entities
+        final SearchResult<Instance> searchResult = SearchProfiler.stage("fetch", () -> {
+            final SessionStatistics statistics = this.entityManager.unwrap(Session.class).getStatistics();
+            final int entitiesBefore = statistics.getEntityCount();
+            final SearchResult<Instance> result = searchQuery.fetch(offset, limit);
+            SearchProfiler.attribute("luceneExecutionMs", result.took().toNanos() / 1_000_000.0);
+            SearchProfiler.attribute("timedOut", result.timedOut());
+            SearchProfiler.attribute("totalHits", result.total().hitCountLowerBound());
+            SearchProfiler.attribute("totalHitsExact", result.total().isHitCountExact());
+            SearchProfiler.attribute("entitiesLoaded", statistics.getEntityCount() - entitiesBefore);
+            return result;
+        });
+
+        // And explain why each of the hits was matched, if required
+        if(!SearchProfiler.isDetailed()) {
+            return searchResult;
+        }
+        SearchProfiler.stage("explain", () -> {
+            final LuceneSearchQuery<Instance> luceneSearchQuery = searchQuery.extension(LuceneExtension.get());
+            final Map<Long, String> explanations = new LinkedHashMap<>();
+            searchResult.hits().stream()
+                    .limit(this.profileExplainLimit)
+                    .forEach(instance -> explanations.put(instance.getId(), luceneSearchQuery.explain(instance.getId()).toString()));
+            SearchProfiler.attribute("explanations", explanations);
+        });
+        return searchResult;
+    }
+
     /**
      * Parse instance attributes from the xml payload for search/filtering
      *
@@ -555,7 +1039,7 @@ public class InstanceService {
                         .fields( this.searchFields )
                         .matching( Optional.ofNullable(searchText).map(st -> "*"+st).orElse("") + "*" )
                         .toPredicate() )
-                .sort(f -> f.fromLuceneSort(sort))
+                .sort(f -> f.fromLuceneSort(sort).then().field("id_sort"))
                 .toQuery();
     }
 
@@ -578,6 +1062,9 @@ public class InstanceService {
      * </ul>
      * The geo-spatial geometry is a LocationTech Geometry Collection that will
      * be evaluated if it intersects with any of the available instances.
+     * Results with equal sorting values are ordered by their ID, so that the
+     * paging is stable, while the total hits are only counted exactly up to
+     * the configured threshold.
      *
      * @param queryString   The lucene query string to use for the search
      * @param geometry      The geo-spatial geometry to use for the search
@@ -586,10 +1073,11 @@ public class InstanceService {
      */
     protected SearchQuery<Instance> getSearchInstanceQueryByQueryString(String queryString, Geometry geometry, Sort sort) {
         // First parse the input string to make sure it's right
-        final Query luceneQuery = this.createLuceneQuery(queryString);
+        final Query luceneQuery = SearchProfiler.stage("createLuceneQuery", () -> this.createLuceneQuery(queryString));
+        SearchProfiler.attribute("luceneQuery", Objects.toString(luceneQuery, null));
 
         // Also look out for a geometry query that needs to be handled differently
-        final Query geoQuery = this.createGeoSpatialQuery(geometry);
+        final Query geoQuery = SearchProfiler.stage("createGeoSpatialQuery", () -> this.createGeoSpatialQuery(geometry));
 
         // Then build and return the hibernate-search query
         SearchSession searchSession = Search.session( entityManager );
@@ -605,7 +1093,8 @@ public class InstanceService {
                                 .orElseGet(q2::matchAll)
                         )
                 )
-                .sort(f -> ((LuceneSearchSortFactory)f).fromLuceneSort(sort))
+                .sort(f -> ((LuceneSearchSortFactory)f).fromLuceneSort(sort).then().field("id_sort"))
+                .totalHitCountThreshold(this.totalHitCountThreshold)
                 .toQuery();
     }
 
@@ -618,14 +1107,8 @@ public class InstanceService {
      */
     protected Query createLuceneQuery(String queryString) {
         // First parse the input string to make sure it's right
-        MultiFieldQueryParser parser = new MultiFieldQueryParser(this.searchFields, Search.mapping(entityManagerFactory)
-                .backend()
-                .unwrap(LuceneBackend.class)
-                .analyzer( "standard" )
-                .map(Analyzer.class::cast)
-                .orElseGet(() -> new StandardAnalyzer()));
+        MultiFieldQueryParser parser = this.createQueryParser();
         parser.setDefaultOperator( QueryParser.Operator.AND );
-        parser.setAllowLeadingWildcard(true);
         return Optional.ofNullable(queryString)
                 .filter(StringUtils::isNotBlank)
                 .map(q -> {
@@ -642,9 +1125,97 @@ public class InstanceService {
                         throw new InvalidRequestException(ex.getMessage(), ex);
                     }
                 })
+                .map(this::toFilterQuery)
                 .orElse(null);
     }
 
+    /**
+     * Converts the required clauses of the provided query that only access
+     * the hot structured filter fields (e.g. the status or the service types)
+     * into filter clauses. Since the search results are sorted explicitly,
+     * these clauses do not need to be scored, and that allows Lucene to
+     * evaluate them through the cached per-segment bitsets.
+     *
+     * @param query         The Lucene query to be converted
+     * @return The converted Lucene query
+     */
+    protected Query toFilterQuery(Query query) {
+        if(!(query instanceof BooleanQuery booleanQuery)) {
+            return query;
+        }
+        final Set<String> filterFieldSet = Set.of(this.filterFields);
+        final BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .setMinimumNumberShouldMatch(booleanQuery.getMinimumNumberShouldMatch());
+        for(BooleanClause clause : booleanQuery.clauses()) {
+            if(clause.getOccur() == BooleanClause.Occur.MUST && FilterFieldsQueryCachingPolicy.isFilterOnly(clause.getQuery(), filterFieldSet)) {
+                builder.add(clause.getQuery(), BooleanClause.Occur.FILTER);
+            } else {
+                builder.add(clause);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a Lucene query that matches the provided search text anywhere
+     * in any of the search fields. This is the Lucene equivalent of the
+     * wildcard query constructed by the getSearchInstanceQueryByText()
+     * function, to be used for the concurrent segment search. Like the
+     * Hibernate Search wildcard predicate, the whole search text is used as
+     * a single term per field, only normalized (e.g. lower-cased) by the
+     * index analyzer but never tokenized.
+     *
+     * @param searchText    The text to be searched
+     * @return The Lucene query constructed
+     */
+    protected Query createWildcardLuceneQuery(String searchText) {
+        if(StringUtils.isBlank(searchText)) {
+            return new MatchAllDocsQuery();
+        }
+        final Analyzer analyzer = this.createQueryParser().getAnalyzer();
+        final String pattern = "*" + searchText + "*";
+        final BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for(String field : this.searchFields) {
+            builder.add(new WildcardQuery(new Term(field, analyzer.normalize(field, pattern))), BooleanClause.Occur.SHOULD);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a Lucene query combining the provided search query string and
+     * the geo-spatial geometry, as done by the
+     * getSearchInstanceQueryByQueryString() function, to be used for the
+     * concurrent segment search.
+     *
+     * @param queryString   The query string that follows the Lucene query syntax
+     * @param geometry      The geo-spatial geometry to use for the search
+     * @return The Lucene query constructed
+     */
+    protected Query createInstanceLuceneQuery(String queryString, Geometry geometry) {
+        final BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        Optional.ofNullable(this.createLuceneQuery(queryString)).ifPresent(q -> builder.add(q, BooleanClause.Occur.MUST));
+        Optional.ofNullable(this.createGeoSpatialQuery(geometry)).ifPresent(q -> builder.add(q, BooleanClause.Occur.MUST));
+        final BooleanQuery query = builder.build();
+        return query.clauses().isEmpty() ? new MatchAllDocsQuery() : query;
+    }
+
+    /**
+     * Creates a Lucene query parser over the search fields, using the same
+     * analyzer as the Instance index.
+     *
+     * @return The Lucene query parser
+     */
+    protected MultiFieldQueryParser createQueryParser() {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(this.searchFields, Search.mapping(entityManagerFactory)
+                .backend()
+                .unwrap(LuceneBackend.class)
+                .analyzer( "standard" )
+                .map(Analyzer.class::cast)
+                .orElseGet(() -> new StandardAnalyzer()));
+        parser.setAllowLeadingWildcard(true);
+        return parser;
+    }
+
     /**
      * Creates a Lucene geo-spatial query based on the provided geometry. The
      * query isa recursive one based on the maxLevels defined (in this case 11,
@@ -667,4 +1238,13 @@ public class InstanceService {
                 .orElse(null);
     }
 
+    /**
+     * The result of an instance saving operation.
+     *
+     * @param instance  the persisted instance
+     * @param created   whether the instance was newly created
+     */
+    public record SaveResult(Instance instance, boolean created) {
+    }
+
 }
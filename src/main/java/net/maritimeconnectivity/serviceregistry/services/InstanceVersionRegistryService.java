@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Service Implementation for keeping an in-memory registry of the instance
+ * versions of each MRN.
+ * <p>
+ * The duplicate checks of the new instances and the MRN lookups would
+ * otherwise query the database on every call. When enabled, this service
+ * loads the ID, MRN and version of all instances on startup and keeps them
+ * up to date as instances are saved or deleted, so that these lookups can be
+ * answered from memory, and it is then the authority for them. The local
+ * changes are only applied once their transaction commits, while the changes
+ * of the other registry nodes are applied as the index outbox is polled, so
+ * multi-node deployments should only enable it along with the index
+ * coordination. The MRN and version unique constraint of the database
+ * remains the safety net for any duplicates missed in the meantime.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Service
+@Slf4j
+public class InstanceVersionRegistryService {
+
+    /**
+     * Whether the in-memory instance version registry is enabled.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.versionRegistry.enabled:true}")
+    boolean enabled;
+
+    /**
+     * The Instance Repo.
+     */
+    @Autowired
+    InstanceRepo instanceRepo;
+
+    // Service Variables
+    private static final Comparator<VersionEntry> LATEST_FIRST = Comparator
+            .comparing(VersionEntry::sortKey, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(VersionEntry::id)
+            .reversed();
+    private final Map<String, List<VersionEntry>> versions = new ConcurrentHashMap<>();
+    private final Map<Long, String> domainIds = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * Loads the versions of all the instances into the registry.
+     */
+    @PostConstruct
+    public void init() {
+        if (!this.enabled) {
+            return;
+        }
+        this.versions.clear();
+        this.domainIds.clear();
+        for (Object[] row : this.instanceRepo.findAllVersionEntries()) {
+            this.put((Long) row[0], (String) row[1], (String) row[2], (String) row[3]);
+        }
+        this.loaded = true;
+        log.info("Loaded {} instance versions of {} MRNs into the version registry", this.domainIds.size(), this.versions.size());
+    }
+
+    /**
+     * Returns whether the registry is enabled and loaded, so that it can be
+     * used instead of the database.
+     *
+     * @return whether the registry is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled && this.loaded;
+    }
+
+    /**
+     * Returns the IDs of all the versions of the provided MRN, from the
+     * latest to the oldest one.
+     *
+     * @param domainId  the MRN of the instance
+     * @return the list of instance IDs
+     */
+    public List<Long> findIds(String domainId) {
+        return this.entries(domainId)
+                .map(VersionEntry::id)
+                .toList();
+    }
+
+    /**
+     * Returns the ID of the instance with the provided MRN and version.
+     *
+     * @param domainId  the MRN of the instance
+     * @param version   the version of the instance
+     * @return the instance ID, if found
+     */
+    public Optional<Long> findId(String domainId, String version) {
+        return this.entries(domainId)
+                .filter(entry -> Objects.equals(entry.version(), version))
+                .map(VersionEntry::id)
+                .findFirst();
+    }
+
+    /**
+     * Returns the ID of the latest version of the provided MRN.
+     *
+     * @param domainId  the MRN of the instance
+     * @return the instance ID, if found
+     */
+    public Optional<Long> findLatestId(String domainId) {
+        return this.entries(domainId)
+                .map(VersionEntry::id)
+                .findFirst();
+    }
+
+    /**
+     * Registers the current version of the provided instance, once the
+     * current transaction commits.
+     *
+     * @param instance  the saved instance
+     */
+    public void register(Instance instance) {
+        if (!this.enabled || instance == null || instance.getId() == null) {
+            return;
+        }
+        final Long id = instance.getId();
+        final String domainId = instance.getInstanceId();
+        final String version = instance.getVersion();
+        final String sortKey = instance.getVersionSortKey();
+        this.afterCommit(() -> this.put(id, domainId, version, sortKey));
+    }
+
+    /**
+     * Removes the instance with the provided ID from the registry, once the
+     * current transaction commits.
+     *
+     * @param id        the ID of the deleted instance
+     */
+    public void unregister(Long id) {
+        if (!this.enabled || id == null) {
+            return;
+        }
+        this.afterCommit(() -> this.remove(id));
+    }
+
+    /**
+     * Returns the registered versions of the provided MRN, from the latest to
+     * the oldest one.
+     *
+     * @param domainId  the MRN of the instance
+     * @return the stream of the registered versions
+     */
+    protected Stream<VersionEntry> entries(String domainId) {
+        return Optional.ofNullable(domainId)
+                .map(this.versions::get)
+                .map(List::stream)
+                .orElseGet(Stream::empty);
+    }
+
+    /**
+     * Adds or replaces the registered version of an instance. The version
+     * lists are never modified in place, so they can be read without any
+     * locking.
+     *
+     * @param id        the ID of the instance
+     * @param domainId  the MRN of the instance
+     * @param version   the version of the instance
+     * @param sortKey   the version sort key of the instance
+     */
+    protected void put(Long id, String domainId, String version, String sortKey) {
+        if (id == null || domainId == null) {
+            return;
+        }
+        final String previousDomainId = this.domainIds.put(id, domainId);
+        if (previousDomainId != null && !previousDomainId.equals(domainId)) {
+            this.versions.computeIfPresent(previousDomainId, (key, list) -> this.without(list, id));
+        }
+        this.versions.compute(domainId, (key, list) -> {
+            final List<VersionEntry> updated = new ArrayList<>(Optional.ofNullable(list).orElse(Collections.emptyList()));
+            updated.removeIf(entry -> entry.id().equals(id));
+            updated.add(new VersionEntry(id, version, sortKey));
+            updated.sort(LATEST_FIRST);
+            return List.copyOf(updated);
+        });
+    }
+
+    /**
+     * Removes the registered version of an instance.
+     *
+     * @param id        the ID of the instance
+     */
+    protected void remove(Long id) {
+        Optional.ofNullable(this.domainIds.remove(id))
+                .ifPresent(domainId -> this.versions.computeIfPresent(domainId, (key, list) -> this.without(list, id)));
+    }
+
+    /**
+     * Returns a copy of the provided version list without the version of the
+     * provided instance, or null if no versions are left.
+     *
+     * @param list      the version list
+     * @param id        the ID of the instance to be removed
+     * @return the updated version list
+     */
+    private List<VersionEntry> without(List<VersionEntry> list, Long id) {
+        final List<VersionEntry> updated = list.stream()
+                .filter(entry -> !entry.id().equals(id))
+                .toList();
+        return updated.isEmpty() ? null : updated;
+    }
+
+    /**
+     * Runs the provided action once the current transaction commits, or
+     * straight away if there is no active transaction.
+     *
+     * @param action    the action to be performed
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * A registered instance version.
+     *
+     * @param id        the ID of the instance
+     * @param version   the version of the instance
+     * @param sortKey   the version sort key of the instance
+     */
+    record VersionEntry(Long id, String version, String sortKey) {
+    }
+
+}
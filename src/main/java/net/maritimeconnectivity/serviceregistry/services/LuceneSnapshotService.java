@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.components.LuceneSnapshotRestorer;
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.repos.DocRepo;
+import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
+import net.maritimeconnectivity.serviceregistry.utils.LuceneSnapshotUtils;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Service Implementation for taking and restoring snapshots of the local
+ * Lucene indexes.
+ * <p>
+ * Snapshots are consistent copies of the latest commit of the Instance and
+ * Doc indexes, published as compressed archives into a configurable local or
+ * shared directory. New nodes can restore the latest snapshot on startup
+ * (see {@link LuceneSnapshotRestorer}) and then only catch up with the
+ * changes that took place after it was taken, instead of rebuilding their
+ * indexes from the database.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Service
+@Slf4j
+@Transactional
+public class LuceneSnapshotService {
+
+    /**
+     * The manifest property holding the snapshot creation time.
+     */
+    public static final String MANIFEST_CREATED_AT = "createdAt";
+
+    /**
+     * The manifest property holding the index outbox cursor.
+     */
+    public static final String MANIFEST_OUTBOX_CURSOR = "outboxCursor";
+
+    /**
+     * The directory where the snapshot archives are published.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.indexSnapshot.directory:./lucene-snapshots/}")
+    String snapshotDirectory;
+
+    /**
+     * The number of snapshot archives to retain in the snapshot directory.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.indexSnapshot.retained:3}")
+    int retained;
+
+    /**
+     * The safety margin in milliseconds applied when catching up with the
+     * changes performed after the snapshot was taken.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.indexSnapshot.catchUpMargin:60000}")
+    long catchUpMargin;
+
+    /**
+     * The root directory of the local Lucene indexes.
+     */
+    @Value("${spring.jpa.properties.hibernate.search.backend.directory.root:./lucene/}")
+    String indexRoot;
+
+    /**
+     * The Entity Manager.
+     */
+    @Autowired
+    EntityManager entityManager;
+
+    /**
+     * The Instance Repo.
+     */
+    @Autowired
+    InstanceRepo instanceRepo;
+
+    /**
+     * The Doc Repo.
+     */
+    @Autowired
+    DocRepo docRepo;
+
+    /**
+     * The Index Coordination Service.
+     */
+    @Autowired
+    IndexCoordinationService indexCoordinationService;
+
+    /**
+     * The Lucene Snapshot Restorer.
+     */
+    @Autowired
+    LuceneSnapshotRestorer luceneSnapshotRestorer;
+
+    // Service Variables
+    private static final DateTimeFormatter SNAPSHOT_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    /**
+     * Takes a snapshot of the local Lucene indexes and publishes it into the
+     * snapshot directory. The archive is first written under a temporary
+     * name and then moved into place, so that other nodes never pick up a
+     * partially written snapshot.
+     *
+     * @return the path of the published snapshot archive
+     * @throws IOException if the snapshot could not be created
+     */
+    public synchronized Path createSnapshot() throws IOException {
+        // Capture the catch-up point before committing the current state
+        final LocalDateTime createdAt = LocalDateTime.now();
+        final Properties manifest = new Properties();
+        manifest.setProperty(MANIFEST_CREATED_AT, createdAt.toString());
+        if (this.indexCoordinationService.isEnabled()) {
+            manifest.setProperty(MANIFEST_OUTBOX_CURSOR, this.indexCoordinationService.getCursor().toString());
+        }
+
+        // Make sure all pending index changes are committed
+        Search.session(this.entityManager).workspace(Instance.class, Doc.class).flush();
+
+        // Write the archive
+        final Path snapshotDir = Paths.get(this.snapshotDirectory);
+        Files.createDirectories(snapshotDir);
+        final String name = LuceneSnapshotUtils.SNAPSHOT_PREFIX + createdAt.format(SNAPSHOT_NAME_FORMAT) + LuceneSnapshotUtils.SNAPSHOT_SUFFIX;
+        final Path tempFile = snapshotDir.resolve("." + name + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempFile);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (String indexName : LuceneSnapshotRestorer.INDEX_NAMES) {
+                final long generation = LuceneSnapshotUtils.writeIndex(zip, Paths.get(this.indexRoot).resolve(indexName), indexName);
+                manifest.setProperty(indexName + ".generation", String.valueOf(generation));
+            }
+            LuceneSnapshotUtils.writeManifest(zip, manifest);
+        } catch (IOException ex) {
+            Files.deleteIfExists(tempFile);
+            throw ex;
+        }
+        final Path snapshot = Files.move(tempFile, snapshotDir.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+        log.info("Published Lucene index snapshot {}", snapshot.getFileName());
+
+        // Remove the old snapshots
+        this.pruneSnapshots();
+        return snapshot;
+    }
+
+    /**
+     * Removes the oldest snapshot archives from the snapshot directory, so
+     * that only the configured number of snapshots is retained.
+     *
+     * @return the number of removed snapshot archives
+     * @throws IOException if the snapshot directory could not be accessed
+     */
+    public int pruneSnapshots() throws IOException {
+        final List<Path> snapshots = LuceneSnapshotUtils.listSnapshots(Paths.get(this.snapshotDirectory));
+        int removed = 0;
+        for (Path snapshot : snapshots.subList(Math.min(Math.max(this.retained, 1), snapshots.size()), snapshots.size())) {
+            Files.deleteIfExists(snapshot);
+            removed++;
+        }
+        return removed;
+    }
+
+    /**
+     * If the local indexes were restored from a snapshot on startup, this
+     * function brings them up to date with the changes that took place after
+     * the snapshot was taken. When the index coordination is enabled, the
+     * index outbox is replayed from the snapshot cursor, otherwise the
+     * instances and docs updated since the snapshot are re-indexed and the
+     * indexed entries are reconciled against the database entries. Snapshots
+     * older than the outbox retention cannot be replayed, since the events
+     * may have already been purged, so the indexes are fully rebuilt instead.
+     *
+     * @return whether the local indexes were caught up from a snapshot
+     */
+    public boolean catchUpRestoredSnapshot() {
+        final Properties manifest = this.luceneSnapshotRestorer.getRestoredManifest().orElse(null);
+        if (manifest == null || manifest.getProperty(MANIFEST_CREATED_AT) == null) {
+            return false;
+        }
+        final LocalDateTime createdAt = LocalDateTime.parse(manifest.getProperty(MANIFEST_CREATED_AT));
+
+        // Replay the outbox if possible
+        if (this.indexCoordinationService.isEnabled() && manifest.getProperty(MANIFEST_OUTBOX_CURSOR) != null) {
+            final LocalDateTime cursor = LocalDateTime.parse(manifest.getProperty(MANIFEST_OUTBOX_CURSOR));
+            if (!this.indexCoordinationService.isRetained(cursor)) {
+                log.warn("The snapshot of {} is older than the index outbox retention, rebuilding the indexes", createdAt);
+                return false;
+            }
+            this.indexCoordinationService.resetCursor(cursor);
+            final int applied = this.indexCoordinationService.pollOutbox();
+            log.info("Caught up with {} index outbox events since the snapshot of {}", applied, createdAt);
+            return true;
+        }
+
+        // Otherwise re-index what changed since the snapshot
+        final SearchSession searchSession = Search.session(this.entityManager);
+        final SearchIndexingPlan indexingPlan = searchSession.indexingPlan();
+        final LocalDateTime since = createdAt.minus(Duration.ofMillis(this.catchUpMargin));
+        final List<Instance> updated = this.instanceRepo.findAllUpdatedSince(since);
+        for (Instance instance : updated) {
+            indexingPlan.addOrUpdate(instance);
+            instance.getDocs().forEach(indexingPlan::addOrUpdate);
+        }
+        final List<Doc> updatedDocs = this.docRepo.findAllUpdatedSince(since);
+        updatedDocs.forEach(indexingPlan::addOrUpdate);
+
+        // And reconcile the entries that were added or removed
+        final Set<Long> indexedInstanceIds = new HashSet<>(searchSession.search(Instance.class)
+                .select(f -> f.id(Long.class))
+                .where(f -> f.matchAll())
+                .fetchAllHits());
+        final Set<Long> indexedDocIds = new HashSet<>(searchSession.search(Doc.class)
+                .select(f -> f.id(Long.class))
+                .where(f -> f.matchAll())
+                .fetchAllHits());
+        final int instances = this.reconcile(indexingPlan, Instance.class, indexedInstanceIds, this.instanceRepo.findAllIds());
+        final int docs = this.reconcile(indexingPlan, Doc.class, indexedDocIds, this.docRepo.findAllIds());
+        log.info("Caught up with {} updated instances, {} updated docs, {} added/removed instances and {} added/removed docs since the snapshot of {}",
+                updated.size(), updatedDocs.size(), instances, docs, createdAt);
+        return true;
+    }
+
+    /**
+     * Adds the database entries missing from the index, and purges the index
+     * entries no longer present in the database.
+     *
+     * @param indexingPlan  the indexing plan of the current search session
+     * @param entityClass   the class of the reconciled entities
+     * @param indexedIds    the IDs of the currently indexed entries
+     * @param storedIds     the IDs of the entries stored in the database
+     * @return the number of added or purged entries
+     */
+    protected int reconcile(SearchIndexingPlan indexingPlan, Class<?> entityClass, Set<Long> indexedIds, List<Long> storedIds) {
+        int changes = 0;
+        for (Long id : storedIds) {
+            if (!indexedIds.remove(id)) {
+                Optional.ofNullable(this.entityManager.find(entityClass, id)).ifPresent(indexingPlan::addOrUpdate);
+                changes++;
+            }
+        }
+        for (Long id : indexedIds) {
+            indexingPlan.purge(entityClass, id, null);
+            changes++;
+        }
+        return changes;
+    }
+
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.models.dto.SearchCaptureDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.SearchProfileDto;
+import org.grad.secom.core.models.SearchFilterObject;
+import org.locationtech.jts.geom.Geometry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Service Implementation for capturing the incoming search requests.
+ * <p>
+ * When enabled, every instance search performed through the search API or
+ * the SECOM search service is appended as a JSON line into the configured
+ * capture file, together with its offset from the start of the capture and
+ * the time it took to be served. The requests are anonymised before being
+ * written, i.e. no caller information is kept, while all MRNs and e-mail
+ * addresses are replaced by stable pseudonyms, so that the distribution of
+ * the searched values is preserved. The captured requests can then be
+ * replayed against a test registry by the search replay harness of the
+ * benchmarks profile.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Service
+@Slf4j
+public class SearchCaptureService {
+
+    /**
+     * The captured search API endpoint.
+     */
+    public static final String ENDPOINT_SEARCH_INSTANCES = "searchInstances";
+
+    /**
+     * The captured SECOM search service endpoint.
+     */
+    public static final String ENDPOINT_SEARCH_SERVICE = "searchService";
+
+    /**
+     * Whether the search capture is enabled.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.searchCapture.enabled:false}")
+    boolean enabled;
+
+    /**
+     * The file the captured searches are appended to.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.searchCapture.file:./logs/search-capture.jsonl}")
+    String file;
+
+    /**
+     * The maximum number of searches to be captured.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.searchCapture.maxRecords:100000}")
+    long maxRecords;
+
+    /**
+     * The salt used for generating the pseudonyms. If not provided, a random
+     * one is generated, so the pseudonyms are only stable during a single
+     * capture.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.searchCapture.salt:}")
+    String salt;
+
+    /**
+     * The Object Mapper.
+     */
+    @Autowired
+    ObjectMapper objectMapper;
+
+    // Service Variables
+    private static final Pattern MRN_PATTERN = Pattern.compile("urn\\\\?:mrn\\\\?:[^\\s\"'()\\[\\]{},]+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+");
+    private BufferedWriter writer;
+    private long captureStart;
+    private long captured;
+
+    /**
+     * Returns whether the search capture is enabled.
+     *
+     * @return whether the search capture is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Captures a search performed through the search API.
+     *
+     * @param queryString   the search query string
+     * @param geometry      the search geometry
+     * @param pageable      the requested page
+     * @param profile       the profile of the search
+     */
+    public void captureSearchInstances(String queryString, Geometry geometry, Pageable pageable, SearchProfileDto profile) {
+        if (!this.enabled) {
+            return;
+        }
+        final ObjectNode payload = this.objectMapper.createObjectNode();
+        payload.put("queryString", queryString);
+        payload.put("geometryWKT", Optional.ofNullable(geometry).map(Geometry::toText).orElse(null));
+        this.capture(ENDPOINT_SEARCH_INSTANCES,
+                payload,
+                Optional.ofNullable(pageable).filter(Pageable::isPaged).map(Pageable::getPageNumber).orElse(null),
+                Optional.ofNullable(pageable).filter(Pageable::isPaged).map(Pageable::getPageSize).orElse(null),
+                profile);
+    }
+
+    /**
+     * Captures a search performed through the SECOM search service.
+     *
+     * @param searchFilterObject    the SECOM search filter object
+     * @param page                  the requested page
+     * @param pageSize              the requested page size
+     * @param profile               the profile of the search
+     */
+    public void captureSearchService(SearchFilterObject searchFilterObject, Integer page, Integer pageSize, SearchProfileDto profile) {
+        if (!this.enabled) {
+            return;
+        }
+        this.capture(ENDPOINT_SEARCH_SERVICE,
+                this.objectMapper.valueToTree(searchFilterObject),
+                page,
+                pageSize,
+                profile);
+    }
+
+    /**
+     * Anonymises and appends the provided search request to the capture
+     * file. Any failures are only logged, so that they never affect the
+     * searches themselves.
+     *
+     * @param endpoint  the endpoint the search was performed through
+     * @param payload   the search request payload
+     * @param page      the requested page
+     * @param pageSize  the requested page size
+     * @param profile   the profile of the search
+     */
+    protected synchronized void capture(String endpoint, JsonNode payload, Integer page, Integer pageSize, SearchProfileDto profile) {
+        if (this.captured >= this.maxRecords) {
+            return;
+        }
+        try {
+            if (this.writer == null) {
+                final Path path = Paths.get(this.file);
+                Optional.ofNullable(path.toAbsolutePath().getParent()).ifPresent(this::createDirectories);
+                this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                this.captureStart = System.currentTimeMillis();
+            }
+
+            // Build the anonymised capture record
+            final SearchCaptureDto record = new SearchCaptureDto();
+            record.setTimestamp(LocalDateTime.now());
+            record.setOffsetMs(System.currentTimeMillis() - this.captureStart);
+            record.setEndpoint(endpoint);
+            record.setPayload(this.anonymise(payload));
+            record.setPage(page);
+            record.setPageSize(pageSize);
+            Optional.ofNullable(profile).ifPresent(p -> {
+                record.setDurationMs(p.getTimeMs());
+                record.setHits(Optional.ofNullable(p.getAttributes().get(SlowQueryLogService.ATTRIBUTE_HITS))
+                        .filter(Number.class::isInstance)
+                        .map(Number.class::cast)
+                        .map(Number::longValue)
+                        .orElse(0L));
+            });
+
+            // And append it to the capture file
+            this.writer.write(this.objectMapper.writeValueAsString(record));
+            this.writer.newLine();
+            this.writer.flush();
+            this.captured++;
+        } catch (IOException | RuntimeException ex) {
+            log.error("Failed to capture the {} search request: {}", endpoint, ex.getMessage());
+        }
+    }
+
+    /**
+     * Anonymises the provided JSON payload, by replacing all MRNs and e-mail
+     * addresses of its text values with stable pseudonyms.
+     *
+     * @param node  the JSON payload
+     * @return the anonymised JSON payload
+     */
+    protected JsonNode anonymise(JsonNode node) {
+        if (node == null) {
+            return null;
+        } else if (node.isTextual()) {
+            return new TextNode(this.anonymise(node.textValue()));
+        } else if (node.isArray()) {
+            final ArrayNode array = this.objectMapper.createArrayNode();
+            node.forEach(child -> array.add(this.anonymise(child)));
+            return array;
+        } else if (node.isObject()) {
+            final ObjectNode object = this.objectMapper.createObjectNode();
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                final Map.Entry<String, JsonNode> field = it.next();
+                object.set(field.getKey(), this.anonymise(field.getValue()));
+            }
+            return object;
+        }
+        return node;
+    }
+
+    /**
+     * Anonymises the provided text, by replacing all its MRNs and e-mail
+     * addresses with stable pseudonyms.
+     *
+     * @param text  the text to be anonymised
+     * @return the anonymised text
+     */
+    protected String anonymise(String text) {
+        if (text == null) {
+            return null;
+        }
+        final String mrnsReplaced = this.replace(MRN_PATTERN, text, "urn:mrn:anon:");
+        return this.replace(EMAIL_PATTERN, mrnsReplaced, "anon-");
+    }
+
+    /**
+     * Replaces all the matches of the provided pattern with their
+     * pseudonyms.
+     *
+     * @param pattern   the pattern to be replaced
+     * @param text      the text to be processed
+     * @param prefix    the prefix of the pseudonyms
+     * @return the processed text
+     */
+    private String replace(Pattern pattern, String text, String prefix) {
+        final Matcher matcher = pattern.matcher(text);
+        final StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            // Keep the escaping of the Lucene query strings
+            final String escapedPrefix = matcher.group().contains("\\:") ? prefix.replace(":", "\\:") : prefix;
+            matcher.appendReplacement(result, Matcher.quoteReplacement(escapedPrefix + this.pseudonym(matcher.group())));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Generates a stable pseudonym for the provided value, using the salted
+     * SHA-256 hash of its unescaped lower case form.
+     *
+     * @param value the value to be pseudonymised
+     * @return the pseudonym
+     */
+    private String pseudonym(String value) {
+        if (this.salt == null || this.salt.isBlank()) {
+            this.salt = UUID.randomUUID().toString();
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(this.salt.getBytes(StandardCharsets.UTF_8));
+            final byte[] hash = digest.digest(value.replace("\\", "").toLowerCase().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Creates the provided directory, if it does not exist.
+     *
+     * @param dir   the directory to be created
+     */
+    private void createDirectories(Path dir) {
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException ex) {
+            log.error("Failed to create the search capture directory {}: {}", dir, ex.getMessage());
+        }
+    }
+
+    /**
+     * Closes the capture file on shutdown.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (this.writer != null) {
+            try {
+                this.writer.close();
+            } catch (IOException ex) {
+                log.error("Failed to close the search capture file: {}", ex.getMessage());
+            } finally {
+                this.writer = null;
+            }
+        }
+    }
+
+}
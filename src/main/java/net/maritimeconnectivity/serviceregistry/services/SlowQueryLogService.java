@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.models.dto.SearchProfileDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.SlowQueryRecordDto;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Service Implementation for keeping a log of the slow instance searches.
+ * <p>
+ * Every profiled search that takes longer than the configured threshold is
+ * recorded in a structured form, including its normalised filter, the
+ * number of vertices of its geometry, the number of hits, the timings of its
+ * stages and the MRN of the caller. A configurable fraction of the normal
+ * searches is also sampled, to provide a baseline. The records are written
+ * to a dedicated logger (see SlowQueryLogConfig for its rotating file) and
+ * the most recent ones are also kept in memory, to be retrieved through the
+ * slowqueries actuator endpoint.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Service
+@Slf4j
+public class SlowQueryLogService {
+
+    /**
+     * The name of the dedicated slow query logger.
+     */
+    public static final String LOGGER_NAME = "net.maritimeconnectivity.serviceregistry.slowquery";
+
+    /**
+     * The profile attribute holding the search query string.
+     */
+    public static final String ATTRIBUTE_QUERY_STRING = "queryString";
+
+    /**
+     * The profile attribute holding the number of the search geometry vertices.
+     */
+    public static final String ATTRIBUTE_GEOMETRY_VERTICES = "geometryVertices";
+
+    /**
+     * The profile attribute holding the number of search hits.
+     */
+    public static final String ATTRIBUTE_HITS = "hits";
+
+    /**
+     * Whether the slow query log is enabled.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.slowQueryLog.enabled:true}")
+    boolean enabled;
+
+    /**
+     * The search duration in milliseconds above which a search is logged.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.slowQueryLog.thresholdMs:1000}")
+    double thresholdMs;
+
+    /**
+     * The fraction of the normal searches to be sampled, between 0 and 1.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.slowQueryLog.sampleRate:0.0}")
+    double sampleRate;
+
+    /**
+     * The number of the most recent records kept in memory.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.slowQueryLog.capacity:100}")
+    int capacity;
+
+    /**
+     * The maximum length of the logged normalised filters.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.slowQueryLog.maxFilterLength:1000}")
+    int maxFilterLength;
+
+    /**
+     * The Object Mapper.
+     */
+    @Autowired
+    ObjectMapper objectMapper;
+
+    // Service Variables
+    private static final Logger slowQueryLog = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final Pattern FIELD_VALUE_PATTERN = Pattern.compile("([\\w.]+)\\s*:\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|\\[[^\\]]*\\]|\\{[^}]*\\}|[^\\s()]+)");
+    private static final Pattern PHRASE_PATTERN = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"");
+    private final Deque<SlowQueryRecordDto> records = new ArrayDeque<>();
+
+    /**
+     * Returns whether the slow query log is enabled.
+     *
+     * @return whether the slow query log is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Records the provided search profile, if the search was slower than the
+     * configured threshold, or if it was sampled.
+     *
+     * @param endpoint  the endpoint the search was performed through
+     * @param profile   the search profile
+     * @return the logged record, if any
+     */
+    public Optional<SlowQueryRecordDto> record(String endpoint, SearchProfileDto profile) {
+        if (!this.enabled || profile == null) {
+            return Optional.empty();
+        }
+
+        // Only log the slow searches and the sampled ones
+        final boolean slow = profile.getTimeMs() >= this.thresholdMs;
+        if (!slow && (this.sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= this.sampleRate)) {
+            return Optional.empty();
+        }
+
+        // Build the record
+        final SlowQueryRecordDto record = new SlowQueryRecordDto();
+        record.setTimestamp(LocalDateTime.now());
+        record.setEndpoint(endpoint);
+        record.setFilter(this.normaliseFilter(Optional.ofNullable(profile.getAttributes().get(ATTRIBUTE_QUERY_STRING))
+                .map(Object::toString)
+                .orElse(null)));
+        record.setGeometryVertices(Optional.ofNullable(profile.getAttributes().get(ATTRIBUTE_GEOMETRY_VERTICES))
+                .filter(Number.class::isInstance)
+                .map(Number.class::cast)
+                .map(Number::intValue)
+                .orElse(0));
+        record.setHits(Optional.ofNullable(profile.getAttributes().get(ATTRIBUTE_HITS))
+                .filter(Number.class::isInstance)
+                .map(Number.class::cast)
+                .map(Number::longValue)
+                .orElse(0L));
+        record.setTimeMs(profile.getTimeMs());
+        record.setSampled(!slow);
+        record.setCallerMrn(this.getCallerMrn());
+        record.setProfile(profile);
+
+        // Keep it in memory
+        synchronized (this.records) {
+            this.records.addFirst(record);
+            while (this.records.size() > Math.max(this.capacity, 0)) {
+                this.records.removeLast();
+            }
+        }
+
+        // And write it to the log
+        try {
+            final String json = this.objectMapper.writeValueAsString(record);
+            if (slow) {
+                slowQueryLog.warn(json);
+            } else {
+                slowQueryLog.info(json);
+            }
+        } catch (JsonProcessingException ex) {
+            log.error("Failed to serialise the slow query record: {}", ex.getMessage());
+        }
+        return Optional.of(record);
+    }
+
+    /**
+     * Returns the most recent records kept in memory, from the most recent
+     * to the oldest one.
+     *
+     * @return the most recent records
+     */
+    public List<SlowQueryRecordDto> getRecords() {
+        synchronized (this.records) {
+            return new ArrayList<>(this.records);
+        }
+    }
+
+    /**
+     * Clears the records kept in memory.
+     */
+    public void clearRecords() {
+        synchronized (this.records) {
+            this.records.clear();
+        }
+    }
+
+    /**
+     * Normalises the provided search query string, by replacing all the
+     * field values and phrases with placeholders, so that searches with
+     * the same structure can be grouped together.
+     *
+     * @param queryString   the search query string
+     * @return the normalised filter
+     */
+    protected String normaliseFilter(String queryString) {
+        if (StringUtils.isBlank(queryString)) {
+            return null;
+        }
+        String filter = FIELD_VALUE_PATTERN.matcher(queryString).replaceAll("$1:?");
+        filter = PHRASE_PATTERN.matcher(filter).replaceAll("?");
+        filter = filter.replaceAll("\\s+", " ").trim();
+        return StringUtils.abbreviate(filter, Math.max(this.maxFilterLength, 4));
+    }
+
+    /**
+     * Retrieves the MRN of the currently authenticated caller, falling back
+     * to the authentication name when the MRN claim is not available.
+     *
+     * @return the MRN of the current caller
+     */
+    protected String getCallerMrn() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        String mrn = null;
+        if (authentication instanceof JwtAuthenticationToken jwtAuthenticationToken) {
+            mrn = jwtAuthenticationToken.getToken().getClaimAsString("mrn");
+        } else if (authentication.getPrincipal() instanceof OAuth2AuthenticatedPrincipal principal) {
+            mrn = Optional.ofNullable(principal.getAttribute("mrn")).map(Object::toString).orElse(null);
+        }
+        return Optional.ofNullable(mrn).orElseGet(authentication::getName);
+    }
+
+}
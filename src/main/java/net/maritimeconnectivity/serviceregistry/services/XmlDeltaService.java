@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
+import net.maritimeconnectivity.serviceregistry.repos.XmlRepo;
+import net.maritimeconnectivity.serviceregistry.utils.XmlDeltaUtil;
+import net.maritimeconnectivity.serviceregistry.utils.XmlUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Service Implementation for storing the instance XMLs as deltas.
+ * <p>
+ * Operators tend to publish a new instance version for every small change,
+ * which leaves many near-identical XMLs stored for the same MRN. When
+ * enabled, the XML of the latest version is stored in full, while the XML
+ * of the version it supersedes is replaced by a delta against it. This
+ * forms a chain of reverse deltas, from the older versions towards the
+ * latest one, which is kept short by storing an older version in full
+ * every now and then. The deltas are reconstructed on demand, and the
+ * reconstructed contents are kept in a small cache. Deltas that were
+ * already stored can always be reconstructed, even if the delta storage
+ * is disabled later on.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+@Service
+@Slf4j
+@Transactional
+public class XmlDeltaService {
+
+    /**
+     * Whether the new instance versions should store their predecessors as
+     * deltas.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.xmlDelta.enabled:false}")
+    boolean enabled;
+
+    /**
+     * The maximum number of deltas to be applied for reconstructing an xml.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.xmlDelta.maxChainLength:10}")
+    int maxChainLength;
+
+    /**
+     * The maximum number of reconstructed xml contents to be cached.
+     */
+    @Value("${net.maritimeconnectivity.serviceregistry.xmlDelta.cacheSize:100}")
+    long cacheSize;
+
+    /**
+     * The XML Repository.
+     */
+    @Autowired
+    XmlRepo xmlRepo;
+
+    // Service Variables
+    private Cache<CacheKey, String> cache;
+
+    /**
+     * Initialises the reconstructed content cache.
+     */
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(this.cacheSize)
+                .build();
+    }
+
+    /**
+     * Returns whether the delta storage is enabled.
+     *
+     * @return whether the delta storage is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Stores the content of the previous xml as a delta against the content
+     * of the latest one, as long as the delta storage is enabled, the delta
+     * chain does not get too long and the delta is actually smaller than the
+     * compressed content. Any deltas already encoded against the previous
+     * xml become part of the chain of the latest one.
+     *
+     * @param previous  the xml of the superseded version
+     * @param latest    the xml of the latest version
+     * @return whether the previous xml is now stored as a delta
+     */
+    public boolean rebase(Xml previous, Xml latest) {
+        if (!this.enabled || previous == null || latest == null
+                || previous.getId() == null || latest.getId() == null
+                || previous.getId().equals(latest.getId())
+                || previous.isDelta() || latest.isDelta()) {
+            return false;
+        }
+
+        // Keep the previous xml in full if its chain is long enough already
+        if (this.xmlRepo.countByDeltaRootId(previous.getId()) >= this.maxChainLength) {
+            log.debug("Keeping xml {} in full, its delta chain is complete", previous.getId());
+            return false;
+        }
+
+        // Only store the delta if it's worth it
+        final byte[] delta = XmlUtil.deflate(XmlDeltaUtil.encode(
+                latest.getContent().getBytes(StandardCharsets.UTF_8),
+                previous.getContent().getBytes(StandardCharsets.UTF_8)));
+        if (delta.length >= previous.getContentCompressed().length) {
+            return false;
+        }
+        this.xmlRepo.findAllByDeltaRootId(previous.getId())
+                .forEach(xml -> xml.setDeltaRootId(latest.getId()));
+        previous.setContentDelta(latest.getId(), latest.getId(), delta);
+        log.debug("Stored xml {} as a delta of {} bytes against xml {}", previous.getId(), delta.length, latest.getId());
+        return true;
+    }
+
+    /**
+     * Makes sure that no other xml depends on the current content of the xml
+     * with the provided ID, so that it can be modified or deleted. The xml
+     * stored as a delta against it, if any, is stored in full again, and
+     * becomes the root of the rest of its delta chain.
+     *
+     * @param id        the ID of the xml
+     */
+    public void detach(Long id) {
+        if (id == null) {
+            return;
+        }
+        final Optional<Xml> dependent = this.xmlRepo.findByDeltaBaseId(id);
+        if (dependent.isEmpty()) {
+            return;
+        }
+        final Xml root = dependent.get();
+        root.setContent(root.getContent());
+        for (Optional<Xml> next = this.xmlRepo.findByDeltaBaseId(root.getId()); next.isPresent(); next = this.xmlRepo.findByDeltaBaseId(next.get().getId())) {
+            next.get().setDeltaRootId(root.getId());
+        }
+        log.debug("Stored xml {} in full, since its delta base {} is changing", root.getId(), id);
+    }
+
+    /**
+     * Reconstructs the content of the provided xml from its delta and the
+     * content of its delta base, which may well be reconstructed itself.
+     * The reconstructed content is verified against the stored content hash.
+     *
+     * @param xml       the xml stored as a delta
+     * @return the reconstructed content
+     */
+    @Transactional(readOnly = true)
+    public String reconstruct(Xml xml) {
+        // The cache is not populated atomically, since the delta base may
+        // have to be reconstructed through the cache as well
+        final CacheKey key = new CacheKey(xml.getId(), xml.getContentHash());
+        final String cached = this.cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        final Xml base = this.xmlRepo.findById(xml.getDeltaBaseId())
+                .orElseThrow(() -> new IllegalStateException("Missing delta base " + xml.getDeltaBaseId() + " of xml " + xml.getId()));
+        final String content = new String(XmlDeltaUtil.apply(
+                base.getContent().getBytes(StandardCharsets.UTF_8),
+                XmlUtil.inflateBytes(xml.getContentCompressed())), StandardCharsets.UTF_8);
+        if (!Objects.equals(XmlUtil.contentHash(content), xml.getContentHash())) {
+            throw new IllegalStateException("Reconstructed content of xml " + xml.getId() + " does not match its hash");
+        }
+        this.cache.put(key, content);
+        return content;
+    }
+
+    /**
+     * The key of the reconstructed contents. The content hash is included,
+     * so that cached contents are never served for modified xmls.
+     *
+     * @param id    the ID of the xml
+     * @param hash  the content hash of the xml
+     */
+    record CacheKey(Long id, String hash) {
+    }
+
+}
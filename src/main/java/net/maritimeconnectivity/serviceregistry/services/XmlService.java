@@ -52,6 +52,12 @@ public class XmlService {
     @Autowired
     private XmlRepo xmlRepo;
 
+    /**
+     * The XML Delta Service.
+     */
+    @Autowired
+    private XmlDeltaService xmlDeltaService;
+
     /**
      *  Get all the xmls.
      *
@@ -86,6 +92,7 @@ public class XmlService {
     @Transactional
     public Xml save(Xml xml) {
         log.debug("Request to save Xml : {}", xml);
+        this.xmlDeltaService.detach(xml.getId());
         return this.xmlRepo.save(xml);
     }
 
@@ -98,6 +105,7 @@ public class XmlService {
     public void delete(Long id) throws DataNotFoundException {
         log.debug("Request to delete Xml : {}", id);
         if(this.xmlRepo.existsById(id)) {
+            this.xmlDeltaService.detach(id);
             this.xmlRepo.deleteById(id);
         } else {
             throw new DataNotFoundException("No xml found for the provided ID", null);
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
+
+import java.util.Objects;
+
+/**
+ * The Boolean Keyword Bridge Class.
+ *
+ * Boolean flags are indexed as keywords, so that they can be matched through
+ * the Lucene query syntax of the search queries (e.g. "latest:true"), just
+ * like any other structured field.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class BooleanKeywordBridge implements ValueBridge<Boolean, String> {
+
+    /**
+     * Translates the provided boolean value to its string representation.
+     *
+     * @param value the value to be translated
+     * @param context the value bridge indexed value context
+     * @return the string representation
+     */
+    @Override
+    public String toIndexedValue(Boolean value, ValueBridgeToIndexedValueContext context) {
+        return Objects.nonNull(value) ? value.toString() : null;
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * The Digesting Input Stream Class.
+ *
+ * An input stream wrapper that counts the bytes read through it and
+ * calculates their SHA-256 checksum on the fly, so that the size and the
+ * checksum of a streamed file content are available once it has been
+ * consumed, without ever holding the whole content in memory.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class DigestingInputStream extends FilterInputStream {
+
+    // Class Variables
+    private final MessageDigest digest;
+    private long count;
+    private String checksum;
+
+    /**
+     * The Digesting Input Stream Constructor.
+     *
+     * @param in    the wrapped input stream
+     */
+    public DigestingInputStream(InputStream in) {
+        super(in);
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Reads the next byte of the wrapped stream.
+     *
+     * @return the next byte, or -1 if the end of the stream is reached
+     * @throws IOException if the wrapped stream could not be read
+     */
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b != -1) {
+            this.digest.update((byte) b);
+            this.count++;
+        }
+        return b;
+    }
+
+    /**
+     * Reads up to the requested number of bytes of the wrapped stream.
+     *
+     * @param b     the buffer to read the bytes into
+     * @param off   the buffer offset
+     * @param len   the maximum number of bytes to read
+     * @return the number of bytes read, or -1 if the end of the stream is reached
+     * @throws IOException if the wrapped stream could not be read
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read > 0) {
+            this.digest.update(b, off, read);
+            this.count += read;
+        }
+        return read;
+    }
+
+    /**
+     * Skipping would leave bytes out of the checksum, so it is not
+     * supported.
+     *
+     * @param n     the number of bytes to skip
+     * @return always zero
+     */
+    @Override
+    public long skip(long n) {
+        return 0;
+    }
+
+    /**
+     * Marking is not supported, since the bytes would be digested twice.
+     *
+     * @return always false
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Gets the number of bytes read so far.
+     *
+     * @return the number of bytes read
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gets the hex-encoded SHA-256 checksum of the bytes read. This should
+     * only be called once the stream has been consumed, since the checksum
+     * is finalised on the first call.
+     *
+     * @return the checksum of the bytes read
+     */
+    public String getChecksum() {
+        if (this.checksum == null) {
+            this.checksum = HexFormat.of().formatHex(this.digest.digest());
+        }
+        return this.checksum;
+    }
+
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
+import net.maritimeconnectivity.serviceregistry.models.dto.DocDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDtDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.XmlDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.secom.SearchObjectResultWithCert;
+import org.grad.secom.core.models.enums.SECOM_DataProductType;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceStatus;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceType;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * The Domain-DTO Converters Class.
+ * <p>
+ * A set of hand-written converters between the domain objects and their DTOs,
+ * used by the DomainDtoMapper instead of the reflection-based ModelMapper
+ * for the most frequent conversions, e.g. for every search hit. The
+ * converters follow the existing ModelMapper configuration, i.e. the implicit
+ * property matching as well as the type maps of the GlobalConfig and the
+ * InstanceController, while also mapping the instance doc IDs, which the
+ * ModelMapper leaves out. Any mutable collections and arrays are copied, so
+ * that the DTOs never share state with the (possibly managed) domain objects.
+ * </p>
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class DomainDtoConverters {
+
+    // Class Variables
+    private static final Map<Class<?>, Map<Class<?>, Function<Object, ?>>> CONVERTERS = new HashMap<>();
+
+    static {
+        register(Instance.class, InstanceDto.class, DomainDtoConverters::toInstanceDto);
+        register(InstanceDto.class, Instance.class, DomainDtoConverters::toInstance);
+        register(Instance.class, InstanceDtDto.class, DomainDtoConverters::toInstanceDtDto);
+        register(Instance.class, SearchObjectResultWithCert.class, DomainDtoConverters::toSearchObjectResultWithCert);
+        register(Doc.class, DocDto.class, DomainDtoConverters::toDocDto);
+        register(DocDto.class, Doc.class, DomainDtoConverters::toDoc);
+        register(Xml.class, XmlDto.class, DomainDtoConverters::toXmlDto);
+        register(XmlDto.class, Xml.class, DomainDtoConverters::toXml);
+    }
+
+    /**
+     * Finds the converter between the provided classes. Subclasses of the
+     * supported source classes, e.g. Hibernate proxies, are also supported.
+     *
+     * @param from  the source class
+     * @param to    the target class
+     * @return the converter, or null if not available
+     */
+    public static Function<Object, ?> find(Class<?> from, Class<?> to) {
+        for (Class<?> type = from; type != null && type != Object.class; type = type.getSuperclass()) {
+            final Map<Class<?>, Function<Object, ?>> converters = CONVERTERS.get(type);
+            if (converters != null && converters.containsKey(to)) {
+                return converters.get(to);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts an instance into an instance DTO.
+     *
+     * @param instance  the instance
+     * @return the instance DTO
+     */
+    public static InstanceDto toInstanceDto(Instance instance) {
+        if (instance == null) {
+            return null;
+        }
+        final InstanceDto instanceDto = new InstanceDto();
+        instanceDto.setId(instance.getId());
+        instanceDto.setName(instance.getName());
+        instanceDto.setVersion(instance.getVersion());
+        instanceDto.setPublishedAt(instance.getPublishedAt());
+        instanceDto.setLastUpdatedAt(instance.getLastUpdatedAt());
+        instanceDto.setComment(instance.getComment());
+        instanceDto.setGeometry(instance.getGeometry());
+        instanceDto.setGeometryContentType(instance.getGeometryContentType());
+        instanceDto.setInstanceId(instance.getInstanceId());
+        instanceDto.setKeywords(copyList(instance.getKeywords()));
+        instanceDto.setStatus(instance.getStatus());
+        instanceDto.setOrganizationId(instance.getOrganizationId());
+        instanceDto.setUnlocode(copyList(instance.getUnlocode()));
+        instanceDto.setEndpointUri(instance.getEndpointUri());
+        instanceDto.setStatusEndpointUri(instance.getStatusEndpointUri());
+        instanceDto.setMmsi(instance.getMmsi());
+        instanceDto.setImo(instance.getImo());
+        instanceDto.setServiceTypes(toServiceTypeNames(instance.getServiceTypes()));
+        instanceDto.setDataProductType(copyList(instance.getDataProductType()));
+        instanceDto.setInstanceAsXml(toXmlDto(instance.getInstanceAsXml()));
+        instanceDto.setInstanceAsDoc(toDocDto(instance.getInstanceAsDoc()));
+        instanceDto.setDocIds(toDocIds(instance.getDocs()));
+        instanceDto.setImplementsServiceDesigns(copyMap(instance.getDesigns()));
+        instanceDto.setDesignsServiceSpecifications(copyMap(instance.getSpecifications()));
+        return instanceDto;
+    }
+
+    /**
+     * Converts an instance DTO into an instance. The instance documents are
+     * only populated with their IDs, which is all that is required to
+     * reference them.
+     *
+     * @param instanceDto   the instance DTO
+     * @return the instance
+     */
+    public static Instance toInstance(InstanceDto instanceDto) {
+        if (instanceDto == null) {
+            return null;
+        }
+        final Instance instance = new Instance();
+        instance.setId(instanceDto.getId());
+        instance.setName(instanceDto.getName());
+        instance.setVersion(instanceDto.getVersion());
+        instance.setPublishedAt(instanceDto.getPublishedAt());
+        instance.setLastUpdatedAt(instanceDto.getLastUpdatedAt());
+        instance.setComment(instanceDto.getComment());
+        instance.setGeometry(instanceDto.getGeometry());
+        instance.setGeometryContentType(instanceDto.getGeometryContentType());
+        instance.setInstanceId(instanceDto.getInstanceId());
+        instance.setKeywords(copyList(instanceDto.getKeywords()));
+        instance.setStatus(instanceDto.getStatus());
+        instance.setOrganizationId(instanceDto.getOrganizationId());
+        instance.setUnlocode(copyList(instanceDto.getUnlocode()));
+        instance.setEndpointUri(instanceDto.getEndpointUri());
+        instance.setStatusEndpointUri(instanceDto.getStatusEndpointUri());
+        instance.setMmsi(instanceDto.getMmsi());
+        instance.setImo(instanceDto.getImo());
+        instance.setServiceTypes(toServiceTypes(instanceDto.getServiceTypes()));
+        instance.setDataProductType(copyList(instanceDto.getDataProductType()));
+        instance.setInstanceAsXml(toXml(instanceDto.getInstanceAsXml()));
+        instance.setInstanceAsDoc(toDoc(instanceDto.getInstanceAsDoc()));
+        instance.setDocs(toDocs(instanceDto.getDocIds(), instance));
+        instance.setDesigns(copyMap(instanceDto.getImplementsServiceDesigns()));
+        instance.setSpecifications(copyMap(instanceDto.getDesignsServiceSpecifications()));
+        return instance;
+    }
+
+    /**
+     * Converts an instance into an instance datatables DTO. The instance
+     * document is only referenced through its ID and name.
+     *
+     * @param instance  the instance
+     * @return the instance datatables DTO
+     */
+    public static InstanceDtDto toInstanceDtDto(Instance instance) {
+        if (instance == null) {
+            return null;
+        }
+        final InstanceDtDto instanceDtDto = new InstanceDtDto();
+        instanceDtDto.setId(instance.getId());
+        instanceDtDto.setName(instance.getName());
+        instanceDtDto.setVersion(instance.getVersion());
+        instanceDtDto.setPublishedAt(instance.getPublishedAt());
+        instanceDtDto.setLastUpdatedAt(instance.getLastUpdatedAt());
+        instanceDtDto.setComment(instance.getComment());
+        instanceDtDto.setGeometry(instance.getGeometry());
+        instanceDtDto.setGeometryContentType(instance.getGeometryContentType());
+        instanceDtDto.setInstanceId(instance.getInstanceId());
+        instanceDtDto.setKeywords(copyList(instance.getKeywords()));
+        instanceDtDto.setStatus(instance.getStatus());
+        instanceDtDto.setOrganizationId(instance.getOrganizationId());
+        instanceDtDto.setUnlocode(copyList(instance.getUnlocode()));
+        instanceDtDto.setEndpointUri(instance.getEndpointUri());
+        instanceDtDto.setStatusEndpointUri(instance.getStatusEndpointUri());
+        instanceDtDto.setMmsi(instance.getMmsi());
+        instanceDtDto.setImo(instance.getImo());
+        instanceDtDto.setServiceTypes(toServiceTypeNames(instance.getServiceTypes()));
+        instanceDtDto.setDataProductType(copyList(instance.getDataProductType()));
+        instanceDtDto.setInstanceAsXml(toXmlDto(instance.getInstanceAsXml()));
+        Optional.ofNullable(instance.getInstanceAsDoc()).ifPresent(doc -> {
+            instanceDtDto.setInstanceAsDocId(doc.getId());
+            instanceDtDto.setInstanceAsDocName(doc.getName());
+        });
+        instanceDtDto.setImplementsServiceDesigns(copyMap(instance.getDesigns()));
+        instanceDtDto.setDesignsServiceSpecifications(copyMap(instance.getSpecifications()));
+        return instanceDtDto;
+    }
+
+    /**
+     * Converts an instance into a SECOM search object result, following the
+     * type map of the GlobalConfig, i.e. the keywords are joined, the XML is
+     * reduced to its content, the geometry is converted into GeoJSON, only
+     * the first data product type is used and the status is mapped to its
+     * name. The certificates are populated separately.
+     *
+     * @param instance  the instance
+     * @return the SECOM search object result
+     */
+    public static SearchObjectResultWithCert toSearchObjectResultWithCert(Instance instance) {
+        if (instance == null) {
+            return null;
+        }
+        final SearchObjectResultWithCert searchObjectResult = new SearchObjectResultWithCert();
+        searchObjectResult.setInstanceId(instance.getInstanceId());
+        searchObjectResult.setVersion(instance.getVersion());
+        searchObjectResult.setName(instance.getName());
+        searchObjectResult.setStatus(Optional.ofNullable(instance.getStatus())
+                .map(ServiceStatus::name)
+                .orElse(""));
+        searchObjectResult.setOrganizationId(instance.getOrganizationId());
+        searchObjectResult.setEndpointUri(instance.getEndpointUri());
+        searchObjectResult.setKeywords(Optional.ofNullable(instance.getKeywords())
+                .map(keywords -> String.join(",", keywords))
+                .orElse(null));
+        searchObjectResult.setInstanceAsXml(Optional.ofNullable(instance.getInstanceAsXml())
+                .map(Xml::getContent)
+                .orElse(null));
+        searchObjectResult.setGeometry(GeometryJSONConverter.convertFromGeometry(instance.getGeometry()));
+        searchObjectResult.setDataProductType(Optional.ofNullable(instance.getDataProductType())
+                .filter(dataProductTypes -> !dataProductTypes.isEmpty())
+                .map(dataProductTypes -> dataProductTypes.get(0))
+                .orElse(SECOM_DataProductType.OTHER));
+        return searchObjectResult;
+    }
+
+    /**
+     * Converts a doc into a doc DTO.
+     *
+     * @param doc   the doc
+     * @return the doc DTO
+     */
+    public static DocDto toDocDto(Doc doc) {
+        if (doc == null) {
+            return null;
+        }
+        final DocDto docDto = new DocDto();
+        docDto.setId(doc.getId());
+        docDto.setName(doc.getName());
+        docDto.setComment(doc.getComment());
+        docDto.setMimetype(doc.getMimetype());
+        docDto.setFilecontent(copyBytes(doc.getFilecontent()));
+        docDto.setFilecontentContentType(doc.getFilecontentContentType());
+        docDto.setInstanceId(Optional.ofNullable(doc.getInstance()).map(Instance::getId).orElse(null));
+        return docDto;
+    }
+
+    /**
+     * Converts a doc DTO into a doc. The doc instance is only populated with
+     * its ID, which is all that is required to reference it.
+     *
+     * @param docDto    the doc DTO
+     * @return the doc
+     */
+    public static Doc toDoc(DocDto docDto) {
+        if (docDto == null) {
+            return null;
+        }
+        final Doc doc = new Doc();
+        doc.setId(docDto.getId());
+        doc.setName(docDto.getName());
+        doc.setComment(docDto.getComment());
+        doc.setMimetype(docDto.getMimetype());
+        doc.setFilecontent(copyBytes(docDto.getFilecontent()));
+        doc.setFilecontentContentType(docDto.getFilecontentContentType());
+        Optional.ofNullable(docDto.getInstanceId()).ifPresent(instanceId -> {
+            final Instance instance = new Instance();
+            instance.setId(instanceId);
+            doc.setInstance(instance);
+        });
+        return doc;
+    }
+
+    /**
+     * Converts an XML into an XML DTO.
+     *
+     * @param xml   the XML
+     * @return the XML DTO
+     */
+    public static XmlDto toXmlDto(Xml xml) {
+        if (xml == null) {
+            return null;
+        }
+        final XmlDto xmlDto = new XmlDto();
+        xmlDto.setId(xml.getId());
+        xmlDto.setName(xml.getName());
+        xmlDto.setComment(xml.getComment());
+        xmlDto.setContent(xml.getContent());
+        xmlDto.setContentContentType(xml.getContentContentType());
+        return xmlDto;
+    }
+
+    /**
+     * Converts an XML DTO into an XML.
+     *
+     * @param xmlDto    the XML DTO
+     * @return the XML
+     */
+    public static Xml toXml(XmlDto xmlDto) {
+        if (xmlDto == null) {
+            return null;
+        }
+        final Xml xml = new Xml();
+        xml.setId(xmlDto.getId());
+        xml.setName(xmlDto.getName());
+        xml.setComment(xmlDto.getComment());
+        xml.setContent(xmlDto.getContent());
+        xml.setContentContentType(xmlDto.getContentContentType());
+        return xml;
+    }
+
+    /**
+     * Registers a new converter.
+     *
+     * @param from      the source class
+     * @param to        the target class
+     * @param converter the converter
+     * @param <F>       the source type
+     * @param <T>       the target type
+     */
+    @SuppressWarnings("unchecked")
+    private static <F, T> void register(Class<F> from, Class<T> to, Function<F, T> converter) {
+        CONVERTERS.computeIfAbsent(from, k -> new HashMap<>()).put(to, (Function<Object, ?>) converter);
+    }
+
+    /**
+     * Converts the service types into their names, like the ModelMapper
+     * enum to string conversion.
+     *
+     * @param serviceTypes  the service types
+     * @return the service type names
+     */
+    private static List<String> toServiceTypeNames(List<ServiceType> serviceTypes) {
+        if (serviceTypes == null) {
+            return null;
+        }
+        final List<String> names = new ArrayList<>(serviceTypes.size());
+        for (ServiceType serviceType : serviceTypes) {
+            names.add(Objects.toString(serviceType, null));
+        }
+        return names;
+    }
+
+    /**
+     * Converts the service type names into service types, like the
+     * ModelMapper string to enum conversion, i.e. unknown names are mapped
+     * to null.
+     *
+     * @param names the service type names
+     * @return the service types
+     */
+    private static List<ServiceType> toServiceTypes(List<String> names) {
+        if (names == null) {
+            return null;
+        }
+        final List<ServiceType> serviceTypes = new ArrayList<>(names.size());
+        for (String name : names) {
+            ServiceType serviceType = null;
+            try {
+                serviceType = name == null ? null : ServiceType.valueOf(name);
+            } catch (IllegalArgumentException ex) {
+                // Unknown names are mapped to null
+            }
+            serviceTypes.add(serviceType);
+        }
+        return serviceTypes;
+    }
+
+    /**
+     * Converts the instance docs into their IDs.
+     *
+     * @param docs  the instance docs
+     * @return the doc IDs
+     */
+    private static Set<Long> toDocIds(Set<Doc> docs) {
+        final Set<Long> docIds = new HashSet<>();
+        if (docs != null) {
+            for (Doc doc : docs) {
+                docIds.add(doc.getId());
+            }
+        }
+        return docIds;
+    }
+
+    /**
+     * Converts the doc IDs into instance docs, only populated with their IDs
+     * and the instance they belong to.
+     *
+     * @param docIds    the doc IDs
+     * @param instance  the instance
+     * @return the instance docs
+     */
+    private static Set<Doc> toDocs(Set<Long> docIds, Instance instance) {
+        final Set<Doc> docs = new HashSet<>();
+        if (docIds != null) {
+            for (Long docId : docIds) {
+                if (docId == null) {
+                    continue;
+                }
+                final Doc doc = new Doc();
+                doc.setId(docId);
+                doc.setInstance(instance);
+                docs.add(doc);
+            }
+        }
+        return docs;
+    }
+
+    /**
+     * Copies the provided list, if any.
+     *
+     * @param list  the list
+     * @param <E>   the element type
+     * @return the list copy
+     */
+    private static <E> List<E> copyList(List<E> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    /**
+     * Copies the provided map, if any.
+     *
+     * @param map   the map
+     * @return the map copy
+     */
+    private static Map<String, String> copyMap(Map<String, String> map) {
+        return map == null ? null : new HashMap<>(map);
+    }
+
+    /**
+     * Copies the provided byte array, if any.
+     *
+     * @param bytes the byte array
+     * @return the byte array copy
+     */
+    private static byte[] copyBytes(byte[] bytes) {
+        return bytes == null ? null : bytes.clone();
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.QueryVisitor;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The Filter Fields Query Caching Policy Class.
+ *
+ * A Lucene query caching policy that always caches the queries which only
+ * filter on a known set of hot structured fields, such as the instance status
+ * or service types. Lucene's default policy never caches single term queries,
+ * since those are cheap to evaluate on their own, but these filters appear in
+ * almost every search and are cheaper still as cached per-segment bitsets.
+ * All other queries are handled by the provided delegate policy.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class FilterFieldsQueryCachingPolicy implements QueryCachingPolicy {
+
+    // Class Variables
+    private final Set<String> filterFields;
+    private final QueryCachingPolicy delegate;
+
+    /**
+     * The Filter Fields Query Caching Policy Constructor.
+     *
+     * @param filterFields  the hot structured filter fields
+     * @param delegate      the policy for all other queries
+     */
+    public FilterFieldsQueryCachingPolicy(Set<String> filterFields, QueryCachingPolicy delegate) {
+        this.filterFields = Set.copyOf(filterFields);
+        this.delegate = delegate;
+    }
+
+    /**
+     * Records the usage of the provided query.
+     *
+     * @param query the used query
+     */
+    @Override
+    public void onUse(Query query) {
+        this.delegate.onUse(query);
+    }
+
+    /**
+     * Returns whether the provided query should be cached.
+     *
+     * @param query the query to be evaluated
+     * @return whether the query should be cached
+     * @throws IOException if the delegate policy fails
+     */
+    @Override
+    public boolean shouldCache(Query query) throws IOException {
+        return isFilterOnly(query, this.filterFields) || this.delegate.shouldCache(query);
+    }
+
+    /**
+     * Checks whether the provided query only accesses the provided filter
+     * fields.
+     *
+     * @param query         the query to be checked
+     * @param filterFields  the filter fields
+     * @return whether the query only accesses the filter fields
+     */
+    public static boolean isFilterOnly(Query query, Set<String> filterFields) {
+        final Set<String> fields = getFields(query);
+        return !fields.isEmpty() && filterFields.containsAll(fields);
+    }
+
+    /**
+     * Collects the fields accessed by the provided query.
+     *
+     * @param query the query to be visited
+     * @return the set of accessed fields
+     */
+    public static Set<String> getFields(Query query) {
+        final Set<String> fields = new HashSet<>();
+        query.visit(new QueryVisitor() {
+            @Override
+            public boolean acceptField(String field) {
+                fields.add(field);
+                return true;
+            }
+        });
+        return fields;
+    }
+
+}
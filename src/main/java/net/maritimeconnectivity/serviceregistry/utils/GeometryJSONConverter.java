@@ -16,22 +16,39 @@
 
 package net.maritimeconnectivity.serviceregistry.utils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.locationtech.jts.geom.Geometry;
-import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.geojson.GeoJsonReader;
-import org.locationtech.jts.io.geojson.GeoJsonWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.locationtech.jts.geom.*;
+import org.locationtech.jts.io.OrdinateFormat;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The type Geometry json converter.
+ * <p>
+ * The geometries are written to and read from the GeoJSON format directly
+ * through the Jackson streaming API, following the JTS GeoJSON writer and
+ * reader conventions, i.e. the SRID is encoded as a named CRS and geometries
+ * without a CRS default to WGS84. This avoids any intermediate GeoJSON
+ * strings or JSON node trees, which for large coverages would otherwise
+ * dominate the serialization cost.
+ * </p>
  *
  * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
  */
 public class GeometryJSONConverter {
 
+    // Class Variables
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final OrdinateFormat ORDINATE_FORMAT = OrdinateFormat.create(8);
+    private static final int DEFAULT_SRID = 4326;
+
     /**
      * Convert from geometry to a JSON node.
      *
@@ -43,10 +60,9 @@ public class GeometryJSONConverter {
             return null;
         }
 
-        ObjectMapper om = new ObjectMapper();
-        try {
-            JsonNode node = om.readTree(new GeoJsonWriter().write(geometry));
-            return node;
+        try (TokenBuffer buffer = new TokenBuffer(OBJECT_MAPPER, false)) {
+            writeGeometry(geometry, buffer);
+            return OBJECT_MAPPER.readTree(buffer.asParser());
         } catch (IOException e) {
             return null;
         }
@@ -59,15 +75,387 @@ public class GeometryJSONConverter {
      * @return the geometry
      */
     public static Geometry convertToGeometry(JsonNode jsonNode) {
-        if (jsonNode == null  || jsonNode.toString() == "null" || jsonNode.asText() == "null") {
+        if (jsonNode == null || jsonNode.isNull() || jsonNode.isMissingNode()) {
+            return null;
+        }
+
+        try (JsonParser jsonParser = OBJECT_MAPPER.treeAsTokens(jsonNode)) {
+            return readGeometry(jsonParser);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the provided geometry as a GeoJSON object directly into the
+     * JSON generator, including its SRID as a named CRS.
+     *
+     * @param geometry      the geometry
+     * @param jsonGenerator the JSON generator
+     * @throws IOException if the geometry could not be written
+     */
+    public static void writeGeometry(Geometry geometry, JsonGenerator jsonGenerator) throws IOException {
+        if (geometry == null) {
+            jsonGenerator.writeNull();
+            return;
+        }
+        writeGeometry(geometry, jsonGenerator, true);
+    }
+
+    /**
+     * Reads a GeoJSON object directly from the JSON parser. The parser should
+     * be positioned on the start of the object, or just before it. The whole
+     * object is always consumed, and if it does not describe a supported
+     * geometry, null is returned.
+     *
+     * @param jsonParser    the JSON parser
+     * @return the geometry
+     * @throws IOException if the JSON content could not be read
+     */
+    public static Geometry readGeometry(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+        if (token == null) {
+            token = jsonParser.nextToken();
+        }
+        if (token != JsonToken.START_OBJECT) {
+            jsonParser.skipChildren();
             return null;
         }
 
+        final GeoJsonObject geoJsonObject = readObject(jsonParser);
         try {
-            return new GeoJsonReader().read(jsonNode.toString());
-        } catch (ParseException e) {
+            final int srid = geoJsonObject.crs() != null ? parseSrid(geoJsonObject.crs()) : DEFAULT_SRID;
+            return createGeometry(geoJsonObject, new GeometryFactory(new PrecisionModel(), srid));
+        } catch (ClassCastException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the provided geometry as a GeoJSON object.
+     *
+     * @param geometry      the geometry
+     * @param jsonGenerator the JSON generator
+     * @param encodeCrs     whether to encode the geometry SRID
+     * @throws IOException if the geometry could not be written
+     */
+    private static void writeGeometry(Geometry geometry, JsonGenerator jsonGenerator, boolean encodeCrs) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeStringField("type", geometry instanceof LinearRing ? Geometry.TYPENAME_LINESTRING : geometry.getGeometryType());
+        if (geometry instanceof GeometryCollection && !(geometry instanceof MultiPoint || geometry instanceof MultiLineString || geometry instanceof MultiPolygon)) {
+            jsonGenerator.writeArrayFieldStart("geometries");
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                writeGeometry(geometry.getGeometryN(i), jsonGenerator, false);
+            }
+            jsonGenerator.writeEndArray();
+        } else {
+            jsonGenerator.writeFieldName("coordinates");
+            writeCoordinates(geometry, jsonGenerator);
+        }
+        if (encodeCrs) {
+            jsonGenerator.writeObjectFieldStart("crs");
+            jsonGenerator.writeStringField("type", "name");
+            jsonGenerator.writeObjectFieldStart("properties");
+            jsonGenerator.writeStringField("name", "EPSG:" + geometry.getSRID());
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeEndObject();
+        }
+        jsonGenerator.writeEndObject();
+    }
+
+    /**
+     * Writes the coordinates array of the provided non-collection geometry.
+     *
+     * @param geometry      the geometry
+     * @param jsonGenerator the JSON generator
+     * @throws IOException if the coordinates could not be written
+     */
+    private static void writeCoordinates(Geometry geometry, JsonGenerator jsonGenerator) throws IOException {
+        if (geometry instanceof Point point) {
+            if (point.isEmpty()) {
+                jsonGenerator.writeStartArray();
+                jsonGenerator.writeEndArray();
+            } else {
+                writePosition(point.getCoordinateSequence(), 0, jsonGenerator);
+            }
+        } else if (geometry instanceof LineString lineString) {
+            writePositions(lineString.getCoordinateSequence(), jsonGenerator);
+        } else if (geometry instanceof Polygon polygon) {
+            jsonGenerator.writeStartArray();
+            if (!polygon.isEmpty()) {
+                writePositions(polygon.getExteriorRing().getCoordinateSequence(), jsonGenerator);
+                for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                    writePositions(polygon.getInteriorRingN(i).getCoordinateSequence(), jsonGenerator);
+                }
+            }
+            jsonGenerator.writeEndArray();
+        } else {
+            jsonGenerator.writeStartArray();
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                writeCoordinates(geometry.getGeometryN(i), jsonGenerator);
+            }
+            jsonGenerator.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes all the positions of the provided coordinate sequence as an
+     * array.
+     *
+     * @param sequence      the coordinate sequence
+     * @param jsonGenerator the JSON generator
+     * @throws IOException if the positions could not be written
+     */
+    private static void writePositions(CoordinateSequence sequence, JsonGenerator jsonGenerator) throws IOException {
+        jsonGenerator.writeStartArray();
+        for (int i = 0; i < sequence.size(); i++) {
+            writePosition(sequence, i, jsonGenerator);
+        }
+        jsonGenerator.writeEndArray();
+    }
+
+    /**
+     * Writes a single position of the provided coordinate sequence, where
+     * the Z ordinate is only included if available.
+     *
+     * @param sequence      the coordinate sequence
+     * @param index         the index of the position
+     * @param jsonGenerator the JSON generator
+     * @throws IOException if the position could not be written
+     */
+    private static void writePosition(CoordinateSequence sequence, int index, JsonGenerator jsonGenerator) throws IOException {
+        jsonGenerator.writeStartArray();
+        jsonGenerator.writeNumber(ORDINATE_FORMAT.format(sequence.getX(index)));
+        jsonGenerator.writeNumber(ORDINATE_FORMAT.format(sequence.getY(index)));
+        if (sequence.getDimension() > 2 && !Double.isNaN(sequence.getZ(index))) {
+            jsonGenerator.writeNumber(ORDINATE_FORMAT.format(sequence.getZ(index)));
+        }
+        jsonGenerator.writeEndArray();
+    }
+
+    /**
+     * Reads a GeoJSON object, with the parser positioned on its start. The
+     * object members can appear in any order, so the coordinates are only
+     * collected here, and the geometry is created once the whole object,
+     * including its CRS, has been read.
+     *
+     * @param jsonParser    the JSON parser
+     * @return the GeoJSON object
+     * @throws IOException if the JSON content could not be read
+     */
+    private static GeoJsonObject readObject(JsonParser jsonParser) throws IOException {
+        String type = null;
+        Object coordinates = null;
+        List<GeoJsonObject> geometries = null;
+        String crs = null;
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = jsonParser.currentName();
+            final JsonToken token = jsonParser.nextToken();
+            if ("type".equals(field) && token == JsonToken.VALUE_STRING) {
+                type = jsonParser.getText();
+            } else if ("coordinates".equals(field) && token == JsonToken.START_ARRAY) {
+                coordinates = readCoordinates(jsonParser);
+            } else if ("geometries".equals(field) && token == JsonToken.START_ARRAY) {
+                geometries = new ArrayList<>();
+                while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                    if (jsonParser.currentToken() == JsonToken.START_OBJECT) {
+                        geometries.add(readObject(jsonParser));
+                    } else {
+                        jsonParser.skipChildren();
+                    }
+                }
+            } else if ("crs".equals(field) && token == JsonToken.START_OBJECT) {
+                crs = readCrs(jsonParser);
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        return new GeoJsonObject(type, coordinates, geometries, crs);
+    }
+
+    /**
+     * Reads a (possibly nested) coordinates array, with the parser positioned
+     * on its start. Positions are returned as coordinates, and any other
+     * arrays as lists.
+     *
+     * @param jsonParser    the JSON parser
+     * @return the coordinate or the list of nested coordinates
+     * @throws IOException if the JSON content could not be read
+     */
+    private static Object readCoordinates(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.nextToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            final double[] ordinates = new double[3];
+            int count = 0;
+            for (; token != JsonToken.END_ARRAY; token = jsonParser.nextToken()) {
+                if (count < ordinates.length) {
+                    ordinates[count++] = jsonParser.getDoubleValue();
+                }
+            }
+            if (count < 2) {
+                return List.of();
+            }
+            return count > 2 ?
+                    new Coordinate(ordinates[0], ordinates[1], ordinates[2]) :
+                    new Coordinate(ordinates[0], ordinates[1]);
+        }
+
+        final List<Object> list = new ArrayList<>();
+        for (; token != JsonToken.END_ARRAY; token = jsonParser.nextToken()) {
+            if (token == JsonToken.START_ARRAY) {
+                list.add(readCoordinates(jsonParser));
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Reads the name of a named GeoJSON CRS, with the parser positioned on
+     * its start.
+     *
+     * @param jsonParser    the JSON parser
+     * @return the CRS name, if available
+     * @throws IOException if the JSON content could not be read
+     */
+    private static String readCrs(JsonParser jsonParser) throws IOException {
+        String crs = "";
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = jsonParser.currentName();
+            final JsonToken token = jsonParser.nextToken();
+            if ("properties".equals(field) && token == JsonToken.START_OBJECT) {
+                while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String property = jsonParser.currentName();
+                    if (jsonParser.nextToken() == JsonToken.VALUE_STRING && "name".equals(property)) {
+                        crs = jsonParser.getText();
+                    } else {
+                        jsonParser.skipChildren();
+                    }
+                }
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        return crs;
+    }
+
+    /**
+     * Parses the SRID out of a named CRS, e.g. "EPSG:4326".
+     *
+     * @param crs   the CRS name
+     * @return the SRID
+     * @throws IllegalArgumentException if the CRS name is not valid
+     */
+    private static int parseSrid(String crs) {
+        final String[] name = crs.split(":");
+        if (name.length < 2) {
+            throw new IllegalArgumentException("Invalid GeoJSON CRS " + crs);
+        }
+        return Integer.parseInt(name[name.length - 1]);
+    }
+
+    /**
+     * Creates the geometry described by the provided GeoJSON object.
+     *
+     * @param geoJsonObject     the GeoJSON object
+     * @param geometryFactory   the geometry factory
+     * @return the geometry, or null if the type is not supported
+     */
+    private static Geometry createGeometry(GeoJsonObject geoJsonObject, GeometryFactory geometryFactory) {
+        if (geoJsonObject.type() == null) {
             return null;
         }
+        final Object coordinates = geoJsonObject.coordinates();
+        switch (geoJsonObject.type()) {
+            case Geometry.TYPENAME_POINT:
+                return coordinates instanceof Coordinate coordinate ?
+                        geometryFactory.createPoint(coordinate) :
+                        geometryFactory.createPoint();
+            case Geometry.TYPENAME_LINESTRING:
+                return geometryFactory.createLineString(toCoordinates(coordinates));
+            case Geometry.TYPENAME_POLYGON:
+                return createPolygon(coordinates, geometryFactory);
+            case Geometry.TYPENAME_MULTIPOINT:
+                return geometryFactory.createMultiPointFromCoords(toCoordinates(coordinates));
+            case Geometry.TYPENAME_MULTILINESTRING:
+                return geometryFactory.createMultiLineString(toList(coordinates).stream()
+                        .map(line -> geometryFactory.createLineString(toCoordinates(line)))
+                        .toArray(LineString[]::new));
+            case Geometry.TYPENAME_MULTIPOLYGON:
+                return geometryFactory.createMultiPolygon(toList(coordinates).stream()
+                        .map(polygon -> createPolygon(polygon, geometryFactory))
+                        .toArray(Polygon[]::new));
+            case Geometry.TYPENAME_GEOMETRYCOLLECTION:
+                final List<Geometry> geometries = new ArrayList<>();
+                for (GeoJsonObject geometry : geoJsonObject.geometries() != null ? geoJsonObject.geometries() : List.<GeoJsonObject>of()) {
+                    final Geometry created = createGeometry(geometry, geometryFactory);
+                    if (created == null) {
+                        return null;
+                    }
+                    geometries.add(created);
+                }
+                return geometryFactory.createGeometryCollection(geometries.toArray(Geometry[]::new));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Creates a polygon from the provided list of rings, where the first one
+     * is the shell and the rest are the holes.
+     *
+     * @param coordinates       the polygon rings
+     * @param geometryFactory   the geometry factory
+     * @return the polygon
+     */
+    private static Polygon createPolygon(Object coordinates, GeometryFactory geometryFactory) {
+        final List<?> rings = toList(coordinates);
+        if (rings.isEmpty()) {
+            return geometryFactory.createPolygon();
+        }
+        final LinearRing[] holes = new LinearRing[rings.size() - 1];
+        for (int i = 1; i < rings.size(); i++) {
+            holes[i - 1] = geometryFactory.createLinearRing(toCoordinates(rings.get(i)));
+        }
+        return geometryFactory.createPolygon(geometryFactory.createLinearRing(toCoordinates(rings.get(0))), holes);
+    }
+
+    /**
+     * Casts the provided coordinates into a list.
+     *
+     * @param coordinates   the coordinates
+     * @return the coordinates list
+     */
+    private static List<?> toList(Object coordinates) {
+        if (coordinates == null) {
+            return List.of();
+        }
+        return (List<?>) coordinates;
+    }
+
+    /**
+     * Converts the provided list of positions into a coordinates array.
+     *
+     * @param coordinates   the list of positions
+     * @return the coordinates array
+     */
+    private static Coordinate[] toCoordinates(Object coordinates) {
+        return toList(coordinates).stream()
+                .map(Coordinate.class::cast)
+                .toArray(Coordinate[]::new);
+    }
+
+    /**
+     * A GeoJSON object as read from the parser, before the geometry is
+     * created.
+     *
+     * @param type          the GeoJSON type
+     * @param coordinates   the coordinates of simple geometries
+     * @param geometries    the members of geometry collections
+     * @param crs           the name of the CRS, if any
+     */
+    private record GeoJsonObject(String type, Object coordinates, List<GeoJsonObject> geometries, String crs) {
     }
 
 }
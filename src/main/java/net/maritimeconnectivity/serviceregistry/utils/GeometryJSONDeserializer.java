@@ -17,16 +17,17 @@
 package net.maritimeconnectivity.serviceregistry.utils;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.locationtech.jts.geom.Geometry;
 
 import java.io.IOException;
 
 /**
  * The type Geometry json deserializer.
+ * <p>
+ * The geometry is read directly from the JSON parser as GeoJSON.
+ * </p>
  *
  * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
  */
@@ -35,8 +36,7 @@ public class GeometryJSONDeserializer extends JsonDeserializer<Geometry> {
     @Override
     public Geometry deserialize(JsonParser jsonParser,
                                 DeserializationContext deserializationContext) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        return GeometryJSONConverter.convertToGeometry(mapper.readTree(jsonParser));
+        return GeometryJSONConverter.readGeometry(jsonParser);
     }
 
 }
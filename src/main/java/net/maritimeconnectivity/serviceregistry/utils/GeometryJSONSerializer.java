@@ -25,6 +25,9 @@ import java.io.IOException;
 
 /**
  * The type Geometry json serializer.
+ * <p>
+ * The geometry is written directly into the JSON generator as GeoJSON.
+ * </p>
  */
 public class GeometryJSONSerializer extends JsonSerializer<Geometry> {
 
@@ -32,7 +35,7 @@ public class GeometryJSONSerializer extends JsonSerializer<Geometry> {
     public void serialize(Geometry geometry,
                           JsonGenerator jsonGenerator,
                           SerializerProvider serializerProvider) throws IOException {
-        jsonGenerator.writeObject(GeometryJSONConverter.convertFromGeometry(geometry));
+        GeometryJSONConverter.writeGeometry(geometry, jsonGenerator);
     }
 
 }
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * The Lucene Snapshot Utils Class.
+ *
+ * A set of utilities for packaging the Lucene index directories into
+ * compressed snapshot archives and extracting them back again.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class LuceneSnapshotUtils {
+
+    /**
+     * The name of the manifest entry included in every snapshot archive.
+     */
+    public static final String MANIFEST_ENTRY = "snapshot.properties";
+
+    /**
+     * The prefix of the snapshot archive file names.
+     */
+    public static final String SNAPSHOT_PREFIX = "lucene-snapshot-";
+
+    /**
+     * The suffix of the snapshot archive file names.
+     */
+    public static final String SNAPSHOT_SUFFIX = ".zip";
+
+    /**
+     * The number of attempts to pin down a commit while the index is being
+     * written to.
+     */
+    private static final int COMMIT_ATTEMPTS = 3;
+
+    /**
+     * Writes the files of the latest commit of the provided Lucene index
+     * directory into the snapshot archive. All the commit files are opened
+     * before any of them is copied, so that a concurrent commit that removes
+     * them will not affect the copy, since the open files remain readable
+     * until they are closed.
+     *
+     * @param zip       the snapshot archive output stream
+     * @param indexDir  the Lucene index directory
+     * @param indexName the name of the index inside the archive
+     * @return the generation of the commit that was written
+     * @throws IOException if the index files could not be read
+     */
+    public static long writeIndex(ZipOutputStream zip, Path indexDir, String indexName) throws IOException {
+        try (Directory directory = FSDirectory.open(indexDir)) {
+            for (int attempt = 1; ; attempt++) {
+                final SegmentInfos segmentInfos = SegmentInfos.readLatestCommit(directory);
+                final Map<String, IndexInput> inputs = new TreeMap<>();
+                try {
+                    for (String file : segmentInfos.files(true)) {
+                        inputs.put(file, directory.openInput(file, IOContext.READONCE));
+                    }
+                } catch (NoSuchFileException | FileNotFoundException ex) {
+                    // A new commit removed the files in the meantime, try again
+                    closeAll(inputs.values());
+                    if (attempt < COMMIT_ATTEMPTS) {
+                        continue;
+                    }
+                    throw ex;
+                }
+
+                try {
+                    final byte[] buffer = new byte[64 * 1024];
+                    for (Map.Entry<String, IndexInput> entry : inputs.entrySet()) {
+                        zip.putNextEntry(new ZipEntry(indexName + "/" + entry.getKey()));
+                        final IndexInput input = entry.getValue();
+                        long remaining = input.length();
+                        while (remaining > 0) {
+                            final int chunk = (int) Math.min(buffer.length, remaining);
+                            input.readBytes(buffer, 0, chunk);
+                            zip.write(buffer, 0, chunk);
+                            remaining -= chunk;
+                        }
+                        zip.closeEntry();
+                    }
+                } finally {
+                    closeAll(inputs.values());
+                }
+                return segmentInfos.getGeneration();
+            }
+        }
+    }
+
+    /**
+     * Writes the provided manifest into the snapshot archive.
+     *
+     * @param zip       the snapshot archive output stream
+     * @param manifest  the snapshot manifest
+     * @throws IOException if the manifest could not be written
+     */
+    public static void writeManifest(ZipOutputStream zip, Properties manifest) throws IOException {
+        zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+        manifest.store(zip, "Lucene Index Snapshot");
+        zip.closeEntry();
+    }
+
+    /**
+     * Extracts the provided snapshot archive into the target directory and
+     * returns its manifest. Entries that would end up outside the target
+     * directory are rejected.
+     *
+     * @param archive   the snapshot archive
+     * @param targetDir the directory to extract the archive into
+     * @return the snapshot manifest
+     * @throws IOException if the archive could not be extracted
+     */
+    public static Properties extract(Path archive, Path targetDir) throws IOException {
+        final Properties manifest = new Properties();
+        final Path root = targetDir.toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        try (InputStream in = Files.newInputStream(archive);
+             ZipInputStream zip = new ZipInputStream(in)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                if (MANIFEST_ENTRY.equals(entry.getName())) {
+                    manifest.load(zip);
+                    continue;
+                }
+                final Path target = root.resolve(entry.getName()).normalize();
+                if (!target.startsWith(root)) {
+                    throw new IOException("Invalid snapshot archive entry " + entry.getName());
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                    continue;
+                }
+                Files.createDirectories(target.getParent());
+                try (OutputStream out = Files.newOutputStream(target)) {
+                    zip.transferTo(out);
+                }
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Lists the snapshot archives available in the provided directory, from
+     * the most recent to the oldest one.
+     *
+     * @param snapshotDir   the snapshot directory
+     * @return the list of snapshot archives
+     * @throws IOException if the directory could not be read
+     */
+    public static List<Path> listSnapshots(Path snapshotDir) throws IOException {
+        if (!Files.isDirectory(snapshotDir)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(snapshotDir)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(p -> p.getFileName().toString().startsWith(SNAPSHOT_PREFIX))
+                    .filter(p -> p.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                    .sorted(Comparator.comparing((Path p) -> p.getFileName().toString()).reversed())
+                    .toList();
+        }
+    }
+
+    /**
+     * Checks whether the provided directory contains a Lucene index commit.
+     *
+     * @param indexDir  the Lucene index directory
+     * @return whether the directory contains a Lucene index
+     */
+    public static boolean containsIndex(Path indexDir) {
+        if (!Files.isDirectory(indexDir)) {
+            return false;
+        }
+        try (Stream<Path> files = Files.list(indexDir)) {
+            return files.anyMatch(p -> p.getFileName().toString().startsWith("segments_"));
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Recursively deletes the provided directory, if it exists.
+     *
+     * @param dir   the directory to be deleted
+     * @throws IOException if the directory could not be deleted
+     */
+    public static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Closes all the provided index inputs, ignoring any errors.
+     *
+     * @param inputs    the index inputs to be closed
+     */
+    private static void closeAll(Collection<IndexInput> inputs) {
+        for (IndexInput input : inputs) {
+            try {
+                input.close();
+            } catch (IOException ex) {
+                // Nothing to do here
+            }
+        }
+    }
+
+}
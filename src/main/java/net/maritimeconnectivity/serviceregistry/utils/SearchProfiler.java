@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import net.maritimeconnectivity.serviceregistry.models.dto.SearchProfileDto;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The Search Profiler Class.
+ *
+ * A lightweight profiler that records a tree of timed stages for the search
+ * operations performed on the current thread. Profiling is only active
+ * between the start() and stop() calls, so the instrumented code only pays
+ * the cost of a thread-local lookup when it is not being profiled. Detailed
+ * profiling also allows the instrumented code to collect more expensive
+ * diagnostics, such as the Lucene explanations of the hits.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class SearchProfiler {
+
+    // Class Variables
+    private static final ThreadLocal<Deque<Stage>> stages = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> detailed = new ThreadLocal<>();
+
+    /**
+     * Starts the detailed profiling of the operations of the current thread.
+     *
+     * @param name  the name of the root stage
+     */
+    public static void start(String name) {
+        start(name, true);
+    }
+
+    /**
+     * Starts profiling the operations of the current thread.
+     *
+     * @param name      the name of the root stage
+     * @param details   whether the detailed diagnostics should be collected
+     */
+    public static void start(String name, boolean details) {
+        final Deque<Stage> deque = new ArrayDeque<>();
+        deque.push(new Stage(new SearchProfileDto(name)));
+        stages.set(deque);
+        detailed.set(details);
+    }
+
+    /**
+     * Returns whether the operations of the current thread are profiled.
+     *
+     * @return whether profiling is active
+     */
+    public static boolean isActive() {
+        return stages.get() != null;
+    }
+
+    /**
+     * Returns whether the operations of the current thread are profiled in
+     * detail.
+     *
+     * @return whether detailed profiling is active
+     */
+    public static boolean isDetailed() {
+        return isActive() && Boolean.TRUE.equals(detailed.get());
+    }
+
+    /**
+     * Stops profiling the operations of the current thread and returns the
+     * recorded profile.
+     *
+     * @return the recorded profile, or null if profiling was not active
+     */
+    public static SearchProfileDto stop() {
+        final Deque<Stage> deque = stages.get();
+        if (deque == null) {
+            return null;
+        }
+        stages.remove();
+        detailed.remove();
+        return deque.getLast().finish();
+    }
+
+    /**
+     * Executes the provided operation as a new profiled stage.
+     *
+     * @param name      the name of the stage
+     * @param operation the operation to be executed
+     * @param <T>       the return type of the operation
+     * @return the result of the operation
+     */
+    public static <T> T stage(String name, Supplier<T> operation) {
+        final Deque<Stage> deque = stages.get();
+        if (deque == null) {
+            return operation.get();
+        }
+        final SearchProfileDto profile = new SearchProfileDto(name);
+        deque.peek().profile.getChildren().add(profile);
+        deque.push(new Stage(profile));
+        try {
+            return operation.get();
+        } finally {
+            deque.pop().finish();
+        }
+    }
+
+    /**
+     * Executes the provided operation as a new profiled stage.
+     *
+     * @param name      the name of the stage
+     * @param operation the operation to be executed
+     */
+    public static void stage(String name, Runnable operation) {
+        stage(name, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Adds an attribute to the currently profiled stage.
+     *
+     * @param key   the attribute key
+     * @param value the attribute value
+     */
+    public static void attribute(String key, Object value) {
+        Optional.ofNullable(stages.get())
+                .map(Deque::peek)
+                .ifPresent(stage -> stage.profile.getAttributes().put(key, value));
+    }
+
+    /**
+     * Checks whether the currently authenticated user has been granted the
+     * provided role, e.g. for allowing the search profiling.
+     *
+     * @param role  the role to be checked, without the ROLE_ prefix
+     * @return whether the current user has been granted the role
+     */
+    public static boolean hasRole(String role) {
+        return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+                .map(Authentication::getAuthorities)
+                .stream()
+                .flatMap(Collection::stream)
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(("ROLE_" + role.toUpperCase())::equals);
+    }
+
+    /**
+     * A stage being profiled, alongside its starting time.
+     */
+    private static class Stage {
+
+        // Class Variables
+        private final SearchProfileDto profile;
+        private final long startNanos;
+
+        /**
+         * The Stage Constructor.
+         *
+         * @param profile   the profile of the stage
+         */
+        Stage(SearchProfileDto profile) {
+            this.profile = profile;
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Records the duration of the stage.
+         *
+         * @return the profile of the stage
+         */
+        SearchProfileDto finish() {
+            this.profile.setTimeMs((System.nanoTime() - this.startNanos) / 1_000_000.0);
+            return this.profile;
+        }
+
+    }
+
+}
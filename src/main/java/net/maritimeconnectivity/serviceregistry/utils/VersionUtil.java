@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The Version Util Class.
+ *
+ * A set of utilities for handling the instance version identifiers. These
+ * are parsed as Maven artifact versions, which can be normalised into keys
+ * that sort lexicographically in the same order as the versions themselves,
+ * so that they can be sorted by the database and the search index alike.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class VersionUtil {
+
+    /**
+     * The maximum length of the generated sort keys.
+     */
+    public static final int SORT_KEY_LENGTH = 255;
+
+    /**
+     * The suffix of the versions without a qualifier, which sorts after any
+     * qualifier, since a release follows its qualified pre-releases.
+     */
+    private static final String RELEASE_SUFFIX = "~";
+
+    /**
+     * Generates the sort key of the provided version. The numeric components
+     * are zero-padded so that they compare numerically, while the qualifier,
+     * if any, is appended in lower case.
+     *
+     * @param version the version
+     * @return the version sort key
+     */
+    public static String toSortKey(String version) {
+        if (version == null) {
+            return null;
+        }
+        final DefaultArtifactVersion artifactVersion = new DefaultArtifactVersion(version.trim());
+        final String key = String.format("%010d.%010d.%010d.%010d",
+                artifactVersion.getMajorVersion(),
+                artifactVersion.getMinorVersion(),
+                artifactVersion.getIncrementalVersion(),
+                artifactVersion.getBuildNumber())
+                + Optional.ofNullable(artifactVersion.getQualifier())
+                    .map(qualifier -> "-" + qualifier.toLowerCase(Locale.ROOT))
+                    .orElse(RELEASE_SUFFIX);
+        return key.length() > SORT_KEY_LENGTH ? key.substring(0, SORT_KEY_LENGTH) : key;
+    }
+
+}
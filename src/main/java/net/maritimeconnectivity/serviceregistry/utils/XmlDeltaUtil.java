@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The XML Delta Utils Class.
+ *
+ * A set of utilities for encoding a document as a binary delta against a
+ * similar source document, and for reconstructing it again. The delta is a
+ * sequence of instructions that either copy a range of the source document
+ * or insert literal bytes, where the matching ranges are located using a
+ * rolling hash over fixed size blocks of the source. Successive versions of
+ * the same instance XML usually differ in just a few lines, so their deltas
+ * end up being a small fraction of their size.
+ *
+ * @author Nikolaos Vastardis (email: Nikolaos.Vastardis@gla-rad.org)
+ */
+public class XmlDeltaUtil {
+
+    /**
+     * The size of the source blocks that are indexed for matching.
+     */
+    static final int BLOCK_SIZE = 16;
+
+    /**
+     * The delta instruction that copies a range of the source.
+     */
+    static final int OP_COPY = 1;
+
+    /**
+     * The delta instruction that inserts literal bytes.
+     */
+    static final int OP_INSERT = 2;
+
+    // Class Variables
+    private static final int HASH_BASE = 257;
+    private static final int HASH_BASE_POW = pow(HASH_BASE, BLOCK_SIZE);
+
+    /**
+     * Encodes the target content as a delta against the source content.
+     *
+     * @param source the source content
+     * @param target the target content
+     * @return the delta that reconstructs the target from the source
+     */
+    public static byte[] encode(byte[] source, byte[] target) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, target.length);
+        if (source.length < BLOCK_SIZE || target.length < BLOCK_SIZE) {
+            writeInsert(out, target, 0, target.length);
+            return out.toByteArray();
+        }
+
+        // Index the source blocks, keeping the first occurrence of each hash
+        final Map<Integer, Integer> index = new HashMap<>();
+        for (int i = 0; i + BLOCK_SIZE <= source.length; i += BLOCK_SIZE) {
+            index.putIfAbsent(hash(source, i), i);
+        }
+
+        // Scan the target with a rolling hash looking for matching blocks
+        int literalStart = 0;
+        int i = 0;
+        int h = hash(target, 0);
+        while (i + BLOCK_SIZE <= target.length) {
+            final Integer candidate = index.get(h);
+            if (candidate != null && Arrays.equals(source, candidate, candidate + BLOCK_SIZE, target, i, i + BLOCK_SIZE)) {
+                // Extend the match in both directions as far as possible
+                int sourceStart = candidate;
+                int targetStart = i;
+                while (sourceStart > 0 && targetStart > literalStart && source[sourceStart - 1] == target[targetStart - 1]) {
+                    sourceStart--;
+                    targetStart--;
+                }
+                int sourceEnd = candidate + BLOCK_SIZE;
+                int targetEnd = i + BLOCK_SIZE;
+                while (sourceEnd < source.length && targetEnd < target.length && source[sourceEnd] == target[targetEnd]) {
+                    sourceEnd++;
+                    targetEnd++;
+                }
+                writeInsert(out, target, literalStart, targetStart);
+                writeCopy(out, sourceStart, targetEnd - targetStart);
+                literalStart = targetEnd;
+                i = targetEnd;
+                if (i + BLOCK_SIZE <= target.length) {
+                    h = hash(target, i);
+                }
+                continue;
+            }
+            if (i + BLOCK_SIZE < target.length) {
+                h = h * HASH_BASE - (target[i] & 0xff) * HASH_BASE_POW + (target[i + BLOCK_SIZE] & 0xff);
+            }
+            i++;
+        }
+        writeInsert(out, target, literalStart, target.length);
+        return out.toByteArray();
+    }
+
+    /**
+     * Reconstructs the target content by applying the delta to the source
+     * content it was encoded against.
+     *
+     * @param source the source content
+     * @param delta  the delta
+     * @return the reconstructed target content
+     * @throws IllegalArgumentException if the delta is invalid for the source
+     */
+    public static byte[] apply(byte[] source, byte[] delta) {
+        final int[] pos = {0};
+        final byte[] target = new byte[readVarint(delta, pos)];
+        int length = 0;
+        while (pos[0] < delta.length) {
+            final int op = delta[pos[0]++];
+            if (op == OP_COPY) {
+                final int offset = readVarint(delta, pos);
+                final int size = readVarint(delta, pos);
+                if (offset + size > source.length || length + size > target.length) {
+                    throw new IllegalArgumentException("Invalid delta copy instruction");
+                }
+                System.arraycopy(source, offset, target, length, size);
+                length += size;
+            } else if (op == OP_INSERT) {
+                final int size = readVarint(delta, pos);
+                if (pos[0] + size > delta.length || length + size > target.length) {
+                    throw new IllegalArgumentException("Invalid delta insert instruction");
+                }
+                System.arraycopy(delta, pos[0], target, length, size);
+                pos[0] += size;
+                length += size;
+            } else {
+                throw new IllegalArgumentException("Invalid delta instruction " + op);
+            }
+        }
+        if (length != target.length) {
+            throw new IllegalArgumentException("Incomplete delta");
+        }
+        return target;
+    }
+
+    /**
+     * Computes the polynomial hash of the block starting at the provided
+     * offset.
+     *
+     * @param data   the content
+     * @param offset the offset of the block
+     * @return the block hash
+     */
+    private static int hash(byte[] data, int offset) {
+        int h = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            h = h * HASH_BASE + (data[i] & 0xff);
+        }
+        return h;
+    }
+
+    /**
+     * Raises the provided base to the provided exponent, wrapping around on
+     * overflow just like the rolling hash does.
+     *
+     * @param base     the base
+     * @param exponent the exponent
+     * @return the result
+     */
+    private static int pow(int base, int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+
+    /**
+     * Writes a copy instruction into the delta.
+     *
+     * @param out    the delta output
+     * @param offset the offset of the copied source range
+     * @param size   the size of the copied source range
+     */
+    private static void writeCopy(ByteArrayOutputStream out, int offset, int size) {
+        out.write(OP_COPY);
+        writeVarint(out, offset);
+        writeVarint(out, size);
+    }
+
+    /**
+     * Writes an insert instruction into the delta, unless the inserted range
+     * is empty.
+     *
+     * @param out   the delta output
+     * @param data  the target content
+     * @param start the start of the inserted range
+     * @param end   the end of the inserted range
+     */
+    private static void writeInsert(ByteArrayOutputStream out, byte[] data, int start, int end) {
+        if (end <= start) {
+            return;
+        }
+        out.write(OP_INSERT);
+        writeVarint(out, end - start);
+        out.write(data, start, end - start);
+    }
+
+    /**
+     * Writes a non-negative integer as a variable length quantity.
+     *
+     * @param out   the delta output
+     * @param value the value to be written
+     */
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7f) != 0) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * Reads a variable length quantity from the delta.
+     *
+     * @param data  the delta
+     * @param pos   the current position in the delta, which is advanced
+     * @return the value read
+     */
+    private static int readVarint(byte[] data, int[] pos) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (pos[0] >= data.length) {
+                throw new IllegalArgumentException("Truncated delta");
+            }
+            final int b = data[pos[0]++];
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid delta length");
+    }
+
+}
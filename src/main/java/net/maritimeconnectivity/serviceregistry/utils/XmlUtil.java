@@ -24,10 +24,23 @@ import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Utility class for XML manipulation.
@@ -36,6 +49,11 @@ import java.util.stream.Collectors;
  */
 public class XmlUtil {
 
+    /**
+     * The whitespace between XML tags, which is ignored when hashing.
+     */
+    private static final Pattern INTER_TAG_WHITESPACE = Pattern.compile(">\\s+<");
+
     /**
      * Validate xml against a schema on classpath
      *
@@ -57,4 +75,87 @@ public class XmlUtil {
         validator.validate(xmlSource);
         return true;
     }
+
+    /**
+     * Canonicalizes the provided XML content for hashing, by normalising the
+     * line endings and removing the surrounding whitespace, as well as any
+     * whitespace between the tags. This way, XML documents only differing in
+     * their formatting are treated as identical.
+     *
+     * @param xml the XML as string
+     * @return the canonicalized XML
+     */
+    public static String canonicalize(String xml) {
+        return INTER_TAG_WHITESPACE.matcher(xml.replace("\r\n", "\n").strip()).replaceAll("><");
+    }
+
+    /**
+     * Calculates the hex-encoded SHA-256 hash of the canonicalized XML
+     * content.
+     *
+     * @param xml the XML as string
+     * @return the XML content hash
+     */
+    public static String contentHash(String xml) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(canonicalize(xml).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Compresses the provided XML content using the zlib deflate format,
+     * which is also what the HTTP "deflate" content encoding expects.
+     *
+     * @param xml the XML as string
+     * @return the compressed XML
+     */
+    public static byte[] deflate(String xml) {
+        return deflate(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compresses the provided binary content using the zlib deflate format.
+     *
+     * @param data the binary content
+     * @return the compressed content
+     */
+    public static byte[] deflate(byte[] data) {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(data);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decompresses the provided zlib deflate compressed XML content.
+     *
+     * @param compressed the compressed XML
+     * @return the XML as string
+     */
+    public static String inflate(byte[] compressed) {
+        return new String(inflateBytes(compressed), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decompresses the provided zlib deflate compressed binary content.
+     *
+     * @param compressed the compressed content
+     * @return the binary content
+     */
+    public static byte[] inflateBytes(byte[] compressed) {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
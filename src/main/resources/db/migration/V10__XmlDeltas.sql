@@ -0,0 +1,8 @@
+-- Allow the instance XMLs of older versions to be stored as deltas against
+-- the XML of a newer version of the same instance
+ALTER TABLE xml ADD COLUMN delta_base_id bigint;
+ALTER TABLE xml ADD COLUMN delta_root_id bigint;
+ALTER TABLE xml ADD CONSTRAINT fk_xml_delta_base_id FOREIGN KEY (delta_base_id) REFERENCES xml (id);
+
+CREATE INDEX xml_delta_base_id_idx ON xml (delta_base_id);
+CREATE INDEX xml_delta_root_id_idx ON xml (delta_root_id);
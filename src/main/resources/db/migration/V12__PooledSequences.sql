@@ -0,0 +1,12 @@
+-- Generate the instance, XML and document IDs from pooled sequences, so
+-- that a block of 50 IDs is allocated per database round trip and the
+-- inserts can be batched. The sequences are first moved past any existing
+-- IDs, since each allocated block ends at the sequence value.
+SELECT setval('instance_id_seq', GREATEST((SELECT MAX(id) FROM instance), 1));
+ALTER SEQUENCE instance_id_seq INCREMENT BY 50;
+
+SELECT setval('xml_id_seq', GREATEST((SELECT MAX(id) FROM xml), 1));
+ALTER SEQUENCE xml_id_seq INCREMENT BY 50;
+
+SELECT setval('document_id_seq', GREATEST((SELECT MAX(id) FROM document), 1));
+ALTER SEQUENCE document_id_seq INCREMENT BY 50;
@@ -0,0 +1,3 @@
+-- Keep track of when each document was last updated, so that the documents
+-- changed after an index snapshot was taken can be re-indexed on their own
+ALTER TABLE document ADD COLUMN last_updated_at timestamp(6) without time zone;
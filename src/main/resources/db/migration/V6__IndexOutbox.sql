@@ -0,0 +1,10 @@
+CREATE TABLE index_outbox_event (
+    id bigserial PRIMARY KEY,
+    entity_type varchar(255) NOT NULL,
+    entity_id bigint NOT NULL,
+    operation varchar(30) NOT NULL,
+    origin_node varchar(255),
+    created_at timestamp
+);
+
+CREATE INDEX index_outbox_event_created_at_idx ON index_outbox_event (created_at);
@@ -0,0 +1,9 @@
+-- Store the size and checksum of the document file contents, so that the
+-- documents can be listed without reading their contents
+ALTER TABLE document ADD COLUMN filecontent_size bigint;
+ALTER TABLE document ADD COLUMN filecontent_checksum varchar(64);
+
+-- Populate them for the existing documents
+UPDATE document
+SET filecontent_size = length(lo_get(filecontent)),
+    filecontent_checksum = encode(sha256(lo_get(filecontent)), 'hex');
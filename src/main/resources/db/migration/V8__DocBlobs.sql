@@ -0,0 +1,15 @@
+-- Keep track of the document contents stored outside the database, which
+-- are addressed by their SHA-256 checksums and shared between documents
+CREATE TABLE doc_blob (
+    checksum varchar(64) PRIMARY KEY,
+    size bigint NOT NULL,
+    ref_count integer NOT NULL DEFAULT 0,
+    updated_at timestamp
+);
+
+CREATE INDEX doc_blob_ref_count_idx ON doc_blob (ref_count);
+
+-- The contents of the externally stored documents are no longer kept in
+-- the document table
+ALTER TABLE document ALTER COLUMN filecontent DROP NOT NULL;
+CREATE INDEX document_filecontent_checksum_idx ON document (filecontent_checksum);
@@ -235,21 +235,19 @@ function loadFileUploader(instanceId, ajaxUrl, callback) {
 }
 
 /**
- * Download the selected document ID from the server, decode the data from
- * the provided Base64 format.
+ * Download the selected document ID from the server. The file content is
+ * streamed by the download endpoint, so the browser saves it directly
+ * without holding it in memory.
  *
  * @param {Component}   $modalDiv   The modal component performing the operation
  * @param {number}      docId       The ID of the document to be opened
  */
 function downloadDoc($modalDiv, docId) {
-    $modalDiv.addClass('loading');
-    api.docsApi.getDoc(docId, (doc) => {
-        downloadFile(doc.name, doc.filecontentContentType, doc.filecontent);
-        $modalDiv.removeClass('loading');
-    }, (response, status, more) => {
-        $modalDiv.removeClass('loading');
-        showError(getErrorFromHeader(response, "Error while trying to retrieve the instance doc!"));
-    });
+    var elem = window.document.createElement('a');
+    elem.href = `api/docs/${docId}/download`;
+    document.body.appendChild(elem);
+    elem.click();
+    document.body.removeChild(elem);
 }
 
 /**
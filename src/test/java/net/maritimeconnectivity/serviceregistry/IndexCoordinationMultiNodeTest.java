@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.services.DocService;
+import net.maritimeconnectivity.serviceregistry.services.IndexCoordinationService;
+import org.hibernate.search.mapper.orm.Search;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the multi-node index coordination by starting two registry nodes
+ * that share the same database, but use separate local Lucene indexes.
+ */
+class IndexCoordinationMultiNodeTest {
+
+    // Test Variables
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    /**
+     * Start two registry nodes sharing the same in-memory H2 database.
+     */
+    @BeforeEach
+    void setup() {
+        this.nodeA = this.startNode("node-a", "create");
+        this.nodeB = this.startNode("node-b", "none");
+    }
+
+    /**
+     * Shut down the registry nodes.
+     */
+    @AfterEach
+    void tearDown() {
+        this.nodeB.close();
+        this.nodeA.close();
+    }
+
+    /**
+     * Test that a doc saved through node A becomes searchable in the local
+     * index of node B once node B has polled the index outbox.
+     */
+    @Test
+    void testChangesPropagateBetweenNodes() {
+        Doc doc = new Doc();
+        doc.setName("Multi-Node Doc");
+        doc.setComment("Saved on node A");
+        doc.setMimetype("application/pdf");
+        doc.setFilecontentContentType("application/pdf");
+        doc.setFilecontent(new byte[]{0b00});
+
+        // Save the doc on node A
+        final Doc saved = this.nodeA.getBean(DocService.class).save(doc);
+        assertEquals(1L, this.countIndexedDocs(this.nodeA));
+        assertEquals(0L, this.countIndexedDocs(this.nodeB));
+
+        // Node B picks up the change once it polls the outbox
+        assertEquals(1, this.nodeB.getBean(IndexCoordinationService.class).pollOutbox());
+        assertEquals(1L, this.countIndexedDocs(this.nodeB));
+
+        // And node A ignores its own change
+        assertEquals(0, this.nodeA.getBean(IndexCoordinationService.class).pollOutbox());
+
+        // Delete the doc on node A and make sure it disappears from node B
+        this.nodeA.getBean(DocService.class).delete(saved.getId());
+        assertEquals(1, this.nodeB.getBean(IndexCoordinationService.class).pollOutbox());
+        assertEquals(0L, this.countIndexedDocs(this.nodeB));
+    }
+
+    /**
+     * Starts a registry node with its own Lucene index directory.
+     */
+    private ConfigurableApplicationContext startNode(String nodeId, String ddlAuto) {
+        return new SpringApplicationBuilder(McpServRegApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:multinode;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "spring.jpa.properties.hibernate.search.backend.directory.root=./target/lucene-" + nodeId + "/",
+                        "net.maritimeconnectivity.serviceregistry.indexCoordination.enabled=true",
+                        "net.maritimeconnectivity.serviceregistry.indexCoordination.nodeId=" + nodeId,
+                        "net.maritimeconnectivity.serviceregistry.indexCoordination.pollInterval=3600000")
+                .run();
+    }
+
+    /**
+     * Counts the docs available in the local index of the provided node.
+     */
+    private long countIndexedDocs(ConfigurableApplicationContext node) {
+        final EntityManager entityManager = node.getBean(EntityManager.class);
+        return new TransactionTemplate(node.getBean(PlatformTransactionManager.class))
+                .execute(status -> Search.session(entityManager)
+                        .search(Doc.class)
+                        .where(f -> f.matchAll())
+                        .fetchTotalHitCount());
+    }
+
+}
@@ -88,11 +88,11 @@ public class TestingConfiguration {
     }
 
     /**
-     * Doc Mapper from Domain to Datatable DTO.
+     * Doc Mapper from Metadata DTO to Datatable DTO.
      */
     @Bean
     public DomainDtoMapper docDomainToDtDtoMapper() {
-        return new DomainDtoMapper<Doc, DocDtDto>();
+        return new DomainDtoMapper<DocMetadataDto, DocDtDto>();
     }
 
     /**
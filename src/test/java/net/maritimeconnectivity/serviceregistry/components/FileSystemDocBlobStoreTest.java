@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.components;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSystemDocBlobStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    // Test Variables
+    private FileSystemDocBlobStore docBlobStore;
+    private byte[] content;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setup() {
+        this.docBlobStore = new FileSystemDocBlobStore();
+        this.docBlobStore.directory = this.tempDir.resolve("doc-store").toString();
+        this.content = "Some document content".getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Test that the stored contents are addressed by their checksum and can
+     * be read back.
+     */
+    @Test
+    void testPutAndRead() throws IOException {
+        final DocBlobStore.StoredBlob blob = this.docBlobStore.put(new ByteArrayInputStream(this.content));
+
+        assertEquals(Doc.checksum(this.content), blob.checksum());
+        assertEquals(this.content.length, blob.size());
+        assertTrue(this.docBlobStore.exists(blob.checksum()));
+        assertArrayEquals(this.content, this.docBlobStore.read(blob.checksum()));
+        assertTrue(Files.isRegularFile(this.tempDir.resolve("doc-store")
+                .resolve(blob.checksum().substring(0, 2))
+                .resolve(blob.checksum().substring(2, 4))
+                .resolve(blob.checksum())));
+    }
+
+    /**
+     * Test that identical contents are only stored once.
+     */
+    @Test
+    void testPutDeduplicates() throws IOException {
+        final DocBlobStore.StoredBlob first = this.docBlobStore.put(new ByteArrayInputStream(this.content));
+        final DocBlobStore.StoredBlob second = this.docBlobStore.put(new ByteArrayInputStream(this.content));
+
+        assertEquals(first, second);
+        assertEquals(List.of(first.checksum()), this.docBlobStore.listChecksums(Instant.now().plus(1, ChronoUnit.MINUTES)));
+    }
+
+    /**
+     * Test that a range of a stored content can be copied.
+     */
+    @Test
+    void testCopyTo() throws IOException {
+        final DocBlobStore.StoredBlob blob = this.docBlobStore.put(new ByteArrayInputStream(this.content));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.docBlobStore.copyTo(blob.checksum(), 5, 8, out);
+        assertEquals("document", out.toString(StandardCharsets.UTF_8));
+
+        // Ranges beyond the end of the content are truncated
+        final ByteArrayOutputStream tail = new ByteArrayOutputStream();
+        this.docBlobStore.copyTo(blob.checksum(), 14, Long.MAX_VALUE, tail);
+        assertEquals("content", tail.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test that contents are only deleted if they were not modified since
+     * the provided time.
+     */
+    @Test
+    void testDelete() throws IOException {
+        final DocBlobStore.StoredBlob blob = this.docBlobStore.put(new ByteArrayInputStream(this.content));
+        final Instant cutoff = Instant.now().minus(1, ChronoUnit.HOURS);
+
+        // Recently written contents are not deleted
+        assertTrue(this.docBlobStore.listChecksums(cutoff).isEmpty());
+        assertFalse(this.docBlobStore.delete(blob.checksum(), cutoff));
+
+        // But older ones are
+        Files.setLastModifiedTime(this.docBlobStore.resolve(blob.checksum()), FileTime.from(cutoff.minus(1, ChronoUnit.HOURS)));
+        assertEquals(List.of(blob.checksum()), this.docBlobStore.listChecksums(cutoff));
+        assertTrue(this.docBlobStore.delete(blob.checksum(), cutoff));
+        assertFalse(this.docBlobStore.exists(blob.checksum()));
+    }
+
+    /**
+     * Test that when the same content is put again, right after the garbage
+     * collection has checked its modification time, it is not deleted.
+     */
+    @Test
+    void testDeleteConcurrentPut() throws IOException {
+        final DocBlobStore.StoredBlob blob = this.docBlobStore.put(new ByteArrayInputStream(this.content));
+        final Instant cutoff = Instant.now().minus(1, ChronoUnit.HOURS);
+        Files.setLastModifiedTime(this.docBlobStore.resolve(blob.checksum()), FileTime.from(cutoff.minus(1, ChronoUnit.HOURS)));
+
+        // Put the same content again as soon as the first check is performed
+        final FileSystemDocBlobStore racingDocBlobStore = new FileSystemDocBlobStore() {
+            private boolean checked;
+
+            @Override
+            protected boolean isModifiedBefore(Path path, Instant modifiedBefore) {
+                final boolean result = super.isModifiedBefore(path, modifiedBefore);
+                if (!this.checked) {
+                    this.checked = true;
+                    try {
+                        this.put(new ByteArrayInputStream(content));
+                    } catch (IOException ex) {
+                        fail(ex);
+                    }
+                }
+                return result;
+            }
+        };
+        racingDocBlobStore.directory = this.docBlobStore.directory;
+
+        // Make sure the content was not deleted
+        assertFalse(racingDocBlobStore.delete(blob.checksum(), cutoff));
+        assertTrue(this.docBlobStore.exists(blob.checksum()));
+        assertArrayEquals(this.content, this.docBlobStore.read(blob.checksum()));
+    }
+
+    /**
+     * Test that invalid checksums are rejected, so that no paths outside the
+     * store directory can be accessed.
+     */
+    @Test
+    void testInvalidChecksum() {
+        assertThrows(IOException.class, () -> this.docBlobStore.read("../../etc/passwd"));
+        assertFalse(this.docBlobStore.exists(null));
+    }
+
+}
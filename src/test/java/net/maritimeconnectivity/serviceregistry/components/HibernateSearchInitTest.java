@@ -16,6 +16,7 @@
 
 package net.maritimeconnectivity.serviceregistry.components;
 
+import net.maritimeconnectivity.serviceregistry.services.LuceneSnapshotService;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.session.SearchSession;
@@ -49,6 +50,12 @@ class HibernateSearchInitTest {
     @Mock
     EntityManager entityManager;
 
+    /**
+     * The Lucene Snapshot Service mock.
+     */
+    @Mock
+    LuceneSnapshotService luceneSnapshotService;
+
     // Test Variables
     private SearchSession searchSession;
     private MassIndexer massIndexer;
@@ -104,4 +111,24 @@ class HibernateSearchInitTest {
         verify(massIndexer, times(1)).startAndWait();
     }
 
-}
\ No newline at end of file
+    /**
+     * Test that when the indexes were restored from a snapshot, the mass
+     * indexing will be skipped.
+     */
+    @Test
+    void testOnApplicationEventRestoredSnapshot() throws InterruptedException {
+        doReturn(Boolean.TRUE).when(this.luceneSnapshotService).catchUpRestoredSnapshot();
+
+        try (MockedStatic<Search> mockedSearch = Mockito.mockStatic(Search.class)) {
+            // Perform the component call
+            this.hibernateSearchInit.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+            // Verify the search session was never accessed
+            mockedSearch.verifyNoInteractions();
+        }
+
+        // Verify the snapshot catch-up was performed instead
+        verify(this.luceneSnapshotService, times(1)).catchUpRestoredSnapshot();
+    }
+
+}
@@ -22,6 +22,7 @@ import net.maritimeconnectivity.serviceregistry.components.DomainDtoMapper;
 import net.maritimeconnectivity.serviceregistry.exceptions.DataNotFoundException;
 import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
 import net.maritimeconnectivity.serviceregistry.models.dto.DocDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.DocMetadataDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.*;
 import net.maritimeconnectivity.serviceregistry.services.DocService;
@@ -37,21 +38,25 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -74,6 +79,7 @@ class DocControllerTest {
 
     // Test Variables
     private List<Doc> docs;
+    private List<DocMetadataDto> docMetadata;
     private Pageable pageable;
     private Doc newDoc;
     private Doc existingDoc;
@@ -95,6 +101,18 @@ class DocControllerTest {
             this.docs.add(doc);
         }
 
+        // And their metadata
+        this.docMetadata = this.docs.stream()
+                .map(doc -> new DocMetadataDto(doc.getId(),
+                        doc.getName(),
+                        doc.getComment(),
+                        doc.getMimetype(),
+                        doc.getFilecontentContentType(),
+                        doc.getFilecontentSize(),
+                        doc.getFilecontentChecksum(),
+                        null))
+                .toList();
+
         // Create a pageable definition
         this.pageable = PageRequest.of(0, 5);
 
@@ -123,8 +141,8 @@ class DocControllerTest {
     @Test
     void testGetAllDocs() throws Exception {
         // Created a result page to be returned by the mocked service
-        Page<Doc> page = new PageImpl<>(this.docs.subList(0, 5), this.pageable, this.docs.size());
-        doReturn(page).when(this.docService).findAll(any());
+        Page<DocMetadataDto> page = new PageImpl<>(this.docMetadata.subList(0, 5), this.pageable, this.docMetadata.size());
+        doReturn(page).when(this.docService).findAllMetadata(any());
 
         // Perform the MVC request
         MvcResult mvcResult = this.mockMvc.perform(get("/api/docs"))
@@ -135,8 +153,11 @@ class DocControllerTest {
                 .andReturn();
 
         // Parse and validate the response
-        DocDto[] result = this.objectMapper.readValue(mvcResult.getResponse().getContentAsString(), DocDto[].class);
+        DocMetadataDto[] result = this.objectMapper.readValue(mvcResult.getResponse().getContentAsString(), DocMetadataDto[].class);
         assertEquals(5, Arrays.asList(result).size());
+        assertEquals(this.docs.get(0).getFilecontentSize(), result[0].getFilecontentSize());
+        assertEquals(this.docs.get(0).getFilecontentChecksum(), result[0].getFilecontentChecksum());
+        assertFalse(mvcResult.getResponse().getContentAsString().contains("\"filecontent\""));
     }
 
     /**
@@ -161,7 +182,7 @@ class DocControllerTest {
         dtPagingRequest.setColumns(Collections.singletonList(dtColumn));
 
         // Create a mocked paging response
-        Page<Doc> page = new PageImpl<>(this.docs, this.pageable, this.docs.size());
+        Page<DocMetadataDto> page = new PageImpl<>(this.docMetadata, this.pageable, this.docMetadata.size());
 
         // Mock the service call for creating a new instance
         doReturn(page).when(this.docService).handleDatatablesPagingRequest(eq(1L), any());
@@ -217,6 +238,135 @@ class DocControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    /**
+     * Test that we can download the file content of a single doc based on
+     * the provided entry ID.
+     */
+    @Test
+    void testDownloadDoc() throws Exception {
+        this.mockDocContent(new byte[]{1, 2, 3, 4, 5});
+
+        // Perform the MVC request
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/docs/{id}/download", this.existingDoc.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(this.existingDoc.getFilecontentContentType()))
+                .andExpect(content().bytes(new byte[]{1, 2, 3, 4, 5}))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + Doc.checksum(new byte[]{1, 2, 3, 4, 5}) + "\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("attachment")));
+    }
+
+    /**
+     * Test that we can download a byte range of the file content of a single
+     * doc.
+     */
+    @Test
+    void testDownloadDocRange() throws Exception {
+        this.mockDocContent(new byte[]{1, 2, 3, 4, 5});
+
+        // Perform the MVC request
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/docs/{id}/download", this.existingDoc.getId())
+                        .header(HttpHeaders.RANGE, "bytes=1-3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(new byte[]{2, 3, 4}))
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1-3/5"));
+    }
+
+    /**
+     * Test that a byte range outside the file content of a doc is rejected
+     * with an HTTP REQUESTED_RANGE_NOT_SATISFIABLE response.
+     */
+    @Test
+    void testDownloadDocRangeNotSatisfiable() throws Exception {
+        this.mockDocContent(new byte[]{1, 2, 3, 4, 5});
+
+        // Perform the MVC request
+        this.mockMvc.perform(get("/api/docs/{id}/download", this.existingDoc.getId())
+                        .header(HttpHeaders.RANGE, "bytes=10-20"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */5"));
+    }
+
+    /**
+     * Test that if the file content of a doc matches the ETag provided by
+     * the client, an HTTP NOT_MODIFIED response will be returned.
+     */
+    @Test
+    void testDownloadDocNotModified() throws Exception {
+        this.mockDocContent(new byte[]{1, 2, 3, 4, 5});
+
+        // Perform the MVC request
+        this.mockMvc.perform(get("/api/docs/{id}/download", this.existingDoc.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + Doc.checksum(new byte[]{1, 2, 3, 4, 5}) + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    /**
+     * Test that if we do NOT find the doc we are trying to download, an HTTP
+     * NOT_FOUND response will be returned.
+     */
+    @Test
+    void testDownloadDocNotFound() throws Exception {
+        Long id = 0L;
+        doThrow(new DataNotFoundException()).when(this.docService).findMetadata(any());
+
+        // Perform the MVC request
+        this.mockMvc.perform(get("/api/docs/{id}/download", id))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Test that we can create a new doc by uploading its file content as a
+     * multipart request.
+     */
+    @Test
+    void testUploadDoc() throws Exception {
+        doAnswer(inv -> {
+            Doc doc = inv.getArgument(0);
+            doc.setId(this.existingDoc.getId());
+            doc.setFilecontent(((InputStream) inv.getArgument(1)).readAllBytes());
+            return doc;
+        }).when(this.docService).saveContent(any(), any());
+
+        // Perform the MVC request
+        MvcResult mvcResult = this.mockMvc.perform(multipart("/api/docs/upload")
+                        .file(new MockMultipartFile("file", "spec.pdf", "application/pdf", new byte[]{1, 2, 3}))
+                        .param("instanceId", "1")
+                        .param("comment", "No comment"))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andReturn();
+
+        // Parse and validate the response
+        DocMetadataDto result = this.objectMapper.readValue(mvcResult.getResponse().getContentAsString(), DocMetadataDto.class);
+        assertEquals(this.existingDoc.getId(), result.getId());
+        assertEquals("spec.pdf", result.getName());
+        assertEquals("No comment", result.getComment());
+        assertEquals("application/pdf", result.getFilecontentContentType());
+        assertEquals(3L, result.getFilecontentSize());
+        assertEquals(Doc.checksum(new byte[]{1, 2, 3}), result.getFilecontentChecksum());
+        assertEquals(1L, result.getInstanceId());
+    }
+
+    /**
+     * Test that if we try to upload a doc with the wrong format, a bad
+     * request response will be returned.
+     */
+    @Test
+    void testUploadDocWrongFormat() throws Exception {
+        // Perform the MVC request
+        this.mockMvc.perform(multipart("/api/docs/upload")
+                        .file(new MockMultipartFile("file", "spec.exe", "application/octet-stream", new byte[]{1, 2, 3})))
+                .andExpect(status().isBadRequest());
+        verify(this.docService, never()).saveContent(any(), any());
+    }
+
     /**
      * Test that we can create a new doc correctly through a POST request.
      * The incoming instance should NOT has an ID, while the returned
@@ -355,4 +505,26 @@ class DocControllerTest {
                 .andExpect(status().isNotFound());
     }
 
-}
\ No newline at end of file
+    /**
+     * Mocks the metadata and the file content of the existing doc.
+     *
+     * @param content the file content
+     */
+    private void mockDocContent(byte[] content) throws Exception {
+        doReturn(new DocMetadataDto(this.existingDoc.getId(),
+                this.existingDoc.getName(),
+                this.existingDoc.getComment(),
+                this.existingDoc.getMimetype(),
+                this.existingDoc.getFilecontentContentType(),
+                (long) content.length,
+                Doc.checksum(content),
+                null)).when(this.docService).findMetadata(this.existingDoc.getId());
+        doAnswer(inv -> {
+            long offset = inv.getArgument(1);
+            long length = inv.getArgument(2);
+            ((OutputStream) inv.getArgument(3)).write(content, (int) offset, (int) length);
+            return null;
+        }).when(this.docService).copyContent(eq(this.existingDoc.getId()), anyLong(), anyLong(), any());
+    }
+
+}
@@ -17,14 +17,17 @@
 package net.maritimeconnectivity.serviceregistry.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import net.maritimeconnectivity.serviceregistry.TestingConfiguration;
 import net.maritimeconnectivity.serviceregistry.components.DomainDtoMapper;
 import net.maritimeconnectivity.serviceregistry.exceptions.DataNotFoundException;
+import net.maritimeconnectivity.serviceregistry.exceptions.DuplicateDataException;
 import net.maritimeconnectivity.serviceregistry.exceptions.GeometryParseException;
 import net.maritimeconnectivity.serviceregistry.exceptions.XMLValidationException;
 import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
 import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.*;
+import net.maritimeconnectivity.serviceregistry.services.InstanceJsonCacheService;
 import net.maritimeconnectivity.serviceregistry.services.InstanceService;
 import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,8 +47,12 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.zip.GZIPOutputStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
@@ -70,6 +77,9 @@ class InstanceControllerTest {
     @MockitoBean
     private InstanceService instanceService;
 
+    @MockitoBean
+    private InstanceJsonCacheService instanceJsonCacheService;
+
     // Test Variables
     private List<Instance> instances;
     private Pageable pageable;
@@ -202,6 +212,54 @@ class InstanceControllerTest {
         assertEquals(this.existingInstance.getGeometry(), result.getGeometry());
     }
 
+    /**
+     * Test that when the serialized instance cache is enabled, the single
+     * instance is returned as the cached JSON fragment.
+     */
+    @Test
+    void testGetInstanceCached() throws Exception {
+        final String json = this.objectMapper.writeValueAsString(this.instanceDomainToDtoMapper.convertTo(this.existingInstance, InstanceDto.class));
+        doReturn(this.existingInstance).when(this.instanceService).findOne(this.existingInstance.getId());
+        doReturn(true).when(this.instanceJsonCacheService).isEnabled();
+        doReturn(new RawValue(json)).when(this.instanceJsonCacheService).getInstanceDtoJson(this.existingInstance);
+
+        // Perform the MVC request
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/instances/{id}", this.existingInstance.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andReturn();
+
+        // Validate the response
+        assertEquals(json, mvcResult.getResponse().getContentAsString());
+    }
+
+    /**
+     * Test that when the compressed variants of the serialized instance cache
+     * are enabled, the clients that accept them get them directly.
+     */
+    @Test
+    void testGetInstanceCachedCompressed() throws Exception {
+        final ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(this.objectMapper.writeValueAsBytes(this.instanceDomainToDtoMapper.convertTo(this.existingInstance, InstanceDto.class)));
+        }
+        doReturn(this.existingInstance).when(this.instanceService).findOne(this.existingInstance.getId());
+        doReturn(true).when(this.instanceJsonCacheService).isEnabled();
+        doReturn(true).when(this.instanceJsonCacheService).isCompressed();
+        doReturn(gzip.toByteArray()).when(this.instanceJsonCacheService).getInstanceDtoGzip(this.existingInstance);
+
+        // Perform the MVC request
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/instances/{id}", this.existingInstance.getId())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        // Validate the response
+        assertArrayEquals(gzip.toByteArray(), mvcResult.getResponse().getContentAsByteArray());
+    }
+
     /**
      * Test that if we do NOT find the instance we are looking for, an HTTP
      * NOT_FOUND response will be returned.
@@ -371,6 +429,26 @@ class InstanceControllerTest {
         assertEquals(this.existingInstance.getGeometry(), result.getGeometry());
     }
 
+    /**
+     * Test that if we fail to create a new instance, because one with the
+     * same MRN and version already exists, an HTTP CONFLICT response will be
+     * returned, with a description of the error in the header.
+     */
+    @Test
+    void testPostInstanceDuplicate() throws Exception {
+        // Mock a duplicate data exception when saving the instance
+        doThrow(new DuplicateDataException("Duplicated instance with the same MRN and version found.", null)).when(this.instanceService).save(any());
+
+        // Perform the MVC request
+        this.mockMvc.perform(post("/api/instances")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(this.instanceDomainToDtoMapper.convertTo(this.newInstance, InstanceDto.class))))
+                .andExpect(status().isConflict())
+                .andExpect(header().exists("X-mcsrApp-error"))
+                .andExpect(header().exists("X-mcsrApp-params"))
+                .andReturn();
+    }
+
     /**
      * Test that if we fail to update the provided instance due to an XML error,
      * an HTTP BAD_REQUEST response will be returned, with a description of
@@ -431,6 +509,81 @@ class InstanceControllerTest {
                 .andReturn();
     }
 
+    /**
+     * Test that we can create an instance by its MRN and version through a
+     * PUT request, in which case the new instance location is returned.
+     */
+    @Test
+    void testPutInstanceByMRNAndVersionCreated() throws Exception {
+        // Mock the service call for upserting the instance
+        doReturn(new InstanceService.SaveResult(this.existingInstance, true)).when(this.instanceService).upsert(eq(this.existingInstance.getInstanceId()), eq(this.existingInstance.getVersion()), any());
+
+        // Perform the MVC request
+        MvcResult mvcResult = this.mockMvc.perform(put("/api/instances/mrn/{mrn}/{version}", this.existingInstance.getInstanceId(), this.existingInstance.getVersion())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(this.instanceDomainToDtoMapper.convertTo(this.existingInstance, InstanceDto.class))))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/instances/" + this.existingInstance.getId()))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andReturn();
+
+        // Parse and validate the response
+        InstanceDto result = this.objectMapper.readValue(mvcResult.getResponse().getContentAsString(), InstanceDto.class);
+        assertNotNull(result);
+        assertEquals(this.existingInstance.getId(), result.getId());
+        assertEquals(this.existingInstance.getInstanceId(), result.getInstanceId());
+        assertEquals(this.existingInstance.getVersion(), result.getVersion());
+    }
+
+    /**
+     * Test that we can replace an instance by its MRN and version through a
+     * PUT request.
+     */
+    @Test
+    void testPutInstanceByMRNAndVersion() throws Exception {
+        // Mock the service call for upserting the instance
+        doReturn(new InstanceService.SaveResult(this.existingInstance, false)).when(this.instanceService).upsert(eq(this.existingInstance.getInstanceId()), eq(this.existingInstance.getVersion()), any());
+
+        // Perform the MVC request
+        MvcResult mvcResult = this.mockMvc.perform(put("/api/instances/mrn/{mrn}/{version}", this.existingInstance.getInstanceId(), this.existingInstance.getVersion())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(this.instanceDomainToDtoMapper.convertTo(this.existingInstance, InstanceDto.class))))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LOCATION))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andReturn();
+
+        // Parse and validate the response
+        InstanceDto result = this.objectMapper.readValue(mvcResult.getResponse().getContentAsString(), InstanceDto.class);
+        assertNotNull(result);
+        assertEquals(this.existingInstance.getId(), result.getId());
+        assertEquals(this.existingInstance.getInstanceId(), result.getInstanceId());
+        assertEquals(this.existingInstance.getVersion(), result.getVersion());
+        assertEquals(this.existingInstance.getName(), result.getName());
+        verify(this.instanceService, never()).save(any());
+    }
+
+    /**
+     * Test that if we fail to create or replace an instance by its MRN and
+     * version, because a duplicate instance was created concurrently, an HTTP
+     * CONFLICT response will be returned, with a description of the error in
+     * the header.
+     */
+    @Test
+    void testPutInstanceByMRNAndVersionFailure() throws Exception {
+        // Mock a duplicate data exception when upserting the instance
+        doThrow(new DuplicateDataException("Duplicated instance with the same MRN and version found.", null)).when(this.instanceService).upsert(any(), any(), any());
+
+        // Perform the MVC request
+        this.mockMvc.perform(put("/api/instances/mrn/{mrn}/{version}", this.existingInstance.getInstanceId(), this.existingInstance.getVersion())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(this.instanceDomainToDtoMapper.convertTo(this.existingInstance, InstanceDto.class))))
+                .andExpect(status().isConflict())
+                .andExpect(header().exists("X-mcsrApp-error"))
+                .andExpect(header().exists("X-mcsrApp-params"))
+                .andReturn();
+    }
+
     /**
      * Test that we can correctly delete an existing instance by using a valid
      * ID.
@@ -17,11 +17,15 @@
 package net.maritimeconnectivity.serviceregistry.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import net.maritimeconnectivity.serviceregistry.TestingConfiguration;
 import net.maritimeconnectivity.serviceregistry.components.DomainDtoMapper;
 import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
 import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDto;
+import net.maritimeconnectivity.serviceregistry.services.InstanceJsonCacheService;
 import net.maritimeconnectivity.serviceregistry.services.InstanceService;
+import net.maritimeconnectivity.serviceregistry.services.SearchCaptureService;
+import net.maritimeconnectivity.serviceregistry.services.SlowQueryLogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,6 +68,15 @@ class SearchControllerTest {
     @MockitoBean
     private InstanceService instanceService;
 
+    @MockitoBean
+    private InstanceJsonCacheService instanceJsonCacheService;
+
+    @MockitoBean
+    private SlowQueryLogService slowQueryLogService;
+
+    @MockitoBean
+    private SearchCaptureService searchCaptureService;
+
     // Test Variables
     private List<Instance> instances;
     private Pageable pageable;
@@ -114,6 +127,35 @@ class SearchControllerTest {
         assertEquals(this.instances.size(), result.size());
     }
 
+    /**
+     * Test that when the serialized instance cache is enabled, the search
+     * results are spliced from the cached JSON fragments.
+     */
+    @Test
+    void testSearchInstancesCached() throws Exception {
+        // Create a mocked paging response
+        Page<Instance> page = new PageImpl<>(this.instances, this.pageable, this.instances.size());
+
+        // Mock the service calls for the search and the cached fragments
+        doReturn(page).when(this.instanceService).handleSearchQueryRequest(any(), any(), any());
+        doReturn(true).when(this.instanceJsonCacheService).isEnabled();
+        doReturn(this.instances.stream().map(i -> new RawValue("{\"id\":" + i.getId() + "}")).toList())
+                .when(this.instanceJsonCacheService).getInstanceDtoJsons(any());
+
+        // Perform the MVC request
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/_search/instances")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("queryString", "name:Test")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Validate the response
+        assertEquals("[{\"id\":0},{\"id\":1},{\"id\":2},{\"id\":3},{\"id\":4},{\"id\":5},{\"id\":6},{\"id\":7},{\"id\":8},{\"id\":9}]",
+                mvcResult.getResponse().getContentAsString());
+    }
+
     /**
      * Test that we can search for instances using the search API endpoint that
      * supports Lucene queries and a paged result using WKT geometries.
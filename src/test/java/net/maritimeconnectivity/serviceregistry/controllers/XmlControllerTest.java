@@ -50,6 +50,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
@@ -165,6 +166,59 @@ class XmlControllerTest {
         assertEquals(this.existingXml.getContent(), result.getContent());
     }
 
+    /**
+     * Test that we can retrieve the content of an xml, decompressed if the
+     * client does not accept the deflate encoding.
+     */
+    @Test
+    void testGetXmlContent() throws Exception {
+        doReturn(this.existingXml).when(this.xmlService).findOne(this.existingXml.getId());
+
+        // Perform the MVC request
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/xmls/{id}/content", this.existingXml.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_XML))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        // Validate the response
+        assertEquals(this.existingXml.getContent(), mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test that the compressed content of an xml is returned as it is, when
+     * the client accepts the deflate encoding.
+     */
+    @Test
+    void testGetXmlContentDeflated() throws Exception {
+        doReturn(this.existingXml).when(this.xmlService).findOne(this.existingXml.getId());
+
+        // Perform the MVC request
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/xmls/{id}/content", this.existingXml.getId())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "deflate"))
+                .andReturn();
+
+        // Validate the response
+        assertArrayEquals(this.existingXml.getContentCompressed(), mvcResult.getResponse().getContentAsByteArray());
+    }
+
+    /**
+     * Test that if the content of an xml matches the ETag provided by the
+     * client, an HTTP NOT_MODIFIED response will be returned.
+     */
+    @Test
+    void testGetXmlContentNotModified() throws Exception {
+        doReturn(this.existingXml).when(this.xmlService).findOne(this.existingXml.getId());
+
+        // Perform the MVC request
+        this.mockMvc.perform(get("/api/xmls/{id}/content", this.existingXml.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"" + this.existingXml.getContentHash() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
     /**
      * Test that if we do NOT find the xml we are looking for, an HTTP
      * NOT_FOUND response will be returned.
@@ -26,6 +26,7 @@ import net.maritimeconnectivity.serviceregistry.models.dto.mcp.McpServiceDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.secom.ResponseSearchObjectWithCert;
 import net.maritimeconnectivity.serviceregistry.models.dto.secom.SearchObjectResultWithCert;
 import net.maritimeconnectivity.serviceregistry.services.InstanceService;
+import net.maritimeconnectivity.serviceregistry.services.SlowQueryLogService;
 import org.grad.secom.core.models.ResponseSearchObject;
 import org.grad.secom.core.models.SearchFilterObject;
 import org.grad.secom.core.models.SearchObjectResult;
@@ -61,8 +62,10 @@ import static org.grad.secom.core.interfaces.SearchServiceSecomInterface.SEARCH_
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 
 @ActiveProfiles("test")
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -87,6 +90,9 @@ class SecomSearchServiceControllerTest {
     @MockitoBean
     private MirClient mirClient;
 
+    @MockitoBean
+    private SlowQueryLogService slowQueryLogService;
+
     // Test Variables
     private List<Instance> instances;
     private Map<String, McpServiceDto> mcpServiceDtos;
@@ -200,6 +206,41 @@ class SecomSearchServiceControllerTest {
                 });
     }
 
+    /**
+     * Test that the SECOM discovery service searches are recorded in the
+     * slow query log under the actual path of the search endpoint.
+     */
+    @Test
+    void testSearchSlowQueryLogEndpoint() {
+        // Create the search filter object
+        SearchFilterObject searchFilterObject = new SearchFilterObject();
+        SearchParameters searchParameters = new SearchParameters();
+        searchParameters.setName("Test");
+        searchFilterObject.setQuery(searchParameters);
+
+        // Create a mocked paging response
+        Page<Instance> page = new PageImpl<>(this.instances, this.pageable, this.instances.size());
+
+        // Mock the service calls for the search and the slow query log
+        doReturn(page).when(this.instanceService).handleSearchQueryRequest(any(), any(), any());
+        doReturn(true).when(this.slowQueryLogService).isEnabled();
+
+        // Perform the web request
+        webTestClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/secom/" + SEARCH_SERVICE_INTERFACE_PATH)
+                        .queryParam("page", 0)
+                        .queryParam("pageSize", Integer.MAX_VALUE)
+                        .build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromPublisher(Mono.just(searchFilterObject), SearchFilterObject.class))
+                .exchange()
+                .expectStatus().isOk();
+
+        // Verify that the search was recorded under the endpoint path
+        verify(this.slowQueryLogService).record(eq("/api/secom/v1/searchService"), any());
+    }
+
     /**
      * Test that we can search for instances using the SECOM discovery service
      * search API endpoint that supports Lucene queries and a paged result
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.repos;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.dto.DocMetadataDto;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the document file contents are only loaded when they are
+ * actually accessed, through the bytecode-enhanced lazy attributes, and that
+ * the document metadata are listed without them.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class})
+class DocRepoTest {
+
+    /**
+     * The Doc Repo.
+     */
+    @Autowired
+    DocRepo docRepo;
+
+    /**
+     * The Transaction Manager.
+     */
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    // Test Variables
+    private TransactionTemplate transactionTemplate;
+    private Doc doc;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setUp() {
+        this.transactionTemplate = new TransactionTemplate(this.transactionManager);
+
+        // Persist a test doc
+        Doc doc = new Doc();
+        doc.setName("Lazy Doc");
+        doc.setComment("A doc with a lazily loaded file content");
+        doc.setMimetype("application/pdf");
+        doc.setFilecontentContentType("application/pdf");
+        doc.setFilecontent(new byte[]{0b01, 0b10});
+        this.doc = this.transactionTemplate.execute(status -> this.docRepo.save(doc));
+    }
+
+    /**
+     * Clean up the test doc.
+     */
+    @AfterEach
+    void tearDown() {
+        this.transactionTemplate.executeWithoutResult(status -> this.docRepo.deleteById(this.doc.getId()));
+    }
+
+    /**
+     * Test that loading a doc does not load its file content, which is only
+     * fetched when first accessed.
+     */
+    @Test
+    void testFilecontentLoadedLazily() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            final Doc result = this.docRepo.findById(this.doc.getId()).orElseThrow();
+            assertEquals(this.doc.getName(), result.getName());
+            assertFalse(Hibernate.isPropertyInitialized(result, "filecontent"));
+
+            // Accessing the file content should load it
+            assertArrayEquals(new byte[]{0b01, 0b10}, result.getFilecontent());
+            assertTrue(Hibernate.isPropertyInitialized(result, "filecontent"));
+        });
+    }
+
+    /**
+     * Test that the doc listings do not load the file contents.
+     */
+    @Test
+    void testFindAllDoesNotLoadFilecontent() {
+        this.transactionTemplate.executeWithoutResult(status ->
+                this.docRepo.findAll().forEach(result ->
+                        assertFalse(Hibernate.isPropertyInitialized(result, "filecontent"))));
+    }
+
+    /**
+     * Test that the doc metadata include the file content size and checksum.
+     */
+    @Test
+    void testFindAllMetadata() {
+        final DocMetadataDto result = this.docRepo.findAllMetadata(PageRequest.of(0, 10))
+                .stream()
+                .filter(metadata -> metadata.getId().equals(this.doc.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(this.doc.getName(), result.getName());
+        assertEquals(2L, result.getFilecontentSize());
+        assertEquals(Doc.checksum(new byte[]{0b01, 0b10}), result.getFilecontentChecksum());
+        assertNull(result.getInstanceId());
+        assertEquals(List.of(result.getId()), this.docRepo.findAllMetadataByIds(List.of(this.doc.getId()))
+                .stream()
+                .map(DocMetadataDto::getId)
+                .toList());
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortedSetSortField;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.entity.SearchIndexedEntity;
+import org.hibernate.search.mapper.orm.mapping.SearchMapping;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrentSearchServiceTest {
+
+    /**
+     * The Tested Service.
+     */
+    @InjectMocks
+    @Spy
+    private ConcurrentSearchService concurrentSearchService;
+
+    /**
+     * The Entity Manager Factory Mock.
+     */
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * The Instance Repo Mock.
+     */
+    @Mock
+    private InstanceRepo instanceRepo;
+
+    /**
+     * The Search Executor Mock.
+     */
+    @Mock
+    private Executor searchExecutor;
+
+    // Test Variables
+    private Directory directory;
+    private List<Instance> instances;
+    private SearchMapping searchMapping;
+    private LuceneIndexManager indexManager;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setup() throws IOException {
+        // Configure the service
+        this.concurrentSearchService.enabled = true;
+        this.concurrentSearchService.minSegments = 4;
+        this.concurrentSearchService.maxDocsPerSlice = 10;
+        this.concurrentSearchService.maxSegmentsPerSlice = 2;
+
+        // Create a Lucene index with one segment per 5 instances
+        this.directory = new ByteBuffersDirectory();
+        this.instances = new ArrayList<>();
+        try (IndexWriter writer = new IndexWriter(this.directory, new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE))) {
+            for (long i = 0; i < 20; i++) {
+                Instance instance = new Instance();
+                instance.setId(i);
+                instance.setName(String.format("Instance %02d", 19 - i));
+                this.instances.add(instance);
+
+                Document document = new Document();
+                document.add(new SortedNumericDocValuesField("id_sort", i));
+                document.add(new SortedSetDocValuesField("name_sort", new BytesRef(instance.getName().toLowerCase())));
+                writer.addDocument(document);
+                if (i % 5 == 4) {
+                    writer.commit();
+                }
+            }
+        }
+
+        // Mock the Hibernate Search mapping
+        this.searchMapping = mock(SearchMapping.class);
+        SearchIndexedEntity<Instance> indexedEntity = mock(SearchIndexedEntity.class);
+        IndexManager genericIndexManager = mock(IndexManager.class);
+        this.indexManager = mock(LuceneIndexManager.class);
+        lenient().doReturn(indexedEntity).when(this.searchMapping).indexedEntity(Instance.class);
+        lenient().doReturn(genericIndexManager).when(indexedEntity).indexManager();
+        lenient().doReturn(this.indexManager).when(genericIndexManager).unwrap(LuceneIndexManager.class);
+
+        // Run the search slices on the calling thread
+        lenient().doAnswer(inv -> {
+            inv.<Runnable>getArgument(0).run();
+            return null;
+        }).when(this.searchExecutor).execute(any());
+    }
+
+    /**
+     * Clean up after each test.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        this.directory.close();
+    }
+
+    /**
+     * Test that the index segments are searched concurrently and the
+     * requested page is returned in the correct order.
+     */
+    @Test
+    void testSearch() throws IOException {
+        doReturn(DirectoryReader.open(this.directory)).when(this.indexManager).openIndexReader();
+        doAnswer(inv -> this.instances.stream()
+                .filter(i -> ((List<?>) inv.getArgument(0)).contains(i.getId()))
+                .toList()).when(this.instanceRepo).findAllById(any());
+
+        // Perform the service call
+        final Optional<Page<Instance>> result;
+        try (MockedStatic<Search> mockedSearch = Mockito.mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.mapping(this.entityManagerFactory)).thenReturn(this.searchMapping);
+            result = this.concurrentSearchService.search(new MatchAllDocsQuery(), new Sort(new SortedSetSortField("name_sort", false)), 5, 5, PageRequest.of(1, 5));
+        }
+
+        // Validate the result - sorted by name, i.e. reverse ID order
+        assertTrue(result.isPresent());
+        assertEquals(20, result.get().getTotalElements());
+        assertEquals(5, result.get().getContent().size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(14L - i, result.get().getContent().get(i).getId());
+        }
+
+        // Make sure the slices were searched on the executor
+        verify(this.searchExecutor, atLeastOnce()).execute(any());
+    }
+
+    /**
+     * Test that when the index does not have enough segments, no concurrent
+     * search is performed.
+     */
+    @Test
+    void testSearchTooFewSegments() throws IOException {
+        this.concurrentSearchService.minSegments = 10;
+        doReturn(DirectoryReader.open(this.directory)).when(this.indexManager).openIndexReader();
+
+        // Perform the service call
+        final Optional<Page<Instance>> result;
+        try (MockedStatic<Search> mockedSearch = Mockito.mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.mapping(this.entityManagerFactory)).thenReturn(this.searchMapping);
+            result = this.concurrentSearchService.search(new MatchAllDocsQuery(), new Sort(), 0, 5, PageRequest.of(0, 5));
+        }
+
+        // Validate the result
+        assertFalse(result.isPresent());
+        verify(this.instanceRepo, never()).findAllById(any());
+    }
+
+    /**
+     * Test that when the concurrent search is disabled, no search is
+     * performed at all.
+     */
+    @Test
+    void testSearchDisabled() {
+        this.concurrentSearchService.enabled = false;
+
+        // Perform the service call
+        assertFalse(this.concurrentSearchService.search(new MatchAllDocsQuery(), new Sort(), 0, 5, PageRequest.of(0, 5)).isPresent());
+    }
+
+}
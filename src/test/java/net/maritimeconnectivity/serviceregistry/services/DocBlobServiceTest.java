@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.maritimeconnectivity.serviceregistry.services;
+
+import net.maritimeconnectivity.serviceregistry.components.DocBlobStore;
+import net.maritimeconnectivity.serviceregistry.repos.DocBlobRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocBlobServiceTest {
+
+    /**
+     * The Tested Service.
+     */
+    @InjectMocks
+    private DocBlobService docBlobService;
+
+    /**
+     * The Doc Blob Repository Mock.
+     */
+    @Mock
+    private DocBlobRepo docBlobRepo;
+
+    /**
+     * The Doc Blob Store Mock.
+     */
+    @Mock
+    private DocBlobStore docBlobStore;
+
+    // Test Variables
+    private DocBlobStore.StoredBlob blob;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setup() {
+        this.docBlobService.gcGracePeriod = 3600000;
+        this.blob = new DocBlobStore.StoredBlob("a".repeat(64), 10);
+    }
+
+    /**
+     * Test that acquiring a reference on a blob registers it or increments
+     * its count in a single atomic upsert.
+     */
+    @Test
+    void testAcquire() {
+        doReturn(1).when(this.docBlobRepo).upsertRefCount(this.blob.checksum(), this.blob.size());
+
+        this.docBlobService.acquire(this.blob);
+
+        verify(this.docBlobRepo, times(1)).upsertRefCount(this.blob.checksum(), this.blob.size());
+        verify(this.docBlobRepo, never()).save(any());
+    }
+
+    /**
+     * Test that the garbage collection only deletes the unreferenced
+     * contents, including the ones without any blob entries.
+     */
+    @Test
+    void testCollectGarbage() throws IOException {
+        final String referenced = "b".repeat(64);
+        final String unreferenced = "c".repeat(64);
+        final String orphan = "d".repeat(64);
+        doReturn(Boolean.TRUE).when(this.docBlobStore).isExternal();
+        doReturn(List.of(referenced)).when(this.docBlobRepo).findAllReferencedChecksums();
+        doReturn(List.of(referenced, unreferenced, orphan)).when(this.docBlobStore).listChecksums(any());
+        doReturn(Boolean.TRUE).when(this.docBlobRepo).existsById(unreferenced);
+        doReturn(Boolean.FALSE).when(this.docBlobRepo).existsById(orphan);
+        doReturn(1).when(this.docBlobRepo).deleteUnreferenced(eq(unreferenced), any(LocalDateTime.class));
+        doReturn(Boolean.TRUE).when(this.docBlobStore).delete(any(), any(Instant.class));
+
+        assertEquals(2, this.docBlobService.collectGarbage());
+
+        verify(this.docBlobStore, never()).delete(eq(referenced), any());
+        verify(this.docBlobStore, times(1)).delete(eq(unreferenced), any());
+        verify(this.docBlobStore, times(1)).delete(eq(orphan), any());
+    }
+
+    /**
+     * Test that nothing is collected when the contents are kept in the
+     * database.
+     */
+    @Test
+    void testCollectGarbageDatabase() throws IOException {
+        doReturn(Boolean.FALSE).when(this.docBlobStore).isExternal();
+
+        assertEquals(0, this.docBlobService.collectGarbage());
+
+        verify(this.docBlobStore, never()).listChecksums(any());
+    }
+
+}
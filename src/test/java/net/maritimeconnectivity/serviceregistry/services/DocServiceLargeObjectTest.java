@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import net.maritimeconnectivity.serviceregistry.PostgreSQLContainerTest;
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.repos.DocRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that streaming the doc contents into the database creates a
+ * single PostgreSQL large object per upload, without leaving any orphaned
+ * ones behind.
+ */
+class DocServiceLargeObjectTest extends PostgreSQLContainerTest {
+
+    // Test Constants
+    private static final int UPLOADS = 3;
+
+    /**
+     * The Doc Service.
+     */
+    @Autowired
+    DocService docService;
+
+    /**
+     * The Doc Repo.
+     */
+    @Autowired
+    DocRepo docRepo;
+
+    /**
+     * The JDBC Template.
+     */
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    // Test Variables
+    private final List<Long> docIds = new ArrayList<>();
+
+    /**
+     * Clean up the test docs.
+     */
+    @AfterEach
+    void tearDown() {
+        this.docRepo.deleteAllById(this.docIds);
+    }
+
+    /**
+     * Test that every uploaded doc content grows the PostgreSQL large
+     * objects by at most one.
+     */
+    @Test
+    void testSaveContentLargeObjects() throws IOException {
+        final long before = this.countLargeObjects();
+
+        // Upload a few docs
+        for(int i = 0; i < UPLOADS; i++) {
+            final byte[] content = ("Doc content " + i).getBytes(StandardCharsets.UTF_8);
+            final Doc result = this.docService.saveContent(this.createDoc(i), new ByteArrayInputStream(content));
+            this.docIds.add(result.getId());
+            assertEquals((long) content.length, result.getFilecontentSize());
+            assertEquals(Doc.checksum(content), result.getFilecontentChecksum());
+        }
+
+        // Make sure only a single large object was created per upload
+        assertTrue(this.countLargeObjects() - before <= UPLOADS);
+    }
+
+    /**
+     * Counts the PostgreSQL large objects.
+     */
+    private long countLargeObjects() {
+        return this.jdbcTemplate.queryForObject("select count(*) from pg_largeobject_metadata", Long.class);
+    }
+
+    /**
+     * Helper function to create the test docs.
+     */
+    private Doc createDoc(int index) {
+        final Doc doc = new Doc();
+        doc.setName("doc-" + index + ".pdf");
+        doc.setComment("Large object doc");
+        doc.setMimetype("application/pdf");
+        doc.setFilecontentContentType("application/pdf");
+        return doc;
+    }
+
+}
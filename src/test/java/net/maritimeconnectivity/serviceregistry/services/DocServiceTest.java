@@ -16,8 +16,11 @@
 
 package net.maritimeconnectivity.serviceregistry.services;
 
+import net.maritimeconnectivity.serviceregistry.components.DocBlobStore;
+import net.maritimeconnectivity.serviceregistry.components.ExternalDocBlobStore;
 import net.maritimeconnectivity.serviceregistry.exceptions.DataNotFoundException;
 import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.dto.DocMetadataDto;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.*;
 import net.maritimeconnectivity.serviceregistry.repos.DocRepo;
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -35,6 +38,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -60,6 +65,24 @@ class DocServiceTest {
     @Mock
     private DocRepo docRepo;
 
+    /**
+     * The Index Coordination Service Mock.
+     */
+    @Mock
+    private IndexCoordinationService indexCoordinationService;
+
+    /**
+     * The Doc Blob Store Mock.
+     */
+    @Mock
+    private DocBlobStore docBlobStore;
+
+    /**
+     * The Doc Blob Service Mock.
+     */
+    @Mock
+    private DocBlobService docBlobService;
+
     // Test Variables
     private List<Doc> docs;
     private Pageable pageable;
@@ -126,6 +149,67 @@ class DocServiceTest {
         }
     }
 
+    /**
+     * Test that we can retrieve the metadata of all the docs currently
+     * present in the database through a paged call.
+     */
+    @Test
+    void testFindAllMetadata() {
+        // Created a result page to be returned by the mocked repository
+        Page<DocMetadataDto> page = new PageImpl<>(this.docs.subList(0, 5).stream()
+                .map(doc -> new DocMetadataDto(doc.getId(), doc.getName(), doc.getComment(), doc.getMimetype(),
+                        doc.getFilecontentContentType(), doc.getFilecontentSize(), doc.getFilecontentChecksum(), null))
+                .toList(), this.pageable, this.docs.size());
+        doReturn(page).when(this.docRepo).findAllMetadata(this.pageable);
+
+        // Perform the service call
+        Page<DocMetadataDto> result = this.docService.findAllMetadata(pageable);
+
+        // Test the result
+        assertEquals(page.getSize(), result.getSize());
+
+        // Test each of the result entries
+        for(int i=0; i < result.getSize(); i++){
+            assertEquals(this.docs.get(i).getId(), result.getContent().get(i).getId());
+            assertEquals(1L, result.getContent().get(i).getFilecontentSize());
+            assertEquals(Doc.checksum(new byte[]{0b00}), result.getContent().get(i).getFilecontentChecksum());
+        }
+    }
+
+    /**
+     * Test that we can retrieve the metadata of a single doc based on its
+     * ID.
+     */
+    @Test
+    void testFindMetadata() throws DataNotFoundException {
+        Doc doc = this.docs.get(0);
+        doReturn(Collections.singletonList(new DocMetadataDto(doc.getId(), doc.getName(), doc.getComment(), doc.getMimetype(),
+                doc.getFilecontentContentType(), doc.getFilecontentSize(), doc.getFilecontentChecksum(), null)))
+                .when(this.docRepo).findAllMetadataByIds(Collections.singletonList(doc.getId()));
+
+        // Perform the service call
+        DocMetadataDto result = this.docService.findMetadata(doc.getId());
+
+        // Test the result
+        assertEquals(doc.getId(), result.getId());
+        assertEquals(doc.getFilecontentSize(), result.getFilecontentSize());
+        assertEquals(doc.getFilecontentChecksum(), result.getFilecontentChecksum());
+    }
+
+    /**
+     * Test that we if the provided doc ID does NOT exist, then when trying
+     * to retrieve its metadata a DataNotFoundException will be thrown.
+     */
+    @Test
+    void testFindMetadataNotFound() {
+        doReturn(Collections.emptyList()).when(this.docRepo).findAllMetadataByIds(any());
+
+        // Perform the service call
+        assertThrows(DataNotFoundException.class, () ->
+                this.docService.findMetadata(this.existingDoc.getId())
+        );
+    }
+
     /**
      * Test that we can retrieve a single doc entry based on the xml
      * ID and all the eager relationships are loaded.
@@ -184,6 +268,32 @@ class DocServiceTest {
         assertEquals(this.existingDoc.getFilecontent(), result.getFilecontent());
     }
 
+    /**
+     * Test that when an external doc content store is used, the saved doc
+     * content is moved into it, and the doc only keeps a reference to it.
+     */
+    @Test
+    void testSaveExternal() throws IOException {
+        final DocBlobStore.StoredBlob blob = new DocBlobStore.StoredBlob(Doc.checksum(new byte[]{0b00}), 1);
+        final ExternalDocBlobStore externalDocBlobStore = mock(ExternalDocBlobStore.class);
+        doReturn(blob).when(externalDocBlobStore).put(any(InputStream.class));
+        this.docService.docBlobStore = externalDocBlobStore;
+        doAnswer(invocation -> invocation.getArgument(0)).when(this.docRepo).save(this.newDoc);
+
+        //Perform the service call
+        Doc result = this.docService.save(this.newDoc);
+
+        // Test the result
+        assertNotNull(result);
+        assertEquals(blob.checksum(), result.getFilecontentChecksum());
+        assertEquals(blob.size(), result.getFilecontentSize());
+        assertArrayEquals(new byte[]{0b00}, result.getFilecontent());
+
+        // Verify that a reference on the stored content was acquired
+        verify(this.docBlobService, times(1)).acquire(blob);
+        verify(this.docBlobService, never()).release(any());
+    }
+
     /**
      * Test that we can successfully delete an existing doc.
      */
@@ -199,6 +309,24 @@ class DocServiceTest {
         verify(this.docRepo, times(1)).deleteById(this.existingDoc.getId());
     }
 
+    /**
+     * Test that when we delete a doc with an externally stored content, its
+     * reference to the stored content is released.
+     */
+    @Test
+    void testDeleteExternal() throws DataNotFoundException {
+        doReturn(Boolean.TRUE).when(this.docRepo).existsById(this.existingDoc.getId());
+        doReturn(Optional.of("checksum")).when(this.docRepo).findExternalChecksumById(this.existingDoc.getId());
+        doNothing().when(this.docRepo).deleteById(this.existingDoc.getId());
+
+        // Perform the service call
+        this.docService.delete(this.existingDoc.getId());
+
+        // Verify that the deletion and the release took place
+        verify(this.docRepo, times(1)).deleteById(this.existingDoc.getId());
+        verify(this.docBlobService, times(1)).release("checksum");
+    }
+
     /**
      * Test that if we try to delete a non-existing doc then a DataNotFound
      * exception will be thrown.
@@ -245,25 +373,32 @@ class DocServiceTest {
         dtPagingRequest.setSearch(dtSearch);
 
         // Mock the full text query
-        SearchQuery<Doc> mockedQuery = mock(SearchQuery.class);
-        SearchResult<Doc> searchResult = mock(SearchResult.class);
+        SearchQuery<Long> mockedQuery = mock(SearchQuery.class);
+        SearchResult<Long> searchResult = mock(SearchResult.class);
         SearchResultTotal searchResultTotal = mock(SearchResultTotal.class);
         doReturn(searchResult).when(mockedQuery).fetch(any(), any());
-        doReturn(this.docs.subList(0, 5)).when(searchResult).hits();
+        doReturn(List.of(4L, 3L, 2L, 1L, 0L)).when(searchResult).hits();
         doReturn(searchResultTotal).when(searchResult).total();
         doReturn(10L).when(searchResultTotal).hitCount();
         doReturn(mockedQuery).when(this.docService).getSearchDocQueryByText(eq(1L), any(), any());
 
+        // Mock the metadata loaded in a different order
+        doReturn(this.docs.subList(0, 5).stream()
+                .map(doc -> new DocMetadataDto(doc.getId(), doc.getName(), doc.getComment(), doc.getMimetype(),
+                        doc.getFilecontentContentType(), doc.getFilecontentSize(), doc.getFilecontentChecksum(), 1L))
+                .toList()).when(this.docRepo).findAllMetadataByIds(List.of(4L, 3L, 2L, 1L, 0L));
+
         // Perform the service call
-        Page<Doc> result = this.docService.handleDatatablesPagingRequest(1L, dtPagingRequest);
+        Page<DocMetadataDto> result = this.docService.handleDatatablesPagingRequest(1L, dtPagingRequest);
 
         // Validate the result
         assertNotNull(result);
         assertEquals(5, result.getSize());
 
-        // Test each of the result entries
+        // Test each of the result entries, in the search hit order
         for(int i=0; i < result.getContent().size(); i++){
-            assertEquals(this.docs.get(i), result.getContent().get(i));
+            assertEquals(this.docs.get(4 - i).getId(), result.getContent().get(i).getId());
+            assertEquals(this.docs.get(4 - i).getName(), result.getContent().get(i).getName());
         }
     }
 }
\ No newline at end of file
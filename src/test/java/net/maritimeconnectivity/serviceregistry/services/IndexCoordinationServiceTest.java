@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.domain.IndexOutboxEvent;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.models.domain.enums.IndexOutboxOperation;
+import net.maritimeconnectivity.serviceregistry.repos.IndexOutboxEventRepo;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IndexCoordinationServiceTest {
+
+    /**
+     * The Tested Service.
+     */
+    @InjectMocks
+    @Spy
+    private IndexCoordinationService indexCoordinationService;
+
+    /**
+     * The Entity Manager Mock.
+     */
+    @Mock
+    private EntityManager entityManager;
+
+    /**
+     * The Index Outbox Event Repository Mock.
+     */
+    @Mock
+    private IndexOutboxEventRepo indexOutboxEventRepo;
+
+    /**
+     * The Instance Version Registry Service Mock.
+     */
+    @Mock
+    private InstanceVersionRegistryService instanceVersionRegistryService;
+
+    // Test Variables
+    private SearchSession searchSession;
+    private SearchIndexingPlan indexingPlan;
+    private Instance instance;
+    private List<IndexOutboxEvent> events;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setup() {
+        // Configure the service as node A
+        this.indexCoordinationService.enabled = true;
+        this.indexCoordinationService.nodeId = "node-a";
+        this.indexCoordinationService.commitLag = 10000;
+        this.indexCoordinationService.batchSize = 500;
+        this.indexCoordinationService.retention = 86400000;
+        this.indexCoordinationService.resetCursor(null);
+
+        // Mock the search session and indexing plan
+        this.searchSession = mock(SearchSession.class);
+        this.indexingPlan = mock(SearchIndexingPlan.class);
+
+        // Create an instance to be re-indexed
+        this.instance = new Instance();
+        this.instance.setId(1L);
+        this.instance.setName("Test Instance");
+
+        // Create the outbox events from two different nodes
+        final LocalDateTime now = LocalDateTime.now();
+        this.events = Arrays.asList(
+                this.createEvent(1L, Instance.class, 1L, IndexOutboxOperation.ADD_OR_UPDATE, "node-b", now.minusSeconds(3)),
+                this.createEvent(2L, Instance.class, 3L, IndexOutboxOperation.ADD_OR_UPDATE, "node-a", now.minusSeconds(2)),
+                this.createEvent(3L, Doc.class, 2L, IndexOutboxOperation.DELETE, "node-b", now.minusSeconds(1))
+        );
+    }
+
+    /**
+     * Test that nodes without a configured ID are given a unique random one,
+     * so that they never skip each other's events as their own.
+     */
+    @Test
+    void testInitWithoutNodeId() {
+        this.indexCoordinationService.nodeId = "";
+        this.indexCoordinationService.init();
+        final String nodeId = this.indexCoordinationService.getNodeId();
+
+        // Test the result
+        assertFalse(nodeId.isBlank());
+        this.indexCoordinationService.nodeId = null;
+        this.indexCoordinationService.init();
+        assertNotEquals(nodeId, this.indexCoordinationService.getNodeId());
+    }
+
+    /**
+     * Test that when the index coordination is disabled, no changes will be
+     * recorded in the outbox.
+     */
+    @Test
+    void testRecordChangeDisabled() {
+        this.indexCoordinationService.enabled = false;
+
+        // Perform the service call
+        this.indexCoordinationService.recordChange(Instance.class, 1L, IndexOutboxOperation.ADD_OR_UPDATE);
+
+        // Verify that nothing was recorded
+        verify(this.indexOutboxEventRepo, never()).save(any());
+    }
+
+    /**
+     * Test that when the index coordination is enabled, the changes will be
+     * recorded in the outbox alongside the originating node.
+     */
+    @Test
+    void testRecordChange() {
+        // Perform the service call
+        this.indexCoordinationService.recordChange(Instance.class, 1L, IndexOutboxOperation.ADD_OR_UPDATE);
+
+        // Verify the recorded event
+        ArgumentCaptor<IndexOutboxEvent> argument = ArgumentCaptor.forClass(IndexOutboxEvent.class);
+        verify(this.indexOutboxEventRepo, times(1)).save(argument.capture());
+        assertEquals("Instance", argument.getValue().getEntityType());
+        assertEquals(1L, argument.getValue().getEntityId());
+        assertEquals(IndexOutboxOperation.ADD_OR_UPDATE, argument.getValue().getOperation());
+        assertEquals("node-a", argument.getValue().getOriginNode());
+    }
+
+    /**
+     * Test that polling the outbox will apply the changes recorded by the
+     * other nodes to the local index, but skip the ones of the local node.
+     */
+    @Test
+    void testPollOutbox() {
+        doReturn(this.events).when(this.indexOutboxEventRepo).findAllSince(any(), any());
+        doReturn(this.instance).when(this.entityManager).find(Instance.class, 1L);
+        doReturn(this.indexingPlan).when(this.searchSession).indexingPlan();
+
+        // Perform the service call
+        final int applied;
+        try (MockedStatic<Search> mockedSearch = Mockito.mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(this.entityManager)).thenReturn(this.searchSession);
+            applied = this.indexCoordinationService.pollOutbox();
+        }
+
+        // Verify the applied changes
+        assertEquals(2, applied);
+        verify(this.indexingPlan, times(1)).addOrUpdate(this.instance);
+        verify(this.indexingPlan, times(1)).purge(Doc.class, 2L, null);
+        verify(this.entityManager, never()).find(Instance.class, 3L);
+        verify(this.instanceVersionRegistryService, times(1)).register(this.instance);
+        assertEquals(this.events.get(2).getCreatedAt(), this.indexCoordinationService.getCursor());
+    }
+
+    /**
+     * Test that events that fall within the commit lag window, and are
+     * therefore retrieved again, will not be applied twice.
+     */
+    @Test
+    void testPollOutboxTwice() {
+        doReturn(this.events).when(this.indexOutboxEventRepo).findAllSince(any(), any());
+        doReturn(this.instance).when(this.entityManager).find(Instance.class, 1L);
+        doReturn(this.indexingPlan).when(this.searchSession).indexingPlan();
+
+        // Perform the service call twice
+        final int applied;
+        try (MockedStatic<Search> mockedSearch = Mockito.mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(this.entityManager)).thenReturn(this.searchSession);
+            this.indexCoordinationService.pollOutbox();
+            applied = this.indexCoordinationService.pollOutbox();
+        }
+
+        // Verify the changes were only applied once
+        assertEquals(0, applied);
+        verify(this.indexingPlan, times(1)).addOrUpdate(this.instance);
+        verify(this.indexingPlan, times(1)).purge(Doc.class, 2L, null);
+    }
+
+    /**
+     * Test that if an updated entity no longer exists in the database, it
+     * will be purged from the local index.
+     */
+    @Test
+    void testPollOutboxEntityRemoved() {
+        doReturn(this.events.subList(0, 1)).when(this.indexOutboxEventRepo).findAllSince(any(), any());
+        doReturn(null).when(this.entityManager).find(Instance.class, 1L);
+        doReturn(this.indexingPlan).when(this.searchSession).indexingPlan();
+
+        // Perform the service call
+        try (MockedStatic<Search> mockedSearch = Mockito.mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(this.entityManager)).thenReturn(this.searchSession);
+            this.indexCoordinationService.pollOutbox();
+        }
+
+        // Verify the entity was purged
+        verify(this.indexingPlan, never()).addOrUpdate(any());
+        verify(this.indexingPlan, times(1)).purge(Instance.class, 1L, null);
+        verify(this.instanceVersionRegistryService, times(1)).unregister(1L);
+    }
+
+    /**
+     * Test that when the index coordination is disabled, the outbox will not
+     * be polled.
+     */
+    @Test
+    void testPollOutboxDisabled() {
+        this.indexCoordinationService.enabled = false;
+
+        // Perform the service call
+        assertEquals(0, this.indexCoordinationService.pollOutbox());
+
+        // Verify the outbox was not accessed
+        verify(this.indexOutboxEventRepo, never()).findAllSince(any(), any());
+    }
+
+    /**
+     * Test that only the cursors within the outbox retention period are
+     * reported as retained.
+     */
+    @Test
+    void testIsRetained() {
+        assertTrue(this.indexCoordinationService.isRetained(LocalDateTime.now().minusHours(1)));
+        assertFalse(this.indexCoordinationService.isRetained(LocalDateTime.now().minusDays(2)));
+        assertFalse(this.indexCoordinationService.isRetained(null));
+    }
+
+    /**
+     * Test that we can purge the expired outbox events.
+     */
+    @Test
+    void testPurgeOutbox() {
+        doReturn(5).when(this.indexOutboxEventRepo).deleteAllBefore(any());
+
+        // Perform the service call
+        assertEquals(5, this.indexCoordinationService.purgeOutbox());
+
+        // Verify the deletion took place
+        verify(this.indexOutboxEventRepo, times(1)).deleteAllBefore(any());
+    }
+
+    /**
+     * Helper function to create outbox events.
+     */
+    private IndexOutboxEvent createEvent(Long id, Class<?> type, Long entityId, IndexOutboxOperation operation, String node, LocalDateTime createdAt) {
+        IndexOutboxEvent event = new IndexOutboxEvent(type.getSimpleName(), entityId, operation, node);
+        event.setId(id);
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import net.maritimeconnectivity.serviceregistry.components.DomainDtoMapper;
+import net.maritimeconnectivity.serviceregistry.config.GlobalConfig;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.secom.CachedSearchObjectResult;
+import net.maritimeconnectivity.serviceregistry.models.dto.secom.SearchObjectResultWithCert;
+import org.grad.secom.core.models.SearchObjectResult;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstanceJsonCacheServiceTest {
+
+    /**
+     * The Tested Service.
+     */
+    private InstanceJsonCacheService instanceJsonCacheService;
+
+    // Test Variables
+    private ObjectMapper objectMapper;
+    private DomainDtoMapper<Instance, InstanceDto> instanceDomainToDtoMapper;
+    private DomainDtoMapper<Instance, SearchObjectResult> searchObjectResultMapper;
+    private Instance instance;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setUp() {
+        final ModelMapper modelMapper = new GlobalConfig().modelMapper();
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.instanceDomainToDtoMapper = new DomainDtoMapper<>();
+        ReflectionTestUtils.setField(this.instanceDomainToDtoMapper, "modelMapper", modelMapper);
+        this.searchObjectResultMapper = new DomainDtoMapper<>();
+        ReflectionTestUtils.setField(this.searchObjectResultMapper, "modelMapper", modelMapper);
+
+        // Create the tested service
+        this.instanceJsonCacheService = new InstanceJsonCacheService();
+        this.instanceJsonCacheService.enabled = true;
+        this.instanceJsonCacheService.maxSize = 100;
+        this.instanceJsonCacheService.compressed = true;
+        this.instanceJsonCacheService.objectMapper = this.objectMapper;
+        this.instanceJsonCacheService.instanceDomainToDtoMapper = this.instanceDomainToDtoMapper;
+        this.instanceJsonCacheService.searchObjectResultMapper = this.searchObjectResultMapper;
+        this.instanceJsonCacheService.init();
+
+        // Create a test instance
+        this.instance = new Instance();
+        this.instance.setId(1L);
+        this.instance.setName("Instance");
+        this.instance.setVersion("1.0.0");
+        this.instance.setInstanceId("urn:mrn:mcp:service:mcc:grad:instance:test");
+        this.instance.setOrganizationId("urn:mrn:mcp:org:mcc:grad");
+        this.instance.setKeywords(Arrays.asList("keyword1", "keyword2"));
+        this.instance.setStatus(ServiceStatus.RELEASED);
+        this.instance.setLastUpdatedAt(LocalDateTime.now());
+    }
+
+    /**
+     * Test that the cached instance DTO fragments are the same as the
+     * serialized instance DTOs, and are reused while the instance is not
+     * updated.
+     */
+    @Test
+    void testGetInstanceDtoJson() throws IOException {
+        final String expected = this.objectMapper.writeValueAsString(this.instanceDomainToDtoMapper.convertTo(this.instance, InstanceDto.class));
+
+        final RawValue result = this.instanceJsonCacheService.getInstanceDtoJson(this.instance);
+        assertEquals(expected, this.write(result));
+        assertSame(result.rawValue(), this.instanceJsonCacheService.getInstanceDtoJson(this.instance).rawValue());
+    }
+
+    /**
+     * Test that the cached fragments are regenerated when the instance is
+     * updated or when they are evicted.
+     */
+    @Test
+    void testInvalidation() throws IOException {
+        final Object cached = this.instanceJsonCacheService.getInstanceDtoJson(this.instance).rawValue();
+
+        // Updating the instance should regenerate the fragment
+        this.instance.setName("Updated Instance");
+        this.instance.setLastUpdatedAt(this.instance.getLastUpdatedAt().plusSeconds(1));
+        final RawValue updated = this.instanceJsonCacheService.getInstanceDtoJson(this.instance);
+        assertNotSame(cached, updated.rawValue());
+        assertTrue(this.write(updated).contains("Updated Instance"));
+
+        // And so should the eviction
+        this.instanceJsonCacheService.evict(this.instance.getId());
+        assertNotSame(updated.rawValue(), this.instanceJsonCacheService.getInstanceDtoJson(this.instance).rawValue());
+    }
+
+    /**
+     * Test that unsaved instances are never cached.
+     */
+    @Test
+    void testUnsavedInstance() {
+        this.instance.setId(null);
+
+        assertNotSame(this.instanceJsonCacheService.getInstanceDtoJson(this.instance).rawValue(),
+                this.instanceJsonCacheService.getInstanceDtoJson(this.instance).rawValue());
+    }
+
+    /**
+     * Test that the compressed instance DTO fragments decompress to the
+     * serialized instance DTOs.
+     */
+    @Test
+    void testGetInstanceDtoGzip() throws IOException {
+        final String expected = this.objectMapper.writeValueAsString(this.instanceDomainToDtoMapper.convertTo(this.instance, InstanceDto.class));
+
+        final byte[] result = this.instanceJsonCacheService.getInstanceDtoGzip(this.instance);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result))) {
+            assertEquals(expected, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertSame(result, this.instanceJsonCacheService.getInstanceDtoGzip(this.instance));
+    }
+
+    /**
+     * Test that the cached SECOM search results are serialized as the
+     * serialized mapped search results, while still identifying their
+     * instances.
+     */
+    @Test
+    void testGetSearchObjectResults() throws IOException {
+        final String expected = this.objectMapper.writeValueAsString(this.searchObjectResultMapper.convertTo(this.instance, SearchObjectResultWithCert.class));
+
+        final List<SearchObjectResult> result = this.instanceJsonCacheService.getSearchObjectResults(List.of(this.instance));
+        assertEquals(1, result.size());
+        assertInstanceOf(CachedSearchObjectResult.class, result.get(0));
+        assertEquals(this.instance.getInstanceId(), result.get(0).getInstanceId());
+        assertEquals(this.instance.getVersion(), result.get(0).getVersion());
+        assertEquals(this.instance.getOrganizationId(), result.get(0).getOrganizationId());
+        assertEquals("[" + expected + "]", this.objectMapper.writeValueAsString(result));
+    }
+
+    /**
+     * Writes out the provided raw JSON value.
+     *
+     * @param rawValue  the raw JSON value
+     * @return the written JSON
+     * @throws IOException if the value could not be written
+     */
+    private String write(RawValue rawValue) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator jsonGenerator = this.objectMapper.createGenerator(writer)) {
+            rawValue.serialize(jsonGenerator, null);
+        }
+        return writer.toString();
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import net.maritimeconnectivity.serviceregistry.PostgreSQLContainerTest;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the concurrent saves of new versions of the same MRN are
+ * serialised by the MRN lock, so that a single version ends up flagged as
+ * the latest one.
+ */
+class InstanceServiceConcurrencyTest extends PostgreSQLContainerTest {
+
+    // Test Constants
+    private static final String MRN = "urn:mrn:mcp:service:test:org:instance:concurrent";
+    private static final int VERSIONS = 8;
+
+    /**
+     * The Instance Service.
+     */
+    @Autowired
+    InstanceService instanceService;
+
+    /**
+     * The Instance Repo.
+     */
+    @Autowired
+    InstanceRepo instanceRepo;
+
+    /**
+     * Clean up the test instances.
+     */
+    @AfterEach
+    void tearDown() {
+        this.instanceRepo.deleteAll(this.instanceRepo.findByDomainId(MRN));
+    }
+
+    /**
+     * Test that when multiple new versions of the same MRN are saved at the
+     * same time, all the saves succeed and only the greatest version is
+     * flagged as the latest one.
+     */
+    @Test
+    void testConcurrentSavesOfNewVersions() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(VERSIONS);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            // Submit all the saves, but only start them together
+            final List<Future<Instance>> futures = new ArrayList<>();
+            for(int i = 1; i <= VERSIONS; i++) {
+                final Instance instance = this.createInstance(i + ".0.0");
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return this.instanceService.save(instance);
+                }));
+            }
+            start.countDown();
+            for(Future<Instance> future : futures) {
+                assertNotNull(future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Make sure only the greatest version is flagged as the latest
+        final List<Instance> latest = this.instanceRepo.findByDomainId(MRN).stream()
+                .filter(Instance::isLatest)
+                .toList();
+        assertEquals(1, latest.size());
+        assertEquals(VERSIONS + ".0.0", latest.get(0).getVersion());
+    }
+
+    /**
+     * Helper function to create the test instances.
+     */
+    private Instance createInstance(String version) {
+        final Instance instance = new Instance();
+        instance.setInstanceId(MRN);
+        instance.setVersion(version);
+        instance.setName("Concurrent Instance");
+        instance.setComment("No comment");
+        instance.setStatus(ServiceStatus.RELEASED);
+        return instance;
+    }
+
+}
@@ -17,21 +17,35 @@
 package net.maritimeconnectivity.serviceregistry.services;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import net.maritimeconnectivity.eNav.utils.G1128Utils;
 import net.maritimeconnectivity.serviceregistry.exceptions.DataNotFoundException;
 import net.maritimeconnectivity.serviceregistry.exceptions.DuplicateDataException;
 import net.maritimeconnectivity.serviceregistry.exceptions.GeometryParseException;
+import net.maritimeconnectivity.serviceregistry.exceptions.InvalidRequestException;
 import net.maritimeconnectivity.serviceregistry.exceptions.XMLValidationException;
 import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
 import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
 import net.maritimeconnectivity.serviceregistry.models.domain.UserToken;
 import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
+import net.maritimeconnectivity.serviceregistry.models.domain.enums.IndexOutboxOperation;
 import net.maritimeconnectivity.serviceregistry.models.dto.datatables.*;
 import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
 import net.maritimeconnectivity.serviceregistry.utils.UserContext;
+import net.maritimeconnectivity.serviceregistry.utils.XmlUtil;
 import org.apache.commons.io.IOUtils;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.WildcardQuery;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceInstance;
 import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -58,7 +72,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -88,12 +104,42 @@ class InstanceServiceTest {
     @Mock
     private XmlService xmlService;
 
+    /**
+     * The XML Delta Service Mock.
+     */
+    @Mock
+    private XmlDeltaService xmlDeltaService;
+
     /**
      * The Doc Service Mock.
      */
     @Mock
     private DocService docService;
 
+    /**
+     * The Index Coordination Service Mock.
+     */
+    @Mock
+    private IndexCoordinationService indexCoordinationService;
+
+    /**
+     * The Concurrent Search Service mock.
+     */
+    @Mock
+    private ConcurrentSearchService concurrentSearchService;
+
+    /**
+     * The Instance JSON Cache Service mock.
+     */
+    @Mock
+    private InstanceJsonCacheService instanceJsonCacheService;
+
+    /**
+     * The Instance Version Registry Service mock.
+     */
+    @Mock
+    private InstanceVersionRegistryService instanceVersionRegistryService;
+
     /**
      * The User Context.
      */
@@ -271,6 +317,43 @@ class InstanceServiceTest {
         verify(this.instanceRepo, never()).save(any());
     }
 
+    /**
+     * Test that when the instance version registry is enabled, the MRN and
+     * version duplicates are detected without querying the database.
+     */
+    @Test
+    void testSaveWithDuplicatedMRNVersionFromRegistry() {
+        doReturn(true).when(this.instanceVersionRegistryService).isEnabled();
+        doReturn(Optional.of(this.existingInstance.getId())).when(this.instanceVersionRegistryService).findId(this.newInstance.getInstanceId(), this.newInstance.getVersion());
+
+        // Perform the service call
+        assertThrows(DuplicateDataException.class, () ->
+                this.instanceService.save(this.newInstance)
+        );
+
+        // And make sure the database was not queried
+        verify(this.instanceRepo, never()).findByDomainIdAndVersion(any(), any());
+        verify(this.instanceRepo, never()).save(any());
+    }
+
+    /**
+     * Test that when the instance version registry is enabled, it is the
+     * authority for the MRN and version lookups, so its misses are not looked
+     * up in the database again, leaving any stale ones to the database
+     * unique constraint.
+     */
+    @Test
+    void testFindIdByDomainIdAndVersionMissingFromRegistry() {
+        doReturn(true).when(this.instanceVersionRegistryService).isEnabled();
+        doReturn(Optional.empty()).when(this.instanceVersionRegistryService).findId(this.newInstance.getInstanceId(), this.newInstance.getVersion());
+
+        // Perform the service call
+        assertTrue(this.instanceService.findIdByDomainIdAndVersion(this.newInstance.getInstanceId(), this.newInstance.getVersion()).isEmpty());
+
+        // And make sure the database was not queried
+        verify(this.instanceRepo, never()).findByDomainIdAndVersion(any(), any());
+    }
+
     /**
      * Test that we can save correctly a new or existing instance if all
      * the validation checks are successful.
@@ -278,7 +361,7 @@ class InstanceServiceTest {
     @Test
     void testSaveWithGeometry() throws XMLValidationException, GeometryParseException, ParseException, JsonProcessingException, DataNotFoundException {
         doReturn(this.newInstance).when(this.instanceRepo).save(any());
-        doNothing().when(this.instanceService).validateInstanceForSave(any());
+        doReturn(false).when(this.instanceService).validateInstanceForSave(any());
         doReturn(Optional.of(new UserToken()).map(t -> {t.setOrganisation("org"); return t;})).when(this.userContext).getJwtToken();
 
         // Perform the service call
@@ -302,6 +385,7 @@ class InstanceServiceTest {
 
         // Also that a saving call took place in the repository
         verify(this.instanceRepo, times(1)).save(this.newInstance);
+        verify(this.instanceJsonCacheService, times(1)).evict(this.newInstance.getId());
     }
 
     /**
@@ -313,7 +397,7 @@ class InstanceServiceTest {
     @Test
     void testSaveNoGeometry() throws XMLValidationException, GeometryParseException, ParseException, JsonProcessingException, DataNotFoundException {
         doAnswer(i -> i.getArguments()[0]).when(this.instanceRepo).save(any());
-        doNothing().when(this.instanceService).validateInstanceForSave(any());
+        doReturn(false).when(this.instanceService).validateInstanceForSave(any());
         doReturn(Optional.of(new UserToken()).map(t -> {t.setOrganisation("org"); return t;})).when(this.userContext).getJwtToken();
 
         // Make sure the geometry of the instance is empty
@@ -346,6 +430,71 @@ class InstanceServiceTest {
         verify(this.instanceRepo, times(1)).save(this.newInstance);
     }
 
+    /**
+     * Test that when a new version of an instance is saved, it is flagged as
+     * the latest version instead of the previous one, and the XML of the
+     * previous version is stored as a delta against the XML of the new one.
+     */
+    @Test
+    void testSaveUpdatesLatestVersion() throws XMLValidationException, GeometryParseException, ParseException, JsonProcessingException, DataNotFoundException {
+        // Create two older versions of the new instance
+        final Xml olderXml = new Xml();
+        olderXml.setId(1L);
+        final Instance olderInstance = new Instance();
+        olderInstance.setId(1L);
+        olderInstance.setVersion("0.9.0");
+        olderInstance.setInstanceAsXml(olderXml);
+        final Xml previousXml = new Xml();
+        previousXml.setId(2L);
+        final Instance previousInstance = new Instance();
+        previousInstance.setId(2L);
+        previousInstance.setVersion("0.10.0");
+        previousInstance.setLatest(true);
+        previousInstance.setInstanceAsXml(previousXml);
+
+        doAnswer(i -> i.getArguments()[0]).when(this.instanceRepo).save(any());
+        doReturn(false).when(this.instanceService).validateInstanceForSave(any());
+        doReturn(Optional.empty()).when(this.userContext).getJwtToken();
+        doReturn(List.of(this.newInstance, previousInstance, olderInstance)).when(this.instanceRepo).findByDomainIdOrderByVersionDesc(this.newInstance.getInstanceId());
+
+        // Perform the service call
+        this.instanceService.save(this.newInstance);
+
+        // Verify that the latest version flag was moved to the new instance,
+        // once the previous one was cleared
+        assertTrue(this.newInstance.isLatest());
+        verify(this.instanceRepo, times(1)).flush();
+        assertFalse(previousInstance.isLatest());
+        assertFalse(olderInstance.isLatest());
+        verify(this.indexCoordinationService, times(1)).recordChange(Instance.class, previousInstance.getId(), IndexOutboxOperation.ADD_OR_UPDATE);
+        verify(this.indexCoordinationService, never()).recordChange(Instance.class, olderInstance.getId(), IndexOutboxOperation.ADD_OR_UPDATE);
+
+        // And that only the superseded version was rebased
+        verify(this.xmlDeltaService, times(1)).rebase(previousXml, this.newInstance.getInstanceAsXml());
+        verify(this.xmlDeltaService, never()).rebase(eq(olderXml), any());
+    }
+
+    /**
+     * Test that when the latest version of an instance is deleted, the
+     * previous version is flagged as the latest one.
+     */
+    @Test
+    void testDeleteUpdatesLatestVersion() {
+        final Instance previousInstance = new Instance();
+        previousInstance.setId(2L);
+        previousInstance.setVersion("0.10.0");
+        doReturn(Optional.of(this.existingInstance)).when(this.instanceRepo).findById(this.existingInstance.getId());
+        doReturn(List.of(previousInstance)).when(this.instanceRepo).findByDomainIdOrderByVersionDesc(this.existingInstance.getInstanceId());
+
+        // Perform the service call
+        this.instanceService.delete(this.existingInstance.getId());
+
+        // Verify that the previous version is now the latest one
+        assertTrue(previousInstance.isLatest());
+        verify(this.indexCoordinationService, times(1)).recordChange(Instance.class, previousInstance.getId(), IndexOutboxOperation.ADD_OR_UPDATE);
+        verify(this.instanceJsonCacheService, times(1)).evict(previousInstance.getId());
+    }
+
     /**
      * Test that we can successfully delete an existing instance.
      */
@@ -358,7 +507,10 @@ class InstanceServiceTest {
         this.instanceService.delete(this.existingInstance.getId());
 
         // Verify that a deletion call took place in the repository
+        verify(this.xmlDeltaService, times(1)).detach(this.existingInstance.getInstanceAsXml().getId());
         verify(this.instanceRepo, times(1)).deleteById(this.existingInstance.getId());
+        verify(this.indexCoordinationService, times(1)).recordChange(Instance.class, this.existingInstance.getId(), IndexOutboxOperation.DELETE);
+        verify(this.instanceJsonCacheService, times(1)).evict(this.existingInstance.getId());
     }
 
     /**
@@ -379,7 +531,8 @@ class InstanceServiceTest {
     @Test
     void testUpdateStatus() throws DataNotFoundException, XMLValidationException, GeometryParseException, JAXBException, ParseException, JsonProcessingException {
         doReturn(this.existingInstance).when(this.instanceRepo).findOneWithEagerRelationships(this.existingInstance.getId());
-        doNothing().when(this.instanceService).validateInstanceForSave(any());
+        doReturn(false).when(this.instanceService).validateInstanceForSave(any());
+        doAnswer(i -> i.getArguments()[0]).when(this.instanceRepo).save(any());
 
         // Perform the service call
         this.instanceService.updateStatus(this.existingInstance.getId(), ServiceStatus.DEPRECATED);
@@ -425,6 +578,75 @@ class InstanceServiceTest {
         verify(this.instanceRepo, never()).save(any());
     }
 
+    /**
+     * Test that upserting an instance with an MRN and version not found in
+     * the database will create a new instance.
+     */
+    @Test
+    void testUpsertCreatesInstance() throws Exception {
+        doReturn(Optional.empty()).when(this.instanceRepo).findByDomainIdAndVersion(this.newInstance.getInstanceId(), this.newInstance.getVersion());
+        doReturn(false).when(this.instanceService).validateInstanceForSave(any(), any());
+        doAnswer(inv -> inv.getArgument(0)).when(this.instanceService).save(any(), anyBoolean());
+
+        // Perform the service call
+        InstanceService.SaveResult result = this.instanceService.upsert(this.newInstance.getInstanceId(), this.newInstance.getVersion(), this.newInstance);
+
+        // Make sure the instance was saved as a new one and written straight away
+        assertNull(result.instance().getId());
+        assertTrue(result.created());
+        verify(this.instanceService, times(1)).validateInstanceForSave(this.newInstance, null);
+        verify(this.instanceService, times(1)).save(this.newInstance, false);
+        verify(this.instanceRepo, times(1)).flush();
+
+        // And that the duplicates were left to the database to detect
+        verify(this.instanceRepo, times(1)).findByDomainIdAndVersion(any(), any());
+        verify(this.instanceService, never()).findIdByDomainIdAndVersion(any(), any());
+    }
+
+    /**
+     * Test that upserting an instance with an MRN and version found in the
+     * instance version registry will replace the existing instance.
+     */
+    @Test
+    void testUpsertReplacesInstance() throws Exception {
+        doReturn(true).when(this.instanceVersionRegistryService).isEnabled();
+        doReturn(Optional.of(this.existingInstance.getId())).when(this.instanceVersionRegistryService).findId(this.existingInstance.getInstanceId(), this.existingInstance.getVersion());
+        doReturn(Optional.of(this.existingInstance)).when(this.instanceRepo).findById(this.existingInstance.getId());
+        doReturn(true).when(this.instanceService).validateInstanceForSave(any(), any());
+        doAnswer(inv -> inv.getArgument(0)).when(this.instanceService).save(any(), anyBoolean());
+
+        // Perform the service call
+        InstanceService.SaveResult result = this.instanceService.upsert(this.existingInstance.getInstanceId(), this.existingInstance.getVersion(), this.newInstance);
+
+        // Make sure the existing instance was replaced, only looking it up once
+        assertEquals(this.existingInstance.getId(), result.instance().getId());
+        assertFalse(result.created());
+        verify(this.instanceService, times(1)).validateInstanceForSave(this.newInstance, this.existingInstance);
+        verify(this.instanceService, times(1)).save(this.newInstance, true);
+        verify(this.instanceRepo, times(1)).findById(this.existingInstance.getId());
+        verify(this.instanceRepo, never()).findByDomainIdAndVersion(any(), any());
+        verify(this.instanceRepo, times(1)).flush();
+    }
+
+    /**
+     * Test that upserting an instance with an XML that does not match the
+     * requested MRN and version will throw an InvalidRequestException.
+     */
+    @Test
+    void testUpsertMismatch() throws Exception {
+        doReturn(Optional.empty()).when(this.instanceRepo).findByDomainIdAndVersion(this.newInstance.getInstanceId(), "2.0.0");
+        doReturn(false).when(this.instanceService).validateInstanceForSave(any(), any());
+        doReturn(this.existingInstance).when(this.instanceService).save(any(), anyBoolean());
+
+        // Perform the service call
+        assertThrows(InvalidRequestException.class, () ->
+                this.instanceService.upsert(this.newInstance.getInstanceId(), "2.0.0", this.newInstance)
+        );
+
+        // And make sure nothing was written
+        verify(this.instanceRepo, never()).flush();
+    }
+
     /**
      * Test that we can search for all the instances based on their specific
      * domain ID.
@@ -482,7 +704,8 @@ class InstanceServiceTest {
      */
     @Test
     void testFindLatestVersionByDomainId() {
-        doReturn(this.instances).when(this.instanceRepo).findByDomainIdEagerRelationships("domainId");
+        doReturn(List.of(this.instances.get(this.instances.size()-1).getId())).when(this.instanceRepo).findLatestIdsByDomainId("domainId", PageRequest.of(0, 1));
+        doReturn(this.instances.get(this.instances.size()-1)).when(this.instanceRepo).findOneWithEagerRelationships(this.instances.get(this.instances.size()-1).getId());
 
         // Perform the service call
         Instance result = this.instanceService.findLatestVersionByDomainId("domainId");
@@ -504,6 +727,60 @@ class InstanceServiceTest {
         assertEquals(this.instances.get(this.instances.size()-1).getGeometry(), result.getGeometry());
     }
 
+    /**
+     * Test that when the instance version registry is enabled, the instances
+     * of a domain ID are looked up by the IDs held in the registry.
+     */
+    @Test
+    void testFindAllByDomainIdFromRegistry() {
+        doReturn(true).when(this.instanceVersionRegistryService).isEnabled();
+        doReturn(List.of(1L, 2L)).when(this.instanceVersionRegistryService).findIds("domainId");
+        doReturn(Optional.of(this.instances.get(1))).when(this.instanceRepo).findById(1L);
+        doReturn(Optional.empty()).when(this.instanceRepo).findById(2L);
+
+        // Perform the service call
+        List<Instance> result = this.instanceService.findAllByDomainId("domainId");
+
+        // Test the result, skipping any instances no longer available
+        assertEquals(List.of(this.instances.get(1)), result);
+        verify(this.instanceRepo, never()).findByDomainId(any());
+    }
+
+    /**
+     * Test that when the instance version registry is enabled, the latest
+     * version of a domain ID is looked up by the ID held in the registry.
+     */
+    @Test
+    void testFindLatestVersionByDomainIdFromRegistry() {
+        doReturn(true).when(this.instanceVersionRegistryService).isEnabled();
+        doReturn(Optional.of(14L)).when(this.instanceVersionRegistryService).findLatestId("domainId");
+        doReturn(this.instances.get(14)).when(this.instanceRepo).findOneWithEagerRelationships(14L);
+
+        // Perform the service call
+        Instance result = this.instanceService.findLatestVersionByDomainId("domainId");
+
+        // Test the result
+        assertEquals(this.instances.get(14), result);
+        verify(this.instanceRepo, never()).findLatestIdsByDomainId(any(), any());
+    }
+
+    /**
+     * Test that when the instance version registry is enabled and the
+     * requested version is not registered, a DataNotFoundException is thrown.
+     */
+    @Test
+    void testFindByDomainIdAndVersionFromRegistryNotFound() {
+        doReturn(true).when(this.instanceVersionRegistryService).isEnabled();
+        doReturn(Optional.empty()).when(this.instanceVersionRegistryService).findId("domainId", "0.0.1Test");
+
+        // Perform the service call
+        assertThrows(DataNotFoundException.class, () ->
+                this.instanceService.findByDomainIdAndVersion("domainId", "0.0.1Test")
+        );
+        verify(this.instanceRepo, never()).findOneWithEagerRelationships(any());
+        verify(this.instanceRepo, never()).findByDomainIdAndVersionEagerRelationships(any(), any());
+    }
+
     /**
      * That that we can validate incoming requests correctly based on the
      * provided XML and geometry values.
@@ -561,6 +838,116 @@ class InstanceServiceTest {
         );
     }
 
+    /**
+     * Test that when an existing instance is saved with an unchanged XML,
+     * even if formatted differently, the XML is not processed again and the
+     * attributes parsed from it are carried over.
+     */
+    @Test
+    void testValidateInstanceForSaveXmlUnchanged() throws IOException, JAXBException, XMLValidationException, GeometryParseException {
+        // Load a valid test XML for our instance
+        InputStream in = new ClassPathResource("test-instance.xml").getInputStream();
+        String xmlContent = IOUtils.toString(in, StandardCharsets.UTF_8.name());
+
+        // Set the content in the existing instance
+        Xml existingXml = new Xml();
+        existingXml.setId(200L);
+        existingXml.setContent(xmlContent);
+        this.existingInstance.setInstanceAsXml(existingXml);
+
+        // And a differently formatted one in the updated instance
+        Xml updatedXml = new Xml();
+        updatedXml.setId(200L);
+        updatedXml.setContent(xmlContent.replace("\n", "\r\n"));
+        Instance updatedInstance = new Instance();
+        updatedInstance.setId(this.existingInstance.getId());
+        updatedInstance.setInstanceAsXml(updatedXml);
+
+        doReturn(Optional.of(this.existingInstance)).when(this.instanceRepo).findById(this.existingInstance.getId());
+
+        // Perform the service call
+        assertTrue(this.instanceService.validateInstanceForSave(updatedInstance));
+
+        // Verify that the existing attributes and XML were carried over
+        assertEquals(this.existingInstance.getName(), updatedInstance.getName());
+        assertEquals(this.existingInstance.getVersion(), updatedInstance.getVersion());
+        assertEquals(this.existingInstance.getInstanceId(), updatedInstance.getInstanceId());
+        assertEquals(this.existingInstance.getGeometry(), updatedInstance.getGeometry());
+        assertArrayEquals(existingXml.getContentCompressed(), updatedXml.getContentCompressed());
+        verify(this.instanceService, never()).parseInstanceAttributesFromXML(any());
+    }
+
+    /**
+     * Test that when an existing instance is resubmitted with its original
+     * unformatted XML, the XML is still recognised as unchanged, even though
+     * the stored version was formatted when first saved.
+     */
+    @Test
+    void testValidateInstanceForSaveXmlResubmitted() throws IOException, JAXBException, XMLValidationException, GeometryParseException {
+        // Load a valid test XML for our instance, without the XML declaration
+        InputStream in = new ClassPathResource("test-instance.xml").getInputStream();
+        String xmlContent = IOUtils.toString(in, StandardCharsets.UTF_8.name());
+        xmlContent = xmlContent.substring(xmlContent.indexOf("<serviceInstance"));
+
+        // Store the formatted version in the existing instance
+        G1128Utils<ServiceInstance> g1128Utils = new G1128Utils<>(ServiceInstance.class);
+        Xml existingXml = new Xml();
+        existingXml.setId(200L);
+        existingXml.setContent(g1128Utils.marshalG1128(g1128Utils.unmarshallG1128(xmlContent)));
+        this.existingInstance.setInstanceAsXml(existingXml);
+        assertNotEquals(XmlUtil.contentHash(xmlContent), existingXml.getContentHash());
+
+        // And resubmit the original unformatted one
+        Xml updatedXml = new Xml();
+        updatedXml.setId(200L);
+        updatedXml.setContent(xmlContent);
+        Instance updatedInstance = new Instance();
+        updatedInstance.setId(this.existingInstance.getId());
+        updatedInstance.setInstanceAsXml(updatedXml);
+
+        doReturn(Optional.of(this.existingInstance)).when(this.instanceRepo).findById(this.existingInstance.getId());
+
+        // Perform the service call
+        assertTrue(this.instanceService.validateInstanceForSave(updatedInstance));
+
+        // Verify that the stored XML was carried over without reprocessing
+        assertEquals(existingXml.getContentHash(), updatedXml.getContentHash());
+        verify(this.instanceService, never()).parseInstanceAttributesFromXML(any());
+    }
+
+    /**
+     * Test that when validating an existing instance, the instance docs that
+     * are only referenced by their IDs are replaced by the existing docs,
+     * while any unknown docs are dropped.
+     */
+    @Test
+    void testValidateInstanceForSaveReferencedDocs() throws XMLValidationException, GeometryParseException {
+        final Doc existingDoc = new Doc();
+        existingDoc.setId(300L);
+        existingDoc.setName("existing.pdf");
+        final Doc otherDoc = new Doc();
+        otherDoc.setId(301L);
+        this.existingInstance.setDocs(new HashSet<>(Arrays.asList(existingDoc, otherDoc)));
+
+        // Reference one of the existing docs and an unknown one by their IDs
+        final Doc referencedDoc = new Doc();
+        referencedDoc.setId(existingDoc.getId());
+        final Doc unknownDoc = new Doc();
+        unknownDoc.setId(400L);
+        final Instance updatedInstance = new Instance();
+        updatedInstance.setId(this.existingInstance.getId());
+        updatedInstance.setDocs(new HashSet<>(Arrays.asList(referencedDoc, unknownDoc)));
+
+        doReturn(Optional.of(this.existingInstance)).when(this.instanceRepo).findById(this.existingInstance.getId());
+
+        // Perform the service call
+        assertFalse(this.instanceService.validateInstanceForSave(updatedInstance));
+
+        // Verify that only the referenced existing doc was kept
+        assertEquals(1, updatedInstance.getDocs().size());
+        assertSame(existingDoc, updatedInstance.getDocs().iterator().next());
+    }
+
     /**
      * Test that we can detect when we receive an invalid document when
      * validating an incoming  instance saving request.
@@ -664,7 +1051,7 @@ class InstanceServiceTest {
         doReturn(searchResult).when(mockedQuery).fetch(any(), any());
         doReturn(this.instances.subList(0, 5)).when(searchResult).hits();
         doReturn(searchResultTotal).when(searchResult).total();
-        doReturn(10L).when(searchResultTotal).hitCount();
+        doReturn(10L).when(searchResultTotal).hitCountLowerBound();
         doReturn(mockedQuery).when(this.instanceService).getSearchInstanceQueryByQueryString(any(), any(), any());
 
         // Perform the service call
@@ -680,4 +1067,82 @@ class InstanceServiceTest {
         }
     }
 
+    /**
+     * Test that when the concurrent segment search is enabled and applicable,
+     * the Lucene search query requests will be handled by it instead.
+     */
+    @Test
+    void testHandleSearchQueryRequestConcurrent() {
+        Page<Instance> page = new PageImpl<>(this.instances.subList(0, 5), this.pageable, 10);
+        doReturn(true).when(this.concurrentSearchService).isEnabled();
+        doReturn(new MatchAllDocsQuery()).when(this.instanceService).createInstanceLuceneQuery(any(), any());
+        doReturn(Optional.of(page)).when(this.concurrentSearchService).search(any(), any(), anyInt(), anyInt(), any());
+
+        // Perform the service call
+        Page<Instance> result = this.instanceService.handleSearchQueryRequest("search-field:search-value", this.point, this.pageable);
+
+        // Validate the result
+        assertNotNull(result);
+        assertEquals(page, result);
+
+        // Make sure the Hibernate Search query was not used
+        verify(this.instanceService, never()).getSearchInstanceQueryByQueryString(any(), any(), any());
+    }
+
+    /**
+     * Test that the concurrent wildcard query matches the whole normalized
+     * search text as a single wildcard term per search field, just like the
+     * Hibernate Search wildcard predicate does.
+     */
+    @Test
+    void testCreateWildcardLuceneQuery() {
+        doReturn(new MultiFieldQueryParser(new String[]{"name"}, new StandardAnalyzer())).when(this.instanceService).createQueryParser();
+
+        // Perform the service call
+        Query query = this.instanceService.createWildcardLuceneQuery("Test Instance");
+
+        // Validate the result
+        assertTrue(query instanceof BooleanQuery);
+        assertEquals(14, ((BooleanQuery) query).clauses().size());
+        for(BooleanClause clause : ((BooleanQuery) query).clauses()) {
+            assertEquals(BooleanClause.Occur.SHOULD, clause.getOccur());
+            assertTrue(clause.getQuery() instanceof WildcardQuery);
+            assertEquals("*test instance*", ((WildcardQuery) clause.getQuery()).getTerm().text());
+        }
+        assertEquals(new Term("name", "*test instance*"), ((WildcardQuery) ((BooleanQuery) query).clauses().get(0).getQuery()).getTerm());
+    }
+
+    /**
+     * Test that a blank search text will match all the instances.
+     */
+    @Test
+    void testCreateWildcardLuceneQueryBlank() {
+        assertTrue(this.instanceService.createWildcardLuceneQuery(" ") instanceof MatchAllDocsQuery);
+    }
+
+    /**
+     * Test that the required clauses of the search queries that only access
+     * the hot structured filter fields are converted into filter clauses.
+     */
+    @Test
+    void testToFilterQuery() {
+        this.instanceService.filterFields = new String[]{"status", "serviceTypes"};
+        Query query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("status", "released")), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term("name", "test")), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term("serviceTypes", "mrou")), BooleanClause.Occur.SHOULD)
+                .build();
+
+        // Perform the service call
+        Query result = this.instanceService.toFilterQuery(query);
+
+        // Validate the result
+        assertTrue(result instanceof BooleanQuery);
+        List<BooleanClause> clauses = ((BooleanQuery) result).clauses();
+        assertEquals(3, clauses.size());
+        assertEquals(BooleanClause.Occur.FILTER, clauses.get(0).getOccur());
+        assertEquals(BooleanClause.Occur.MUST, clauses.get(1).getOccur());
+        assertEquals(BooleanClause.Occur.SHOULD, clauses.get(2).getOccur());
+    }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import net.maritimeconnectivity.serviceregistry.exceptions.DuplicateDataException;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Verifies that upserting an instance concurrently created with the same MRN
+ * and version actually hits the database unique constraint, and that this is
+ * reported as a duplicate.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class})
+class InstanceServiceUpsertTest {
+
+    // Test Constants
+    private static final String MRN = "urn:mrn:mcp:service:test:org:instance:upsert";
+    private static final String VERSION = "1.0.0";
+
+    /**
+     * The Instance Service.
+     */
+    @MockitoSpyBean
+    InstanceService instanceService;
+
+    /**
+     * The Instance Repo.
+     */
+    @Autowired
+    InstanceRepo instanceRepo;
+
+    /**
+     * The Transaction Manager.
+     */
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    // Test Variables
+    private TransactionTemplate transactionTemplate;
+    private Instance instance;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        this.transactionTemplate = new TransactionTemplate(this.transactionManager);
+
+        // Persist a test instance
+        this.instance = this.instanceService.save(this.createInstance());
+    }
+
+    /**
+     * Clean up the test instance.
+     */
+    @AfterEach
+    void tearDown() {
+        this.transactionTemplate.executeWithoutResult(status -> this.instanceRepo.deleteById(this.instance.getId()));
+    }
+
+    /**
+     * Test that when an instance with the same MRN and version is created by
+     * another node after the identity of the upserted instance was resolved,
+     * the insert fails on the unique constraint and a DuplicateDataException
+     * is thrown.
+     */
+    @Test
+    void testUpsertConcurrentDuplicate() {
+        // Simulate the concurrent creation by missing it in the lookup
+        doReturn(Optional.empty()).when(this.instanceService).findExistingByDomainIdAndVersion(MRN, VERSION);
+
+        // Perform the service call
+        assertThrows(DuplicateDataException.class, () ->
+                this.instanceService.upsert(MRN, VERSION, this.createInstance())
+        );
+
+        // And make sure only the original instance remains
+        assertEquals(1, this.instanceRepo.findByDomainId(MRN).size());
+    }
+
+    /**
+     * Helper function to create the test instances.
+     */
+    private Instance createInstance() {
+        final Instance instance = new Instance();
+        instance.setInstanceId(MRN);
+        instance.setVersion(VERSION);
+        instance.setName("Upsert Instance");
+        instance.setComment("No comment");
+        instance.setStatus(ServiceStatus.RELEASED);
+        return instance;
+    }
+
+}
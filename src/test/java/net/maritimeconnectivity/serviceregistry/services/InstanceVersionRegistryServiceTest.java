@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
+import net.maritimeconnectivity.serviceregistry.utils.VersionUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InstanceVersionRegistryServiceTest {
+
+    /**
+     * The Tested Service.
+     */
+    @InjectMocks
+    private InstanceVersionRegistryService instanceVersionRegistryService;
+
+    /**
+     * The Instance Repository Mock.
+     */
+    @Mock
+    private InstanceRepo instanceRepo;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setUp() {
+        this.instanceVersionRegistryService.enabled = true;
+        doReturn(List.of(
+                new Object[]{1L, "urn:mrn:test:instance:a", "1.0.0", VersionUtil.toSortKey("1.0.0")},
+                new Object[]{2L, "urn:mrn:test:instance:a", "1.10.0", VersionUtil.toSortKey("1.10.0")},
+                new Object[]{3L, "urn:mrn:test:instance:a", "1.2.0", VersionUtil.toSortKey("1.2.0")},
+                new Object[]{4L, "urn:mrn:test:instance:b", "0.0.1", VersionUtil.toSortKey("0.0.1")}
+        )).when(this.instanceRepo).findAllVersionEntries();
+        this.instanceVersionRegistryService.init();
+    }
+
+    /**
+     * Test that the registry loads all the instance versions on startup,
+     * ordered from the latest to the oldest one.
+     */
+    @Test
+    void testInit() {
+        assertTrue(this.instanceVersionRegistryService.isEnabled());
+        assertEquals(List.of(2L, 3L, 1L), this.instanceVersionRegistryService.findIds("urn:mrn:test:instance:a"));
+        assertEquals(List.of(4L), this.instanceVersionRegistryService.findIds("urn:mrn:test:instance:b"));
+        assertEquals(List.of(), this.instanceVersionRegistryService.findIds("urn:mrn:test:instance:c"));
+    }
+
+    /**
+     * Test that we can look up the ID of a specific instance version, as well
+     * as of the latest version of an MRN.
+     */
+    @Test
+    void testFindId() {
+        assertEquals(Optional.of(3L), this.instanceVersionRegistryService.findId("urn:mrn:test:instance:a", "1.2.0"));
+        assertEquals(Optional.empty(), this.instanceVersionRegistryService.findId("urn:mrn:test:instance:a", "2.0.0"));
+        assertEquals(Optional.of(2L), this.instanceVersionRegistryService.findLatestId("urn:mrn:test:instance:a"));
+        assertEquals(Optional.empty(), this.instanceVersionRegistryService.findLatestId("urn:mrn:test:instance:c"));
+    }
+
+    /**
+     * Test that registering an instance outside a transaction updates the
+     * registry straight away, including any change of its MRN or version.
+     */
+    @Test
+    void testRegister() {
+        final Instance instance = new Instance();
+        instance.setId(5L);
+        instance.setInstanceId("urn:mrn:test:instance:a");
+        instance.setVersion("2.0.0");
+
+        // Perform the service call
+        this.instanceVersionRegistryService.register(instance);
+        assertEquals(Optional.of(5L), this.instanceVersionRegistryService.findLatestId("urn:mrn:test:instance:a"));
+
+        // Move the instance to another MRN
+        instance.setInstanceId("urn:mrn:test:instance:b");
+        this.instanceVersionRegistryService.register(instance);
+        assertEquals(List.of(2L, 3L, 1L), this.instanceVersionRegistryService.findIds("urn:mrn:test:instance:a"));
+        assertEquals(List.of(5L, 4L), this.instanceVersionRegistryService.findIds("urn:mrn:test:instance:b"));
+    }
+
+    /**
+     * Test that unregistering an instance removes it from the registry.
+     */
+    @Test
+    void testUnregister() {
+        this.instanceVersionRegistryService.unregister(2L);
+        this.instanceVersionRegistryService.unregister(4L);
+
+        // Test the result
+        assertEquals(Optional.of(3L), this.instanceVersionRegistryService.findLatestId("urn:mrn:test:instance:a"));
+        assertEquals(List.of(), this.instanceVersionRegistryService.findIds("urn:mrn:test:instance:b"));
+    }
+
+    /**
+     * Test that when the registry is disabled, it does not load anything and
+     * reports that it cannot be used.
+     */
+    @Test
+    void testDisabled() {
+        final InstanceVersionRegistryService disabled = new InstanceVersionRegistryService();
+        disabled.instanceRepo = this.instanceRepo;
+        disabled.init();
+
+        // Test the result
+        assertFalse(disabled.isEnabled());
+        verify(this.instanceRepo, times(1)).findAllVersionEntries();
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import net.maritimeconnectivity.serviceregistry.components.LuceneSnapshotRestorer;
+import net.maritimeconnectivity.serviceregistry.repos.DocRepo;
+import net.maritimeconnectivity.serviceregistry.repos.InstanceRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LuceneSnapshotServiceTest {
+
+    /**
+     * The Tested Service.
+     */
+    @InjectMocks
+    private LuceneSnapshotService luceneSnapshotService;
+
+    /**
+     * The Instance Repository Mock.
+     */
+    @Mock
+    private InstanceRepo instanceRepo;
+
+    /**
+     * The Doc Repository Mock.
+     */
+    @Mock
+    private DocRepo docRepo;
+
+    /**
+     * The Index Coordination Service Mock.
+     */
+    @Mock
+    private IndexCoordinationService indexCoordinationService;
+
+    /**
+     * The Lucene Snapshot Restorer Mock.
+     */
+    @Mock
+    private LuceneSnapshotRestorer luceneSnapshotRestorer;
+
+    // Test Variables
+    private Properties manifest;
+    private LocalDateTime cursor;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setUp() {
+        this.cursor = LocalDateTime.now().minusDays(2);
+        this.manifest = new Properties();
+        this.manifest.setProperty(LuceneSnapshotService.MANIFEST_CREATED_AT, this.cursor.toString());
+        this.manifest.setProperty(LuceneSnapshotService.MANIFEST_OUTBOX_CURSOR, this.cursor.toString());
+    }
+
+    /**
+     * Test that when no snapshot was restored, there is nothing to catch up
+     * with.
+     */
+    @Test
+    void testCatchUpWithoutSnapshot() {
+        doReturn(Optional.empty()).when(this.luceneSnapshotRestorer).getRestoredManifest();
+
+        // Perform the service call
+        assertFalse(this.luceneSnapshotService.catchUpRestoredSnapshot());
+    }
+
+    /**
+     * Test that a snapshot whose cursor is still within the outbox retention
+     * is caught up by replaying the outbox.
+     */
+    @Test
+    void testCatchUpFromOutbox() {
+        doReturn(Optional.of(this.manifest)).when(this.luceneSnapshotRestorer).getRestoredManifest();
+        doReturn(true).when(this.indexCoordinationService).isEnabled();
+        doReturn(true).when(this.indexCoordinationService).isRetained(this.cursor);
+
+        // Perform the service call
+        assertTrue(this.luceneSnapshotService.catchUpRestoredSnapshot());
+
+        // Verify the outbox was replayed from the snapshot cursor
+        verify(this.indexCoordinationService, times(1)).resetCursor(this.cursor);
+        verify(this.indexCoordinationService, times(1)).pollOutbox();
+    }
+
+    /**
+     * Test that a snapshot older than the outbox retention is not caught up
+     * through the outbox, since its events may have already been purged, so
+     * that the indexes are fully rebuilt instead.
+     */
+    @Test
+    void testCatchUpSnapshotOlderThanRetention() {
+        doReturn(Optional.of(this.manifest)).when(this.luceneSnapshotRestorer).getRestoredManifest();
+        doReturn(true).when(this.indexCoordinationService).isEnabled();
+        doReturn(false).when(this.indexCoordinationService).isRetained(this.cursor);
+
+        // Perform the service call
+        assertFalse(this.luceneSnapshotService.catchUpRestoredSnapshot());
+
+        // Verify that nothing was replayed or re-indexed
+        verify(this.indexCoordinationService, never()).resetCursor(any());
+        verify(this.indexCoordinationService, never()).pollOutbox();
+        verify(this.instanceRepo, never()).findAllUpdatedSince(any());
+        verify(this.docRepo, never()).findAllUpdatedSince(any());
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.maritimeconnectivity.serviceregistry.models.dto.SearchProfileDto;
+import org.grad.secom.core.models.SearchFilterObject;
+import org.grad.secom.core.models.SearchParameters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCaptureServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    // Test Variables
+    private SearchCaptureService searchCaptureService;
+    private ObjectMapper objectMapper;
+    private SearchProfileDto profile;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setup() {
+        this.objectMapper = new ObjectMapper().findAndRegisterModules();
+        this.searchCaptureService = new SearchCaptureService();
+        this.searchCaptureService.enabled = true;
+        this.searchCaptureService.file = this.tempDir.resolve("capture/search-capture.jsonl").toString();
+        this.searchCaptureService.maxRecords = 100;
+        this.searchCaptureService.salt = "salt";
+        this.searchCaptureService.objectMapper = this.objectMapper;
+
+        this.profile = new SearchProfileDto("search");
+        this.profile.setTimeMs(12.5);
+        this.profile.getAttributes().put(SlowQueryLogService.ATTRIBUTE_HITS, 3L);
+    }
+
+    /**
+     * Common cleanup for all the tests.
+     */
+    @AfterEach
+    void teardown() {
+        this.searchCaptureService.close();
+    }
+
+    /**
+     * Test that the search API requests are captured with their timing and
+     * anonymised payload.
+     */
+    @Test
+    void testCaptureSearchInstances() throws IOException {
+        final GeometryFactory factory = new GeometryFactory();
+        this.searchCaptureService.captureSearchInstances("organizationId:urn\\:mrn\\:mcp\\:org\\:test AND status:released",
+                factory.createPoint(new Coordinate(1, 2)),
+                PageRequest.of(1, 20),
+                this.profile);
+
+        final List<JsonNode> captures = this.readCaptures();
+        assertEquals(1, captures.size());
+        assertEquals(SearchCaptureService.ENDPOINT_SEARCH_INSTANCES, captures.get(0).get("endpoint").asText());
+        assertEquals(1, captures.get(0).get("page").asInt());
+        assertEquals(20, captures.get(0).get("pageSize").asInt());
+        assertEquals(12.5, captures.get(0).get("durationMs").asDouble());
+        assertEquals(3L, captures.get(0).get("hits").asLong());
+        assertTrue(captures.get(0).get("offsetMs").asLong() >= 0);
+        assertEquals("POINT (1 2)", captures.get(0).get("payload").get("geometryWKT").asText());
+        assertFalse(captures.get(0).get("payload").get("queryString").asText().contains("urn\\:mrn\\:mcp\\:org\\:test"));
+    }
+
+    /**
+     * Test that the SECOM search service requests are captured with their
+     * anonymised payload.
+     */
+    @Test
+    void testCaptureSearchService() throws IOException {
+        final SearchFilterObject searchFilterObject = new SearchFilterObject();
+        final SearchParameters searchParameters = new SearchParameters();
+        searchParameters.setName("Test");
+        searchParameters.setInstanceId("urn:mrn:mcp:service:test:instance");
+        searchFilterObject.setQuery(searchParameters);
+        this.searchCaptureService.captureSearchService(searchFilterObject, 0, 10, this.profile);
+
+        final List<JsonNode> captures = this.readCaptures();
+        assertEquals(1, captures.size());
+        assertEquals(SearchCaptureService.ENDPOINT_SEARCH_SERVICE, captures.get(0).get("endpoint").asText());
+        assertEquals("Test", captures.get(0).get("payload").get("query").get("name").asText());
+        assertTrue(captures.get(0).get("payload").get("query").get("instanceId").asText().startsWith("urn:mrn:anon:"));
+    }
+
+    /**
+     * Test that the MRNs and e-mail addresses are replaced by stable
+     * pseudonyms.
+     */
+    @Test
+    void testAnonymise() {
+        final String first = this.searchCaptureService.anonymise("urn:mrn:mcp:org:test");
+        final String second = this.searchCaptureService.anonymise("URN:MRN:MCP:ORG:TEST");
+        final String other = this.searchCaptureService.anonymise("urn:mrn:mcp:org:other");
+
+        assertTrue(first.startsWith("urn:mrn:anon:"));
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertEquals(first.replace(":", "\\:"), this.searchCaptureService.anonymise("urn\\:mrn\\:mcp\\:org\\:test"));
+        assertEquals("name:\"Test\" AND " + first, this.searchCaptureService.anonymise("name:\"Test\" AND urn:mrn:mcp:org:test"));
+        assertFalse(this.searchCaptureService.anonymise("contact:someone@example.com").contains("someone@example.com"));
+        assertNull(this.searchCaptureService.anonymise((String) null));
+    }
+
+    /**
+     * Test that nothing is captured when the capture is disabled, or when
+     * the maximum number of records has been reached.
+     */
+    @Test
+    void testCaptureLimits() throws IOException {
+        this.searchCaptureService.enabled = false;
+        this.searchCaptureService.captureSearchInstances("status:released", null, PageRequest.of(0, 10), this.profile);
+        assertFalse(Files.exists(Path.of(this.searchCaptureService.file)));
+
+        this.searchCaptureService.enabled = true;
+        this.searchCaptureService.maxRecords = 2;
+        for (int i = 0; i < 5; i++) {
+            this.searchCaptureService.captureSearchInstances("status:released", null, PageRequest.of(0, 10), null);
+        }
+        assertEquals(2, this.readCaptures().size());
+    }
+
+    /**
+     * Reads the captured search requests from the capture file.
+     *
+     * @return the captured search requests
+     * @throws IOException if the capture file could not be read
+     */
+    private List<JsonNode> readCaptures() throws IOException {
+        this.searchCaptureService.close();
+        return Files.readAllLines(Path.of(this.searchCaptureService.file)).stream()
+                .map(line -> {
+                    try {
+                        return this.objectMapper.readTree(line);
+                    } catch (IOException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                })
+                .toList();
+    }
+
+}
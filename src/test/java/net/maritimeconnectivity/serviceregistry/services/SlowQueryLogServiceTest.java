@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.maritimeconnectivity.serviceregistry.models.dto.SearchProfileDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.SlowQueryRecordDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogServiceTest {
+
+    // Test Variables
+    private SlowQueryLogService slowQueryLogService;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setup() {
+        this.slowQueryLogService = new SlowQueryLogService();
+        this.slowQueryLogService.enabled = true;
+        this.slowQueryLogService.thresholdMs = 100;
+        this.slowQueryLogService.sampleRate = 0.0;
+        this.slowQueryLogService.capacity = 2;
+        this.slowQueryLogService.maxFilterLength = 1000;
+        this.slowQueryLogService.objectMapper = new ObjectMapper().findAndRegisterModules();
+    }
+
+    /**
+     * Common cleanup for all the tests.
+     */
+    @AfterEach
+    void teardown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Test that the searches slower than the threshold are recorded with
+     * all their details.
+     */
+    @Test
+    void testRecordSlowSearch() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("urn:mrn:mcp:user:test", null, "ROLE_USER"));
+
+        final Optional<SlowQueryRecordDto> result = this.slowQueryLogService.record("/api/_search/instances", this.createProfile(150, "name:\"Test Service\" AND status:released"));
+
+        assertTrue(result.isPresent());
+        assertEquals("/api/_search/instances", result.get().getEndpoint());
+        assertEquals("name:? AND status:?", result.get().getFilter());
+        assertEquals(5, result.get().getGeometryVertices());
+        assertEquals(42L, result.get().getHits());
+        assertEquals(150, result.get().getTimeMs());
+        assertFalse(result.get().isSampled());
+        assertEquals("urn:mrn:mcp:user:test", result.get().getCallerMrn());
+        assertNotNull(result.get().getTimestamp());
+        assertNotNull(result.get().getProfile());
+        assertEquals(1, this.slowQueryLogService.getRecords().size());
+    }
+
+    /**
+     * Test that the normal searches are only recorded when sampled.
+     */
+    @Test
+    void testRecordSampledSearch() {
+        assertTrue(this.slowQueryLogService.record("/api/_search/instances", this.createProfile(10, "status:released")).isEmpty());
+
+        this.slowQueryLogService.sampleRate = 1.0;
+        final Optional<SlowQueryRecordDto> result = this.slowQueryLogService.record("/api/_search/instances", this.createProfile(10, "status:released"));
+
+        assertTrue(result.isPresent());
+        assertTrue(result.get().isSampled());
+        assertNull(result.get().getCallerMrn());
+    }
+
+    /**
+     * Test that nothing is recorded when the log is disabled, or when no
+     * profile is available.
+     */
+    @Test
+    void testRecordDisabled() {
+        assertTrue(this.slowQueryLogService.record("/api/_search/instances", null).isEmpty());
+
+        this.slowQueryLogService.enabled = false;
+        assertTrue(this.slowQueryLogService.record("/api/_search/instances", this.createProfile(150, "status:released")).isEmpty());
+        assertTrue(this.slowQueryLogService.getRecords().isEmpty());
+    }
+
+    /**
+     * Test that only the most recent records are kept in memory.
+     */
+    @Test
+    void testRecordsCapacity() {
+        this.slowQueryLogService.record("/api/_search/instances", this.createProfile(150, "status:first"));
+        this.slowQueryLogService.record("/api/_search/instances", this.createProfile(150, "status:second"));
+        this.slowQueryLogService.record("/api/secom/v1/searchService", this.createProfile(150, "status:third"));
+
+        assertEquals(2, this.slowQueryLogService.getRecords().size());
+        assertEquals("/api/secom/v1/searchService", this.slowQueryLogService.getRecords().get(0).getEndpoint());
+
+        this.slowQueryLogService.clearRecords();
+        assertTrue(this.slowQueryLogService.getRecords().isEmpty());
+    }
+
+    /**
+     * Test that the search filters are normalised correctly.
+     */
+    @Test
+    void testNormaliseFilter() {
+        assertNull(this.slowQueryLogService.normaliseFilter(null));
+        assertNull(this.slowQueryLogService.normaliseFilter(" "));
+        assertEquals("name:? AND (version:? OR version:?)", this.slowQueryLogService.normaliseFilter("name:test  AND (version:1.0 OR version:\"2.0\")"));
+        assertEquals("publishedAt:? AND keywords:?", this.slowQueryLogService.normaliseFilter("publishedAt:[2020 TO 2021] AND keywords:{a TO b}"));
+        assertEquals("? AND status:?", this.slowQueryLogService.normaliseFilter("\"some phrase\" AND status:released"));
+    }
+
+    /**
+     * Creates a search profile with the provided duration and query string.
+     *
+     * @param timeMs        the duration of the search
+     * @param queryString   the search query string
+     * @return the search profile
+     */
+    private SearchProfileDto createProfile(double timeMs, String queryString) {
+        final SearchProfileDto profile = new SearchProfileDto("searchInstances");
+        profile.setTimeMs(timeMs);
+        profile.getAttributes().put(SlowQueryLogService.ATTRIBUTE_QUERY_STRING, queryString);
+        profile.getAttributes().put(SlowQueryLogService.ATTRIBUTE_GEOMETRY_VERTICES, 5);
+        profile.getAttributes().put(SlowQueryLogService.ATTRIBUTE_HITS, 42L);
+        profile.getChildren().add(new SearchProfileDto("search"));
+        return profile;
+    }
+
+}
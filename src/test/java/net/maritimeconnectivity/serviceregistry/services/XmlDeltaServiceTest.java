@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.services;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
+import net.maritimeconnectivity.serviceregistry.repos.XmlRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class XmlDeltaServiceTest {
+
+    /**
+     * The Tested Service.
+     */
+    @InjectMocks
+    private XmlDeltaService xmlDeltaService;
+
+    /**
+     * The XML Repository Mock.
+     */
+    @Mock
+    private XmlRepo xmlRepo;
+
+    // Test Variables
+    private Xml previousXml;
+    private Xml latestXml;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setup() {
+        this.xmlDeltaService.enabled = true;
+        this.xmlDeltaService.maxChainLength = 10;
+        this.xmlDeltaService.cacheSize = 100;
+        this.xmlDeltaService.init();
+
+        // Create two versions of a long enough XML
+        final StringBuilder content = new StringBuilder("<instance>");
+        for (int i = 0; i < 50; i++) {
+            content.append("<keyword>keyword number ").append(i).append("</keyword>");
+        }
+        content.append("<version>1.0.0</version></instance>");
+        this.previousXml = new Xml();
+        this.previousXml.setId(1L);
+        this.previousXml.setContent(content.toString());
+        this.latestXml = new Xml();
+        this.latestXml.setId(2L);
+        this.latestXml.setContent(content.toString().replace("1.0.0", "1.0.1"));
+    }
+
+    /**
+     * Test that the previous version is stored as a delta against the latest
+     * one, bringing its own delta chain along.
+     */
+    @Test
+    void testRebase() {
+        final Xml olderXml = new Xml();
+        olderXml.setId(0L);
+        olderXml.setContentDelta(1L, 1L, new byte[0]);
+        doReturn(1L).when(this.xmlRepo).countByDeltaRootId(1L);
+        doReturn(List.of(olderXml)).when(this.xmlRepo).findAllByDeltaRootId(1L);
+
+        final String previousContent = this.previousXml.getContent();
+        final int previousSize = this.previousXml.getContentCompressed().length;
+        assertTrue(this.xmlDeltaService.rebase(this.previousXml, this.latestXml));
+
+        // Make sure the delta is smaller and the chain was moved over
+        assertTrue(this.previousXml.isDelta());
+        assertEquals(2L, this.previousXml.getDeltaBaseId());
+        assertEquals(2L, this.previousXml.getDeltaRootId());
+        assertTrue(this.previousXml.getContentCompressed().length < previousSize);
+        assertEquals(2L, olderXml.getDeltaRootId());
+
+        // And that the content can be reconstructed
+        doReturn(Optional.of(this.latestXml)).when(this.xmlRepo).findById(2L);
+        assertEquals(previousContent, this.xmlDeltaService.reconstruct(this.previousXml));
+    }
+
+    /**
+     * Test that nothing is stored as a delta when the delta storage is
+     * disabled.
+     */
+    @Test
+    void testRebaseDisabled() {
+        this.xmlDeltaService.enabled = false;
+
+        assertFalse(this.xmlDeltaService.rebase(this.previousXml, this.latestXml));
+        assertFalse(this.previousXml.isDelta());
+        verifyNoInteractions(this.xmlRepo);
+    }
+
+    /**
+     * Test that the previous version is kept in full once its delta chain
+     * has reached the maximum length.
+     */
+    @Test
+    void testRebaseChainComplete() {
+        doReturn(10L).when(this.xmlRepo).countByDeltaRootId(1L);
+
+        assertFalse(this.xmlDeltaService.rebase(this.previousXml, this.latestXml));
+        assertFalse(this.previousXml.isDelta());
+        verify(this.xmlRepo, never()).findAllByDeltaRootId(any());
+    }
+
+    /**
+     * Test that when an xml changes, the xml stored as a delta against it
+     * is stored in full again and becomes the root of the rest of the chain.
+     */
+    @Test
+    void testDetach() {
+        final String previousContent = this.previousXml.getContent();
+        doReturn(0L).when(this.xmlRepo).countByDeltaRootId(1L);
+        doReturn(Collections.emptyList()).when(this.xmlRepo).findAllByDeltaRootId(1L);
+        this.xmlDeltaService.rebase(this.previousXml, this.latestXml);
+
+        final Xml olderXml = new Xml();
+        olderXml.setId(0L);
+        olderXml.setContentDelta(1L, 2L, new byte[0]);
+        doReturn(Optional.of(this.previousXml)).when(this.xmlRepo).findByDeltaBaseId(2L);
+        doReturn(Optional.of(olderXml)).when(this.xmlRepo).findByDeltaBaseId(1L);
+        doReturn(Optional.empty()).when(this.xmlRepo).findByDeltaBaseId(0L);
+
+        this.xmlDeltaService.detach(2L);
+
+        assertFalse(this.previousXml.isDelta());
+        assertEquals(previousContent, this.previousXml.getContent());
+        assertEquals(1L, olderXml.getDeltaRootId());
+    }
+
+    /**
+     * Test that a corrupted delta is detected through the content hash.
+     */
+    @Test
+    void testReconstructHashMismatch() {
+        doReturn(0L).when(this.xmlRepo).countByDeltaRootId(1L);
+        doReturn(Collections.emptyList()).when(this.xmlRepo).findAllByDeltaRootId(1L);
+        this.xmlDeltaService.rebase(this.previousXml, this.latestXml);
+
+        // Change the content of the delta base behind its back
+        final Xml modifiedXml = new Xml();
+        modifiedXml.setId(2L);
+        modifiedXml.setContent(this.latestXml.getContent().replace("keyword", "something"));
+        doReturn(Optional.of(modifiedXml)).when(this.xmlRepo).findById(2L);
+
+        assertThrows(RuntimeException.class, () -> this.xmlDeltaService.reconstruct(this.previousXml));
+    }
+
+}
@@ -63,6 +63,12 @@ class XmlServiceTest {
     @Mock
     private XmlRepo xmlRepo;
 
+    /**
+     * The XML Delta Service Mock.
+     */
+    @Mock
+    private XmlDeltaService xmlDeltaService;
+
     // Test Variables
     private List<Xml> xmls;
     private Pageable pageable;
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DigestingInputStreamTest {
+
+    /**
+     * Test that the size and the checksum of the content read through the
+     * stream are calculated correctly, for both single byte and buffered
+     * reads.
+     */
+    @Test
+    void testCountAndChecksum() throws IOException {
+        final byte[] content = new byte[100000];
+        new Random(42).nextBytes(content);
+
+        try (DigestingInputStream in = new DigestingInputStream(new ByteArrayInputStream(content))) {
+            assertEquals(content[0] & 0xff, in.read());
+            in.transferTo(OutputStream.nullOutputStream());
+
+            assertEquals(content.length, in.getCount());
+            assertEquals(Doc.checksum(content), in.getChecksum());
+            assertEquals(Doc.checksum(content), in.getChecksum());
+        }
+    }
+
+    /**
+     * Test that skipping bytes is not allowed, so that no bytes are left out
+     * of the checksum.
+     */
+    @Test
+    void testSkipNotSupported() throws IOException {
+        try (DigestingInputStream in = new DigestingInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3}))) {
+            assertEquals(0, in.skip(2));
+            assertFalse(in.markSupported());
+            assertArrayEquals(new byte[]{1, 2, 3}, in.readAllBytes());
+            assertEquals(3, in.getCount());
+        }
+    }
+
+}
@@ -0,0 +1,425 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.maritimeconnectivity.serviceregistry.components.DomainDtoMapper;
+import net.maritimeconnectivity.serviceregistry.config.GlobalConfig;
+import net.maritimeconnectivity.serviceregistry.models.domain.Doc;
+import net.maritimeconnectivity.serviceregistry.models.domain.Instance;
+import net.maritimeconnectivity.serviceregistry.models.domain.Xml;
+import net.maritimeconnectivity.serviceregistry.models.dto.DocDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDtDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.InstanceDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.XmlDto;
+import net.maritimeconnectivity.serviceregistry.models.dto.secom.SearchObjectResultWithCert;
+import org.grad.secom.core.models.enums.SECOM_DataProductType;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceStatus;
+import org.iala_aism.g1128.v1_7.serviceinstanceschema.ServiceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.modelmapper.ModelMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DomainDtoConvertersTest {
+
+    // Test Constants
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    // Test Variables
+    private ModelMapper modelMapper;
+    private Instance instance;
+    private InstanceDto instanceDto;
+    private Doc doc;
+    private DocDto docDto;
+    private Xml xml;
+    private XmlDto xmlDto;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setUp() {
+        // Set up the model mapper the same way as the application does
+        this.modelMapper = new GlobalConfig().modelMapper();
+        this.modelMapper.createTypeMap(InstanceDto.class, Instance.class)
+                .addMappings(mapper -> {
+                    mapper.using(ctx -> ((InstanceDto)ctx.getSource()).getImplementsServiceDesigns())
+                            .map(src -> src, Instance::setDesigns);
+                    mapper.using(ctx -> ((InstanceDto)ctx.getSource()).getDesignsServiceSpecifications())
+                            .map(src -> src, Instance::setSpecifications);
+                });
+        this.modelMapper.createTypeMap(Instance.class, InstanceDto.class)
+                .addMappings(mapper -> {
+                    mapper.using(ctx -> ((Instance)ctx.getSource()).getDesigns())
+                            .map(src -> src, InstanceDto::setImplementsServiceDesigns);
+                    mapper.using(ctx -> ((Instance)ctx.getSource()).getSpecifications())
+                            .map(src -> src, InstanceDto::setDesignsServiceSpecifications);
+                });
+        this.modelMapper.createTypeMap(Instance.class, InstanceDtDto.class)
+                .addMappings(mapper -> {
+                    mapper.using(ctx -> ((Instance)ctx.getSource()).getDesigns())
+                            .map(src -> src, InstanceDtDto::setImplementsServiceDesigns);
+                    mapper.using(ctx -> ((Instance)ctx.getSource()).getSpecifications())
+                            .map(src -> src, InstanceDtDto::setDesignsServiceSpecifications);
+                });
+
+        // Create the test XML and doc
+        this.xml = new Xml();
+        this.xml.setId(1L);
+        this.xml.setName("instance.xml");
+        this.xml.setComment("An instance XML");
+        this.xml.setContent("<xml></xml>");
+        this.xml.setContentContentType("application/xml");
+        this.doc = new Doc();
+        this.doc.setId(2L);
+        this.doc.setName("instance.pdf");
+        this.doc.setComment("An instance document");
+        this.doc.setMimetype("application/pdf");
+        this.doc.setFilecontent("content".getBytes());
+        this.doc.setFilecontentContentType("application/pdf");
+
+        // Create the test instance
+        this.instance = new Instance();
+        this.instance.setId(3L);
+        this.instance.setName("Instance");
+        this.instance.setVersion("1.0.0");
+        this.instance.setPublishedAt(LocalDateTime.now());
+        this.instance.setLastUpdatedAt(LocalDateTime.now());
+        this.instance.setComment("A test instance");
+        this.instance.setGeometry(new GeometryFactory(new PrecisionModel(), 4326).createPoint(new Coordinate(52.001, 1.002)));
+        this.instance.setGeometryContentType("application/geo+json");
+        this.instance.setInstanceId("urn:mrn:mcp:service:mcc:grad:instance:test");
+        this.instance.setKeywords(Arrays.asList("keyword1", "keyword2"));
+        this.instance.setStatus(ServiceStatus.RELEASED);
+        this.instance.setOrganizationId("urn:mrn:mcp:org:mcc:grad");
+        this.instance.setUnlocode(Arrays.asList("GBHRW", "GBLON"));
+        this.instance.setEndpointUri("http://localhost");
+        this.instance.setStatusEndpointUri("http://localhost/status");
+        this.instance.setMmsi("123456789");
+        this.instance.setImo("1234567");
+        this.instance.setServiceTypes(Arrays.asList(ServiceType.values()[0], ServiceType.values()[1]));
+        this.instance.setDataProductType(Collections.singletonList(SECOM_DataProductType.OTHER));
+        this.instance.setInstanceAsXml(this.xml);
+        this.instance.setInstanceAsDoc(this.doc);
+        this.instance.setDesigns(Collections.singletonMap("urn:mrn:mcp:service:mcc:grad:design:test", "1.0.0"));
+        this.instance.setSpecifications(Collections.singletonMap("urn:mrn:mcp:service:mcc:grad:specification:test", "1.0.0"));
+        this.doc.setInstance(this.instance);
+
+        // Create the test DTOs through the model mapper
+        this.instanceDto = this.modelMapper.map(this.instance, InstanceDto.class);
+        this.docDto = this.modelMapper.map(this.doc, DocDto.class);
+        this.xmlDto = this.modelMapper.map(this.xml, XmlDto.class);
+    }
+
+    /**
+     * Test that the instance to instance DTO converter produces the same
+     * result as the model mapper, without sharing any collections.
+     */
+    @Test
+    void testToInstanceDto() {
+        final InstanceDto result = DomainDtoConverters.toInstanceDto(this.instance);
+
+        assertInstanceDtoEquals(this.modelMapper.map(this.instance, InstanceDto.class), result);
+        assertEquals(this.instance.getId(), result.getInstanceAsDoc().getInstanceId());
+        assertEquals(Arrays.asList(ServiceType.values()[0].name(), ServiceType.values()[1].name()), result.getServiceTypes());
+        assertTrue(result.getDocIds().isEmpty());
+        assertNotSame(this.instance.getKeywords(), result.getKeywords());
+        assertNotSame(this.instance.getDesigns(), result.getImplementsServiceDesigns());
+        assertNotSame(this.doc.getFilecontent(), result.getInstanceAsDoc().getFilecontent());
+    }
+
+    /**
+     * Test that the instance to instance DTO converter also maps the IDs of
+     * the instance docs.
+     */
+    @Test
+    void testToInstanceDtoDocIds() {
+        this.instance.setDocs(new HashSet<>(Collections.singletonList(this.doc)));
+
+        final InstanceDto result = DomainDtoConverters.toInstanceDto(this.instance);
+
+        assertEquals(Collections.singleton(this.doc.getId()), result.getDocIds());
+    }
+
+    /**
+     * Test that the instance to SECOM search object result converter produces
+     * the same result as the model mapper.
+     */
+    @Test
+    void testToSearchObjectResultWithCert() {
+        final SearchObjectResultWithCert expected = this.modelMapper.map(this.instance, SearchObjectResultWithCert.class);
+        final SearchObjectResultWithCert result = DomainDtoConverters.toSearchObjectResultWithCert(this.instance);
+
+        assertEquals(OBJECT_MAPPER.valueToTree(expected), OBJECT_MAPPER.valueToTree(result));
+        assertEquals("keyword1,keyword2", result.getKeywords());
+        assertEquals(this.xml.getContent(), result.getInstanceAsXml());
+        assertEquals(ServiceStatus.RELEASED.name(), result.getStatus());
+        assertEquals(SECOM_DataProductType.OTHER, result.getDataProductType());
+    }
+
+    /**
+     * Test that the instance to SECOM search object result converter produces
+     * the same result as the model mapper for an instance without any of the
+     * optional fields.
+     */
+    @Test
+    void testToSearchObjectResultWithCertEmpty() {
+        final Instance emptyInstance = new Instance();
+        emptyInstance.setInstanceId(this.instance.getInstanceId());
+        emptyInstance.setVersion(this.instance.getVersion());
+
+        final SearchObjectResultWithCert expected = this.modelMapper.map(emptyInstance, SearchObjectResultWithCert.class);
+        final SearchObjectResultWithCert result = DomainDtoConverters.toSearchObjectResultWithCert(emptyInstance);
+
+        assertEquals(OBJECT_MAPPER.valueToTree(expected), OBJECT_MAPPER.valueToTree(result));
+        assertEquals("", result.getStatus());
+        assertEquals(SECOM_DataProductType.OTHER, result.getDataProductType());
+    }
+
+    /**
+     * Test that the instance to instance datatables DTO converter produces
+     * the same result as the model mapper.
+     */
+    @Test
+    void testToInstanceDtDto() {
+        final InstanceDtDto expected = this.modelMapper.map(this.instance, InstanceDtDto.class);
+        final InstanceDtDto result = DomainDtoConverters.toInstanceDtDto(this.instance);
+
+        assertEquals(expected.getId(), result.getId());
+        assertEquals(expected.getName(), result.getName());
+        assertEquals(expected.getVersion(), result.getVersion());
+        assertEquals(expected.getInstanceId(), result.getInstanceId());
+        assertEquals(expected.getGeometry(), result.getGeometry());
+        assertEquals(expected.getStatus(), result.getStatus());
+        assertEquals(expected.getKeywords(), result.getKeywords());
+        assertEquals(expected.getServiceTypes(), result.getServiceTypes());
+        assertEquals(expected.getDataProductType(), result.getDataProductType());
+        assertEquals(expected.getInstanceAsXml().getContent(), result.getInstanceAsXml().getContent());
+        assertEquals(expected.getInstanceAsDocId(), result.getInstanceAsDocId());
+        assertEquals(expected.getInstanceAsDocName(), result.getInstanceAsDocName());
+        assertEquals(expected.getImplementsServiceDesigns(), result.getImplementsServiceDesigns());
+        assertEquals(expected.getDesignsServiceSpecifications(), result.getDesignsServiceSpecifications());
+        assertEquals(this.doc.getId(), result.getInstanceAsDocId());
+        assertEquals(this.doc.getName(), result.getInstanceAsDocName());
+    }
+
+    /**
+     * Test that the instance DTO to instance converter produces the same
+     * result as the model mapper, where the instance documents are not
+     * populated and the instance document only references its instance
+     * by ID.
+     */
+    @Test
+    void testToInstance() {
+        final Instance expected = this.modelMapper.map(this.instanceDto, Instance.class);
+        final Instance result = DomainDtoConverters.toInstance(this.instanceDto);
+
+        assertEquals(expected.getId(), result.getId());
+        assertEquals(expected.getName(), result.getName());
+        assertEquals(expected.getVersion(), result.getVersion());
+        assertEquals(expected.getPublishedAt(), result.getPublishedAt());
+        assertEquals(expected.getLastUpdatedAt(), result.getLastUpdatedAt());
+        assertEquals(expected.getComment(), result.getComment());
+        assertEquals(expected.getGeometry(), result.getGeometry());
+        assertEquals(expected.getInstanceId(), result.getInstanceId());
+        assertEquals(expected.getKeywords(), result.getKeywords());
+        assertEquals(expected.getStatus(), result.getStatus());
+        assertEquals(expected.getUnlocode(), result.getUnlocode());
+        assertEquals(expected.getServiceTypes(), result.getServiceTypes());
+        assertEquals(expected.getDataProductType(), result.getDataProductType());
+        assertEquals(expected.getInstanceAsXml().getContent(), result.getInstanceAsXml().getContent());
+        assertEquals(expected.getInstanceAsDoc().getId(), result.getInstanceAsDoc().getId());
+        assertEquals(this.instance.getId(), result.getInstanceAsDoc().getInstance().getId());
+        assertEquals(expected.getDesigns(), result.getDesigns());
+        assertEquals(expected.getSpecifications(), result.getSpecifications());
+        assertTrue(result.getDocs().isEmpty());
+    }
+
+    /**
+     * Test that the instance DTO to instance converter references the
+     * instance docs by their IDs.
+     */
+    @Test
+    void testToInstanceDocIds() {
+        this.instanceDto.setDocIds(new HashSet<>(Collections.singletonList(this.doc.getId())));
+
+        final Instance result = DomainDtoConverters.toInstance(this.instanceDto);
+
+        assertEquals(1, result.getDocs().size());
+        final Doc resultDoc = result.getDocs().iterator().next();
+        assertEquals(this.doc.getId(), resultDoc.getId());
+        assertSame(result, resultDoc.getInstance());
+        assertNull(resultDoc.getName());
+    }
+
+    /**
+     * Test that unknown service type names are mapped to null, just like
+     * with the model mapper.
+     */
+    @Test
+    void testToInstanceUnknownServiceType() {
+        this.instanceDto.setServiceTypes(Arrays.asList(ServiceType.values()[0].name(), "UNKNOWN"));
+
+        final Instance result = DomainDtoConverters.toInstance(this.instanceDto);
+
+        assertEquals(this.modelMapper.map(this.instanceDto, Instance.class).getServiceTypes(), result.getServiceTypes());
+        assertEquals(Arrays.asList(ServiceType.values()[0], null), result.getServiceTypes());
+    }
+
+    /**
+     * Test that the doc converters produce the same results as the model
+     * mapper.
+     */
+    @Test
+    void testDocConversions() {
+        final DocDto docDto = DomainDtoConverters.toDocDto(this.doc);
+        assertEquals(this.docDto.getId(), docDto.getId());
+        assertEquals(this.docDto.getName(), docDto.getName());
+        assertEquals(this.docDto.getComment(), docDto.getComment());
+        assertEquals(this.docDto.getMimetype(), docDto.getMimetype());
+        assertArrayEquals(this.docDto.getFilecontent(), docDto.getFilecontent());
+        assertEquals(this.docDto.getFilecontentContentType(), docDto.getFilecontentContentType());
+        assertEquals(this.docDto.getInstanceId(), docDto.getInstanceId());
+
+        final Doc expected = this.modelMapper.map(this.docDto, Doc.class);
+        final Doc doc = DomainDtoConverters.toDoc(this.docDto);
+        assertEquals(expected.getId(), doc.getId());
+        assertEquals(expected.getName(), doc.getName());
+        assertArrayEquals(expected.getFilecontent(), doc.getFilecontent());
+        assertEquals(expected.getInstance().getId(), doc.getInstance().getId());
+
+        // Without an instance ID there should be no instance reference
+        this.docDto.setInstanceId(null);
+        assertNull(DomainDtoConverters.toDoc(this.docDto).getInstance());
+    }
+
+    /**
+     * Test that the XML converters produce the same results as the model
+     * mapper.
+     */
+    @Test
+    void testXmlConversions() {
+        final XmlDto xmlDto = DomainDtoConverters.toXmlDto(this.xml);
+        assertEquals(this.xmlDto.getId(), xmlDto.getId());
+        assertEquals(this.xmlDto.getName(), xmlDto.getName());
+        assertEquals(this.xmlDto.getComment(), xmlDto.getComment());
+        assertEquals(this.xmlDto.getContent(), xmlDto.getContent());
+        assertEquals(this.xmlDto.getContentContentType(), xmlDto.getContentContentType());
+
+        final Xml xml = DomainDtoConverters.toXml(this.xmlDto);
+        assertEquals(this.xml.getId(), xml.getId());
+        assertEquals(this.xml.getName(), xml.getName());
+        assertEquals(this.xml.getComment(), xml.getComment());
+        assertEquals(this.xml.getContent(), xml.getContent());
+        assertEquals(this.xml.getContentContentType(), xml.getContentContentType());
+    }
+
+    /**
+     * Test that null values and collections are retained as nulls.
+     */
+    @Test
+    void testNullValues() {
+        assertNull(DomainDtoConverters.toInstanceDto(null));
+        assertNull(DomainDtoConverters.toInstance(null));
+        assertNull(DomainDtoConverters.toDocDto(null));
+
+        final InstanceDto result = DomainDtoConverters.toInstanceDto(new Instance());
+        assertNull(result.getKeywords());
+        assertNull(result.getServiceTypes());
+        assertNull(result.getInstanceAsXml());
+        assertNull(result.getInstanceAsDoc());
+        assertNull(result.getImplementsServiceDesigns());
+    }
+
+    /**
+     * Test that the converters are also found for subclasses of the source
+     * classes, e.g. Hibernate proxies, but not for unsupported conversions.
+     */
+    @Test
+    void testFind() {
+        assertNotNull(DomainDtoConverters.find(Instance.class, InstanceDto.class));
+        assertNotNull(DomainDtoConverters.find(new Instance() {}.getClass(), InstanceDto.class));
+        assertNotNull(DomainDtoConverters.find(Instance.class, SearchObjectResultWithCert.class));
+        assertNull(DomainDtoConverters.find(Instance.class, Doc.class));
+        assertNull(DomainDtoConverters.find(String.class, InstanceDto.class));
+    }
+
+    /**
+     * Test that the domain-DTO mapper uses the specialised converters when
+     * enabled, and falls back to the model mapper otherwise.
+     */
+    @Test
+    void testDomainDtoMapperDispatch() {
+        final ModelMapper mockModelMapper = mock(ModelMapper.class);
+        final DomainDtoMapper<Instance, InstanceDto> mapper = new DomainDtoMapper<>();
+        ReflectionTestUtils.setField(mapper, "modelMapper", mockModelMapper);
+
+        assertEquals(this.instance.getId(), mapper.convertTo(this.instance, InstanceDto.class).getId());
+        verifyNoInteractions(mockModelMapper);
+
+        ReflectionTestUtils.setField(mapper, "specialised", false);
+        mapper.convertTo(this.instance, InstanceDto.class);
+        verify(mockModelMapper, times(1)).map(this.instance, InstanceDto.class);
+    }
+
+    /**
+     * Asserts that the provided instance DTOs are equal.
+     *
+     * @param expected  the expected instance DTO
+     * @param actual    the actual instance DTO
+     */
+    private static void assertInstanceDtoEquals(InstanceDto expected, InstanceDto actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getPublishedAt(), actual.getPublishedAt());
+        assertEquals(expected.getLastUpdatedAt(), actual.getLastUpdatedAt());
+        assertEquals(expected.getComment(), actual.getComment());
+        assertEquals(expected.getGeometry(), actual.getGeometry());
+        assertEquals(expected.getGeometryContentType(), actual.getGeometryContentType());
+        assertEquals(expected.getInstanceId(), actual.getInstanceId());
+        assertEquals(expected.getKeywords(), actual.getKeywords());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getOrganizationId(), actual.getOrganizationId());
+        assertEquals(expected.getUnlocode(), actual.getUnlocode());
+        assertEquals(expected.getEndpointUri(), actual.getEndpointUri());
+        assertEquals(expected.getStatusEndpointUri(), actual.getStatusEndpointUri());
+        assertEquals(expected.getMmsi(), actual.getMmsi());
+        assertEquals(expected.getImo(), actual.getImo());
+        assertEquals(expected.getServiceTypes(), actual.getServiceTypes());
+        assertEquals(expected.getDataProductType(), actual.getDataProductType());
+        assertEquals(expected.getInstanceAsXml().getId(), actual.getInstanceAsXml().getId());
+        assertEquals(expected.getInstanceAsXml().getContent(), actual.getInstanceAsXml().getContent());
+        assertEquals(expected.getInstanceAsDoc().getId(), actual.getInstanceAsDoc().getId());
+        assertEquals(expected.getInstanceAsDoc().getInstanceId(), actual.getInstanceAsDoc().getInstanceId());
+        assertArrayEquals(expected.getInstanceAsDoc().getFilecontent(), actual.getInstanceAsDoc().getFilecontent());
+        assertEquals(expected.getDocIds(), actual.getDocIds());
+        assertEquals(expected.getImplementsServiceDesigns(), actual.getImplementsServiceDesigns());
+        assertEquals(expected.getDesignsServiceSpecifications(), actual.getDesignsServiceSpecifications());
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterFieldsQueryCachingPolicyTest {
+
+    // Test Variables
+    private FilterFieldsQueryCachingPolicy policy;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setup() {
+        this.policy = new FilterFieldsQueryCachingPolicy(Set.of("status", "serviceTypes"), new UsageTrackingQueryCachingPolicy());
+    }
+
+    /**
+     * Test that the queries only accessing the filter fields are always
+     * cached, even single term queries.
+     */
+    @Test
+    void testShouldCacheFilterQueries() throws IOException {
+        assertTrue(this.policy.shouldCache(new TermQuery(new Term("status", "released"))));
+        assertTrue(this.policy.shouldCache(new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("serviceTypes", "mrou")), BooleanClause.Occur.SHOULD)
+                .add(new TermQuery(new Term("serviceTypes", "vtis")), BooleanClause.Occur.SHOULD)
+                .build()));
+    }
+
+    /**
+     * Test that all other queries are left to the delegate policy, which
+     * does not cache single term queries.
+     */
+    @Test
+    void testShouldCacheOtherQueries() throws IOException {
+        assertFalse(this.policy.shouldCache(new TermQuery(new Term("name", "test"))));
+        assertFalse(this.policy.shouldCache(new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("status", "released")), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term("name", "test")), BooleanClause.Occur.MUST)
+                .build()));
+        assertFalse(this.policy.shouldCache(new MatchAllDocsQuery()));
+    }
+
+    /**
+     * Test that we can collect the fields accessed by a query.
+     */
+    @Test
+    void testGetFields() {
+        assertEquals(Set.of("status", "name"), FilterFieldsQueryCachingPolicy.getFields(new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("status", "released")), BooleanClause.Occur.MUST)
+                .add(new WildcardQuery(new Term("name", "test*")), BooleanClause.Occur.SHOULD)
+                .build()));
+    }
+
+}
@@ -16,6 +16,9 @@
 
 package net.maritimeconnectivity.serviceregistry.utils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -25,9 +28,13 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class GeometryJSONConverterTest {
 
@@ -97,4 +104,70 @@ class GeometryJSONConverterTest {
         assertNull(GeometryJSONConverter.convertToGeometry(this.objectMapper.createObjectNode()));
         assertNull(GeometryJSONConverter.convertToGeometry(this.objectMapper.createObjectNode().put("invalid","invalid")));
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that the complex geometries written by the converter can be read
+     * back by both the converter and the JTS GeoJSON reader.
+     */
+    @Test
+    void testConvertRoundTrip() throws Exception {
+        final WKTReader wktReader = new WKTReader(new GeometryFactory(new PrecisionModel(), 4326));
+        for (String wkt : new String[]{
+                "POINT Z (1 2 3)",
+                "LINESTRING (0 50, 0 52, 1.123456789 53)",
+                "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 4 2, 4 4, 2 4, 2 2))",
+                "MULTIPOINT ((0 0), (1 1))",
+                "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3))",
+                "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((2 2, 3 2, 3 3, 2 2)))",
+                "GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (0 0, 1 1))"}) {
+            final Geometry geometry = wktReader.read(wkt);
+            geometry.setSRID(4326);
+            final JsonNode node = GeometryJSONConverter.convertFromGeometry(geometry);
+
+            final Geometry result = GeometryJSONConverter.convertToGeometry(node);
+            assertTrue(geometry.equalsExact(result, 1e-8), wkt);
+            assertEquals(4326, result.getSRID());
+
+            final Geometry jtsResult = new GeoJsonReader().read(node.toString());
+            assertTrue(geometry.equalsExact(jtsResult, 1e-8), wkt);
+            assertEquals(4326, jtsResult.getSRID());
+        }
+    }
+
+    /**
+     * Test that the geometries are written directly into the JSON generator,
+     * and that the CRS is only included at the top level.
+     */
+    @Test
+    void testWriteGeometry() throws IOException {
+        final GeometryFactory factory = new GeometryFactory(new PrecisionModel(), 4326);
+        final Geometry collection = factory.createGeometryCollection(new Geometry[]{this.geometry});
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator jsonGenerator = this.objectMapper.createGenerator(writer)) {
+            GeometryJSONConverter.writeGeometry(collection, jsonGenerator);
+        }
+        assertEquals("{\"type\":\"GeometryCollection\",\"geometries\":[{\"type\":\"Point\",\"coordinates\":[52.001,1.002]}],"
+                + "\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:4326\"}}}", writer.toString());
+    }
+
+    /**
+     * Test that the geometries are read directly from the JSON parser, in
+     * any member order, that the whole object is consumed, and that the SRID
+     * defaults to WGS84.
+     */
+    @Test
+    void testReadGeometry() throws IOException {
+        try (JsonParser jsonParser = this.objectMapper.createParser(
+                "[{\"coordinates\":[52.001,1.002],\"bbox\":[0,0,1,1],\"type\":\"Point\"},{\"type\":\"Unknown\",\"coordinates\":[[1,2]]},3]")) {
+            assertEquals(JsonToken.START_ARRAY, jsonParser.nextToken());
+            jsonParser.nextToken();
+            final Geometry result = GeometryJSONConverter.readGeometry(jsonParser);
+            assertEquals(this.geometry, result);
+            assertEquals(4326, result.getSRID());
+            jsonParser.nextToken();
+            assertNull(GeometryJSONConverter.readGeometry(jsonParser));
+            assertEquals(JsonToken.VALUE_NUMBER_INT, jsonParser.nextToken());
+        }
+    }
+
+}
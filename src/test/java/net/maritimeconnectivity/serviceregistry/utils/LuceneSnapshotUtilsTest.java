@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LuceneSnapshotUtilsTest {
+
+    // Test Variables
+    @TempDir
+    Path tempDir;
+    private Path indexDir;
+
+    /**
+     * Common setup for all the tests.
+     */
+    @BeforeEach
+    void setup() throws IOException {
+        // Create a small Lucene index to take snapshots of
+        this.indexDir = this.tempDir.resolve("index").resolve("Instance");
+        try (Directory directory = FSDirectory.open(this.indexDir);
+             IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()))) {
+            for (int i = 0; i < 10; i++) {
+                Document document = new Document();
+                document.add(new StringField("id", String.valueOf(i), Field.Store.YES));
+                writer.addDocument(document);
+            }
+            writer.commit();
+        }
+    }
+
+    /**
+     * Test that we can write a Lucene index into a snapshot archive and
+     * restore it back again, alongside the snapshot manifest.
+     */
+    @Test
+    void testWriteAndExtract() throws IOException {
+        final Path archive = this.tempDir.resolve(LuceneSnapshotUtils.SNAPSHOT_PREFIX + "1" + LuceneSnapshotUtils.SNAPSHOT_SUFFIX);
+        final Properties manifest = new Properties();
+        manifest.setProperty("createdAt", "2025-01-01T00:00");
+
+        // Write the snapshot
+        try (OutputStream out = Files.newOutputStream(archive);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            assertTrue(LuceneSnapshotUtils.writeIndex(zip, this.indexDir, "Instance") > 0);
+            LuceneSnapshotUtils.writeManifest(zip, manifest);
+        }
+
+        // Extract the snapshot
+        final Path restoreDir = this.tempDir.resolve("restore");
+        final Properties result = LuceneSnapshotUtils.extract(archive, restoreDir);
+
+        // Make sure the restored index is valid
+        assertEquals("2025-01-01T00:00", result.getProperty("createdAt"));
+        assertTrue(LuceneSnapshotUtils.containsIndex(restoreDir.resolve("Instance")));
+        try (Directory directory = FSDirectory.open(restoreDir.resolve("Instance"));
+             DirectoryReader reader = DirectoryReader.open(directory)) {
+            assertEquals(10, reader.numDocs());
+        }
+    }
+
+    /**
+     * Test that the snapshot archives are listed from the most recent to the
+     * oldest one, ignoring any unrelated files.
+     */
+    @Test
+    void testListSnapshots() throws IOException {
+        Files.createFile(this.tempDir.resolve(LuceneSnapshotUtils.SNAPSHOT_PREFIX + "20250101000000000" + LuceneSnapshotUtils.SNAPSHOT_SUFFIX));
+        Files.createFile(this.tempDir.resolve(LuceneSnapshotUtils.SNAPSHOT_PREFIX + "20250102000000000" + LuceneSnapshotUtils.SNAPSHOT_SUFFIX));
+        Files.createFile(this.tempDir.resolve("." + LuceneSnapshotUtils.SNAPSHOT_PREFIX + "20250103000000000" + LuceneSnapshotUtils.SNAPSHOT_SUFFIX + ".tmp"));
+
+        // Perform the utility call
+        final List<Path> result = LuceneSnapshotUtils.listSnapshots(this.tempDir);
+
+        // Make sure the snapshots are in the correct order
+        assertEquals(2, result.size());
+        assertTrue(result.get(0).getFileName().toString().contains("20250102"));
+        assertTrue(result.get(1).getFileName().toString().contains("20250101"));
+    }
+
+    /**
+     * Test that archive entries pointing outside the target directory are
+     * rejected while extracting.
+     */
+    @Test
+    void testExtractInvalidEntry() throws IOException {
+        final Path archive = this.tempDir.resolve("invalid.zip");
+        try (OutputStream out = Files.newOutputStream(archive);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("../outside.txt"));
+            zip.write(new byte[]{0b00});
+            zip.closeEntry();
+        }
+
+        // Perform the utility call
+        assertThrows(IOException.class, () -> LuceneSnapshotUtils.extract(archive, this.tempDir.resolve("restore")));
+        assertFalse(Files.exists(this.tempDir.resolve("outside.txt")));
+    }
+
+}
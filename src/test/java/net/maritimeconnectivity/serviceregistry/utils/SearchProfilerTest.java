@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import net.maritimeconnectivity.serviceregistry.models.dto.SearchProfileDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchProfilerTest {
+
+    /**
+     * Common cleanup for all the tests.
+     */
+    @AfterEach
+    void teardown() {
+        SearchProfiler.stop();
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Test that the profiled stages are recorded as a tree, alongside their
+     * attributes.
+     */
+    @Test
+    void testProfileStages() {
+        SearchProfiler.start("root");
+        assertTrue(SearchProfiler.isActive());
+
+        final String result = SearchProfiler.stage("search", () -> {
+            SearchProfiler.attribute("totalHits", 10L);
+            SearchProfiler.stage("fetch", () -> SearchProfiler.attribute("entitiesLoaded", 5L));
+            return "result";
+        });
+        SearchProfiler.stage("mapping", () -> {});
+        final SearchProfileDto profile = SearchProfiler.stop();
+
+        assertEquals("result", result);
+        assertFalse(SearchProfiler.isActive());
+        assertNotNull(profile);
+        assertEquals("root", profile.getStage());
+        assertTrue(profile.getTimeMs() >= 0);
+        assertEquals(2, profile.getChildren().size());
+        assertEquals("search", profile.getChildren().get(0).getStage());
+        assertEquals(10L, profile.getChildren().get(0).getAttributes().get("totalHits"));
+        assertEquals(1, profile.getChildren().get(0).getChildren().size());
+        assertEquals("fetch", profile.getChildren().get(0).getChildren().get(0).getStage());
+        assertEquals(5L, profile.getChildren().get(0).getChildren().get(0).getAttributes().get("entitiesLoaded"));
+        assertEquals("mapping", profile.getChildren().get(1).getStage());
+    }
+
+    /**
+     * Test that the detailed profiling is only active when requested.
+     */
+    @Test
+    void testDetailedProfiling() {
+        assertFalse(SearchProfiler.isDetailed());
+
+        SearchProfiler.start("root", false);
+        assertTrue(SearchProfiler.isActive());
+        assertFalse(SearchProfiler.isDetailed());
+        SearchProfiler.stop();
+
+        SearchProfiler.start("root");
+        assertTrue(SearchProfiler.isDetailed());
+        SearchProfiler.stop();
+        assertFalse(SearchProfiler.isDetailed());
+    }
+
+    /**
+     * Test that when profiling is not active, the stages are just executed
+     * and nothing gets recorded.
+     */
+    @Test
+    void testInactiveProfiler() {
+        assertFalse(SearchProfiler.isActive());
+        assertEquals("result", SearchProfiler.stage("search", () -> "result"));
+        SearchProfiler.attribute("totalHits", 10L);
+        assertNull(SearchProfiler.stop());
+    }
+
+    /**
+     * Test that the stages are closed even when their operations fail.
+     */
+    @Test
+    void testFailingStage() {
+        SearchProfiler.start("root");
+        assertThrows(IllegalStateException.class, () -> SearchProfiler.stage("search", () -> {
+            throw new IllegalStateException("failure");
+        }));
+        SearchProfiler.attribute("afterFailure", true);
+        final SearchProfileDto profile = SearchProfiler.stop();
+
+        assertNotNull(profile);
+        assertEquals(1, profile.getChildren().size());
+        assertEquals(true, profile.getAttributes().get("afterFailure"));
+    }
+
+    /**
+     * Test that the roles of the currently authenticated user are checked
+     * correctly.
+     */
+    @Test
+    void testHasRole() {
+        assertFalse(SearchProfiler.hasRole("admin"));
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null, "ROLE_USER"));
+        assertFalse(SearchProfiler.hasRole("admin"));
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("admin", null, "ROLE_ADMIN"));
+        assertTrue(SearchProfiler.hasRole("admin"));
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionUtilTest {
+
+    /**
+     * Test that the version sort keys sort the versions in the same order
+     * as the Maven artifact versions do.
+     */
+    @Test
+    void testToSortKeyOrder() {
+        final List<String> versions = List.of("10.0.0", "1.0.0-1", "0.9.0", "1.0.0", "1.0.0-alpha", "0.10.0", "2", "1.0.0-rc1", "1.0.1", "0.0.1Test");
+
+        final List<String> byKey = new ArrayList<>(versions);
+        byKey.sort(Comparator.comparing(VersionUtil::toSortKey));
+        final List<String> byArtifactVersion = new ArrayList<>(versions);
+        byArtifactVersion.sort(Comparator.comparing(DefaultArtifactVersion::new));
+
+        assertEquals(byArtifactVersion, byKey);
+    }
+
+    /**
+     * Test that equivalent versions share the same sort key, and that null
+     * versions have no sort key.
+     */
+    @Test
+    void testToSortKeyEquivalent() {
+        assertEquals(VersionUtil.toSortKey("1.0"), VersionUtil.toSortKey("1.0.0"));
+        assertEquals(VersionUtil.toSortKey("1.0.0-SNAPSHOT"), VersionUtil.toSortKey("1.0.0-snapshot"));
+        assertNull(VersionUtil.toSortKey(null));
+    }
+
+}
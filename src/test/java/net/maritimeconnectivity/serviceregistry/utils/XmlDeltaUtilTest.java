@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Maritime Connectivity Platform Consortium
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.maritimeconnectivity.serviceregistry.utils;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlDeltaUtilTest {
+
+    /**
+     * Test that a new version of an XML can be encoded as a small delta
+     * against the previous one, and reconstructed back again.
+     */
+    @Test
+    void testEncodeApply() throws IOException {
+        InputStream in = new ClassPathResource("test-instance.xml").getInputStream();
+        String xml = IOUtils.toString(in, StandardCharsets.UTF_8);
+        String newXml = xml.replaceFirst("<version>", "<version>1")
+                .replace("</description>", " updated</description>");
+
+        // Encode the older version against the newer one
+        byte[] source = newXml.getBytes(StandardCharsets.UTF_8);
+        byte[] target = xml.getBytes(StandardCharsets.UTF_8);
+        byte[] delta = XmlDeltaUtil.encode(source, target);
+
+        // Make sure the delta is small and reconstructs the original
+        assertTrue(delta.length < target.length / 10);
+        assertArrayEquals(target, XmlDeltaUtil.apply(source, delta));
+    }
+
+    /**
+     * Test that contents sharing nothing with their source, or being too
+     * short to be matched, are still reconstructed correctly.
+     */
+    @Test
+    void testEncodeApplyUnrelated() {
+        byte[] source = "<a>completely unrelated content</a>".getBytes(StandardCharsets.UTF_8);
+        byte[] target = "<b>something else</b>".getBytes(StandardCharsets.UTF_8);
+
+        assertArrayEquals(target, XmlDeltaUtil.apply(source, XmlDeltaUtil.encode(source, target)));
+        assertArrayEquals(target, XmlDeltaUtil.apply(new byte[0], XmlDeltaUtil.encode(new byte[0], target)));
+        assertArrayEquals(new byte[0], XmlDeltaUtil.apply(source, XmlDeltaUtil.encode(source, new byte[0])));
+    }
+
+    /**
+     * Test that applying a delta to a source other than the one it was
+     * encoded against is detected, whenever the delta refers beyond it.
+     */
+    @Test
+    void testApplyInvalid() {
+        byte[] source = "<xml><content>some content that is long enough</content></xml>".getBytes(StandardCharsets.UTF_8);
+        byte[] target = "<xml><content>some content that is long enough</content><extra/></xml>".getBytes(StandardCharsets.UTF_8);
+        byte[] delta = XmlDeltaUtil.encode(source, target);
+
+        assertThrows(IllegalArgumentException.class, () -> XmlDeltaUtil.apply(new byte[10], delta));
+        assertThrows(IllegalArgumentException.class, () -> XmlDeltaUtil.apply(source, new byte[]{5, 9}));
+    }
+
+}
@@ -28,8 +28,7 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 class XmlUtilTest {
 
@@ -63,4 +62,31 @@ class XmlUtilTest {
         );
     }
 
-}
\ No newline at end of file
+    /**
+     * Test that the XML content hash ignores the formatting of the XML, but
+     * not its actual content.
+     */
+    @Test
+    void testContentHash() throws IOException {
+        InputStream in = new ClassPathResource("test-instance.xml").getInputStream();
+        String xml = IOUtils.toString(in, StandardCharsets.UTF_8);
+
+        assertEquals(XmlUtil.contentHash(xml), XmlUtil.contentHash(xml.replace("\n", "\r\n")));
+        assertEquals(XmlUtil.contentHash(xml), XmlUtil.contentHash("  " + xml.replaceAll(">\\s*<", ">\n    <") + "\n"));
+        assertNotEquals(XmlUtil.contentHash(xml), XmlUtil.contentHash(xml.replace("POLYGON", "MULTIPOLYGON")));
+    }
+
+    /**
+     * Test that the compressed XML content can be decompressed back to the
+     * original one.
+     */
+    @Test
+    void testDeflateInflate() throws IOException {
+        InputStream in = new ClassPathResource("test-instance.xml").getInputStream();
+        String xml = IOUtils.toString(in, StandardCharsets.UTF_8);
+
+        byte[] compressed = XmlUtil.deflate(xml);
+        assertTrue(compressed.length < xml.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(xml, XmlUtil.inflate(compressed));
+    }
+}